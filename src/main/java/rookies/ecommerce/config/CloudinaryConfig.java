@@ -3,10 +3,15 @@ package rookies.ecommerce.config;
 import com.cloudinary.Cloudinary;
 import com.cloudinary.utils.ObjectUtils;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@ConditionalOnProperty(
+    name = "app.upload.provider",
+    havingValue = "cloudinary",
+    matchIfMissing = true)
 public class CloudinaryConfig {
 
   @Value("${cloudinary.cloud-name}")
@@ -18,12 +23,16 @@ public class CloudinaryConfig {
   @Value("${cloudinary.api-secret}")
   private String apiSecret;
 
+  @Value("${cloudinary.timeout-seconds:20}")
+  private int timeoutSeconds;
+
   @Bean
   public Cloudinary cloudinary() {
     return new Cloudinary(
         ObjectUtils.asMap(
             "cloud_name", cloudName,
             "api_key", apiKey,
-            "api_secret", apiSecret));
+            "api_secret", apiSecret,
+            "timeout", timeoutSeconds));
   }
 }
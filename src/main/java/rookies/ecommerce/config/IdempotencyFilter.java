@@ -0,0 +1,239 @@
+package rookies.ecommerce.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import rookies.ecommerce.dto.response.ApiStatus;
+import rookies.ecommerce.dto.response.AppApiResponse;
+import rookies.ecommerce.exception.AppException;
+import rookies.ecommerce.exception.ErrorCode;
+import rookies.ecommerce.service.idempotency.IdempotencyRecord;
+import rookies.ecommerce.service.idempotency.IdempotencyStore;
+
+/**
+ * Makes retried {@code POST}s safe on the endpoints that create state.
+ *
+ * <p>A request carrying an {@code Idempotency-Key} header claims that key, scoped to the caller,
+ * method and path. A retry with the same key gets the stored response of the first request instead
+ * of running again; a retry that arrives while the first request is still running is rejected with
+ * 409. Requests without the header are not affected.
+ */
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class IdempotencyFilter extends OncePerRequestFilter {
+  static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+  static final String REPLAYED_HEADER = "Idempotent-Replayed";
+  static final int MAX_KEY_LENGTH = 255;
+  static final List<String> IDEMPOTENT_PATHS =
+      List.of("/customer/api/cart/add", "/customer/api/products/*/reviews", "/customer/api/orders");
+
+  final IdempotencyStore idempotencyStore;
+  final ObjectMapper objectMapper;
+  final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+  @Value("${app.idempotency.ttl-seconds:86400}")
+  long ttlSeconds;
+
+  public IdempotencyFilter(IdempotencyStore idempotencyStore, ObjectMapper objectMapper) {
+    this.idempotencyStore = idempotencyStore;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    if (!HttpMethod.POST.matches(request.getMethod())) {
+      return true;
+    }
+    String path = request.getServletPath();
+    return IDEMPOTENT_PATHS.stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+      throws ServletException, IOException {
+    String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+    if (idempotencyKey == null) {
+      chain.doFilter(request, response);
+      return;
+    }
+    if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+      writeError(response, ErrorCode.INVALID_IDEMPOTENCY_KEY, HttpStatus.BAD_REQUEST);
+      return;
+    }
+
+    byte[] requestBody = request.getInputStream().readAllBytes();
+    String requestHash = sha256(requestBody);
+    String scope =
+        String.join(
+            " ", principal(), request.getMethod(), request.getServletPath(), idempotencyKey);
+    String scopedKey = sha256(scope.getBytes(StandardCharsets.UTF_8));
+    Duration ttl = Duration.ofSeconds(ttlSeconds);
+
+    Optional<IdempotencyRecord> existing;
+    try {
+      existing = idempotencyStore.claim(scopedKey, requestHash, ttl);
+    } catch (AppException e) {
+      writeError(response, e.getErrorCode(), e.getHttpStatus());
+      return;
+    }
+    if (existing.isPresent()) {
+      handleDuplicate(existing.get(), requestHash, response);
+      return;
+    }
+
+    ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+    boolean stored = false;
+    try {
+      chain.doFilter(new CachedBodyRequest(request, requestBody), cachingResponse);
+      // Server errors are not stored, so the client can retry them with the same key.
+      if (cachingResponse.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+        idempotencyStore.complete(
+            scopedKey,
+            IdempotencyRecord.builder()
+                .requestHash(requestHash)
+                .completed(true)
+                .status(cachingResponse.getStatus())
+                .contentType(cachingResponse.getContentType())
+                .body(cachingResponse.getContentAsByteArray())
+                .build(),
+            ttl);
+        stored = true;
+      }
+    } finally {
+      if (!stored) {
+        idempotencyStore.release(scopedKey);
+      }
+      cachingResponse.copyBodyToResponse();
+    }
+  }
+
+  private void handleDuplicate(
+      IdempotencyRecord record, String requestHash, HttpServletResponse response)
+      throws IOException {
+    if (!record.getRequestHash().equals(requestHash)) {
+      writeError(response, ErrorCode.IDEMPOTENCY_KEY_REUSED, HttpStatus.UNPROCESSABLE_ENTITY);
+      return;
+    }
+    if (!record.isCompleted()) {
+      writeError(response, ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS, HttpStatus.CONFLICT);
+      return;
+    }
+    response.setStatus(record.getStatus());
+    if (record.getContentType() != null) {
+      response.setContentType(record.getContentType());
+    }
+    response.setHeader(REPLAYED_HEADER, "true");
+    if (record.getBody() != null) {
+      response.getOutputStream().write(record.getBody());
+    }
+  }
+
+  private void writeError(HttpServletResponse response, ErrorCode errorCode, HttpStatus status)
+      throws IOException {
+    response.setStatus(status.value());
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    objectMapper.writeValue(
+        response.getOutputStream(),
+        AppApiResponse.<Void>builder()
+            .code(errorCode.getCode())
+            .status(ApiStatus.FAIL)
+            .message(errorCode.getMessage())
+            .build());
+  }
+
+  private String principal() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    return authentication != null ? authentication.getName() : "anonymous";
+  }
+
+  private static String sha256(byte[] input) {
+    try {
+      return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(input));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  /** Lets the controller read a request body that the filter has already consumed. */
+  private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+    private final byte[] body;
+
+    CachedBodyRequest(HttpServletRequest request, byte[] body) {
+      super(request);
+      this.body = body;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+      ByteArrayInputStream input = new ByteArrayInputStream(body);
+      return new ServletInputStream() {
+        @Override
+        public boolean isFinished() {
+          return input.available() == 0;
+        }
+
+        @Override
+        public boolean isReady() {
+          return true;
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+          // The whole body is already in memory, so it is available at once and ends right after.
+          try {
+            readListener.onDataAvailable();
+            readListener.onAllDataRead();
+          } catch (IOException e) {
+            readListener.onError(e);
+          }
+        }
+
+        @Override
+        public int read() {
+          return input.read();
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+          return input.read(buffer, offset, length);
+        }
+      };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+      return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+    }
+  }
+}
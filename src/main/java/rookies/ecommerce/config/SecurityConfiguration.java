@@ -1,5 +1,6 @@
 package rookies.ecommerce.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
@@ -27,6 +28,7 @@ public class SecurityConfiguration {
   String FE_SERVER_URL;
 
   final JwtAuthenticationFilter jwtAuthenticationFilter;
+  final IdempotencyFilter idempotencyFilter;
 
   @Bean
   public PasswordEncoder passwordEncoder() {
@@ -57,6 +59,10 @@ public class SecurityConfiguration {
         .authorizeHttpRequests(
             authz ->
                 authz
+                    // Async dispatches only complete streamed responses that were authorized
+                    // on the original request.
+                    .dispatcherTypeMatchers(DispatcherType.ASYNC)
+                    .permitAll()
                     .requestMatchers("/auth/**", "/swagger-ui/**", "/v3/**", "/api/**")
                     .permitAll()
                     .requestMatchers("/admin/**")
@@ -65,7 +71,8 @@ public class SecurityConfiguration {
                     .hasRole("CUSTOMER")
                     .anyRequest()
                     .authenticated())
-        .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+        .addFilterAfter(idempotencyFilter, JwtAuthenticationFilter.class);
 
     return http.build();
   }
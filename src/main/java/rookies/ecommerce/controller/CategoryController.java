@@ -18,10 +18,15 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import rookies.ecommerce.dto.projection.product.IProductWithCategoryNameProjection;
+import rookies.ecommerce.dto.request.product.ProductCountMode;
+import rookies.ecommerce.dto.request.product.ProductListingField;
+import rookies.ecommerce.dto.request.product.ProductListingFilter;
+import rookies.ecommerce.dto.request.product.ProductSort;
 import rookies.ecommerce.dto.response.ApiStatus;
 import rookies.ecommerce.dto.response.AppApiResponse;
+import rookies.ecommerce.dto.response.KeysetPageResponse;
 import rookies.ecommerce.dto.response.category.CategorySummaryResponse;
+import rookies.ecommerce.dto.response.product.SparseProductListItem;
 import rookies.ecommerce.exception.AppException;
 import rookies.ecommerce.exception.ErrorCode;
 import rookies.ecommerce.service.category.CategoryService;
@@ -179,7 +184,12 @@ public class CategoryController {
 
   @Operation(
       summary = "Get Products by Category",
-      description = "Get paginated list of products by category.")
+      description =
+          "Get paginated list of products by category. count=counter serves the total from "
+              + "counters refreshed every few seconds and count=estimate from the database "
+              + "statistics, both without a count query. Set fields=name,price,... to return "
+              + "only those fields, newest first, or fields=grid for the ones a product grid "
+              + "shows.")
   @ApiResponses(
       value = {
         @ApiResponse(
@@ -241,24 +251,127 @@ public class CategoryController {
                                                             """)))
       })
   @GetMapping("/{categoryId}/products")
-  public ResponseEntity<AppApiResponse<Page<IProductWithCategoryNameProjection>>>
-      getProductsByCategory(
-          @PathVariable() String categoryId,
-          @RequestParam(defaultValue = "0") int page,
-          @RequestParam(defaultValue = "10") int size) {
+  public ResponseEntity<AppApiResponse<Page<?>>> getProductsByCategory(
+      @PathVariable() String categoryId,
+      @RequestParam(defaultValue = "0") int page,
+      @RequestParam(defaultValue = "10") int size,
+      @RequestParam(defaultValue = "exact") String count,
+      @RequestParam(required = false) String fields) {
+    var fieldset = ProductListingField.parse(fields);
     try {
       var id = UUID.fromString(categoryId);
-      var products = productService.getProductsByCategory(page, size, id);
+      var products =
+          productService.getProductsByCategory(
+              page, size, id, ProductCountMode.from(count), fieldset);
       return ResponseEntity.status(200)
           .body(
-              AppApiResponse.<Page<IProductWithCategoryNameProjection>>builder()
+              AppApiResponse.<Page<?>>builder()
                   .code(1000)
                   .status(ApiStatus.SUCCESS)
-                  .data(products)
+                  .data(SparseProductListItem.narrow(products, fieldset))
                   .message("Get Products by category successfully")
                   .build());
     } catch (IllegalArgumentException e) {
       throw new AppException(ErrorCode.ID_SHOULD_BE_UUID, HttpStatus.BAD_REQUEST);
     }
   }
+
+  @Operation(
+      summary = "Scroll Products by category",
+      description =
+          "List the active products of a category newest first, cheapest first (sort=price) or "
+              + "best rated first (sort=rating), optionally within minPrice and maxPrice. Pass the "
+              + "returned nextCursor to load the following page. Set fields=name,price,... to "
+              + "return only those fields, or fields=grid for the ones a product grid shows.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Scroll Products by category successfully",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    examples =
+                        @ExampleObject(
+                            value =
+                                """
+                                {
+                                  "code": 1000,
+                                  "status": "success",
+                                  "message": "Scroll Products by category successfully",
+                                  "data": {
+                                    "content": [
+                                      {
+                                        "id": "700dd3cc-b821-4812-a106-4b3b176072ef",
+                                        "category": {
+                                          "id": "800ee4cc-c821-4912-a106-4b3b176072ef",
+                                          "name": "Cakes"
+                                        },
+                                        "name": "Chocolate Cake",
+                                        "description": "Delicious chocolate cake",
+                                        "imageUrl": "https://cloudinary.com/image/cake.jpg",
+                                        "price": 29.99,
+                                        "quantity": 10,
+                                        "isFeatured": true,
+                                        "createdAt": "2025-04-12T05:44:38.608453",
+                                        "updatedAt": "2025-04-12T05:44:38.608453",
+                                        "averageRating": 4.5,
+                                        "ratingCount": 2
+                                      }
+                                    ],
+                                    "nextCursor": "UkFUSU5HfDQuNXw3MDBkZDNjYy1iODIxLTQ4MTI",
+                                    "hasNext": true
+                                  }
+                                }
+                                """))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid category ID, sort, price range, fields or cursor",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    examples =
+                        @ExampleObject(
+                            value =
+                                """
+                                {
+                                  "code": 1046,
+                                  "status": "fail",
+                                  "message": "Invalid page cursor"
+                                }
+                                """)))
+      })
+  @GetMapping("/{categoryId}/products/scroll")
+  public ResponseEntity<AppApiResponse<KeysetPageResponse<?>>> scrollProductsByCategory(
+      @PathVariable String categoryId,
+      @RequestParam(defaultValue = "newest") String sort,
+      @RequestParam(required = false) Double minPrice,
+      @RequestParam(required = false) Double maxPrice,
+      @RequestParam(required = false) String fields,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") int size) {
+    UUID id;
+    try {
+      id = UUID.fromString(categoryId);
+    } catch (IllegalArgumentException e) {
+      throw new AppException(ErrorCode.ID_SHOULD_BE_UUID, HttpStatus.BAD_REQUEST);
+    }
+    ProductListingFilter filter =
+        ProductListingFilter.builder()
+            .categoryId(id)
+            .sort(ProductSort.from(sort))
+            .minPrice(minPrice)
+            .maxPrice(maxPrice)
+            .fields(ProductListingField.parse(fields))
+            .build();
+    return ResponseEntity.ok(
+        AppApiResponse.<KeysetPageResponse<?>>builder()
+            .code(1000)
+            .status(ApiStatus.SUCCESS)
+            .data(
+                SparseProductListItem.narrow(
+                    productService.scrollProducts(filter, cursor, size), filter.getFields()))
+            .message("Scroll Products by category successfully")
+            .build());
+  }
 }
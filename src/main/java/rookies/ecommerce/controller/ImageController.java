@@ -0,0 +1,143 @@
+package rookies.ecommerce.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.support.ResourceRegion;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import rookies.ecommerce.exception.AppException;
+import rookies.ecommerce.exception.ErrorCode;
+import rookies.ecommerce.service.upload.LocalFileStorageService;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("api/images")
+@ConditionalOnProperty(name = "app.upload.provider", havingValue = "local")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ImageController {
+  static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+  static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+  static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+  static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+  static final CacheControl IMMUTABLE =
+      CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+
+  LocalFileStorageService localFileStorageService;
+
+  @Operation(
+      summary = "Get an image",
+      description =
+          "Serve a locally stored image. Stored images never change, so responses carry a strong"
+              + " content-hash ETag and may be cached for a year. Byte ranges are supported.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(responseCode = "200", description = "Image content"),
+        @ApiResponse(responseCode = "206", description = "Requested byte ranges"),
+        @ApiResponse(responseCode = "304", description = "Cached copy is still valid"),
+        @ApiResponse(responseCode = "404", description = "Image not found"),
+        @ApiResponse(responseCode = "416", description = "Requested range not satisfiable")
+      })
+  @GetMapping("/{first}/{second}/{file}")
+  public ResponseEntity<?> getImage(
+      @PathVariable String first,
+      @PathVariable String second,
+      @PathVariable String file,
+      @RequestHeader HttpHeaders headers,
+      HttpServletRequest request)
+      throws IOException {
+    String relativePath = first + "/" + second + "/" + file;
+    Path path =
+        localFileStorageService
+            .resolve(relativePath)
+            .orElseThrow(() -> new AppException(ErrorCode.IMAGE_NOT_FOUND, HttpStatus.NOT_FOUND));
+    String etag = "\"" + localFileStorageService.contentHash(relativePath) + "\"";
+    MediaType mediaType = localFileStorageService.mediaType(relativePath);
+    long length = Files.size(path);
+
+    if (headers.getIfNoneMatch().contains(etag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+          .eTag(etag)
+          .cacheControl(IMMUTABLE)
+          .build();
+    }
+
+    String ifRange = headers.getFirst(HttpHeaders.IF_RANGE);
+    if (headers.containsKey(HttpHeaders.RANGE) && (ifRange == null || ifRange.equals(etag))) {
+      List<ResourceRegion> regions;
+      try {
+        regions = HttpRange.toResourceRegions(headers.getRange(), new FileSystemResource(path));
+      } catch (IllegalArgumentException e) {
+        return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+            .header(HttpHeaders.CONTENT_RANGE, "bytes */" + length)
+            .build();
+      }
+      return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+          .eTag(etag)
+          .cacheControl(IMMUTABLE)
+          .contentType(mediaType)
+          .body(regions.size() == 1 ? regions.get(0) : regions);
+    }
+
+    var response =
+        ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(IMMUTABLE)
+            .contentType(mediaType)
+            .contentLength(length)
+            .header(HttpHeaders.ACCEPT_RANGES, "bytes");
+    if (HttpMethod.HEAD.matches(request.getMethod())) {
+      return response.build();
+    }
+    // Let Tomcat hand the file to the kernel with sendfile once the headers are written.
+    if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+      request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+      request.setAttribute(SENDFILE_START, 0L);
+      request.setAttribute(SENDFILE_END, length);
+      return response.build();
+    }
+    StreamingResponseBody body = out -> transfer(path, length, out);
+    return response.body(body);
+  }
+
+  private static void transfer(Path path, long length, OutputStream out) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      WritableByteChannel target = Channels.newChannel(out);
+      long position = 0;
+      while (position < length) {
+        long transferred = channel.transferTo(position, length - position, target);
+        if (transferred <= 0) {
+          break;
+        }
+        position += transferred;
+      }
+    }
+  }
+}
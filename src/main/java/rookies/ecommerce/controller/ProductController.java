@@ -5,6 +5,7 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import lombok.AccessLevel;
@@ -18,16 +19,31 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import rookies.ecommerce.dto.projection.product.IProductWithCategoryNameProjection;
 import rookies.ecommerce.dto.projection.product.review.ReviewWithUserPreviewProjection;
+import rookies.ecommerce.dto.request.product.BestSellerWindow;
+import rookies.ecommerce.dto.request.product.ProductCountMode;
+import rookies.ecommerce.dto.request.product.ProductFacetFilter;
+import rookies.ecommerce.dto.request.product.ProductListingField;
+import rookies.ecommerce.dto.request.product.ProductListingFilter;
+import rookies.ecommerce.dto.request.product.ProductSort;
 import rookies.ecommerce.dto.response.ApiStatus;
 import rookies.ecommerce.dto.response.AppApiResponse;
+import rookies.ecommerce.dto.response.KeysetPageResponse;
+import rookies.ecommerce.dto.response.product.BestSellerResponse;
 import rookies.ecommerce.dto.response.product.ProductDetailResponse;
+import rookies.ecommerce.dto.response.product.ProductFacetResponse;
+import rookies.ecommerce.dto.response.product.ProductListItem;
+import rookies.ecommerce.dto.response.product.SparseProductListItem;
+import rookies.ecommerce.dto.response.product.TrendingProductResponse;
 import rookies.ecommerce.exception.AppException;
 import rookies.ecommerce.exception.ErrorCode;
+import rookies.ecommerce.service.bestseller.IBestSellerService;
 import rookies.ecommerce.service.product.ProductService;
 import rookies.ecommerce.service.product.review.ReviewService;
+import rookies.ecommerce.service.search.IProductFacetService;
+import rookies.ecommerce.service.search.IProductSearchService;
 import rookies.ecommerce.service.security.JwtService;
+import rookies.ecommerce.service.trending.ITrendingService;
 
 @RestController
 @RequestMapping("api/products")
@@ -37,6 +53,10 @@ public class ProductController {
 
   ProductService productService;
   ReviewService reviewService;
+  IProductSearchService productSearchService;
+  IProductFacetService productFacetService;
+  ITrendingService trendingService;
+  IBestSellerService bestSellerService;
   JwtService jwtService;
 
   @Operation(summary = "Get a Product by id", description = "Get a Product by id.")
@@ -114,6 +134,7 @@ public class ProductController {
       UUID productId = UUID.fromString(id);
 
       var product = productService.getProductDetailById(productId);
+      trendingService.recordView(productId);
       return ResponseEntity.status(200)
           .body(
               AppApiResponse.<ProductDetailResponse>builder()
@@ -127,7 +148,91 @@ public class ProductController {
     }
   }
 
-  @Operation(summary = "Get Products", description = "Get paginated list of products.")
+  @Operation(
+      summary = "Get Products by ids",
+      description =
+          "Get the details of up to 50 products in one call, in the order requested. Unknown or "
+              + "deleted products are left out.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Get Products successfully",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    examples =
+                        @ExampleObject(
+                            value =
+                                """
+                                {
+                                  "code": 1000,
+                                  "status": "success",
+                                  "message": "Get Products successfully",
+                                  "data": [
+                                    {
+                                      "id": "700dd3cc-b821-4812-a106-4b3b176072ef",
+                                      "category": {
+                                        "id": "800ee4cc-c821-4912-a106-4b3b176072ef",
+                                        "name": "Cakes"
+                                      },
+                                      "name": "Chocolate Cake",
+                                      "description": "Delicious chocolate cake",
+                                      "imageUrl": "https://cloudinary.com/image/cake.jpg",
+                                      "price": 29.99,
+                                      "quantity": 10,
+                                      "isFeatured": true,
+                                      "createdAt": "2025-04-12T05:44:38.608453",
+                                      "updatedAt": "2025-04-12T05:44:38.608453"
+                                    }
+                                  ]
+                                }
+                                """))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid id or too many ids",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    examples =
+                        @ExampleObject(
+                            value =
+                                """
+                                {
+                                  "code": 1066,
+                                  "status": "fail",
+                                  "message": "At most 50 products can be requested at once"
+                                }
+                                """)))
+      })
+  @GetMapping("/batch")
+  public ResponseEntity<AppApiResponse<List<ProductDetailResponse>>> getProductsByIds(
+      @RequestParam List<String> ids) {
+    List<UUID> productIds = new ArrayList<>(ids.size());
+    try {
+      for (String id : ids) {
+        productIds.add(UUID.fromString(id.trim()));
+      }
+    } catch (IllegalArgumentException e) {
+      throw new AppException(ErrorCode.ID_SHOULD_BE_UUID, HttpStatus.BAD_REQUEST);
+    }
+
+    return ResponseEntity.ok(
+        AppApiResponse.<List<ProductDetailResponse>>builder()
+            .code(1000)
+            .status(ApiStatus.SUCCESS)
+            .data(productService.getProductDetailsByIds(productIds))
+            .message("Get Products successfully")
+            .build());
+  }
+
+  @Operation(
+      summary = "Get Products",
+      description =
+          "Get paginated list of products. count=counter serves the total from counters "
+              + "refreshed every few seconds and count=estimate from the database statistics, "
+              + "both without a count query. Set fields=name,price,... to return only those "
+              + "fields, or fields=grid for the ones a product grid shows.")
   @ApiResponses(
       value = {
         @ApiResponse(
@@ -205,23 +310,357 @@ public class ProductController {
                                                             """)))
       })
   @GetMapping
-  public ResponseEntity<AppApiResponse<Page<IProductWithCategoryNameProjection>>> getProducts(
-      @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size) {
+  public ResponseEntity<AppApiResponse<Page<?>>> getProducts(
+      @RequestParam(defaultValue = "0") int page,
+      @RequestParam(defaultValue = "10") int size,
+      @RequestParam(defaultValue = "exact") String count,
+      @RequestParam(required = false) String fields) {
 
-    var products = productService.getActiveProducts(page, size);
+    var fieldset = ProductListingField.parse(fields);
+    var products =
+        productService.getActiveProducts(page, size, ProductCountMode.from(count), fieldset);
     return ResponseEntity.status(200)
         .body(
-            AppApiResponse.<Page<IProductWithCategoryNameProjection>>builder()
+            AppApiResponse.<Page<?>>builder()
                 .code(1000)
                 .status(ApiStatus.SUCCESS)
-                .data(products)
+                .data(SparseProductListItem.narrow(products, fieldset))
                 .message("Get Products successfully")
                 .build());
   }
 
+  @Operation(
+      summary = "Search Products",
+      description =
+          "Full-text search over product name, category and description, best match first. Only "
+              + "the first 1000 matches can be paged through.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Search Products successfully",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    examples =
+                        @ExampleObject(
+                            value =
+                                """
+                                {
+                                  "code": 1000,
+                                  "status": "success",
+                                  "message": "Search Products successfully",
+                                  "data": {
+                                    "content": [
+                                      {
+                                        "id": "700dd3cc-b821-4812-a106-4b3b176072ef",
+                                        "name": "Chocolate Cake",
+                                        "description": "Delicious chocolate cake",
+                                        "imageUrl": "https://cloudinary.com/image/cake.jpg",
+                                        "price": 29.99,
+                                        "quantity": 10,
+                                        "isFeatured": true,
+                                        "averageRating": 4.5,
+                                        "ratingCount": 2
+                                      }
+                                    ],
+                                    "totalElements": 1,
+                                    "totalPages": 1,
+                                    "size": 10,
+                                    "number": 0
+                                  }
+                                }
+                                """))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Blank search query",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    examples =
+                        @ExampleObject(
+                            value =
+                                """
+                                {
+                                  "code": 1061,
+                                  "status": "fail",
+                                  "message": "Search query must not be blank"
+                                }
+                                """)))
+      })
+  @GetMapping("/search")
+  public ResponseEntity<AppApiResponse<Page<ProductListItem>>> searchProducts(
+      @RequestParam(required = false) String q,
+      @RequestParam(defaultValue = "0") int page,
+      @RequestParam(defaultValue = "10") int size) {
+
+    var products = productSearchService.search(q, page, size);
+    return ResponseEntity.ok(
+        AppApiResponse.<Page<ProductListItem>>builder()
+            .code(1000)
+            .status(ApiStatus.SUCCESS)
+            .data(products)
+            .message("Search Products successfully")
+            .build());
+  }
+
+  @Operation(
+      summary = "Filter Products by facets",
+      description =
+          "Lists active products newest first, filtered by category, price band, minimum rating, "
+              + "stock and featured flag, with the number of products behind every other value of "
+              + "each facet. Values of one facet are ORed, facets are ANDed. Only the first 1000 "
+              + "matches can be paged through.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Filter Products successfully",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    examples =
+                        @ExampleObject(
+                            value =
+                                """
+                                {
+                                  "code": 1000,
+                                  "status": "success",
+                                  "message": "Filter Products successfully",
+                                  "data": {
+                                    "products": {
+                                      "content": [
+                                        {
+                                          "id": "700dd3cc-b821-4812-a106-4b3b176072ef",
+                                          "name": "Chocolate Cake",
+                                          "description": "Delicious chocolate cake",
+                                          "imageUrl": "https://cloudinary.com/image/cake.jpg",
+                                          "price": 29.99,
+                                          "quantity": 10,
+                                          "isFeatured": true,
+                                          "averageRating": 4.5,
+                                          "ratingCount": 2
+                                        }
+                                      ],
+                                      "totalElements": 1,
+                                      "totalPages": 1,
+                                      "size": 10,
+                                      "number": 0
+                                    },
+                                    "facets": {
+                                      "categories": [
+                                        {
+                                          "value": "7c1e6f4a-3c2b-4d8e-9f10-2a3b4c5d6e7f",
+                                          "count": 1
+                                        }
+                                      ],
+                                      "priceBands": [
+                                        { "value": "0-10", "count": 0 },
+                                        { "value": "10-25", "count": 0 },
+                                        { "value": "25-50", "count": 1 },
+                                        { "value": "50-100", "count": 0 },
+                                        { "value": "100+", "count": 0 }
+                                      ],
+                                      "minRatings": [
+                                        { "value": "1", "count": 1 },
+                                        { "value": "2", "count": 1 },
+                                        { "value": "3", "count": 1 },
+                                        { "value": "4", "count": 1 },
+                                        { "value": "5", "count": 0 }
+                                      ],
+                                      "inStock": 1,
+                                      "featured": 1
+                                    }
+                                  }
+                                }
+                                """))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Unknown price band or rating out of range",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    examples =
+                        @ExampleObject(
+                            value =
+                                """
+                                {
+                                  "code": 1062,
+                                  "status": "fail",
+                                  "message": "Unknown price band"
+                                }
+                                """)))
+      })
+  @GetMapping("/facets")
+  public ResponseEntity<AppApiResponse<ProductFacetResponse>> filterProducts(
+      @RequestParam(required = false) List<UUID> categoryId,
+      @RequestParam(required = false) List<String> priceBand,
+      @RequestParam(required = false) Integer minRating,
+      @RequestParam(defaultValue = "false") boolean inStock,
+      @RequestParam(defaultValue = "false") boolean featured,
+      @RequestParam(defaultValue = "0") int page,
+      @RequestParam(defaultValue = "10") int size) {
+
+    ProductFacetFilter filter =
+        ProductFacetFilter.builder()
+            .categoryIds(categoryId)
+            .priceBands(priceBand)
+            .minRating(minRating)
+            .inStock(inStock)
+            .featured(featured)
+            .build();
+    return ResponseEntity.ok(
+        AppApiResponse.<ProductFacetResponse>builder()
+            .code(1000)
+            .status(ApiStatus.SUCCESS)
+            .data(productFacetService.search(filter, page, size))
+            .message("Filter Products successfully")
+            .build());
+  }
+
+  @Operation(
+      summary = "Get trending Products",
+      description =
+          "List the products whose detail pages were viewed most over the last hour, most viewed "
+              + "first. Served from memory and refreshed every few seconds.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Get trending Products successfully",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    examples =
+                        @ExampleObject(
+                            value =
+                                """
+                                {
+                                  "code": 1000,
+                                  "status": "success",
+                                  "message": "Get trending Products successfully",
+                                  "data": [
+                                    {
+                                      "product": {
+                                        "id": "700dd3cc-b821-4812-a106-4b3b176072ef",
+                                        "category": {
+                                          "id": "800ee4cc-c821-4912-a106-4b3b176072ef",
+                                          "name": "Cakes"
+                                        },
+                                        "name": "Chocolate Cake",
+                                        "imageUrl": "https://cloudinary.com/image/cake.jpg",
+                                        "price": 29.99,
+                                        "quantity": 10,
+                                        "isFeatured": true,
+                                        "createdAt": "2025-04-12T05:44:38.608453",
+                                        "updatedAt": "2025-04-12T05:44:38.608453",
+                                        "averageRating": 4.5,
+                                        "ratingCount": 2
+                                      },
+                                      "views": 1284
+                                    }
+                                  ]
+                                }
+                                """)))
+      })
+  @GetMapping("/trending")
+  public ResponseEntity<AppApiResponse<List<TrendingProductResponse>>> getTrendingProducts(
+      @RequestParam(defaultValue = "10") int limit) {
+    return ResponseEntity.ok(
+        AppApiResponse.<List<TrendingProductResponse>>builder()
+            .code(1000)
+            .status(ApiStatus.SUCCESS)
+            .data(trendingService.getTrending(limit))
+            .message("Get trending Products successfully")
+            .build());
+  }
+
+  @Operation(
+      summary = "Get best-selling Products",
+      description =
+          "List the products with the most units sold today (window=daily) or over the last seven "
+              + "days (window=weekly), for the whole store or one category. Served from memory "
+              + "and updated as orders are placed.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Get best-selling Products successfully",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    examples =
+                        @ExampleObject(
+                            value =
+                                """
+                                {
+                                  "code": 1000,
+                                  "status": "success",
+                                  "message": "Get best-selling Products successfully",
+                                  "data": [
+                                    {
+                                      "product": {
+                                        "id": "700dd3cc-b821-4812-a106-4b3b176072ef",
+                                        "category": {
+                                          "id": "800ee4cc-c821-4912-a106-4b3b176072ef",
+                                          "name": "Cakes"
+                                        },
+                                        "name": "Chocolate Cake",
+                                        "imageUrl": "https://cloudinary.com/image/cake.jpg",
+                                        "price": 29.99,
+                                        "quantity": 10,
+                                        "isFeatured": true,
+                                        "createdAt": "2025-04-12T05:44:38.608453",
+                                        "updatedAt": "2025-04-12T05:44:38.608453",
+                                        "averageRating": 4.5,
+                                        "ratingCount": 2
+                                      },
+                                      "unitsSold": 87
+                                    }
+                                  ]
+                                }
+                                """))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid window",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    examples =
+                        @ExampleObject(
+                            value =
+                                """
+                                {
+                                  "code": 1069,
+                                  "status": "fail",
+                                  "message": "Window must be daily or weekly"
+                                }
+                                """)))
+      })
+  @GetMapping("/best-sellers")
+  public ResponseEntity<AppApiResponse<List<BestSellerResponse>>> getBestSellers(
+      @RequestParam(defaultValue = "weekly") String window,
+      @RequestParam(required = false) UUID categoryId,
+      @RequestParam(defaultValue = "10") int limit) {
+    var bestSellers =
+        bestSellerService.getBestSellers(BestSellerWindow.from(window), categoryId, limit);
+    return ResponseEntity.ok(
+        AppApiResponse.<List<BestSellerResponse>>builder()
+            .code(1000)
+            .status(ApiStatus.SUCCESS)
+            .data(bestSellers)
+            .message("Get best-selling Products successfully")
+            .build());
+  }
+
   @Operation(
       summary = "Get featured Products",
-      description = "Get paginated list of featured products.")
+      description =
+          "Get paginated list of featured products. count=counter serves the total from "
+              + "counters refreshed every few seconds and count=estimate from the database "
+              + "statistics, both without a count query. Set fields=name,price,... to return "
+              + "only those fields, newest first, or fields=grid for the ones a product grid "
+              + "shows.")
   @ApiResponses(
       value = {
         @ApiResponse(
@@ -299,21 +738,216 @@ public class ProductController {
                                                             """)))
       })
   @GetMapping("/featured")
-  public ResponseEntity<AppApiResponse<Page<IProductWithCategoryNameProjection>>>
-      getFeaturedProducts(
-          @RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size) {
+  public ResponseEntity<AppApiResponse<Page<?>>> getFeaturedProducts(
+      @RequestParam(defaultValue = "0") int page,
+      @RequestParam(defaultValue = "10") int size,
+      @RequestParam(defaultValue = "exact") String count,
+      @RequestParam(required = false) String fields) {
 
-    var products = productService.getFeaturedProducts(page, size);
+    var fieldset = ProductListingField.parse(fields);
+    var products =
+        productService.getFeaturedProducts(page, size, ProductCountMode.from(count), fieldset);
     return ResponseEntity.status(200)
         .body(
-            AppApiResponse.<Page<IProductWithCategoryNameProjection>>builder()
+            AppApiResponse.<Page<?>>builder()
                 .code(1000)
                 .status(ApiStatus.SUCCESS)
-                .data(products)
+                .data(SparseProductListItem.narrow(products, fieldset))
                 .message("Get featured Products successfully")
                 .build());
   }
 
+  @Operation(
+      summary = "Scroll Products",
+      description =
+          "List active products newest first, cheapest first (sort=price) or best rated first "
+              + "(sort=rating), optionally within minPrice and maxPrice. Pass the returned "
+              + "nextCursor to load the following page. Set fields=name,price,... to return only "
+              + "those fields, or fields=grid for the ones a product grid shows.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Scroll Products successfully",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    examples =
+                        @ExampleObject(
+                            value =
+                                """
+                                {
+                                  "code": 1000,
+                                  "status": "success",
+                                  "message": "Scroll Products successfully",
+                                  "data": {
+                                    "content": [
+                                      {
+                                        "id": "700dd3cc-b821-4812-a106-4b3b176072ef",
+                                        "category": {
+                                          "id": "800ee4cc-c821-4912-a106-4b3b176072ef",
+                                          "name": "Cakes"
+                                        },
+                                        "name": "Chocolate Cake",
+                                        "description": "Delicious chocolate cake",
+                                        "imageUrl": "https://cloudinary.com/image/cake.jpg",
+                                        "imageSmallUrl": "https://cloudinary.com/image/cake-s.jpg",
+                                        "imageMediumUrl": "https://cloudinary.com/image/cake-m.jpg",
+                                        "imageLargeUrl": "https://cloudinary.com/image/cake-l.jpg",
+                                        "price": 29.99,
+                                        "quantity": 10,
+                                        "isFeatured": true,
+                                        "createdAt": "2025-04-12T05:44:38.608453",
+                                        "updatedAt": "2025-04-12T05:44:38.608453",
+                                        "averageRating": 4.5,
+                                        "ratingCount": 2
+                                      }
+                                    ],
+                                    "nextCursor": "UFJJQ0V8MjkuOTl8NzAwZGQzY2MtYjgyMS00ODEy",
+                                    "hasNext": true
+                                  }
+                                }
+                                """))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid sort, price range, fields or cursor",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    examples =
+                        @ExampleObject(
+                            value =
+                                """
+                                {
+                                  "code": 1064,
+                                  "status": "fail",
+                                  "message": "Sort must be newest, price or rating"
+                                }
+                                """)))
+      })
+  @GetMapping("/scroll")
+  public ResponseEntity<AppApiResponse<KeysetPageResponse<?>>> scrollProducts(
+      @RequestParam(defaultValue = "newest") String sort,
+      @RequestParam(required = false) Double minPrice,
+      @RequestParam(required = false) Double maxPrice,
+      @RequestParam(required = false) String fields,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") int size) {
+
+    ProductListingFilter filter =
+        ProductListingFilter.builder()
+            .sort(ProductSort.from(sort))
+            .minPrice(minPrice)
+            .maxPrice(maxPrice)
+            .fields(ProductListingField.parse(fields))
+            .build();
+    return ResponseEntity.ok(
+        AppApiResponse.<KeysetPageResponse<?>>builder()
+            .code(1000)
+            .status(ApiStatus.SUCCESS)
+            .data(
+                SparseProductListItem.narrow(
+                    productService.scrollProducts(filter, cursor, size), filter.getFields()))
+            .message("Scroll Products successfully")
+            .build());
+  }
+
+  @Operation(
+      summary = "Scroll featured Products",
+      description =
+          "List featured products newest first, cheapest first (sort=price) or best rated "
+              + "first (sort=rating), optionally within minPrice and maxPrice. Pass the returned "
+              + "nextCursor to load the following page. Set fields=name,price,... to return only "
+              + "those fields, or fields=grid for the ones a product grid shows.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Scroll featured Products successfully",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    examples =
+                        @ExampleObject(
+                            value =
+                                """
+                                {
+                                  "code": 1000,
+                                  "status": "success",
+                                  "message": "Scroll featured Products successfully",
+                                  "data": {
+                                    "content": [
+                                      {
+                                        "id": "700dd3cc-b821-4812-a106-4b3b176072ef",
+                                        "category": {
+                                          "id": "800ee4cc-c821-4912-a106-4b3b176072ef",
+                                          "name": "Cakes"
+                                        },
+                                        "name": "Chocolate Cake",
+                                        "description": "Delicious chocolate cake",
+                                        "imageUrl": "https://cloudinary.com/image/cake.jpg",
+                                        "imageSmallUrl": "https://cloudinary.com/image/cake-s.jpg",
+                                        "imageMediumUrl": "https://cloudinary.com/image/cake-m.jpg",
+                                        "imageLargeUrl": "https://cloudinary.com/image/cake-l.jpg",
+                                        "price": 29.99,
+                                        "quantity": 10,
+                                        "isFeatured": true,
+                                        "createdAt": "2025-04-12T05:44:38.608453",
+                                        "updatedAt": "2025-04-12T05:44:38.608453",
+                                        "averageRating": 4.5,
+                                        "ratingCount": 2
+                                      }
+                                    ],
+                                    "nextCursor": "UFJJQ0V8MjkuOTl8NzAwZGQzY2MtYjgyMS00ODEy",
+                                    "hasNext": true
+                                  }
+                                }
+                                """))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid sort, price range, fields or cursor",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    examples =
+                        @ExampleObject(
+                            value =
+                                """
+                                {
+                                  "code": 1064,
+                                  "status": "fail",
+                                  "message": "Sort must be newest, price or rating"
+                                }
+                                """)))
+      })
+  @GetMapping("/featured/scroll")
+  public ResponseEntity<AppApiResponse<KeysetPageResponse<?>>> scrollFeaturedProducts(
+      @RequestParam(defaultValue = "newest") String sort,
+      @RequestParam(required = false) Double minPrice,
+      @RequestParam(required = false) Double maxPrice,
+      @RequestParam(required = false) String fields,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") int size) {
+
+    ProductListingFilter filter =
+        ProductListingFilter.builder()
+            .featuredOnly(true)
+            .sort(ProductSort.from(sort))
+            .minPrice(minPrice)
+            .maxPrice(maxPrice)
+            .fields(ProductListingField.parse(fields))
+            .build();
+    return ResponseEntity.ok(
+        AppApiResponse.<KeysetPageResponse<?>>builder()
+            .code(1000)
+            .status(ApiStatus.SUCCESS)
+            .data(
+                SparseProductListItem.narrow(
+                    productService.scrollProducts(filter, cursor, size), filter.getFields()))
+            .message("Scroll featured Products successfully")
+            .build());
+  }
+
   @Operation(
       summary = "Get reviews by product",
       description = "Get all reviews for a product by providing valid product ID.")
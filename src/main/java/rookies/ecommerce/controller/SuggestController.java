@@ -0,0 +1,83 @@
+package rookies.ecommerce.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import rookies.ecommerce.dto.response.ApiStatus;
+import rookies.ecommerce.dto.response.AppApiResponse;
+import rookies.ecommerce.dto.response.search.SuggestionResponse;
+import rookies.ecommerce.service.search.ISuggestionService;
+
+@RestController
+@RequestMapping("api/suggest")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class SuggestController {
+  /** Suggestions only change on rebuild, so the browser may reuse them while the user types. */
+  static final CacheControl SHORT_LIVED = CacheControl.maxAge(60, TimeUnit.SECONDS).cachePublic();
+
+  ISuggestionService suggestionService;
+
+  @Operation(
+      summary = "Suggest Products and Categories",
+      description =
+          "Typeahead for the search box: the most popular products and categories whose name, or a "
+              + "later word of it, starts with the prefix.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Get suggestions successfully",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    examples =
+                        @ExampleObject(
+                            value =
+                                """
+                                {
+                                  "code": 1000,
+                                  "status": "success",
+                                  "message": "Get suggestions successfully",
+                                  "data": [
+                                    {
+                                      "type": "PRODUCT",
+                                      "id": "700dd3cc-b821-4812-a106-4b3b176072ef",
+                                      "text": "Chocolate Cake"
+                                    },
+                                    {
+                                      "type": "CATEGORY",
+                                      "id": "800ee4cc-c821-4912-a106-4b3b176072ef",
+                                      "text": "Cakes"
+                                    }
+                                  ]
+                                }
+                                """)))
+      })
+  @GetMapping
+  public ResponseEntity<AppApiResponse<List<SuggestionResponse>>> suggest(
+      @RequestParam(defaultValue = "") String prefix, @RequestParam(defaultValue = "8") int limit) {
+    return ResponseEntity.ok()
+        .cacheControl(SHORT_LIVED)
+        .body(
+            AppApiResponse.<List<SuggestionResponse>>builder()
+                .code(1000)
+                .status(ApiStatus.SUCCESS)
+                .data(suggestionService.suggest(prefix, limit))
+                .message("Get suggestions successfully")
+                .build());
+  }
+}
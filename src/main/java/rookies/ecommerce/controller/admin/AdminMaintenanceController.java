@@ -0,0 +1,132 @@
+package rookies.ecommerce.controller.admin;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import rookies.ecommerce.dto.response.ApiStatus;
+import rookies.ecommerce.dto.response.AppApiResponse;
+import rookies.ecommerce.dto.response.maintenance.PurgeReportResponse;
+import rookies.ecommerce.service.maintenance.PurgeService;
+import rookies.ecommerce.service.upload.ImageDeletionService;
+
+@RestController
+@RequestMapping("/admin/api/maintenance")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class AdminMaintenanceController {
+  PurgeService purgeService;
+  ImageDeletionService imageDeletionService;
+
+  @Operation(
+      summary = "Run purge",
+      description =
+          "Delete abandoned cart items, expired soft-deleted rows and old processed outbox"
+              + " events in small chunks and report the rows processed.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Purge finished successfully",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    examples =
+                        @ExampleObject(
+                            value =
+                                """
+                                {
+                                  "code": 1000,
+                                  "status": "success",
+                                  "message": "Purge finished successfully",
+                                  "data": {
+                                    "startedAt": "2025-04-20T03:30:00.000123",
+                                    "durationMs": 5230,
+                                    "cartItemsDeleted": 1200,
+                                    "productsDeleted": 14,
+                                    "categoriesDeleted": 1,
+                                    "customersDeleted": 3,
+                                    "outboxEventsDeleted": 48210
+                                  }
+                                }
+                                """))),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Purge already running",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    examples =
+                        @ExampleObject(
+                            value =
+                                """
+                                {
+                                  "code": 1045,
+                                  "status": "fail",
+                                  "message": "A purge run is already in progress"
+                                }
+                                """)))
+      })
+  @PostMapping("/purge")
+  public ResponseEntity<AppApiResponse<PurgeReportResponse>> purge() {
+    var report = purgeService.purge();
+    return ResponseEntity.ok(
+        AppApiResponse.<PurgeReportResponse>builder()
+            .code(1000)
+            .status(ApiStatus.SUCCESS)
+            .message("Purge finished successfully")
+            .data(report)
+            .build());
+  }
+
+  @Operation(
+      summary = "Get last purge report",
+      description = "Get the rows processed by the most recent purge run.")
+  @GetMapping("/purge/last")
+  public ResponseEntity<AppApiResponse<PurgeReportResponse>> getLastPurgeReport() {
+    return ResponseEntity.ok(
+        AppApiResponse.<PurgeReportResponse>builder()
+            .code(1000)
+            .status(ApiStatus.SUCCESS)
+            .message("Get last purge report successfully")
+            .data(purgeService.getLastReport())
+            .build());
+  }
+
+  @Operation(
+      summary = "Count dead-lettered image deletions",
+      description = "Get the number of image deletions that failed on every retry.")
+  @GetMapping("/image-deletions/dead")
+  public ResponseEntity<AppApiResponse<Long>> countDeadImageDeletions() {
+    return ResponseEntity.ok(
+        AppApiResponse.<Long>builder()
+            .code(1000)
+            .status(ApiStatus.SUCCESS)
+            .message("Get dead-lettered image deletions successfully")
+            .data(imageDeletionService.countDeadLetters())
+            .build());
+  }
+
+  @Operation(
+      summary = "Requeue dead-lettered image deletions",
+      description = "Move every dead-lettered image deletion back to the queue for another try.")
+  @PostMapping("/image-deletions/dead/requeue")
+  public ResponseEntity<AppApiResponse<Integer>> requeueDeadImageDeletions() {
+    return ResponseEntity.ok(
+        AppApiResponse.<Integer>builder()
+            .code(1000)
+            .status(ApiStatus.SUCCESS)
+            .message("Dead-lettered image deletions requeued successfully")
+            .data(imageDeletionService.requeueDeadLetters())
+            .build());
+  }
+}
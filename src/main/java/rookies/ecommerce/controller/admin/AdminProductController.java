@@ -12,23 +12,32 @@ import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import rookies.ecommerce.dto.request.product.CreateProductRequest;
 import rookies.ecommerce.dto.request.product.UpdateProductRequest;
 import rookies.ecommerce.dto.response.ApiStatus;
 import rookies.ecommerce.dto.response.AppApiResponse;
+import rookies.ecommerce.dto.response.product.ProductImportStatusResponse;
 import rookies.ecommerce.exception.AppException;
 import rookies.ecommerce.exception.ErrorCode;
+import rookies.ecommerce.service.export.ExportFormat;
+import rookies.ecommerce.service.export.IExportService;
+import rookies.ecommerce.service.product.IProductImportService;
 import rookies.ecommerce.service.product.ProductService;
 import rookies.ecommerce.validation.ValidUUID;
 
@@ -38,6 +47,8 @@ import rookies.ecommerce.validation.ValidUUID;
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class AdminProductController {
   ProductService productService;
+  IProductImportService productImportService;
+  IExportService exportService;
 
   @Operation(
       summary = "Create a new Product",
@@ -247,4 +258,202 @@ public class AdminProductController {
       throw new AppException(ErrorCode.ID_SHOULD_BE_UUID, HttpStatus.BAD_REQUEST);
     }
   }
+
+  @Operation(
+      summary = "Import Products in bulk",
+      description =
+          "Queue a CSV (with header row) or NDJSON file of products for import. Each row names its"
+              + " category by categoryId or category, and its image by imageUrl. Poll the returned"
+              + " import for progress and rejected rows.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "202",
+            description = "Import queued",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    examples =
+                        @ExampleObject(
+                            value =
+                                """
+                                {
+                                  "code": 1000,
+                                  "status": "success",
+                                  "message": "Import queued",
+                                  "data": {
+                                    "id": "5f0c8a36-44a4-4a56-9a3e-2d0b7c1f9e11",
+                                    "status": "QUEUED",
+                                    "fileName": "products.csv",
+                                    "processedRows": 0,
+                                    "importedRows": 0,
+                                    "failedRows": 0,
+                                    "errors": []
+                                  }
+                                }
+                                """))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Unknown file format",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    examples =
+                        @ExampleObject(
+                            value =
+                                """
+                                {
+                                  "code": 1056,
+                                  "status": "fail",
+                                  "message": "Import file must be CSV or NDJSON"
+                                }
+                                """))),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Too many imports waiting",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    examples =
+                        @ExampleObject(
+                            value =
+                                """
+                                {
+                                  "code": 1057,
+                                  "status": "fail",
+                                  "message": "Too many imports are waiting, please try again later"
+                                }
+                                """)))
+      })
+  @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+  public ResponseEntity<AppApiResponse<ProductImportStatusResponse>> importProducts(
+      @Parameter(description = "CSV or NDJSON file") @RequestPart MultipartFile file,
+      @Parameter(description = "csv or ndjson; defaults to the file extension")
+          @RequestParam(required = false)
+          String format)
+      throws IOException {
+    return ResponseEntity.status(202)
+        .body(
+            AppApiResponse.<ProductImportStatusResponse>builder()
+                .code(1000)
+                .status(ApiStatus.SUCCESS)
+                .message("Import queued")
+                .data(productImportService.startImport(file, format))
+                .build());
+  }
+
+  @Operation(
+      summary = "Get Product import progress",
+      description = "Get the progress of a bulk import and the reasons rows were rejected.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Import progress",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    examples =
+                        @ExampleObject(
+                            value =
+                                """
+                                {
+                                  "code": 1000,
+                                  "status": "success",
+                                  "message": "Get import successfully",
+                                  "data": {
+                                    "id": "5f0c8a36-44a4-4a56-9a3e-2d0b7c1f9e11",
+                                    "status": "RUNNING",
+                                    "fileName": "products.csv",
+                                    "startedAt": "2025-04-20T10:15:30",
+                                    "processedRows": 12000,
+                                    "importedRows": 11998,
+                                    "failedRows": 2,
+                                    "errors": [
+                                      { "line": 42, "message": "Category not found" },
+                                      { "line": 917, "message": "Product price is required" }
+                                    ]
+                                  }
+                                }
+                                """))),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Import not found",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    examples =
+                        @ExampleObject(
+                            value =
+                                """
+                                {
+                                  "code": 1058,
+                                  "status": "fail",
+                                  "message": "Import not found"
+                                }
+                                """)))
+      })
+  @GetMapping("/import/{id}")
+  public ResponseEntity<AppApiResponse<ProductImportStatusResponse>> getImport(
+      @Valid @PathVariable @ValidUUID String id) {
+    return ResponseEntity.ok(
+        AppApiResponse.<ProductImportStatusResponse>builder()
+            .code(1000)
+            .status(ApiStatus.SUCCESS)
+            .message("Get import successfully")
+            .data(productImportService.getImport(UUID.fromString(id)))
+            .build());
+  }
+
+  @Operation(
+      summary = "Export Products",
+      description =
+          "Stream every active product as CSV (with header row) or NDJSON. Rows are written as"
+              + " they are read, so exports of any size start immediately.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Products exported",
+            content =
+                @Content(
+                    mediaType = "text/csv",
+                    examples =
+                        @ExampleObject(
+                            value =
+                                """
+                                id,name,category,description,price,quantity,isFeatured,imageUrl,createdAt,updatedAt
+                                b1e7...,Chocolate cake,Cakes,"Rich, dark",25.0,12,true,https://...,2025-04-20T10:15:30,
+                                """))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Unknown export format",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    examples =
+                        @ExampleObject(
+                            value =
+                                """
+                                {
+                                  "code": 1060,
+                                  "status": "fail",
+                                  "message": "Export format must be csv or ndjson"
+                                }
+                                """)))
+      })
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportProducts(
+      @Parameter(description = "csv or ndjson") @RequestParam(defaultValue = "csv") String format) {
+    ExportFormat exportFormat = ExportFormat.from(format);
+    return ResponseEntity.ok()
+        .contentType(exportFormat.getMediaType())
+        .header(
+            HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment()
+                .filename("products." + exportFormat.getExtension())
+                .build()
+                .toString())
+        .body(out -> exportService.exportProducts(exportFormat, out));
+  }
 }
@@ -0,0 +1,133 @@
+package rookies.ecommerce.controller.admin;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import rookies.ecommerce.dto.response.ApiStatus;
+import rookies.ecommerce.dto.response.AppApiResponse;
+import rookies.ecommerce.dto.response.report.SalesPointResponse;
+import rookies.ecommerce.dto.response.report.SalesRollupRebuildResponse;
+import rookies.ecommerce.service.bestseller.IBestSellerService;
+import rookies.ecommerce.service.report.SalesReportService;
+
+@RestController
+@RequestMapping("/admin/api/reports")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class AdminReportController {
+  SalesReportService salesReportService;
+  IBestSellerService bestSellerService;
+
+  @Operation(
+      summary = "Get sales time series",
+      description =
+          "Get units sold and revenue per day for the whole store, one product or one category."
+              + " Days without sales are reported as zero. The range is limited to 366 days.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Sales series retrieved successfully",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    examples =
+                        @ExampleObject(
+                            value =
+                                """
+                                {
+                                  "code": 1000,
+                                  "status": "success",
+                                  "message": "Sales series retrieved successfully",
+                                  "data": [
+                                    { "date": "2025-04-20", "unitsSold": 42, "revenue": 1385.58 },
+                                    { "date": "2025-04-21", "unitsSold": 0, "revenue": 0.0 }
+                                  ]
+                                }
+                                """))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid date range",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    examples =
+                        @ExampleObject(
+                            value =
+                                """
+                                {
+                                  "code": 1047,
+                                  "status": "fail",
+                                  "message": "Invalid date range"
+                                }
+                                """)))
+      })
+  @GetMapping("/sales")
+  public ResponseEntity<AppApiResponse<List<SalesPointResponse>>> getSalesSeries(
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+      @RequestParam(required = false) UUID productId,
+      @RequestParam(required = false) UUID categoryId) {
+    var series = salesReportService.getSalesSeries(from, to, productId, categoryId);
+    return ResponseEntity.ok(
+        AppApiResponse.<List<SalesPointResponse>>builder()
+            .code(1000)
+            .status(ApiStatus.SUCCESS)
+            .message("Sales series retrieved successfully")
+            .data(series)
+            .build());
+  }
+
+  @Operation(
+      summary = "Rebuild sales rollups",
+      description =
+          "Recompute the daily sales rollups of every day in the range from the orders table."
+              + " Use it to backfill history or to repair the rollups. The range may span at most"
+              + " 92 days. Category rollups are recomputed from each product's current category,"
+              + " so sales of products moved since are attributed to their new category.")
+  @PostMapping("/sales/rebuild")
+  public ResponseEntity<AppApiResponse<SalesRollupRebuildResponse>> rebuildSalesRollups(
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+    var report = salesReportService.rebuild(from, to);
+    return ResponseEntity.ok(
+        AppApiResponse.<SalesRollupRebuildResponse>builder()
+            .code(1000)
+            .status(ApiStatus.SUCCESS)
+            .message("Sales rollups rebuilt successfully")
+            .data(report)
+            .build());
+  }
+
+  @Operation(
+      summary = "Rebuild best sellers",
+      description =
+          "Recompute the daily sales rollups of the last seven days from the orders table and"
+              + " reload the in-memory best-sellers rankings from them.")
+  @PostMapping("/best-sellers/rebuild")
+  public ResponseEntity<AppApiResponse<SalesRollupRebuildResponse>> rebuildBestSellers() {
+    var report = bestSellerService.rebuild();
+    return ResponseEntity.ok(
+        AppApiResponse.<SalesRollupRebuildResponse>builder()
+            .code(1000)
+            .status(ApiStatus.SUCCESS)
+            .message("Best sellers rebuilt successfully")
+            .data(report)
+            .build());
+  }
+}
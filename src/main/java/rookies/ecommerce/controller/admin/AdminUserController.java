@@ -1,6 +1,7 @@
 package rookies.ecommerce.controller.admin;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -10,6 +11,8 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import org.springframework.data.domain.Page;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,10 +22,13 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import rookies.ecommerce.dto.request.user.UpdateCustomerStatusRequest;
 import rookies.ecommerce.dto.response.ApiStatus;
 import rookies.ecommerce.dto.response.AppApiResponse;
 import rookies.ecommerce.dto.response.user.CustomerSummaryResponse;
+import rookies.ecommerce.service.export.ExportFormat;
+import rookies.ecommerce.service.export.IExportService;
 import rookies.ecommerce.service.user.UserService;
 
 @RestController
@@ -31,6 +37,7 @@ import rookies.ecommerce.service.user.UserService;
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class AdminUserController {
   UserService userService;
+  IExportService exportService;
 
   @Operation(summary = "Update Customer status", description = "Update customer status by ID.")
   @ApiResponses(
@@ -200,4 +207,56 @@ public class AdminUserController {
             .data(customers)
             .build());
   }
+
+  @Operation(
+      summary = "Export Customers",
+      description =
+          "Stream every active customer as CSV (with header row) or NDJSON. Rows are written as"
+              + " they are read, so exports of any size start immediately.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Customers exported",
+            content =
+                @Content(
+                    mediaType = "text/csv",
+                    examples =
+                        @ExampleObject(
+                            value =
+                                """
+                                id,email,firstName,lastName,phoneNumber,address,isActive,createdAt,updatedAt
+                                c29d...,jane@example.com,Jane,Doe,0396139324,"12 Main St, Hanoi",true,2025-04-20T10:15:30,
+                                """))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Unknown export format",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    examples =
+                        @ExampleObject(
+                            value =
+                                """
+                                {
+                                  "code": 1060,
+                                  "status": "fail",
+                                  "message": "Export format must be csv or ndjson"
+                                }
+                                """)))
+      })
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportCustomers(
+      @Parameter(description = "csv or ndjson") @RequestParam(defaultValue = "csv") String format) {
+    ExportFormat exportFormat = ExportFormat.from(format);
+    return ResponseEntity.ok()
+        .contentType(exportFormat.getMediaType())
+        .header(
+            HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment()
+                .filename("customers." + exportFormat.getExtension())
+                .build()
+                .toString())
+        .body(out -> exportService.exportCustomers(exportFormat, out));
+  }
 }
@@ -0,0 +1,180 @@
+package rookies.ecommerce.controller.customer;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import rookies.ecommerce.dto.response.ApiStatus;
+import rookies.ecommerce.dto.response.AppApiResponse;
+import rookies.ecommerce.dto.response.KeysetPageResponse;
+import rookies.ecommerce.dto.response.order.OrderResponse;
+import rookies.ecommerce.service.order.OrderService;
+import rookies.ecommerce.service.security.JwtService;
+
+@RestController
+@RequestMapping("/customer/api/orders")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class CustomerOrderController {
+  JwtService jwtService;
+  OrderService orderService;
+
+  @Operation(
+      summary = "Get Order History",
+      description =
+          "Retrieve the authenticated customer's orders, newest first. Pass the returned"
+              + " nextCursor to load the following page.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Orders retrieved successfully",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    examples = {
+                      @ExampleObject(
+                          value =
+                              """
+                              {
+                                "code": 1000,
+                                "status": "success",
+                                "message": "Orders retrieved successfully",
+                                "data": {
+                                  "content": [
+                                    {
+                                      "id": "0f5c2b8e-6a53-4f5e-9f1a-5d8e1f3c2a10",
+                                      "totalAmount": 65.98,
+                                      "createdAt": "2025-04-20T10:15:30.123456",
+                                      "items": [
+                                        {
+                                          "productId": "700dd3cc-b821-4812-a106-4b3b176072ef",
+                                          "productName": "Chocolate Cake",
+                                          "quantity": 2,
+                                          "price": 32.99
+                                        }
+                                      ]
+                                    }
+                                  ],
+                                  "nextCursor": "MjAyNS0wNC0yMFQxMDoxNTozMC4xMjM0NTZ8MGY1YzJi",
+                                  "hasNext": true
+                                }
+                              }
+                              """)
+                    })),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid cursor",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    examples = {
+                      @ExampleObject(
+                          value =
+                              """
+                              {
+                                "code": 1046,
+                                "status": "fail",
+                                "message": "Invalid page cursor"
+                              }
+                              """)
+                    }))
+      })
+  @GetMapping
+  public ResponseEntity<AppApiResponse<KeysetPageResponse<OrderResponse>>> getOrderHistory(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") int size,
+      HttpServletRequest httpServletRequest) {
+    var userId = jwtService.extractUserIdFromHeader(httpServletRequest);
+    var orders = orderService.getOrderHistory(userId, cursor, size);
+    return ResponseEntity.ok(
+        AppApiResponse.<KeysetPageResponse<OrderResponse>>builder()
+            .code(1000)
+            .status(ApiStatus.SUCCESS)
+            .message("Orders retrieved successfully")
+            .data(orders)
+            .build());
+  }
+
+  @Operation(
+      summary = "Place Order",
+      description =
+          "Place an order for every item in the authenticated customer's cart. Stock is reserved"
+              + " and the cart is emptied in the same transaction.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "201",
+            description = "Order placed successfully",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    examples = {
+                      @ExampleObject(
+                          value =
+                              """
+                              {
+                                "code": 1000,
+                                "status": "success",
+                                "message": "Order placed successfully",
+                                "data": {
+                                  "id": "0f5c2b8e-6a53-4f5e-9f1a-5d8e1f3c2a10",
+                                  "totalAmount": 65.98,
+                                  "createdAt": "2025-04-20T10:15:30.123456",
+                                  "items": [
+                                    {
+                                      "productId": "700dd3cc-b821-4812-a106-4b3b176072ef",
+                                      "productName": "Chocolate Cake",
+                                      "quantity": 2,
+                                      "price": 32.99
+                                    }
+                                  ]
+                                }
+                              }
+                              """)
+                    })),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Cart is empty or stock is insufficient",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    examples = {
+                      @ExampleObject(
+                          value =
+                              """
+                              {
+                                "code": 1042,
+                                "status": "fail",
+                                "message": "Your cart is empty"
+                              }
+                              """)
+                    }))
+      })
+  @PostMapping
+  public ResponseEntity<AppApiResponse<OrderResponse>> placeOrder(
+      HttpServletRequest httpServletRequest) {
+    var userId = jwtService.extractUserIdFromHeader(httpServletRequest);
+    var order = orderService.placeOrder(userId);
+    return ResponseEntity.status(HttpStatus.CREATED)
+        .body(
+            AppApiResponse.<OrderResponse>builder()
+                .code(1000)
+                .status(ApiStatus.SUCCESS)
+                .message("Order placed successfully")
+                .data(order)
+                .build());
+  }
+}
@@ -0,0 +1,27 @@
+package rookies.ecommerce.dto.event;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class OrderPlacedPayload {
+  UUID orderId;
+  UUID customerId;
+  double totalAmount;
+  List<Item> items;
+
+  @Getter
+  @Builder
+  @FieldDefaults(level = AccessLevel.PRIVATE)
+  public static class Item {
+    UUID productId;
+    int quantity;
+    double price;
+  }
+}
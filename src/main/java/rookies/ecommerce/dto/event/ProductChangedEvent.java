@@ -0,0 +1,18 @@
+package rookies.ecommerce.dto.event;
+
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Published in-process whenever a product is created, updated or deleted, or gets a new review, so
+ * local read models can refresh once the change commits.
+ */
+@Getter
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ProductChangedEvent {
+  UUID productId;
+}
@@ -0,0 +1,35 @@
+package rookies.ecommerce.dto.event;
+
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import rookies.ecommerce.entity.Product;
+
+@Getter
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ProductEventPayload {
+  UUID id;
+  UUID categoryId;
+  String name;
+  String imageUrl;
+  double price;
+  int quantity;
+  boolean isFeatured;
+  boolean isDeleted;
+
+  public static ProductEventPayload from(Product product) {
+    return ProductEventPayload.builder()
+        .id(product.getId())
+        .categoryId(product.getCategory() != null ? product.getCategory().getId() : null)
+        .name(product.getName())
+        .imageUrl(product.getImageUrl())
+        .price(product.getPrice())
+        .quantity(product.getQuantity())
+        .isFeatured(product.isFeatured())
+        .isDeleted(Boolean.TRUE.equals(product.getIsDeleted()))
+        .build();
+  }
+}
@@ -0,0 +1,25 @@
+package rookies.ecommerce.dto.event;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Published in-process when an order's items are added to the sales rollups, with the units sold
+ * per product, so local read models can count them once the order commits. The order id tells them
+ * whether a rollup snapshot they read already includes the order.
+ */
+@Getter
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ProductsSoldEvent {
+  UUID orderId;
+  LocalDate salesDate;
+  List<Sale> sales;
+
+  public record Sale(UUID productId, UUID categoryId, long unitsSold) {}
+}
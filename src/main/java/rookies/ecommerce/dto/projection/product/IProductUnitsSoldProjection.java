@@ -0,0 +1,9 @@
+package rookies.ecommerce.dto.projection.product;
+
+import java.util.UUID;
+
+public interface IProductUnitsSoldProjection {
+  UUID getProductId();
+
+  long getUnitsSold();
+}
@@ -0,0 +1,37 @@
+package rookies.ecommerce.dto.request.product;
+
+import java.util.Locale;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.http.HttpStatus;
+import rookies.ecommerce.exception.AppException;
+import rookies.ecommerce.exception.ErrorCode;
+
+/** The days of sales a best-sellers ranking covers, ending today. */
+@Getter
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public enum BestSellerWindow {
+  /** Today's sales only. */
+  DAILY(1),
+  /** Today's sales and those of the six days before. */
+  WEEKLY(7);
+
+  int days;
+
+  /**
+   * Parses a window name case-insensitively.
+   *
+   * @throws AppException if the name is not a supported window
+   */
+  public static BestSellerWindow from(String name) {
+    for (BestSellerWindow window : values()) {
+      if (window.name().equals(name.toUpperCase(Locale.ROOT))) {
+        return window;
+      }
+    }
+    throw new AppException(ErrorCode.INVALID_BEST_SELLER_WINDOW, HttpStatus.BAD_REQUEST);
+  }
+}
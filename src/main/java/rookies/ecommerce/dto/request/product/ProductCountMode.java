@@ -0,0 +1,30 @@
+package rookies.ecommerce.dto.request.product;
+
+import java.util.Locale;
+import org.springframework.http.HttpStatus;
+import rookies.ecommerce.exception.AppException;
+import rookies.ecommerce.exception.ErrorCode;
+
+/** Where the total of a paged product listing comes from. */
+public enum ProductCountMode {
+  /** A count query run alongside every page. */
+  EXACT,
+  /** Active product counts per category and featured flag, refreshed in the background. */
+  COUNTER,
+  /** The row estimate of the database planner, from the table statistics. */
+  ESTIMATE;
+
+  /**
+   * Parses a count mode name case-insensitively.
+   *
+   * @throws AppException if the name is not a supported count mode
+   */
+  public static ProductCountMode from(String name) {
+    for (ProductCountMode mode : values()) {
+      if (mode.name().equals(name.toUpperCase(Locale.ROOT))) {
+        return mode;
+      }
+    }
+    throw new AppException(ErrorCode.INVALID_COUNT_MODE, HttpStatus.BAD_REQUEST);
+  }
+}
@@ -0,0 +1,23 @@
+package rookies.ecommerce.dto.request.product;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+/** Facet selections for a catalog listing; absent or empty values leave a facet unfiltered. */
+@Getter
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ProductFacetFilter {
+  List<UUID> categoryIds;
+
+  /** Price band labels as returned in the facet counts, e.g. {@code 10-25} or {@code 100+}. */
+  List<String> priceBands;
+
+  Integer minRating;
+  boolean inStock;
+  boolean featured;
+}
@@ -0,0 +1,46 @@
+package rookies.ecommerce.dto.request.product;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * One product in a bulk import file. The category is given either by {@code categoryId} or by its
+ * {@code category} name, and the image by the URL of an already hosted file.
+ */
+@Setter
+@Getter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ProductImportRow {
+  UUID categoryId;
+
+  String category;
+
+  @NotBlank(message = "PRODUCT_NAME_REQUIRED")
+  @Size(max = 200, message = "INVALID_PRODUCT_NAME")
+  String name;
+
+  String description;
+
+  @NotNull(message = "PRODUCT_PRICE_REQUIRED")
+  @Min(value = 0, message = "PRODUCT_PRICE_GREATER_THAN_ZERO")
+  Double price;
+
+  @NotNull(message = "PRODUCT_QUANTITY_REQUIRED")
+  @Min(value = 0, message = "PRODUCT_QUANTITY_GREATER_THAN_ZERO")
+  Integer quantity;
+
+  @JsonProperty("isFeatured")
+  boolean isFeatured;
+
+  @NotBlank(message = "IMAGE_REQUIRED")
+  @Size(max = 255, message = "INVALID_IMAGE_URL")
+  String imageUrl;
+}
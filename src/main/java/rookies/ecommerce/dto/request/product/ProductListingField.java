@@ -0,0 +1,79 @@
+package rookies.ecommerce.dto.request.product;
+
+import java.util.EnumSet;
+import java.util.Set;
+import org.springframework.http.HttpStatus;
+import rookies.ecommerce.exception.AppException;
+import rookies.ecommerce.exception.ErrorCode;
+
+/** Fields a listing can be narrowed to with {@code fields=}, named as in the JSON. */
+public enum ProductListingField {
+  ID("id"),
+  CATEGORY("category"),
+  NAME("name"),
+  DESCRIPTION("description"),
+  IMAGE_URL("imageUrl"),
+  IMAGE_SMALL_URL("imageSmallUrl"),
+  IMAGE_MEDIUM_URL("imageMediumUrl"),
+  IMAGE_LARGE_URL("imageLargeUrl"),
+  PRICE("price"),
+  QUANTITY("quantity"),
+  IS_FEATURED("isFeatured"),
+  CREATED_AT("createdAt"),
+  UPDATED_AT("updatedAt"),
+  AVERAGE_RATING("averageRating"),
+  RATING_COUNT("ratingCount");
+
+  /** What a product grid shows: name, price, image and rating. Requested as {@code grid}. */
+  public static final Set<ProductListingField> GRID =
+      EnumSet.of(ID, NAME, IMAGE_URL, IMAGE_SMALL_URL, PRICE, AVERAGE_RATING, RATING_COUNT);
+
+  static final String GRID_NAME = "grid";
+
+  private final String fieldName;
+
+  ProductListingField(String fieldName) {
+    this.fieldName = fieldName;
+  }
+
+  public String getFieldName() {
+    return fieldName;
+  }
+
+  /**
+   * Parses a comma-separated field list such as {@code name,price} or {@code grid}. The ID is
+   * always included.
+   *
+   * @param fields the field list, or {@code null} or blank for every field
+   * @throws AppException if a name is not a listing field
+   */
+  public static Set<ProductListingField> parse(String fields) {
+    if (fields == null || fields.isBlank()) {
+      return EnumSet.allOf(ProductListingField.class);
+    }
+    Set<ProductListingField> parsed = EnumSet.of(ID);
+    for (String name : fields.split(",")) {
+      String trimmed = name.trim();
+      if (trimmed.equals(GRID_NAME)) {
+        parsed.addAll(GRID);
+      } else if (!trimmed.isEmpty()) {
+        parsed.add(byFieldName(trimmed));
+      }
+    }
+    return parsed;
+  }
+
+  /** Whether a fieldset holds every field, so the full rows are wanted. */
+  public static boolean isEvery(Set<ProductListingField> fields) {
+    return fields.containsAll(EnumSet.allOf(ProductListingField.class));
+  }
+
+  private static ProductListingField byFieldName(String name) {
+    for (ProductListingField field : values()) {
+      if (field.fieldName.equals(name)) {
+        return field;
+      }
+    }
+    throw new AppException(ErrorCode.INVALID_LISTING_FIELDS, HttpStatus.BAD_REQUEST);
+  }
+}
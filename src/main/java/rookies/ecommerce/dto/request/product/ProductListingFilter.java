@@ -0,0 +1,32 @@
+package rookies.ecommerce.dto.request.product;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+/** Which active products a keyset listing walks, in what order, and which fields it reads. */
+@Getter
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ProductListingFilter {
+  /** Only products of this category, or all categories if {@code null}. */
+  UUID categoryId;
+
+  boolean featuredOnly;
+  @Builder.Default ProductSort sort = ProductSort.NEWEST;
+
+  /** Inclusive price bounds; {@code null} leaves that side open. */
+  Double minPrice;
+
+  Double maxPrice;
+
+  /**
+   * Fields to read and return. The ID and the sort key are read regardless, since the cursor is
+   * built from them.
+   */
+  @Builder.Default Set<ProductListingField> fields = EnumSet.allOf(ProductListingField.class);
+}
@@ -0,0 +1,30 @@
+package rookies.ecommerce.dto.request.product;
+
+import java.util.Locale;
+import org.springframework.http.HttpStatus;
+import rookies.ecommerce.exception.AppException;
+import rookies.ecommerce.exception.ErrorCode;
+
+/** Orders of the keyset catalog listings. Ties are broken by product ID in the same direction. */
+public enum ProductSort {
+  /** Most recently created first. */
+  NEWEST,
+  /** Cheapest first. */
+  PRICE,
+  /** Best rated first; unrated products come last. */
+  RATING;
+
+  /**
+   * Parses a sort name case-insensitively.
+   *
+   * @throws AppException if the name is not a supported sort
+   */
+  public static ProductSort from(String name) {
+    for (ProductSort sort : values()) {
+      if (sort.name().equals(name.toUpperCase(Locale.ROOT))) {
+        return sort;
+      }
+    }
+    throw new AppException(ErrorCode.INVALID_PRODUCT_SORT, HttpStatus.BAD_REQUEST);
+  }
+}
@@ -0,0 +1,27 @@
+package rookies.ecommerce.dto.response;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * A page of results addressed by an opaque cursor instead of an offset.
+ *
+ * <p>Pass {@code nextCursor} back to fetch the following page; it is {@code null} on the last page.
+ *
+ * @param <T> the type of the page elements
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class KeysetPageResponse<T> {
+  List<T> content;
+  String nextCursor;
+  boolean hasNext;
+}
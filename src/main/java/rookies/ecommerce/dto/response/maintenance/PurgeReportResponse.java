@@ -0,0 +1,22 @@
+package rookies.ecommerce.dto.response.maintenance;
+
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Setter
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class PurgeReportResponse {
+  LocalDateTime startedAt;
+  long durationMs;
+  long cartItemsDeleted;
+  long productsDeleted;
+  long categoriesDeleted;
+  long customersDeleted;
+  long outboxEventsDeleted;
+}
@@ -0,0 +1,23 @@
+package rookies.ecommerce.dto.response.order;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class OrderItemResponse {
+  @JsonIgnore UUID orderId;
+  UUID productId;
+  String productName;
+  int quantity;
+  double price;
+}
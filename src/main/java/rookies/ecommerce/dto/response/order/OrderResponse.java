@@ -0,0 +1,30 @@
+package rookies.ecommerce.dto.response.order;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class OrderResponse {
+  UUID id;
+  double totalAmount;
+  LocalDateTime createdAt;
+  List<OrderItemResponse> items = new ArrayList<>();
+
+  public OrderResponse(UUID id, double totalAmount, LocalDateTime createdAt) {
+    this.id = id;
+    this.totalAmount = totalAmount;
+    this.createdAt = createdAt;
+  }
+}
@@ -0,0 +1,4 @@
+package rookies.ecommerce.dto.response.product;
+
+/** A best-selling product and the units of it sold over the ranking window. */
+public record BestSellerResponse(ProductListItem product, long unitsSold) {}
@@ -0,0 +1,6 @@
+package rookies.ecommerce.dto.response.product;
+
+import java.util.UUID;
+
+/** The number of active products in a category with the given featured flag. */
+public record ProductCountRow(UUID categoryId, boolean isFeatured, long count) {}
@@ -0,0 +1,25 @@
+package rookies.ecommerce.dto.response.product;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+/** One product in a catalog export, read straight from the query without managing an entity. */
+@Getter
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ProductExportRow {
+  UUID id;
+  String name;
+  String category;
+  String description;
+  double price;
+  int quantity;
+  boolean isFeatured;
+  String imageUrl;
+  LocalDateTime createdAt;
+  LocalDateTime updatedAt;
+}
@@ -0,0 +1,46 @@
+package rookies.ecommerce.dto.response.product;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.data.domain.Page;
+
+@Getter
+@Setter
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ProductFacetResponse {
+  Page<ProductListItem> products;
+  Facets facets;
+
+  /**
+   * Counts for every value of every facet. Each facet is counted with the other facets' filters
+   * applied but not its own.
+   */
+  @Getter
+  @Setter
+  @Builder
+  @FieldDefaults(level = AccessLevel.PRIVATE)
+  public static class Facets {
+    List<FacetCount> categories;
+    List<FacetCount> priceBands;
+
+    /** Products rated at least this many stars, for 1 to 5. */
+    List<FacetCount> minRatings;
+
+    long inStock;
+    long featured;
+  }
+
+  @Getter
+  @AllArgsConstructor
+  @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+  public static class FacetCount {
+    String value;
+    long count;
+  }
+}
@@ -0,0 +1,25 @@
+package rookies.ecommerce.dto.response.product;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+/** The facet values of one product, read straight from the query for the facet index. */
+@Getter
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ProductFacetRow {
+  UUID id;
+  UUID categoryId;
+  double price;
+  int quantity;
+  boolean isFeatured;
+  boolean isDeleted;
+  LocalDateTime updatedAt;
+
+  /** Average review rating, or 0 if the product has no reviews. */
+  double averageRating;
+}
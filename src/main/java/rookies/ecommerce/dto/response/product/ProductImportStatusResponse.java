@@ -0,0 +1,42 @@
+package rookies.ecommerce.dto.response.product;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Setter
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ProductImportStatusResponse {
+  UUID id;
+  Status status;
+  String fileName;
+  LocalDateTime startedAt;
+  LocalDateTime finishedAt;
+  long processedRows;
+  long importedRows;
+  long failedRows;
+  List<RowError> errors;
+
+  public enum Status {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+  }
+
+  @Getter
+  @AllArgsConstructor
+  @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+  public static class RowError {
+    long line;
+    String message;
+  }
+}
@@ -0,0 +1,65 @@
+package rookies.ecommerce.dto.response.product;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One product in a catalog listing, in the same JSON shape as the listing projection. Fields left
+ * out of a sparse fieldset stay {@code null}; {@link SparseProductListItem} writes such rows
+ * without them.
+ */
+public record ProductListItem(
+    UUID id,
+    Category category,
+    String name,
+    String description,
+    String imageUrl,
+    String imageSmallUrl,
+    String imageMediumUrl,
+    String imageLargeUrl,
+    Double price,
+    Integer quantity,
+    Boolean isFeatured,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    Double averageRating,
+    Long ratingCount) {
+
+  public record Category(UUID id, String name) {}
+
+  /** Flat form for JPQL constructor expressions, which cannot build the nested category. */
+  public ProductListItem(
+      UUID id,
+      UUID categoryId,
+      String categoryName,
+      String name,
+      String description,
+      String imageUrl,
+      String imageSmallUrl,
+      String imageMediumUrl,
+      String imageLargeUrl,
+      double price,
+      int quantity,
+      boolean isFeatured,
+      LocalDateTime createdAt,
+      LocalDateTime updatedAt,
+      double averageRating,
+      long ratingCount) {
+    this(
+        id,
+        new Category(categoryId, categoryName),
+        name,
+        description,
+        imageUrl,
+        imageSmallUrl,
+        imageMediumUrl,
+        imageLargeUrl,
+        price,
+        quantity,
+        isFeatured,
+        createdAt,
+        updatedAt,
+        averageRating,
+        ratingCount);
+  }
+}
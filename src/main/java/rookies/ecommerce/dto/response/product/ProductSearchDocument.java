@@ -0,0 +1,21 @@
+package rookies.ecommerce.dto.response.product;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+/** The searchable text of one product, read straight from the query for the search index. */
+@Getter
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ProductSearchDocument {
+  UUID id;
+  String name;
+  String category;
+  String description;
+  boolean isDeleted;
+  LocalDateTime updatedAt;
+}
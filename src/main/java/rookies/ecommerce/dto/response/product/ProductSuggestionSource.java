@@ -0,0 +1,18 @@
+package rookies.ecommerce.dto.response.product;
+
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+/** The names behind one product's typeahead suggestions, read straight from the query. */
+@Getter
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ProductSuggestionSource {
+  UUID id;
+  String name;
+  UUID categoryId;
+  String category;
+}
@@ -0,0 +1,75 @@
+package rookies.ecommerce.dto.response.product;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.data.domain.Page;
+import rookies.ecommerce.dto.request.product.ProductListingField;
+import rookies.ecommerce.dto.response.KeysetPageResponse;
+
+/**
+ * A listing row narrowed to a sparse fieldset. Only the requested fields are written, in the order
+ * of the full row, so full rows keep writing every field, null or not.
+ */
+public record SparseProductListItem(ProductListItem item, Set<ProductListingField> fields) {
+
+  /**
+   * Narrows the rows of a page to the requested fields.
+   *
+   * @return the page itself if every field was requested, otherwise a page of narrowed rows
+   */
+  public static KeysetPageResponse<?> narrow(
+      KeysetPageResponse<ProductListItem> page, Set<ProductListingField> fields) {
+    if (ProductListingField.isEvery(fields)) {
+      return page;
+    }
+    return new KeysetPageResponse<>(
+        page.getContent().stream().map(item -> new SparseProductListItem(item, fields)).toList(),
+        page.getNextCursor(),
+        page.isHasNext());
+  }
+
+  /**
+   * Narrows the rows of a page-numbered page to the requested fields.
+   *
+   * @return the page itself if every field was requested, otherwise a page of narrowed rows
+   */
+  public static Page<?> narrow(Page<ProductListItem> page, Set<ProductListingField> fields) {
+    if (ProductListingField.isEvery(fields)) {
+      return page;
+    }
+    return page.map(item -> new SparseProductListItem(item, fields));
+  }
+
+  @JsonValue
+  public Map<String, Object> toJson() {
+    Map<String, Object> json = new LinkedHashMap<>();
+    for (ProductListingField field : ProductListingField.values()) {
+      if (fields.contains(field)) {
+        json.put(field.getFieldName(), valueOf(field));
+      }
+    }
+    return json;
+  }
+
+  private Object valueOf(ProductListingField field) {
+    return switch (field) {
+      case ID -> item.id();
+      case CATEGORY -> item.category();
+      case NAME -> item.name();
+      case DESCRIPTION -> item.description();
+      case IMAGE_URL -> item.imageUrl();
+      case IMAGE_SMALL_URL -> item.imageSmallUrl();
+      case IMAGE_MEDIUM_URL -> item.imageMediumUrl();
+      case IMAGE_LARGE_URL -> item.imageLargeUrl();
+      case PRICE -> item.price();
+      case QUANTITY -> item.quantity();
+      case IS_FEATURED -> item.isFeatured();
+      case CREATED_AT -> item.createdAt();
+      case UPDATED_AT -> item.updatedAt();
+      case AVERAGE_RATING -> item.averageRating();
+      case RATING_COUNT -> item.ratingCount();
+    };
+  }
+}
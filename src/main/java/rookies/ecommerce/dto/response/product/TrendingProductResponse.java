@@ -0,0 +1,4 @@
+package rookies.ecommerce.dto.response.product;
+
+/** A trending product and its detail views over the trending window. */
+public record TrendingProductResponse(ProductListItem product, long views) {}
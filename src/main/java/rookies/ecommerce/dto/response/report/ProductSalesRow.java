@@ -0,0 +1,8 @@
+package rookies.ecommerce.dto.response.report;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/** Units of an active product sold on one day, with the product's current category. */
+public record ProductSalesRow(
+    UUID productId, UUID categoryId, LocalDate salesDate, long unitsSold) {}
@@ -0,0 +1,20 @@
+package rookies.ecommerce.dto.response.report;
+
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Setter
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SalesRollupRebuildResponse {
+  LocalDate from;
+  LocalDate to;
+  long durationMs;
+  long productRows;
+  long categoryRows;
+}
@@ -0,0 +1,23 @@
+package rookies.ecommerce.dto.response.search;
+
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Setter
+@Builder
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SuggestionResponse {
+  Type type;
+  UUID id;
+  String text;
+
+  public enum Type {
+    PRODUCT,
+    CATEGORY
+  }
+}
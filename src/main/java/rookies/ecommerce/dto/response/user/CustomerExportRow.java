@@ -0,0 +1,24 @@
+package rookies.ecommerce.dto.response.user;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+/** One customer in a customer export, read straight from the query without managing an entity. */
+@Getter
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class CustomerExportRow {
+  UUID id;
+  String email;
+  String firstName;
+  String lastName;
+  String phoneNumber;
+  String address;
+  boolean isActive;
+  LocalDateTime createdAt;
+  LocalDateTime updatedAt;
+}
@@ -0,0 +1,58 @@
+package rookies.ecommerce.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+/** Units sold and revenue of one product on one day, kept up to date as orders are placed. */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(
+    name = "daily_product_sales",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"sales_date", "product_id"}))
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class DailyProductSales extends BaseEntity {
+  @NotNull
+  @Column(name = "sales_date", nullable = false)
+  LocalDate salesDate;
+
+  @NotNull
+  @Column(name = "product_id", nullable = false)
+  UUID productId;
+
+  @Column(name = "units_sold", nullable = false)
+  long unitsSold;
+
+  @Column(name = "revenue", nullable = false)
+  double revenue;
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    if (!super.equals(o)) return false;
+    DailyProductSales that = (DailyProductSales) o;
+    return Objects.equals(salesDate, that.salesDate) && Objects.equals(productId, that.productId);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(super.hashCode(), salesDate, productId);
+  }
+}
@@ -0,0 +1,64 @@
+package rookies.ecommerce.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+/** A claimed idempotency key and, once its request finished, the response to replay. */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "idempotency_keys")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class IdempotencyKey extends BaseEntity {
+  @NotNull
+  @Column(name = "idempotency_key", nullable = false, unique = true, length = 64)
+  String idempotencyKey;
+
+  @NotNull
+  @Column(name = "request_hash", nullable = false, length = 64)
+  String requestHash;
+
+  @Column(name = "completed", nullable = false)
+  boolean completed;
+
+  @Column(name = "response_status")
+  Integer responseStatus;
+
+  @Column(name = "content_type")
+  String contentType;
+
+  @Column(name = "response_body")
+  byte[] responseBody;
+
+  @NotNull
+  @Column(name = "expires_at", nullable = false)
+  LocalDateTime expiresAt;
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    if (!super.equals(o)) return false;
+    IdempotencyKey that = (IdempotencyKey) o;
+    return Objects.equals(idempotencyKey, that.idempotencyKey);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(super.hashCode(), idempotencyKey);
+  }
+}
@@ -0,0 +1,71 @@
+package rookies.ecommerce.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.CreationTimestamp;
+
+/** An uploaded image that is no longer referenced and waits to be deleted from storage. */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "image_deletion_tasks")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ImageDeletionTask extends BaseEntity {
+  @NotNull
+  @Column(name = "image_url", nullable = false, length = 1000)
+  String imageUrl;
+
+  @Builder.Default
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status", nullable = false, length = 20)
+  Status status = Status.PENDING;
+
+  @Builder.Default
+  @Column(name = "attempts", nullable = false)
+  int attempts = 0;
+
+  @NotNull
+  @Column(name = "next_attempt_at", nullable = false)
+  LocalDateTime nextAttemptAt;
+
+  @Column(name = "last_error", length = 1000)
+  String lastError;
+
+  @CreationTimestamp
+  @Column(name = "created_at", updatable = false)
+  LocalDateTime createdAt;
+
+  public enum Status {
+    PENDING,
+    DEAD
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof ImageDeletionTask that)) return false;
+    if (!super.equals(o)) return false;
+    return Objects.equals(imageUrl, that.imageUrl) && Objects.equals(createdAt, that.createdAt);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(super.hashCode(), imageUrl, createdAt);
+  }
+}
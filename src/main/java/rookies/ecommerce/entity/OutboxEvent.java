@@ -0,0 +1,91 @@
+package rookies.ecommerce.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.CreationTimestamp;
+
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "outbox_events")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class OutboxEvent extends BaseEntity {
+  @NotNull
+  @Column(name = "aggregate_type", nullable = false, length = 50)
+  String aggregateType;
+
+  @NotNull
+  @Column(name = "aggregate_id", nullable = false)
+  UUID aggregateId;
+
+  @NotNull
+  @Column(name = "event_type", nullable = false, length = 100)
+  String eventType;
+
+  @NotNull
+  @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+  String payload;
+
+  @Builder.Default
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status", nullable = false, length = 20)
+  Status status = Status.PENDING;
+
+  @Builder.Default
+  @Column(name = "attempts", nullable = false)
+  int attempts = 0;
+
+  @Column(name = "last_error", length = 1000)
+  String lastError;
+
+  /** When the relay may next claim the event; pushed back after each failed delivery. */
+  @NotNull
+  @Column(name = "next_attempt_at", nullable = false)
+  LocalDateTime nextAttemptAt;
+
+  @CreationTimestamp
+  @Column(name = "created_at", updatable = false)
+  LocalDateTime createdAt;
+
+  @Column(name = "processed_at")
+  LocalDateTime processedAt;
+
+  public enum Status {
+    PENDING,
+    PROCESSED,
+    FAILED
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof OutboxEvent that)) return false;
+    if (!super.equals(o)) return false;
+    return Objects.equals(aggregateType, that.aggregateType)
+        && Objects.equals(aggregateId, that.aggregateId)
+        && Objects.equals(eventType, that.eventType)
+        && Objects.equals(createdAt, that.createdAt);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(super.hashCode(), aggregateType, aggregateId, eventType, createdAt);
+  }
+}
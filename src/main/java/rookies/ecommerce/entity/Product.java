@@ -19,6 +19,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Getter
@@ -46,6 +47,15 @@ public class Product extends BaseEntityAudit {
   @Column(name = "image_url", nullable = false)
   String imageUrl;
 
+  @Column(name = "image_small_url")
+  String imageSmallUrl;
+
+  @Column(name = "image_medium_url")
+  String imageMediumUrl;
+
+  @Column(name = "image_large_url")
+  String imageLargeUrl;
+
   @NotNull
   @Min(0)
   @Column(name = "price", nullable = false)
@@ -59,6 +69,18 @@ public class Product extends BaseEntityAudit {
   @Column(name = "is_featured", columnDefinition = "boolean default false")
   boolean isFeatured;
 
+  /**
+   * Average review rating, 0 until the first review. Kept in step with the reviews by bulk updates
+   * only, so saving a product loaded earlier cannot overwrite a newer value.
+   */
+  @ColumnDefault("0")
+  @Column(name = "average_rating", nullable = false, insertable = false, updatable = false)
+  double averageRating;
+
+  @ColumnDefault("0")
+  @Column(name = "rating_count", nullable = false, insertable = false, updatable = false)
+  long ratingCount;
+
   @OneToMany(mappedBy = "product", fetch = FetchType.LAZY)
   List<Review> reviews;
 
@@ -0,0 +1,56 @@
+package rookies.ecommerce.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+/** Detail views of one product in one time bucket of the trending window, in UTC. */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(
+    name = "product_view_buckets",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"bucket_start", "product_id"}))
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ProductViewBucket extends BaseEntity {
+  @NotNull
+  @Column(name = "bucket_start", nullable = false)
+  LocalDateTime bucketStart;
+
+  @NotNull
+  @Column(name = "product_id", nullable = false)
+  UUID productId;
+
+  @Column(name = "views", nullable = false)
+  long views;
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    if (!super.equals(o)) return false;
+    ProductViewBucket that = (ProductViewBucket) o;
+    return Objects.equals(bucketStart, that.bucketStart)
+        && Objects.equals(productId, that.productId);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(super.hashCode(), bucketStart, productId);
+  }
+}
@@ -0,0 +1,60 @@
+package rookies.ecommerce.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import org.hibernate.annotations.CreationTimestamp;
+
+/**
+ * An uploaded image indexed by the SHA-256 of its content, with the number of references to its
+ * URL. A reference count of zero means the asset is being removed from storage and must not be
+ * handed out again.
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "stored_images")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class StoredImage extends BaseEntity {
+  @NotNull
+  @Column(name = "content_hash", nullable = false, unique = true, length = 64)
+  String contentHash;
+
+  @NotNull
+  @Column(name = "url", nullable = false, unique = true, length = 1000)
+  String url;
+
+  @Builder.Default
+  @Column(name = "ref_count", nullable = false)
+  int refCount = 1;
+
+  @CreationTimestamp
+  @Column(name = "created_at", updatable = false)
+  LocalDateTime createdAt;
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof StoredImage that)) return false;
+    if (!super.equals(o)) return false;
+    return Objects.equals(contentHash, that.contentHash);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(super.hashCode(), contentHash);
+  }
+}
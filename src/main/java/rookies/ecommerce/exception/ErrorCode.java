@@ -52,6 +52,33 @@ public enum ErrorCode {
   EMPTY_CART(1042, "Your cart is empty"),
   CART_ITEM_NOT_FOUND(1043, "Cart item not found"),
   QUANTITY_GREATER_THAN_OR_EQUAL_ZERO(1044, "Quantity must be greater than or equal to zero"),
+  PURGE_ALREADY_RUNNING(1045, "A purge run is already in progress"),
+  INVALID_CURSOR(1046, "Invalid page cursor"),
+  INVALID_DATE_RANGE(1047, "Invalid date range"),
+  INVALID_IDEMPOTENCY_KEY(1048, "Idempotency-Key must be between 1 and 255 characters"),
+  IDEMPOTENT_REQUEST_IN_PROGRESS(
+      1049, "A request with this Idempotency-Key is still being processed"),
+  IDEMPOTENCY_KEY_REUSED(1050, "This Idempotency-Key was already used for a different request"),
+  UNSUPPORTED_IMAGE_FORMAT(1051, "Only JPEG, PNG, GIF and WebP images are supported"),
+  IMAGE_NOT_FOUND(1052, "Image not found"),
+  IMAGE_STORAGE_BUSY(1053, "Image storage is busy, please try again shortly"),
+  IMAGE_STORAGE_TIMEOUT(1054, "Image storage did not respond in time"),
+  IMAGE_STORAGE_UNAVAILABLE(1055, "Image storage is temporarily unavailable"),
+  INVALID_IMPORT_FORMAT(1056, "Import file must be CSV or NDJSON"),
+  IMPORT_QUEUE_FULL(1057, "Too many imports are waiting, please try again later"),
+  IMPORT_NOT_FOUND(1058, "Import not found"),
+  INVALID_IMAGE_URL(1059, "Image URL is not longer than 255 characters"),
+  INVALID_EXPORT_FORMAT(1060, "Export format must be csv or ndjson"),
+  SEARCH_QUERY_REQUIRED(1061, "Search query must not be blank"),
+  INVALID_PRICE_BAND(1062, "Unknown price band"),
+  INVALID_RATING_FILTER(1063, "Minimum rating must be between 1 and 5"),
+  INVALID_PRODUCT_SORT(1064, "Sort must be newest, price or rating"),
+  INVALID_PRICE_RANGE(1065, "Price range must be non-negative with minPrice not above maxPrice"),
+  PRODUCT_BATCH_TOO_LARGE(1066, "At most 50 products can be requested at once"),
+  INVALID_LISTING_FIELDS(1067, "Unknown field in fields"),
+  INVALID_COUNT_MODE(1068, "Count must be exact, counter or estimate"),
+  INVALID_BEST_SELLER_WINDOW(1069, "Window must be daily or weekly"),
+  IDEMPOTENCY_STORE_FULL(1070, "Too many requests are in progress, please retry shortly"),
   ;
 
   int code;
@@ -1,10 +1,15 @@
 package rookies.ecommerce.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import rookies.ecommerce.dto.response.cart.CartItemResponse;
 import rookies.ecommerce.entity.CartItem;
@@ -25,4 +30,24 @@ public interface CartRepository extends JpaRepository<CartItem, UUID> {
           + "FROM CartItem ci JOIN ci.product p "
           + "WHERE ci.customer.id = :customerId")
   List<CartItemResponse> findCartItemsByCustomerId(UUID customerId);
+
+  @Query(
+      "SELECT ci.id FROM CartItem ci "
+          + "WHERE ci.updatedAt < :cutoff AND ci.id > :afterId "
+          + "ORDER BY ci.id")
+  List<UUID> findAbandonedIdsAfter(
+      @Param("cutoff") LocalDateTime cutoff, @Param("afterId") UUID afterId, Pageable pageable);
+
+  @Modifying
+  @Query("DELETE FROM CartItem ci WHERE ci.id IN :ids AND ci.updatedAt < :cutoff")
+  int deleteAbandonedByIdIn(
+      @Param("ids") Collection<UUID> ids, @Param("cutoff") LocalDateTime cutoff);
+
+  @Modifying
+  @Query("DELETE FROM CartItem ci WHERE ci.product.id IN :productIds")
+  int deleteAllByProductIdIn(@Param("productIds") Collection<UUID> productIds);
+
+  @Modifying
+  @Query("DELETE FROM CartItem ci WHERE ci.customer.id IN :customerIds")
+  int deleteAllByCustomerIdIn(@Param("customerIds") Collection<UUID> customerIds);
 }
@@ -1,9 +1,15 @@
 package rookies.ecommerce.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import rookies.ecommerce.dto.response.category.CategorySummaryResponse;
 import rookies.ecommerce.entity.Category;
 
@@ -13,4 +19,16 @@ public interface CategoryRepository extends JpaRepository<Category, UUID> {
   boolean existsByNameAndIsDeletedFalse(String name);
 
   List<CategorySummaryResponse> findAllByIsDeletedFalseOrderByCreatedAtDesc();
+
+  @Query(
+      "SELECT c.id FROM Category c "
+          + "WHERE c.isDeleted = true AND c.updatedAt < :cutoff AND c.id > :afterId "
+          + "AND NOT EXISTS (SELECT 1 FROM Product p WHERE p.category = c) "
+          + "ORDER BY c.id")
+  List<UUID> findPurgeableIdsAfter(
+      @Param("cutoff") LocalDateTime cutoff, @Param("afterId") UUID afterId, Pageable pageable);
+
+  @Modifying
+  @Query("DELETE FROM Category c WHERE c.id IN :ids AND c.isDeleted = true")
+  int deleteSoftDeletedByIdIn(@Param("ids") Collection<UUID> ids);
 }
@@ -1,10 +1,21 @@
 package rookies.ecommerce.repository;
 
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import rookies.ecommerce.dto.response.user.CustomerExportRow;
 import rookies.ecommerce.dto.response.user.CustomerSummaryResponse;
 import rookies.ecommerce.entity.user.Customer;
 
@@ -12,4 +23,31 @@ public interface CustomerRepository extends JpaRepository<Customer, UUID> {
   Optional<Customer> findByIdAndIsDeletedFalse(UUID id);
 
   Page<CustomerSummaryResponse> findAllByIsDeletedFalse(Pageable pageable);
+
+  /**
+   * Streams every active customer for export, in no particular order. The stream must be consumed
+   * and closed inside a transaction; the driver fetches rows in chunks of the fetch size.
+   */
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query(
+      "SELECT new rookies.ecommerce.dto.response.user.CustomerExportRow("
+          + "c.id, c.email, c.firstName, c.lastName, c.phoneNumber, c.address, c.isActive, "
+          + "c.createdAt, c.updatedAt) "
+          + "FROM Customer c WHERE c.isDeleted = false")
+  Stream<CustomerExportRow> streamAllActiveForExport();
+
+  @Query(
+      "SELECT c.id FROM Customer c "
+          + "WHERE c.isDeleted = true AND c.updatedAt < :cutoff AND c.id > :afterId "
+          + "AND NOT EXISTS (SELECT 1 FROM Order o WHERE o.customer = c) "
+          + "ORDER BY c.id")
+  List<UUID> findPurgeableIdsAfter(
+      @Param("cutoff") LocalDateTime cutoff, @Param("afterId") UUID afterId, Pageable pageable);
+
+  @Modifying
+  @Query("DELETE FROM Customer c WHERE c.id IN :ids AND c.isDeleted = true")
+  int deleteSoftDeletedByIdIn(@Param("ids") Collection<UUID> ids);
 }
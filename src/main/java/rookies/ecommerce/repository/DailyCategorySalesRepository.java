@@ -0,0 +1,71 @@
+package rookies.ecommerce.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import rookies.ecommerce.dto.response.report.SalesPointResponse;
+import rookies.ecommerce.entity.DailyCategorySales;
+
+public interface DailyCategorySalesRepository extends JpaRepository<DailyCategorySales, UUID> {
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO daily_category_sales (id, sales_date, category_id, units_sold, revenue) "
+              + "VALUES (gen_random_uuid(), :salesDate, :categoryId, :unitsSold, :revenue) "
+              + "ON CONFLICT (sales_date, category_id) DO UPDATE SET "
+              + "units_sold = daily_category_sales.units_sold + EXCLUDED.units_sold, "
+              + "revenue = daily_category_sales.revenue + EXCLUDED.revenue",
+      nativeQuery = true)
+  void upsert(
+      @Param("salesDate") LocalDate salesDate,
+      @Param("categoryId") UUID categoryId,
+      @Param("unitsSold") long unitsSold,
+      @Param("revenue") double revenue);
+
+  @Query(
+      "SELECT new rookies.ecommerce.dto.response.report.SalesPointResponse("
+          + "s.salesDate, s.unitsSold, s.revenue) "
+          + "FROM DailyCategorySales s "
+          + "WHERE s.categoryId = :categoryId AND s.salesDate BETWEEN :from AND :to "
+          + "ORDER BY s.salesDate")
+  List<SalesPointResponse> findSeriesByCategoryId(
+      @Param("categoryId") UUID categoryId,
+      @Param("from") LocalDate from,
+      @Param("to") LocalDate to);
+
+  /** Store-wide totals per day, summed over the per-category rows. */
+  @Query(
+      "SELECT new rookies.ecommerce.dto.response.report.SalesPointResponse("
+          + "s.salesDate, SUM(s.unitsSold), SUM(s.revenue)) "
+          + "FROM DailyCategorySales s "
+          + "WHERE s.salesDate BETWEEN :from AND :to "
+          + "GROUP BY s.salesDate "
+          + "ORDER BY s.salesDate")
+  List<SalesPointResponse> findTotalSeries(
+      @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+  @Modifying
+  @Query("DELETE FROM DailyCategorySales s WHERE s.salesDate = :salesDate")
+  int deleteBySalesDate(@Param("salesDate") LocalDate salesDate);
+
+  /**
+   * Rebuilt from the product rollup of the same day, which must be rebuilt first. Sales are
+   * attributed to each product's current category, unlike {@link #upsert}, which checkout calls
+   * with the category at the time of sale.
+   */
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO daily_category_sales (id, sales_date, category_id, units_sold, revenue) "
+              + "SELECT gen_random_uuid(), :salesDate, p.category_id, "
+              + "SUM(s.units_sold), SUM(s.revenue) "
+              + "FROM daily_product_sales s JOIN products p ON p.id = s.product_id "
+              + "WHERE s.sales_date = :salesDate "
+              + "GROUP BY p.category_id",
+      nativeQuery = true)
+  int rebuildDay(@Param("salesDate") LocalDate salesDate);
+}
@@ -0,0 +1,79 @@
+package rookies.ecommerce.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import rookies.ecommerce.dto.projection.product.IProductUnitsSoldProjection;
+import rookies.ecommerce.dto.response.report.ProductSalesRow;
+import rookies.ecommerce.dto.response.report.SalesPointResponse;
+import rookies.ecommerce.entity.DailyProductSales;
+
+public interface DailyProductSalesRepository extends JpaRepository<DailyProductSales, UUID> {
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO daily_product_sales (id, sales_date, product_id, units_sold, revenue) "
+              + "VALUES (gen_random_uuid(), :salesDate, :productId, :unitsSold, :revenue) "
+              + "ON CONFLICT (sales_date, product_id) DO UPDATE SET "
+              + "units_sold = daily_product_sales.units_sold + EXCLUDED.units_sold, "
+              + "revenue = daily_product_sales.revenue + EXCLUDED.revenue",
+      nativeQuery = true)
+  void upsert(
+      @Param("salesDate") LocalDate salesDate,
+      @Param("productId") UUID productId,
+      @Param("unitsSold") long unitsSold,
+      @Param("revenue") double revenue);
+
+  @Query(
+      "SELECT new rookies.ecommerce.dto.response.report.SalesPointResponse("
+          + "s.salesDate, s.unitsSold, s.revenue) "
+          + "FROM DailyProductSales s "
+          + "WHERE s.productId = :productId AND s.salesDate BETWEEN :from AND :to "
+          + "ORDER BY s.salesDate")
+  List<SalesPointResponse> findSeriesByProductId(
+      @Param("productId") UUID productId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+  @Query(
+      "SELECT s.productId AS productId, SUM(s.unitsSold) AS unitsSold "
+          + "FROM DailyProductSales s "
+          + "WHERE s.salesDate >= :from "
+          + "GROUP BY s.productId")
+  List<IProductUnitsSoldProjection> sumUnitsSoldSince(@Param("from") LocalDate from);
+
+  @Query(
+      "SELECT new rookies.ecommerce.dto.response.report.ProductSalesRow("
+          + "s.productId, p.category.id, s.salesDate, s.unitsSold) "
+          + "FROM DailyProductSales s JOIN Product p ON p.id = s.productId "
+          + "WHERE s.salesDate >= :from AND p.isDeleted = false")
+  List<ProductSalesRow> findProductSalesSince(@Param("from") LocalDate from);
+
+  @Modifying
+  @Query(
+      value = "LOCK TABLE daily_product_sales, daily_category_sales IN SHARE ROW EXCLUSIVE MODE",
+      nativeQuery = true)
+  void lockForRebuild();
+
+  @Modifying
+  @Query("DELETE FROM DailyProductSales s WHERE s.salesDate = :salesDate")
+  int deleteBySalesDate(@Param("salesDate") LocalDate salesDate);
+
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO daily_product_sales (id, sales_date, product_id, units_sold, revenue) "
+              + "SELECT gen_random_uuid(), :salesDate, oi.product_id, "
+              + "SUM(oi.quantity), SUM(oi.quantity * oi.price) "
+              + "FROM orders o JOIN order_items oi ON oi.order_id = o.id "
+              + "WHERE o.is_deleted = false AND o.created_at >= :start AND o.created_at < :end "
+              + "GROUP BY oi.product_id",
+      nativeQuery = true)
+  int rebuildDay(
+      @Param("salesDate") LocalDate salesDate,
+      @Param("start") LocalDateTime start,
+      @Param("end") LocalDateTime end);
+}
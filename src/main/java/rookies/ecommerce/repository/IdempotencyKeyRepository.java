@@ -0,0 +1,55 @@
+package rookies.ecommerce.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import rookies.ecommerce.entity.IdempotencyKey;
+
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, UUID> {
+  /**
+   * Inserts a claim unless the key already exists.
+   *
+   * @return 1 if the key was claimed, 0 if another request holds it
+   */
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO idempotency_keys (id, idempotency_key, request_hash, completed, expires_at) "
+              + "VALUES (gen_random_uuid(), :key, :requestHash, false, :expiresAt) "
+              + "ON CONFLICT (idempotency_key) DO NOTHING",
+      nativeQuery = true)
+  int insertIfAbsent(
+      @Param("key") String key,
+      @Param("requestHash") String requestHash,
+      @Param("expiresAt") LocalDateTime expiresAt);
+
+  Optional<IdempotencyKey> findByIdempotencyKey(String idempotencyKey);
+
+  @Modifying
+  @Query(
+      "UPDATE IdempotencyKey k SET k.completed = true, k.responseStatus = :status, "
+          + "k.contentType = :contentType, k.responseBody = :body, k.expiresAt = :expiresAt "
+          + "WHERE k.idempotencyKey = :key")
+  int complete(
+      @Param("key") String key,
+      @Param("status") int status,
+      @Param("contentType") String contentType,
+      @Param("body") byte[] body,
+      @Param("expiresAt") LocalDateTime expiresAt);
+
+  @Modifying
+  @Query("DELETE FROM IdempotencyKey k WHERE k.idempotencyKey = :key")
+  int deleteByKey(@Param("key") String key);
+
+  @Modifying
+  @Query("DELETE FROM IdempotencyKey k WHERE k.idempotencyKey = :key AND k.expiresAt < :now")
+  int deleteExpiredByKey(@Param("key") String key, @Param("now") LocalDateTime now);
+
+  @Modifying
+  @Query("DELETE FROM IdempotencyKey k WHERE k.expiresAt < :now")
+  int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,39 @@
+package rookies.ecommerce.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import rookies.ecommerce.entity.ImageDeletionTask;
+
+@Repository
+public interface ImageDeletionTaskRepository extends JpaRepository<ImageDeletionTask, UUID> {
+  /**
+   * Claims the pending tasks that are due for the current transaction, skipping rows that another
+   * worker has locked.
+   */
+  @Query(
+      value =
+          "SELECT * FROM image_deletion_tasks "
+              + "WHERE status = 'PENDING' AND next_attempt_at <= :now "
+              + "ORDER BY next_attempt_at, id LIMIT :batchSize FOR UPDATE SKIP LOCKED",
+      nativeQuery = true)
+  List<ImageDeletionTask> claimDueBatch(
+      @Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
+
+  long countByStatus(ImageDeletionTask.Status status);
+
+  @Modifying
+  @Query(
+      "UPDATE ImageDeletionTask t SET t.status = :pending, t.attempts = 0, "
+          + "t.nextAttemptAt = :now, t.lastError = null "
+          + "WHERE t.status = :dead")
+  int requeueDead(
+      @Param("now") LocalDateTime now,
+      @Param("pending") ImageDeletionTask.Status pending,
+      @Param("dead") ImageDeletionTask.Status dead);
+}
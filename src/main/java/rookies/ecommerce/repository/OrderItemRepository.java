@@ -0,0 +1,22 @@
+package rookies.ecommerce.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import rookies.ecommerce.dto.response.order.OrderItemResponse;
+import rookies.ecommerce.entity.OrderItem;
+
+@Repository
+public interface OrderItemRepository extends JpaRepository<OrderItem, UUID> {
+  @Query(
+      "SELECT new rookies.ecommerce.dto.response.order.OrderItemResponse("
+          + "oi.order.id, p.id, p.name, oi.quantity, oi.price) "
+          + "FROM OrderItem oi JOIN oi.product p "
+          + "WHERE oi.order.id IN :orderIds "
+          + "ORDER BY oi.createdAt, oi.id")
+  List<OrderItemResponse> findItemsByOrderIdIn(@Param("orderIds") Collection<UUID> orderIds);
+}
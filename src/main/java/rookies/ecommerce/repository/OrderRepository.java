@@ -1,9 +1,41 @@
 package rookies.ecommerce.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import rookies.ecommerce.dto.response.order.OrderResponse;
 import rookies.ecommerce.entity.Order;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Order, UUID> {}
+public interface OrderRepository extends JpaRepository<Order, UUID> {
+  @Query(
+      "SELECT new rookies.ecommerce.dto.response.order.OrderResponse("
+          + "o.id, o.totalAmount, o.createdAt) "
+          + "FROM Order o "
+          + "WHERE o.customer.id = :customerId AND o.isDeleted = false "
+          + "ORDER BY o.createdAt DESC, o.id DESC")
+  List<OrderResponse> findFirstPageByCustomerId(
+      @Param("customerId") UUID customerId, Pageable pageable);
+
+  @Query(
+      "SELECT new rookies.ecommerce.dto.response.order.OrderResponse("
+          + "o.id, o.totalAmount, o.createdAt) "
+          + "FROM Order o "
+          + "WHERE o.customer.id = :customerId AND o.isDeleted = false "
+          + "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) "
+          + "ORDER BY o.createdAt DESC, o.id DESC")
+  List<OrderResponse> findPageByCustomerIdAfter(
+      @Param("customerId") UUID customerId,
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") UUID id,
+      Pageable pageable);
+
+  @Query("SELECT o.id FROM Order o WHERE o.id IN :ids")
+  List<UUID> findIdsByIdIn(@Param("ids") Collection<UUID> ids);
+}
@@ -0,0 +1,50 @@
+package rookies.ecommerce.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import rookies.ecommerce.entity.OutboxEvent;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, UUID> {
+  /**
+   * Claims the oldest pending events that are due for the current transaction.
+   *
+   * <p>Rows locked by another relay instance are skipped rather than waited on, so several
+   * instances can drain the outbox concurrently without handing out the same event twice.
+   */
+  @Query(
+      value =
+          "SELECT * FROM outbox_events "
+              + "WHERE status = 'PENDING' AND next_attempt_at <= :now "
+              + "ORDER BY created_at, id LIMIT :batchSize FOR UPDATE SKIP LOCKED",
+      nativeQuery = true)
+  List<OutboxEvent> claimPendingBatch(
+      @Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
+
+  long countByStatus(OutboxEvent.Status status);
+
+  Optional<OutboxEvent> findFirstByStatusOrderByCreatedAtAsc(OutboxEvent.Status status);
+
+  @Query(
+      "SELECT e.id FROM OutboxEvent e "
+          + "WHERE e.status = rookies.ecommerce.entity.OutboxEvent.Status.PROCESSED "
+          + "AND e.processedAt < :cutoff AND e.id > :afterId "
+          + "ORDER BY e.id")
+  List<UUID> findProcessedIdsAfter(
+      @Param("cutoff") LocalDateTime cutoff, @Param("afterId") UUID afterId, Pageable pageable);
+
+  @Modifying
+  @Query(
+      "DELETE FROM OutboxEvent e WHERE e.id IN :ids "
+          + "AND e.status = rookies.ecommerce.entity.OutboxEvent.Status.PROCESSED")
+  int deleteProcessedByIdIn(@Param("ids") Collection<UUID> ids);
+}
@@ -0,0 +1,51 @@
+package rookies.ecommerce.repository;
+
+import java.util.List;
+import java.util.UUID;
+import rookies.ecommerce.dto.request.product.ProductListingFilter;
+import rookies.ecommerce.dto.response.product.ProductListItem;
+
+/** Catalog listing queries whose filters and order are only known at request time. */
+public interface ProductListingRepository {
+  /**
+   * Reads the active products that follow a position in a listing.
+   *
+   * @param filter the listing's filters and order
+   * @param afterKey the sort key of the last product already read: its creation time for {@code
+   *     NEWEST}, otherwise its price or rating; {@code null} to start from the beginning
+   * @param afterId the ID of the last product already read, ignored if {@code afterKey} is null
+   * @param limit the maximum number of products to read
+   * @return the products that follow, in listing order
+   */
+  List<ProductListItem> findListingPage(
+      ProductListingFilter filter, Object afterKey, UUID afterId, int limit);
+
+  /**
+   * Reads the active products of a listing from an offset, for the page-numbered listings. The
+   * products are in the same order as {@link #findListingPage}.
+   *
+   * @param filter the listing's filters and order
+   * @param offset the number of products to skip
+   * @param limit the maximum number of products to read
+   * @return the products from the offset, in listing order
+   */
+  List<ProductListItem> findListingSlice(ProductListingFilter filter, long offset, int limit);
+
+  /**
+   * Counts the active products of a listing.
+   *
+   * @param filter the listing's filters; its order and fields are ignored
+   * @return the number of products
+   */
+  long countListing(ProductListingFilter filter);
+
+  /**
+   * Asks the database planner how many active products a listing holds. The estimate comes from the
+   * table statistics, so it costs no scan but is only as fresh as the last {@code ANALYZE}.
+   *
+   * @param categoryId the category to count, or {@code null} for every category
+   * @param featuredOnly whether to count featured products only
+   * @return the estimated number of products
+   */
+  long estimateActiveCount(UUID categoryId, boolean featuredOnly);
+}
@@ -0,0 +1,224 @@
+package rookies.ecommerce.repository;
+
+import static rookies.ecommerce.dto.request.product.ProductListingField.AVERAGE_RATING;
+import static rookies.ecommerce.dto.request.product.ProductListingField.CATEGORY;
+import static rookies.ecommerce.dto.request.product.ProductListingField.CREATED_AT;
+import static rookies.ecommerce.dto.request.product.ProductListingField.DESCRIPTION;
+import static rookies.ecommerce.dto.request.product.ProductListingField.ID;
+import static rookies.ecommerce.dto.request.product.ProductListingField.IMAGE_LARGE_URL;
+import static rookies.ecommerce.dto.request.product.ProductListingField.IMAGE_MEDIUM_URL;
+import static rookies.ecommerce.dto.request.product.ProductListingField.IMAGE_SMALL_URL;
+import static rookies.ecommerce.dto.request.product.ProductListingField.IMAGE_URL;
+import static rookies.ecommerce.dto.request.product.ProductListingField.IS_FEATURED;
+import static rookies.ecommerce.dto.request.product.ProductListingField.NAME;
+import static rookies.ecommerce.dto.request.product.ProductListingField.PRICE;
+import static rookies.ecommerce.dto.request.product.ProductListingField.QUANTITY;
+import static rookies.ecommerce.dto.request.product.ProductListingField.RATING_COUNT;
+import static rookies.ecommerce.dto.request.product.ProductListingField.UPDATED_AT;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import rookies.ecommerce.dto.request.product.ProductListingField;
+import rookies.ecommerce.dto.request.product.ProductListingFilter;
+import rookies.ecommerce.dto.request.product.ProductSort;
+import rookies.ecommerce.dto.response.product.ProductListItem;
+
+/**
+ * Builds each listing query from the filters actually set, so every combination matches one of the
+ * partial {@code (sort key, id)} indexes and is read as a single index range.
+ *
+ * <p>The position is a row-value comparison such as {@code (p.price, p.id) > (:key, :id)}, which
+ * PostgreSQL turns into the start of the range scan. The equivalent {@code key > :key OR (key =
+ * :key AND id > :id)} would make it scan from the first row and filter instead.
+ *
+ * <p>Only the requested fields are selected, and the category is only joined when it is one of
+ * them, so a grid listing never reads the descriptions out of their TOAST storage.
+ */
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ProductListingRepositoryImpl implements ProductListingRepository {
+  private static final Map<ProductListingField, String> COLUMNS =
+      new EnumMap<>(ProductListingField.class);
+  private static final Pattern PLAN_ROWS = Pattern.compile(" rows=(\\d+)");
+
+  static {
+    COLUMNS.put(ID, "p.id");
+    COLUMNS.put(NAME, "p.name");
+    COLUMNS.put(DESCRIPTION, "p.description");
+    COLUMNS.put(IMAGE_URL, "p.imageUrl");
+    COLUMNS.put(IMAGE_SMALL_URL, "p.imageSmallUrl");
+    COLUMNS.put(IMAGE_MEDIUM_URL, "p.imageMediumUrl");
+    COLUMNS.put(IMAGE_LARGE_URL, "p.imageLargeUrl");
+    COLUMNS.put(PRICE, "p.price");
+    COLUMNS.put(QUANTITY, "p.quantity");
+    COLUMNS.put(IS_FEATURED, "p.isFeatured");
+    COLUMNS.put(CREATED_AT, "p.createdAt");
+    COLUMNS.put(UPDATED_AT, "p.updatedAt");
+    COLUMNS.put(AVERAGE_RATING, "p.averageRating");
+    COLUMNS.put(RATING_COUNT, "p.ratingCount");
+  }
+
+  EntityManager entityManager;
+
+  @Override
+  public List<ProductListItem> findListingPage(
+      ProductListingFilter filter, Object afterKey, UUID afterId, int limit) {
+    return read(filter, afterKey, afterId, 0, limit);
+  }
+
+  @Override
+  public List<ProductListItem> findListingSlice(
+      ProductListingFilter filter, long offset, int limit) {
+    return read(filter, null, null, offset, limit);
+  }
+
+  @Override
+  public long countListing(ProductListingFilter filter) {
+    StringBuilder jpql = new StringBuilder("SELECT count(p) FROM Product p");
+    appendFilters(jpql, filter);
+    TypedQuery<Long> query = entityManager.createQuery(jpql.toString(), Long.class);
+    bindFilters(query, filter);
+    return query.getSingleResult();
+  }
+
+  private List<ProductListItem> read(
+      ProductListingFilter filter, Object afterKey, UUID afterId, long offset, int limit) {
+    ProductListingField keyField =
+        switch (filter.getSort()) {
+          case NEWEST -> CREATED_AT;
+          case PRICE -> PRICE;
+          case RATING -> AVERAGE_RATING;
+        };
+    String key = COLUMNS.get(keyField);
+    boolean descending = filter.getSort() != ProductSort.PRICE;
+    Set<ProductListingField> fields = EnumSet.of(ID, keyField);
+    fields.addAll(filter.getFields());
+
+    StringBuilder jpql = new StringBuilder("SELECT ");
+    for (ProductListingField field : fields) {
+      if (field == CATEGORY) {
+        jpql.append("c.id AS categoryId, c.name AS categoryName, ");
+      } else {
+        jpql.append(COLUMNS.get(field)).append(" AS ").append(field.getFieldName()).append(", ");
+      }
+    }
+    jpql.setLength(jpql.length() - 2);
+    jpql.append(" FROM Product p");
+    if (fields.contains(CATEGORY)) {
+      jpql.append(" JOIN p.category c");
+    }
+    appendFilters(jpql, filter);
+    if (afterKey != null) {
+      jpql.append(" AND (")
+          .append(key)
+          .append(", p.id) ")
+          .append(descending ? "<" : ">")
+          .append(" (:afterKey, :afterId)");
+    }
+    String direction = descending ? " DESC" : "";
+    jpql.append(" ORDER BY ").append(key).append(direction).append(", p.id").append(direction);
+
+    TypedQuery<Tuple> query =
+        entityManager
+            .createQuery(jpql.toString(), Tuple.class)
+            .setFirstResult(Math.toIntExact(offset))
+            .setMaxResults(limit);
+    bindFilters(query, filter);
+    if (afterKey != null) {
+      query.setParameter("afterKey", afterKey).setParameter("afterId", afterId);
+    }
+
+    List<Tuple> rows = query.getResultList();
+    List<ProductListItem> items = new ArrayList<>(rows.size());
+    for (Tuple row : rows) {
+      items.add(toItem(row, fields));
+    }
+    return items;
+  }
+
+  @Override
+  public long estimateActiveCount(UUID categoryId, boolean featuredOnly) {
+    // The category is written into the statement so the planner estimates for that very value;
+    // a UUID holds nothing but hex digits and dashes.
+    StringBuilder sql =
+        new StringBuilder("EXPLAIN SELECT 1 FROM products WHERE is_deleted = false");
+    if (categoryId != null) {
+      sql.append(" AND category_id = '").append(categoryId).append('\'');
+    }
+    if (featuredOnly) {
+      sql.append(" AND is_featured = true");
+    }
+    List<?> plan = entityManager.createNativeQuery(sql.toString()).getResultList();
+    Matcher rows = PLAN_ROWS.matcher(String.valueOf(plan.get(0)));
+    return rows.find() ? Long.parseLong(rows.group(1)) : 0;
+  }
+
+  private static void appendFilters(StringBuilder jpql, ProductListingFilter filter) {
+    jpql.append(" WHERE p.isDeleted = false");
+    if (filter.getCategoryId() != null) {
+      jpql.append(" AND p.category.id = :categoryId");
+    }
+    if (filter.isFeaturedOnly()) {
+      jpql.append(" AND p.isFeatured = true");
+    }
+    if (filter.getMinPrice() != null) {
+      jpql.append(" AND p.price >= :minPrice");
+    }
+    if (filter.getMaxPrice() != null) {
+      jpql.append(" AND p.price <= :maxPrice");
+    }
+  }
+
+  private static void bindFilters(TypedQuery<?> query, ProductListingFilter filter) {
+    if (filter.getCategoryId() != null) {
+      query.setParameter("categoryId", filter.getCategoryId());
+    }
+    if (filter.getMinPrice() != null) {
+      query.setParameter("minPrice", filter.getMinPrice());
+    }
+    if (filter.getMaxPrice() != null) {
+      query.setParameter("maxPrice", filter.getMaxPrice());
+    }
+  }
+
+  private static ProductListItem toItem(Tuple row, Set<ProductListingField> fields) {
+    return new ProductListItem(
+        row.get(ID.getFieldName(), UUID.class),
+        fields.contains(CATEGORY)
+            ? new ProductListItem.Category(
+                row.get("categoryId", UUID.class), row.get("categoryName", String.class))
+            : null,
+        get(row, fields, NAME, String.class),
+        get(row, fields, DESCRIPTION, String.class),
+        get(row, fields, IMAGE_URL, String.class),
+        get(row, fields, IMAGE_SMALL_URL, String.class),
+        get(row, fields, IMAGE_MEDIUM_URL, String.class),
+        get(row, fields, IMAGE_LARGE_URL, String.class),
+        get(row, fields, PRICE, Double.class),
+        get(row, fields, QUANTITY, Integer.class),
+        get(row, fields, IS_FEATURED, Boolean.class),
+        get(row, fields, CREATED_AT, LocalDateTime.class),
+        get(row, fields, UPDATED_AT, LocalDateTime.class),
+        get(row, fields, AVERAGE_RATING, Double.class),
+        get(row, fields, RATING_COUNT, Long.class));
+  }
+
+  private static <T> T get(
+      Tuple row, Set<ProductListingField> fields, ProductListingField field, Class<T> type) {
+    return fields.contains(field) ? row.get(field.getFieldName(), type) : null;
+  }
+}
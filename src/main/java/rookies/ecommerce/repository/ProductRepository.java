@@ -1,50 +1,237 @@
 package rookies.ecommerce.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
-import rookies.ecommerce.dto.projection.product.IProductWithCategoryNameProjection;
+import rookies.ecommerce.dto.response.product.ProductCountRow;
+import rookies.ecommerce.dto.response.product.ProductExportRow;
+import rookies.ecommerce.dto.response.product.ProductFacetRow;
+import rookies.ecommerce.dto.response.product.ProductListItem;
+import rookies.ecommerce.dto.response.product.ProductSearchDocument;
+import rookies.ecommerce.dto.response.product.ProductSuggestionSource;
 import rookies.ecommerce.entity.Product;
 
-public interface ProductRepository extends JpaRepository<Product, UUID> {
+public interface ProductRepository extends JpaRepository<Product, UUID>, ProductListingRepository {
+  /**
+   * Builds each listing row straight into a {@link ProductListItem} from scalar columns, taking
+   * only the category's ID and name.
+   */
+  String LISTING_SELECT =
+      "SELECT new rookies.ecommerce.dto.response.product.ProductListItem("
+          + "p.id, c.id, c.name, p.name, p.description, p.imageUrl, p.imageSmallUrl, "
+          + "p.imageMediumUrl, p.imageLargeUrl, p.price, p.quantity, p.isFeatured, "
+          + "p.createdAt, p.updatedAt, p.averageRating, p.ratingCount) "
+          + "FROM Product p JOIN p.category c ";
+
+  /**
+   * Lists active products in the order the page asks for. The total is counted without the category
+   * join, which cannot change it.
+   */
   @Query(
-      "SELECT p.id AS id, p.category AS category, p.name AS name, p.description AS description, "
-          + "p.imageUrl AS imageUrl, p.price AS price, p.quantity AS quantity, p.isFeatured AS isFeatured, "
-          + "p.createdAt AS createdAt, p.updatedAt AS updatedAt, "
-          + "COALESCE(AVG(r.rating), 0) AS averageRating, "
-          + "COUNT(r.id) AS ratingCount "
-          + "FROM Product p LEFT JOIN p.reviews r "
-          + "WHERE p.isDeleted = false "
-          + "GROUP BY p.id, p.category, p.name, p.description, p.imageUrl, p.price, p.quantity, p.isFeatured, p.createdAt, p.updatedAt")
-  Page<IProductWithCategoryNameProjection> findAllByIsDeletedFalse(Pageable pageable);
+      value = LISTING_SELECT + "WHERE p.isDeleted = false",
+      countQuery = "SELECT count(p) FROM Product p WHERE p.isDeleted = false")
+  Page<ProductListItem> findAllByIsDeletedFalse(Pageable pageable);
+
+  /** Lists active products like {@link #findAllByIsDeletedFalse}, without counting them. */
+  @Query(LISTING_SELECT + "WHERE p.isDeleted = false")
+  List<ProductListItem> findActiveListing(Pageable pageable);
 
   Optional<Product> findByIdAndIsDeletedFalse(UUID id);
 
+  /**
+   * Streams every active product for export, in no particular order. The stream must be consumed
+   * and closed inside a transaction; the driver fetches rows in chunks of the fetch size.
+   */
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query(
+      "SELECT new rookies.ecommerce.dto.response.product.ProductExportRow("
+          + "p.id, p.name, c.name, p.description, p.price, p.quantity, p.isFeatured, "
+          + "p.imageUrl, p.createdAt, p.updatedAt) "
+          + "FROM Product p JOIN p.category c "
+          + "WHERE p.isDeleted = false")
+  Stream<ProductExportRow> streamAllActiveForExport();
+
+  /** Streams the searchable text of every active product, for a full search index build. */
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query(
+      "SELECT new rookies.ecommerce.dto.response.product.ProductSearchDocument("
+          + "p.id, p.name, c.name, p.description, p.isDeleted, p.updatedAt) "
+          + "FROM Product p JOIN p.category c "
+          + "WHERE p.isDeleted = false")
+  Stream<ProductSearchDocument> streamAllActiveForSearch();
+
+  /**
+   * Streams the searchable text of products changed since the given time, deleted ones included, so
+   * the search index can catch up with writes it was not notified of.
+   */
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query(
+      "SELECT new rookies.ecommerce.dto.response.product.ProductSearchDocument("
+          + "p.id, p.name, c.name, p.description, p.isDeleted, p.updatedAt) "
+          + "FROM Product p JOIN p.category c "
+          + "WHERE p.updatedAt >= :since")
+  Stream<ProductSearchDocument> streamSearchDocumentsUpdatedSince(
+      @Param("since") LocalDateTime since);
+
+  /**
+   * Streams the facet values of every active product, oldest first, for a full facet index build.
+   */
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query(
+      "SELECT new rookies.ecommerce.dto.response.product.ProductFacetRow("
+          + "p.id, p.category.id, p.price, p.quantity, p.isFeatured, p.isDeleted, p.updatedAt, "
+          + "p.averageRating) "
+          + "FROM Product p "
+          + "WHERE p.isDeleted = false "
+          + "ORDER BY p.createdAt, p.id")
+  Stream<ProductFacetRow> streamAllActiveForFacets();
+
+  /** Streams the facet values of products changed since the given time, deleted ones included. */
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query(
+      "SELECT new rookies.ecommerce.dto.response.product.ProductFacetRow("
+          + "p.id, p.category.id, p.price, p.quantity, p.isFeatured, p.isDeleted, p.updatedAt, "
+          + "p.averageRating) "
+          + "FROM Product p "
+          + "WHERE p.updatedAt >= :since "
+          + "ORDER BY p.createdAt, p.id")
+  Stream<ProductFacetRow> streamFacetRowsUpdatedSince(@Param("since") LocalDateTime since);
+
+  @Query(
+      "SELECT new rookies.ecommerce.dto.response.product.ProductFacetRow("
+          + "p.id, p.category.id, p.price, p.quantity, p.isFeatured, p.isDeleted, p.updatedAt, "
+          + "p.averageRating) "
+          + "FROM Product p "
+          + "WHERE p.id = :id")
+  Optional<ProductFacetRow> findFacetRowById(@Param("id") UUID id);
+
+  /** Streams the names of active products and their categories, for the typeahead index. */
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query(
+      "SELECT new rookies.ecommerce.dto.response.product.ProductSuggestionSource("
+          + "p.id, p.name, c.id, c.name) "
+          + "FROM Product p JOIN p.category c "
+          + "WHERE p.isDeleted = false AND c.isDeleted = false")
+  Stream<ProductSuggestionSource> streamAllActiveForSuggestions();
+
+  @Query(
+      "SELECT new rookies.ecommerce.dto.response.product.ProductSearchDocument("
+          + "p.id, p.name, c.name, p.description, p.isDeleted, p.updatedAt) "
+          + "FROM Product p JOIN p.category c "
+          + "WHERE p.id = :id")
+  Optional<ProductSearchDocument> findSearchDocumentById(@Param("id") UUID id);
+
+  /** Loads the given active products with their categories, in no particular order. */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+  @Query("SELECT p FROM Product p JOIN FETCH p.category WHERE p.id IN :ids AND p.isDeleted = false")
+  List<Product> findAllActiveWithCategoryByIdIn(@Param("ids") Collection<UUID> ids);
+
+  /** Loads the listing view of the given active products, in no particular order. */
+  @Query(LISTING_SELECT + "WHERE p.isDeleted = false AND p.id IN :ids")
+  List<ProductListItem> findAllActiveByIdIn(@Param("ids") Collection<UUID> ids);
+
+  /**
+   * Loads and row-locks active products for a stock update. Rows are locked in ID order so that
+   * concurrent checkouts over overlapping carts cannot deadlock.
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT p FROM Product p WHERE p.id IN :ids AND p.isDeleted = false ORDER BY p.id")
+  List<Product> findAllByIdInForUpdate(@Param("ids") Collection<UUID> ids);
+
+  @Query(
+      value = LISTING_SELECT + "WHERE p.isDeleted = false AND p.isFeatured = true",
+      countQuery =
+          "SELECT count(p) FROM Product p WHERE p.isDeleted = false AND p.isFeatured = true")
+  Page<ProductListItem> findAllByIsDeletedFalseAndIsFeaturedTrue(Pageable pageable);
+
+  @Query(LISTING_SELECT + "WHERE p.isDeleted = false AND p.isFeatured = true")
+  List<ProductListItem> findFeaturedListing(Pageable pageable);
+
   @Query(
-      "SELECT p.id AS id, p.category AS category, p.name AS name, p.description AS description, "
-          + "p.imageUrl AS imageUrl, p.price AS price, p.quantity AS quantity, p.isFeatured AS isFeatured, "
-          + "p.createdAt AS createdAt, p.updatedAt AS updatedAt, "
-          + "COALESCE(AVG(r.rating), 0) AS averageRating, "
-          + "COUNT(r.id) AS ratingCount "
-          + "FROM Product p LEFT JOIN p.reviews r "
-          + "WHERE p.isDeleted = false AND p.isFeatured = true "
-          + "GROUP BY p.id, p.category, p.name, p.description, p.imageUrl, p.price, p.quantity, p.isFeatured, p.createdAt, p.updatedAt")
-  Page<IProductWithCategoryNameProjection> findAllByIsDeletedFalseAndIsFeaturedTrue(
-      Pageable pageable);
-
-  @Query(
-      "SELECT p.id AS id, p.category AS category, p.name AS name, p.description AS description, "
-          + "p.imageUrl AS imageUrl, p.price AS price, p.quantity AS quantity, p.isFeatured AS isFeatured, "
-          + "p.createdAt AS createdAt, p.updatedAt AS updatedAt, "
-          + "COALESCE(AVG(r.rating), 0) AS averageRating, "
-          + "COUNT(r.id) AS ratingCount "
-          + "FROM Product p LEFT JOIN p.reviews r "
-          + "WHERE p.isDeleted = false AND p.category.id = :categoryId "
-          + "GROUP BY p.id, p.category, p.name, p.description, p.imageUrl, p.price, p.quantity, p.isFeatured, p.createdAt, p.updatedAt")
-  Page<IProductWithCategoryNameProjection> findAllByIsDeletedFalseAndCategoryId(
+      value = LISTING_SELECT + "WHERE p.isDeleted = false AND c.id = :categoryId",
+      countQuery =
+          "SELECT count(p) FROM Product p "
+              + "WHERE p.isDeleted = false AND p.category.id = :categoryId")
+  Page<ProductListItem> findAllByIsDeletedFalseAndCategoryId(
       @Param("categoryId") UUID categoryId, Pageable pageable);
+
+  @Query(LISTING_SELECT + "WHERE p.isDeleted = false AND c.id = :categoryId")
+  List<ProductListItem> findCategoryListing(
+      @Param("categoryId") UUID categoryId, Pageable pageable);
+
+  /** Counts active products per category and featured flag, for the listing totals. */
+  @Query(
+      "SELECT new rookies.ecommerce.dto.response.product.ProductCountRow("
+          + "p.category.id, p.isFeatured, count(p)) "
+          + "FROM Product p "
+          + "WHERE p.isDeleted = false "
+          + "GROUP BY p.category.id, p.isFeatured")
+  List<ProductCountRow> countActiveByCategoryAndFeatured();
+
+  @Query(
+      "SELECT p.id FROM Product p "
+          + "WHERE p.isDeleted = true AND p.updatedAt < :cutoff AND p.id > :afterId "
+          + "AND NOT EXISTS (SELECT 1 FROM OrderItem oi WHERE oi.product = p) "
+          + "ORDER BY p.id")
+  List<UUID> findPurgeableIdsAfter(
+      @Param("cutoff") LocalDateTime cutoff, @Param("afterId") UUID afterId, Pageable pageable);
+
+  /**
+   * Folds a new review into the product's rating in a single statement, so concurrent reviews of
+   * the same product cannot overwrite each other's update.
+   */
+  @Modifying
+  @Query(
+      "UPDATE Product p "
+          + "SET p.averageRating = "
+          + "(p.averageRating * p.ratingCount + :rating) / (p.ratingCount + 1), "
+          + "p.ratingCount = p.ratingCount + 1 "
+          + "WHERE p.id = :id")
+  int addRating(@Param("id") UUID id, @Param("rating") int rating);
+
+  /** Recomputes the rating of the given products from the reviews they have left. */
+  @Modifying
+  @Query(
+      "UPDATE Product p "
+          + "SET p.averageRating = "
+          + "COALESCE((SELECT AVG(r.rating) FROM Review r WHERE r.product = p), 0), "
+          + "p.ratingCount = (SELECT COUNT(r) FROM Review r WHERE r.product = p) "
+          + "WHERE p.id IN :ids")
+  int recomputeRatings(@Param("ids") Collection<UUID> ids);
+
+  @Modifying
+  @Query("DELETE FROM Product p WHERE p.id IN :ids AND p.isDeleted = true")
+  int deleteSoftDeletedByIdIn(@Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,32 @@
+package rookies.ecommerce.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import rookies.ecommerce.entity.ProductViewBucket;
+
+public interface ProductViewBucketRepository extends JpaRepository<ProductViewBucket, UUID> {
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO product_view_buckets (id, bucket_start, product_id, views) "
+              + "VALUES (gen_random_uuid(), :bucketStart, :productId, :views) "
+              + "ON CONFLICT (bucket_start, product_id) DO UPDATE SET "
+              + "views = product_view_buckets.views + EXCLUDED.views",
+      nativeQuery = true)
+  void upsert(
+      @Param("bucketStart") LocalDateTime bucketStart,
+      @Param("productId") UUID productId,
+      @Param("views") long views);
+
+  @Query("SELECT b FROM ProductViewBucket b WHERE b.bucketStart >= :from")
+  List<ProductViewBucket> findByBucketStartFrom(@Param("from") LocalDateTime from);
+
+  @Modifying
+  @Query("DELETE FROM ProductViewBucket b WHERE b.bucketStart < :cutoff")
+  int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,8 +1,12 @@
 package rookies.ecommerce.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import rookies.ecommerce.dto.projection.product.review.ReviewWithUserPreviewProjection;
 import rookies.ecommerce.entity.Review;
 
@@ -10,4 +14,15 @@ public interface ReviewRepository extends JpaRepository<Review, UUID> {
   boolean existsByProductIdAndCustomerId(UUID productId, UUID customerId);
 
   List<ReviewWithUserPreviewProjection> findByProductId(UUID productId);
+
+  @Modifying
+  @Query("DELETE FROM Review r WHERE r.product.id IN :productIds")
+  int deleteAllByProductIdIn(@Param("productIds") Collection<UUID> productIds);
+
+  @Query("SELECT DISTINCT r.product.id FROM Review r WHERE r.customer.id IN :customerIds")
+  List<UUID> findProductIdsByCustomerIdIn(@Param("customerIds") Collection<UUID> customerIds);
+
+  @Modifying
+  @Query("DELETE FROM Review r WHERE r.customer.id IN :customerIds")
+  int deleteAllByCustomerIdIn(@Param("customerIds") Collection<UUID> customerIds);
 }
@@ -0,0 +1,38 @@
+package rookies.ecommerce.repository;
+
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import rookies.ecommerce.entity.StoredImage;
+
+@Repository
+public interface StoredImageRepository extends JpaRepository<StoredImage, UUID> {
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT s FROM StoredImage s WHERE s.contentHash = :contentHash")
+  Optional<StoredImage> findByContentHashForUpdate(@Param("contentHash") String contentHash);
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT s FROM StoredImage s WHERE s.url = :url")
+  Optional<StoredImage> findByUrlForUpdate(@Param("url") String url);
+
+  /**
+   * Indexes a freshly uploaded asset with one reference unless another upload of the same content
+   * got there first.
+   *
+   * @return 1 if the row was inserted, 0 if the hash was already indexed
+   */
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO stored_images (id, content_hash, url, ref_count, created_at) "
+              + "VALUES (gen_random_uuid(), :contentHash, :url, 1, now()) "
+              + "ON CONFLICT (content_hash) DO NOTHING",
+      nativeQuery = true)
+  int insertIfAbsent(@Param("contentHash") String contentHash, @Param("url") String url);
+}
@@ -0,0 +1,231 @@
+package rookies.ecommerce.service.bestseller;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import rookies.ecommerce.dto.request.product.BestSellerWindow;
+
+/**
+ * Units sold per product over every {@link BestSellerWindow}, ranked globally and per category.
+ *
+ * <p>Each ranking keeps a product's total in a map and the same entry in a sorted set, so adding
+ * sales is O(log n) and reading the top k walks the first k entries of the set. Units are also kept
+ * per day for the longest window, so when the day moves on the days that fall out of a window are
+ * subtracted again instead of the window being recounted.
+ */
+final class BestSellerBoard {
+  private static final Comparator<Ranked> ORDER =
+      Comparator.comparingLong(Ranked::unitsSold).reversed().thenComparing(Ranked::productId);
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  private final BestSellerWindow longest;
+  private final Map<LocalDate, Map<UUID, Long>> unitsByDay = new HashMap<>();
+  private final Map<UUID, UUID> categoryOf = new HashMap<>();
+  private final Map<BestSellerWindow, Ranking> global = new EnumMap<>(BestSellerWindow.class);
+  private final Map<BestSellerWindow, Map<UUID, Ranking>> byCategory =
+      new EnumMap<>(BestSellerWindow.class);
+
+  private volatile LocalDate today;
+
+  record Ranked(UUID productId, long unitsSold) {}
+
+  BestSellerBoard(LocalDate today) {
+    this.today = today;
+    BestSellerWindow longest = null;
+    for (BestSellerWindow window : BestSellerWindow.values()) {
+      global.put(window, new Ranking());
+      byCategory.put(window, new HashMap<>());
+      if (longest == null || window.getDays() > longest.getDays()) {
+        longest = window;
+      }
+    }
+    this.longest = longest;
+  }
+
+  /**
+   * Adds units sold on a day. Sales older than the longest window are ignored, and sales of a later
+   * day move the board on to that day first.
+   *
+   * @param categoryId the product's current category; its earlier sales move along with it
+   */
+  void record(LocalDate day, UUID productId, UUID categoryId, long unitsSold) {
+    lock.writeLock().lock();
+    try {
+      if (day.isAfter(today)) {
+        advance(day);
+      }
+      if (unitsSold <= 0 || !inWindow(day, today, longest.getDays())) {
+        return;
+      }
+      UUID previous = categoryOf.put(productId, categoryId);
+      if (previous != null && !previous.equals(categoryId)) {
+        for (Map<UUID, Ranking> categories : byCategory.values()) {
+          long moved = remove(categories, previous, productId);
+          if (moved > 0) {
+            categories.computeIfAbsent(categoryId, id -> new Ranking()).add(productId, moved);
+          }
+        }
+      }
+      unitsByDay.computeIfAbsent(day, d -> new HashMap<>()).merge(productId, unitsSold, Long::sum);
+      for (BestSellerWindow window : BestSellerWindow.values()) {
+        if (inWindow(day, today, window.getDays())) {
+          global.get(window).add(productId, unitsSold);
+          byCategory
+              .get(window)
+              .computeIfAbsent(categoryId, id -> new Ranking())
+              .add(productId, unitsSold);
+        }
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** Moves the board on to a new day, dropping the sales that fall out of each window. */
+  void advanceTo(LocalDate day) {
+    if (!day.isAfter(today)) {
+      return;
+    }
+    lock.writeLock().lock();
+    try {
+      if (day.isAfter(today)) {
+        advance(day);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * @param categoryId the category to rank, or null to rank the whole store
+   * @return up to {@code limit} products, most units sold first
+   */
+  List<Ranked> top(BestSellerWindow window, UUID categoryId, int limit) {
+    lock.readLock().lock();
+    try {
+      Ranking ranking =
+          categoryId == null ? global.get(window) : byCategory.get(window).get(categoryId);
+      return ranking == null ? List.of() : ranking.top(limit);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** Number of products with sales in the longest window. */
+  int size() {
+    lock.readLock().lock();
+    try {
+      return categoryOf.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  LocalDate today() {
+    return today;
+  }
+
+  private void advance(LocalDate day) {
+    Iterator<Map.Entry<LocalDate, Map<UUID, Long>>> days = unitsByDay.entrySet().iterator();
+    while (days.hasNext()) {
+      Map.Entry<LocalDate, Map<UUID, Long>> entry = days.next();
+      LocalDate salesDate = entry.getKey();
+      for (BestSellerWindow window : BestSellerWindow.values()) {
+        if (inWindow(salesDate, today, window.getDays())
+            && !inWindow(salesDate, day, window.getDays())) {
+          entry.getValue().forEach((productId, units) -> subtract(window, productId, units));
+        }
+      }
+      if (!inWindow(salesDate, day, longest.getDays())) {
+        days.remove();
+        entry.getValue().keySet().forEach(this::forgetIfUnsold);
+      }
+    }
+    today = day;
+  }
+
+  private void subtract(BestSellerWindow window, UUID productId, long units) {
+    global.get(window).add(productId, -units);
+    Map<UUID, Ranking> categories = byCategory.get(window);
+    UUID categoryId = categoryOf.get(productId);
+    Ranking category = categories.get(categoryId);
+    if (category != null) {
+      category.add(productId, -units);
+      if (category.isEmpty()) {
+        categories.remove(categoryId);
+      }
+    }
+  }
+
+  /** Forgets a product's category once none of its sales are left in any window. */
+  private void forgetIfUnsold(UUID productId) {
+    if (!global.get(longest).contains(productId)) {
+      categoryOf.remove(productId);
+    }
+  }
+
+  private static long remove(Map<UUID, Ranking> categories, UUID categoryId, UUID productId) {
+    Ranking ranking = categories.get(categoryId);
+    if (ranking == null) {
+      return 0;
+    }
+    long removed = ranking.remove(productId);
+    if (ranking.isEmpty()) {
+      categories.remove(categoryId);
+    }
+    return removed;
+  }
+
+  /** Whether a day falls in the {@code days} days ending on {@code today}. */
+  private static boolean inWindow(LocalDate day, LocalDate today, int days) {
+    return !day.isAfter(today) && day.isAfter(today.minusDays(days));
+  }
+
+  /** Products ranked by units sold, ties broken by ID so the order is stable. */
+  private static final class Ranking {
+    private final Map<UUID, Long> units = new HashMap<>();
+    private final TreeSet<Ranked> ranked = new TreeSet<>(ORDER);
+
+    void add(UUID productId, long delta) {
+      long total = remove(productId) + delta;
+      if (total > 0) {
+        units.put(productId, total);
+        ranked.add(new Ranked(productId, total));
+      }
+    }
+
+    long remove(UUID productId) {
+      Long total = units.remove(productId);
+      if (total == null) {
+        return 0;
+      }
+      ranked.remove(new Ranked(productId, total));
+      return total;
+    }
+
+    boolean contains(UUID productId) {
+      return units.containsKey(productId);
+    }
+
+    boolean isEmpty() {
+      return units.isEmpty();
+    }
+
+    List<Ranked> top(int limit) {
+      List<Ranked> top = new ArrayList<>(Math.max(0, Math.min(limit, ranked.size())));
+      Iterator<Ranked> entries = ranked.iterator();
+      while (top.size() < limit && entries.hasNext()) {
+        top.add(entries.next());
+      }
+      return top;
+    }
+  }
+}
@@ -0,0 +1,245 @@
+package rookies.ecommerce.service.bestseller;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import rookies.ecommerce.dto.event.ProductChangedEvent;
+import rookies.ecommerce.dto.event.ProductsSoldEvent;
+import rookies.ecommerce.dto.request.product.BestSellerWindow;
+import rookies.ecommerce.dto.response.product.BestSellerResponse;
+import rookies.ecommerce.dto.response.product.ProductListItem;
+import rookies.ecommerce.dto.response.report.ProductSalesRow;
+import rookies.ecommerce.dto.response.report.SalesRollupRebuildResponse;
+import rookies.ecommerce.repository.DailyProductSalesRepository;
+import rookies.ecommerce.repository.OrderRepository;
+import rookies.ecommerce.repository.ProductRepository;
+import rookies.ecommerce.service.report.ISalesReportService;
+
+/**
+ * Best-sellers rankings kept in memory and updated as orders are placed.
+ *
+ * <p>Every committed order's units are added to a {@link BestSellerBoard}, so reads never aggregate
+ * orders. The daily sales rollups, which checkout writes in the order's own transaction, double as
+ * the board's snapshot: it is loaded from them on start and reloaded every {@code
+ * reload-interval-ms}, which also brings in orders placed on other instances and repairs drift.
+ * Orders that commit on this instance while a reload is running are replayed onto the new board
+ * unless the rollups it read already include them. The reload reads the rollups and looks up those
+ * orders in one repeatable-read snapshot, so each order is counted exactly once.
+ *
+ * <p>The listing rows of ranked products are cached until a product changes on this instance or the
+ * next reload, which bounds how long changes made on other instances go unseen and keeps the cache
+ * to products ranked since then. A load that started before an invalidation is not cached, so a
+ * slow reader cannot put back old rows.
+ */
+@Slf4j
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class BestSellerService implements IBestSellerService {
+  static final int MAX_LIMIT = 100;
+
+  final DailyProductSalesRepository dailyProductSalesRepository;
+  final ProductRepository productRepository;
+  final ISalesReportService salesReportService;
+  final OrderRepository orderRepository;
+  final TransactionTemplate snapshotTemplate;
+  final Object reloadLock = new Object();
+  final Object eventLock = new Object();
+  final Object productsLock = new Object();
+  final Map<UUID, Optional<ProductListItem>> products = new ConcurrentHashMap<>();
+
+  volatile BestSellerBoard board = new BestSellerBoard(LocalDate.now());
+  List<ProductsSoldEvent> soldDuringReload;
+  long productsVersion;
+
+  public BestSellerService(
+      DailyProductSalesRepository dailyProductSalesRepository,
+      ProductRepository productRepository,
+      ISalesReportService salesReportService,
+      OrderRepository orderRepository,
+      PlatformTransactionManager transactionManager) {
+    this.dailyProductSalesRepository = dailyProductSalesRepository;
+    this.productRepository = productRepository;
+    this.salesReportService = salesReportService;
+    this.orderRepository = orderRepository;
+    this.snapshotTemplate = new TransactionTemplate(transactionManager);
+    this.snapshotTemplate.setReadOnly(true);
+    this.snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+  }
+
+  @Override
+  public List<BestSellerResponse> getBestSellers(
+      BestSellerWindow window, UUID categoryId, int limit) {
+    BestSellerBoard current = board;
+    current.advanceTo(LocalDate.now());
+    List<BestSellerBoard.Ranked> top =
+        current.top(window, categoryId, Math.max(0, Math.min(limit, MAX_LIMIT)));
+
+    Map<UUID, Optional<ProductListItem>> rows = new HashMap<>();
+    List<UUID> missing = new ArrayList<>();
+    for (BestSellerBoard.Ranked entry : top) {
+      Optional<ProductListItem> row = products.get(entry.productId());
+      if (row != null) {
+        rows.put(entry.productId(), row);
+      } else {
+        missing.add(entry.productId());
+      }
+    }
+    if (!missing.isEmpty()) {
+      long readVersion;
+      synchronized (productsLock) {
+        readVersion = productsVersion;
+      }
+      Map<UUID, Optional<ProductListItem>> loaded = new HashMap<>();
+      // Products that are gone are remembered as empty, so they are not looked up again.
+      missing.forEach(productId -> loaded.put(productId, Optional.empty()));
+      productRepository
+          .findAllActiveByIdIn(missing)
+          .forEach(product -> loaded.put(product.id(), Optional.of(product)));
+      rows.putAll(loaded);
+      synchronized (productsLock) {
+        if (readVersion == productsVersion) {
+          products.putAll(loaded);
+        }
+      }
+    }
+
+    List<BestSellerResponse> bestSellers = new ArrayList<>(top.size());
+    for (BestSellerBoard.Ranked entry : top) {
+      rows.get(entry.productId()).ifPresent(product -> bestSellers.add(toResponse(product, entry)));
+    }
+    return bestSellers;
+  }
+
+  @Override
+  public SalesRollupRebuildResponse rebuild() {
+    LocalDate today = LocalDate.now();
+    SalesRollupRebuildResponse report =
+        salesReportService.rebuild(today.minusDays(longestWindowDays() - 1L), today);
+    reload();
+    return report;
+  }
+
+  /** Adds an order's units to the rankings once the order has committed. */
+  @TransactionalEventListener
+  public void onProductsSold(ProductsSoldEvent event) {
+    synchronized (eventLock) {
+      apply(board, event);
+      if (soldDuringReload != null) {
+        soldDuringReload.add(event);
+      }
+    }
+  }
+
+  /** Reloads the listing rows of ranked products once a product change has committed. */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onProductChanged(ProductChangedEvent event) {
+    clearProducts();
+  }
+
+  /**
+   * Rebuilds the rankings from the sales rollups of the longest window, swaps them in and drops the
+   * cached listing rows.
+   */
+  @Scheduled(fixedDelayString = "${app.best-sellers.reload-interval-ms:600000}")
+  public void reload() {
+    synchronized (reloadLock) {
+      LocalDate today = LocalDate.now();
+      BestSellerBoard fresh = new BestSellerBoard(today);
+      synchronized (eventLock) {
+        soldDuringReload = new ArrayList<>();
+      }
+      try {
+        Integer rows = snapshotTemplate.execute(status -> load(fresh, today));
+        clearProducts();
+        log.info("Loaded best sellers from {} daily product sales rows", rows);
+      } catch (RuntimeException e) {
+        log.warn("Could not reload best sellers, keeping the current rankings", e);
+      } finally {
+        synchronized (eventLock) {
+          soldDuringReload = null;
+        }
+      }
+    }
+  }
+
+  /**
+   * Loads the rollups into the board, replays the orders seen committing since the reload began
+   * that the rollups do not include yet, and swaps the board in. Must run in a repeatable-read
+   * transaction, so the order lookups see the same snapshot as the rollup read.
+   *
+   * @return the number of rollup rows loaded
+   */
+  private int load(BestSellerBoard fresh, LocalDate today) {
+    List<ProductSalesRow> rows =
+        dailyProductSalesRepository.findProductSalesSince(
+            today.minusDays(longestWindowDays() - 1L));
+    for (ProductSalesRow row : rows) {
+      fresh.record(row.salesDate(), row.productId(), row.categoryId(), row.unitsSold());
+    }
+    // Orders keep committing during the lookups, so repeat until every one of them is checked.
+    Set<UUID> inSnapshot = new HashSet<>();
+    int checked = 0;
+    while (true) {
+      List<UUID> unchecked;
+      synchronized (eventLock) {
+        if (checked == soldDuringReload.size()) {
+          for (ProductsSoldEvent event : soldDuringReload) {
+            if (!inSnapshot.contains(event.getOrderId())) {
+              apply(fresh, event);
+            }
+          }
+          board = fresh;
+          return rows.size();
+        }
+        unchecked =
+            soldDuringReload.subList(checked, soldDuringReload.size()).stream()
+                .map(ProductsSoldEvent::getOrderId)
+                .toList();
+        checked = soldDuringReload.size();
+      }
+      inSnapshot.addAll(orderRepository.findIdsByIdIn(unchecked));
+    }
+  }
+
+  private void clearProducts() {
+    synchronized (productsLock) {
+      productsVersion++;
+      products.clear();
+    }
+  }
+
+  private static void apply(BestSellerBoard target, ProductsSoldEvent event) {
+    for (ProductsSoldEvent.Sale sale : event.getSales()) {
+      target.record(event.getSalesDate(), sale.productId(), sale.categoryId(), sale.unitsSold());
+    }
+  }
+
+  private static BestSellerResponse toResponse(
+      ProductListItem product, BestSellerBoard.Ranked entry) {
+    return new BestSellerResponse(product, entry.unitsSold());
+  }
+
+  private static int longestWindowDays() {
+    int days = 0;
+    for (BestSellerWindow window : BestSellerWindow.values()) {
+      days = Math.max(days, window.getDays());
+    }
+    return days;
+  }
+}
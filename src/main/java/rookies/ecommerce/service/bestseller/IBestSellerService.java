@@ -0,0 +1,28 @@
+package rookies.ecommerce.service.bestseller;
+
+import java.util.List;
+import java.util.UUID;
+import rookies.ecommerce.dto.request.product.BestSellerWindow;
+import rookies.ecommerce.dto.response.product.BestSellerResponse;
+import rookies.ecommerce.dto.response.report.SalesRollupRebuildResponse;
+
+/** Interface for ranking products by the units sold over recent days */
+public interface IBestSellerService {
+
+  /**
+   * Get the best-selling products of a window
+   *
+   * @param window the days of sales to rank
+   * @param categoryId the category to rank, or null for the whole store
+   * @param limit the maximum number of products
+   * @return the products, most units sold first
+   */
+  List<BestSellerResponse> getBestSellers(BestSellerWindow window, UUID categoryId, int limit);
+
+  /**
+   * Rebuild the sales rollups of the longest window from the orders and reload the rankings
+   *
+   * @return the rollup rebuild report
+   */
+  SalesRollupRebuildResponse rebuild();
+}
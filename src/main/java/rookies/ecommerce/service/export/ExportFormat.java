@@ -0,0 +1,43 @@
+package rookies.ecommerce.service.export;
+
+import java.util.Locale;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import rookies.ecommerce.exception.AppException;
+import rookies.ecommerce.exception.ErrorCode;
+
+/** File formats for admin exports. */
+public enum ExportFormat {
+  CSV(new MediaType("text", "csv"), "csv"),
+  NDJSON(new MediaType("application", "x-ndjson"), "ndjson");
+
+  private final MediaType mediaType;
+  private final String extension;
+
+  ExportFormat(MediaType mediaType, String extension) {
+    this.mediaType = mediaType;
+    this.extension = extension;
+  }
+
+  public MediaType getMediaType() {
+    return mediaType;
+  }
+
+  public String getExtension() {
+    return extension;
+  }
+
+  /**
+   * Parses a format name case-insensitively.
+   *
+   * @throws AppException if the name is not a supported format
+   */
+  public static ExportFormat from(String name) {
+    for (ExportFormat format : values()) {
+      if (format.extension.equals(name.toLowerCase(Locale.ROOT))) {
+        return format;
+      }
+    }
+    throw new AppException(ErrorCode.INVALID_EXPORT_FORMAT, HttpStatus.BAD_REQUEST);
+  }
+}
@@ -0,0 +1,175 @@
+package rookies.ecommerce.service.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import rookies.ecommerce.dto.response.product.ProductExportRow;
+import rookies.ecommerce.dto.response.user.CustomerExportRow;
+import rookies.ecommerce.repository.CustomerRepository;
+import rookies.ecommerce.repository.ProductRepository;
+
+/**
+ * Streams exports straight from a forward-only result set to the response.
+ *
+ * <p>Rows are read as DTOs, so nothing accumulates in the persistence context, and the driver
+ * fetches them in chunks set by the repository's fetch size hint. Memory use therefore stays flat
+ * and the cost grows linearly with the number of rows, unlike paging with offsets. The read-only
+ * transaction stays open until the last row is written.
+ */
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ExportService implements IExportService {
+  static final int BUFFER_SIZE = 64 * 1024;
+
+  static final List<String> PRODUCT_COLUMNS =
+      List.of(
+          "id",
+          "name",
+          "category",
+          "description",
+          "price",
+          "quantity",
+          "isFeatured",
+          "imageUrl",
+          "createdAt",
+          "updatedAt");
+
+  static final List<String> CUSTOMER_COLUMNS =
+      List.of(
+          "id",
+          "email",
+          "firstName",
+          "lastName",
+          "phoneNumber",
+          "address",
+          "isActive",
+          "createdAt",
+          "updatedAt");
+
+  ProductRepository productRepository;
+  CustomerRepository customerRepository;
+  ObjectMapper objectMapper;
+
+  @Override
+  @Transactional(readOnly = true)
+  public void exportProducts(ExportFormat format, OutputStream out) throws IOException {
+    try (Stream<ProductExportRow> rows = productRepository.streamAllActiveForExport()) {
+      write(
+          rows,
+          format,
+          out,
+          PRODUCT_COLUMNS,
+          row ->
+              new Object[] {
+                row.getId(),
+                row.getName(),
+                row.getCategory(),
+                row.getDescription(),
+                row.getPrice(),
+                row.getQuantity(),
+                row.isFeatured(),
+                row.getImageUrl(),
+                row.getCreatedAt(),
+                row.getUpdatedAt()
+              });
+    }
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public void exportCustomers(ExportFormat format, OutputStream out) throws IOException {
+    try (Stream<CustomerExportRow> rows = customerRepository.streamAllActiveForExport()) {
+      write(
+          rows,
+          format,
+          out,
+          CUSTOMER_COLUMNS,
+          row ->
+              new Object[] {
+                row.getId(),
+                row.getEmail(),
+                row.getFirstName(),
+                row.getLastName(),
+                row.getPhoneNumber(),
+                row.getAddress(),
+                row.isActive(),
+                row.getCreatedAt(),
+                row.getUpdatedAt()
+              });
+    }
+  }
+
+  private <T> void write(
+      Stream<T> rows,
+      ExportFormat format,
+      OutputStream out,
+      List<String> columns,
+      Function<T, Object[]> values)
+      throws IOException {
+    Writer writer =
+        new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+    Iterator<T> iterator = rows.iterator();
+    if (format == ExportFormat.CSV) {
+      writeCsvRecord(writer, columns.toArray());
+      while (iterator.hasNext()) {
+        writeCsvRecord(writer, values.apply(iterator.next()));
+      }
+      writer.flush();
+      return;
+    }
+
+    JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    generator.setRootValueSeparator(null);
+    while (iterator.hasNext()) {
+      Object[] record = values.apply(iterator.next());
+      generator.writeStartObject();
+      for (int i = 0; i < record.length; i++) {
+        generator.writeFieldName(columns.get(i));
+        generator.writeObject(record[i]);
+      }
+      generator.writeEndObject();
+      generator.writeRaw('\n');
+    }
+    generator.flush();
+  }
+
+  /** Writes one RFC 4180 record, quoting values that contain separators, quotes or newlines. */
+  private static void writeCsvRecord(Writer writer, Object[] values) throws IOException {
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0) {
+        writer.write(',');
+      }
+      if (values[i] == null) {
+        continue;
+      }
+      String value = values[i].toString();
+      if (value.indexOf(',') >= 0
+          || value.indexOf('"') >= 0
+          || value.indexOf('\n') >= 0
+          || value.indexOf('\r') >= 0) {
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+      } else {
+        writer.write(value);
+      }
+    }
+    writer.write("\r\n");
+  }
+}
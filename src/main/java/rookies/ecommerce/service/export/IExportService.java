@@ -0,0 +1,25 @@
+package rookies.ecommerce.service.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/** Service interface for streaming catalog and customer exports. */
+public interface IExportService {
+  /**
+   * Writes every active product to the stream, one row at a time.
+   *
+   * @param format the file format
+   * @param out the stream to write to; flushed but not closed
+   * @throws IOException if writing fails, e.g. because the client went away
+   */
+  void exportProducts(ExportFormat format, OutputStream out) throws IOException;
+
+  /**
+   * Writes every active customer to the stream, one row at a time.
+   *
+   * @param format the file format
+   * @param out the stream to write to; flushed but not closed
+   * @throws IOException if writing fails, e.g. because the client went away
+   */
+  void exportCustomers(ExportFormat format, OutputStream out) throws IOException;
+}
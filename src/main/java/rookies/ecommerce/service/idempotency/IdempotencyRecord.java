@@ -0,0 +1,23 @@
+package rookies.ecommerce.service.idempotency;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * The state stored for one idempotency key: the fingerprint of the request that claimed it and,
+ * once that request finished, the response to replay.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class IdempotencyRecord {
+  String requestHash;
+  boolean completed;
+  int status;
+  String contentType;
+  byte[] body;
+}
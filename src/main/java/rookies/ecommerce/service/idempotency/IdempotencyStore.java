@@ -0,0 +1,34 @@
+package rookies.ecommerce.service.idempotency;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/** Storage for idempotency keys and the responses recorded against them. */
+public interface IdempotencyStore {
+  /**
+   * Atomically claims a key for a request that is about to run.
+   *
+   * @param key the scoped key
+   * @param requestHash the fingerprint of the request body
+   * @param ttl how long the claim and its response are kept
+   * @return empty if the caller now owns the key, otherwise the record of the earlier request
+   * @throws rookies.ecommerce.exception.AppException if the store has no room for another claim
+   */
+  Optional<IdempotencyRecord> claim(String key, String requestHash, Duration ttl);
+
+  /**
+   * Stores the response of a request that owns the key so that retries can replay it.
+   *
+   * @param key the scoped key
+   * @param record the completed record
+   * @param ttl how long the response is kept
+   */
+  void complete(String key, IdempotencyRecord record, Duration ttl);
+
+  /**
+   * Drops a claim whose request failed, so that a retry runs the request again.
+   *
+   * @param key the scoped key
+   */
+  void release(String key);
+}
@@ -0,0 +1,96 @@
+package rookies.ecommerce.service.idempotency;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import rookies.ecommerce.exception.AppException;
+import rookies.ecommerce.exception.ErrorCode;
+
+/**
+ * Keeps idempotency keys in a bounded map local to this instance. Suitable for a single node; use
+ * the JDBC store when several instances share traffic.
+ *
+ * <p>Entries expire after their TTL. When the map is full the oldest completed entry is evicted
+ * first; claims still in progress are never evicted, since that would let a retry run the request a
+ * second time. A claim that finds only in-progress entries is rejected instead.
+ */
+@Component
+@ConditionalOnProperty(
+    name = "app.idempotency.store",
+    havingValue = "memory",
+    matchIfMissing = true)
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+  Map<String, Entry> entries = new LinkedHashMap<>();
+  int maxEntries;
+
+  public InMemoryIdempotencyStore(@Value("${app.idempotency.max-entries:10000}") int maxEntries) {
+    this.maxEntries = maxEntries;
+  }
+
+  @Override
+  public synchronized Optional<IdempotencyRecord> claim(
+      String key, String requestHash, Duration ttl) {
+    Instant now = Instant.now();
+    Entry existing = entries.get(key);
+    if (existing != null && existing.expiresAt.isAfter(now)) {
+      return Optional.of(existing.record);
+    }
+    entries.remove(key);
+    evictExpired(now);
+    if (entries.size() >= maxEntries && !evictOldestCompleted()) {
+      throw new AppException(ErrorCode.IDEMPOTENCY_STORE_FULL, HttpStatus.TOO_MANY_REQUESTS);
+    }
+    IdempotencyRecord claimed =
+        IdempotencyRecord.builder().requestHash(requestHash).completed(false).build();
+    entries.put(key, new Entry(claimed, now.plus(ttl)));
+    return Optional.empty();
+  }
+
+  @Override
+  public synchronized void complete(String key, IdempotencyRecord record, Duration ttl) {
+    entries.put(key, new Entry(record, Instant.now().plus(ttl)));
+  }
+
+  @Override
+  public synchronized void release(String key) {
+    entries.remove(key);
+  }
+
+  synchronized int size() {
+    return entries.size();
+  }
+
+  private void evictExpired(Instant now) {
+    // Entries are in insertion order, so expiry is roughly ordered as well.
+    Iterator<Entry> iterator = entries.values().iterator();
+    while (iterator.hasNext()) {
+      if (iterator.next().expiresAt.isAfter(now)) {
+        break;
+      }
+      iterator.remove();
+    }
+  }
+
+  private boolean evictOldestCompleted() {
+    Iterator<Entry> iterator = entries.values().iterator();
+    while (iterator.hasNext()) {
+      if (iterator.next().record.isCompleted()) {
+        iterator.remove();
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private record Entry(IdempotencyRecord record, Instant expiresAt) {}
+}
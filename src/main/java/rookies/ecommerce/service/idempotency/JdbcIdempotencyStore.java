@@ -0,0 +1,79 @@
+package rookies.ecommerce.service.idempotency;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import rookies.ecommerce.repository.IdempotencyKeyRepository;
+
+/**
+ * Keeps idempotency keys in the {@code idempotency_keys} table so that every instance sees the same
+ * claims. A unique index on the key makes the claim atomic across nodes.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.idempotency.store", havingValue = "jdbc")
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class JdbcIdempotencyStore implements IdempotencyStore {
+  IdempotencyKeyRepository idempotencyKeyRepository;
+
+  @Override
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public Optional<IdempotencyRecord> claim(String key, String requestHash, Duration ttl) {
+    LocalDateTime now = LocalDateTime.now();
+    idempotencyKeyRepository.deleteExpiredByKey(key, now);
+    if (idempotencyKeyRepository.insertIfAbsent(key, requestHash, now.plus(ttl)) == 1) {
+      return Optional.empty();
+    }
+    return idempotencyKeyRepository
+        .findByIdempotencyKey(key)
+        .map(
+            stored ->
+                IdempotencyRecord.builder()
+                    .requestHash(stored.getRequestHash())
+                    .completed(stored.isCompleted())
+                    .status(stored.getResponseStatus() != null ? stored.getResponseStatus() : 0)
+                    .contentType(stored.getContentType())
+                    .body(stored.getResponseBody())
+                    .build())
+        // The holder released the key between our insert and read; report it as still running.
+        .or(
+            () ->
+                Optional.of(
+                    IdempotencyRecord.builder().requestHash(requestHash).completed(false).build()));
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void complete(String key, IdempotencyRecord record, Duration ttl) {
+    idempotencyKeyRepository.complete(
+        key,
+        record.getStatus(),
+        record.getContentType(),
+        record.getBody(),
+        LocalDateTime.now().plus(ttl));
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void release(String key) {
+    idempotencyKeyRepository.deleteByKey(key);
+  }
+
+  /** Removes expired keys so the table stays bounded by the traffic of one TTL window. */
+  @Transactional
+  @Scheduled(fixedDelayString = "${app.idempotency.cleanup-interval-ms:600000}")
+  public void deleteExpired() {
+    int deleted = idempotencyKeyRepository.deleteExpired(LocalDateTime.now());
+    log.debug("Deleted {} expired idempotency keys", deleted);
+  }
+}
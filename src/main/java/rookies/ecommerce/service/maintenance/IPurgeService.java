@@ -0,0 +1,23 @@
+package rookies.ecommerce.service.maintenance;
+
+import rookies.ecommerce.dto.response.maintenance.PurgeReportResponse;
+import rookies.ecommerce.exception.AppException;
+
+/** Service interface for the maintenance job that purges abandoned and soft-deleted rows. */
+public interface IPurgeService {
+  /**
+   * Runs one purge pass over abandoned cart items and soft-deleted products, categories and
+   * customers, deleting in small keyset-driven chunks.
+   *
+   * @return the number of rows processed per target
+   * @throws AppException if another purge run is already in progress
+   */
+  PurgeReportResponse purge();
+
+  /**
+   * Gets the report of the most recent purge run.
+   *
+   * @return the last report, or {@code null} if no run has completed yet
+   */
+  PurgeReportResponse getLastReport();
+}
@@ -0,0 +1,214 @@
+package rookies.ecommerce.service.maintenance;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import rookies.ecommerce.dto.response.maintenance.PurgeReportResponse;
+import rookies.ecommerce.exception.AppException;
+import rookies.ecommerce.exception.ErrorCode;
+import rookies.ecommerce.repository.CartRepository;
+import rookies.ecommerce.repository.CategoryRepository;
+import rookies.ecommerce.repository.CustomerRepository;
+import rookies.ecommerce.repository.OutboxEventRepository;
+import rookies.ecommerce.repository.ProductRepository;
+import rookies.ecommerce.repository.ReviewRepository;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class PurgeService implements IPurgeService {
+  static final UUID MIN_ID = new UUID(0L, 0L);
+
+  final CartRepository cartRepository;
+  final ProductRepository productRepository;
+  final CategoryRepository categoryRepository;
+  final CustomerRepository customerRepository;
+  final ReviewRepository reviewRepository;
+  final OutboxEventRepository outboxEventRepository;
+  final TransactionTemplate transactionTemplate;
+
+  final AtomicBoolean running = new AtomicBoolean(false);
+
+  @Value("${app.maintenance.purge.chunk-size:500}")
+  int chunkSize;
+
+  @Value("${app.maintenance.purge.max-chunks-per-run:200}")
+  int maxChunksPerRun;
+
+  @Value("${app.maintenance.purge.pause-between-chunks-ms:200}")
+  long pauseBetweenChunksMs;
+
+  @Value("${app.maintenance.purge.abandoned-cart-days:30}")
+  int abandonedCartDays;
+
+  @Value("${app.maintenance.purge.soft-deleted-retention-days:90}")
+  int softDeletedRetentionDays;
+
+  @Value("${app.maintenance.purge.processed-outbox-retention-days:7}")
+  int processedOutboxRetentionDays;
+
+  volatile PurgeReportResponse lastReport;
+
+  /** Runs the purge on the configured schedule; a cron of {@code -} disables it. */
+  @Scheduled(cron = "${app.maintenance.purge.cron:0 30 3 * * *}")
+  public void scheduledPurge() {
+    try {
+      purge();
+    } catch (AppException e) {
+      log.info("Skipping scheduled purge: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Purges abandoned cart items first, then soft-deleted products, categories and customers that
+   * are past the retention window and no longer referenced by orders or products, and finally
+   * outbox events processed longer ago than their own retention window.
+   *
+   * <p>Each target is walked by primary key in chunks of {@code chunk-size} rows. Every chunk is
+   * deleted in its own short transaction and followed by a pause, so the job never holds locks for
+   * long and its write rate stays bounded.
+   *
+   * @return the number of rows processed per target
+   * @throws AppException if another purge run is already in progress
+   */
+  @Override
+  public PurgeReportResponse purge() {
+    if (!running.compareAndSet(false, true)) {
+      throw new AppException(ErrorCode.PURGE_ALREADY_RUNNING, HttpStatus.CONFLICT);
+    }
+    try {
+      LocalDateTime startedAt = LocalDateTime.now();
+      LocalDateTime cartCutoff = startedAt.minusDays(abandonedCartDays);
+      LocalDateTime softDeleteCutoff = startedAt.minusDays(softDeletedRetentionDays);
+      LocalDateTime outboxCutoff = startedAt.minusDays(processedOutboxRetentionDays);
+
+      long cartItems =
+          purgeInChunks(
+              "cart_items",
+              afterId -> cartRepository.findAbandonedIdsAfter(cartCutoff, afterId, chunk()),
+              ids -> cartRepository.deleteAbandonedByIdIn(ids, cartCutoff));
+
+      long products =
+          purgeInChunks(
+              "products",
+              afterId ->
+                  productRepository.findPurgeableIdsAfter(softDeleteCutoff, afterId, chunk()),
+              ids -> {
+                cartRepository.deleteAllByProductIdIn(ids);
+                reviewRepository.deleteAllByProductIdIn(ids);
+                return productRepository.deleteSoftDeletedByIdIn(ids);
+              });
+
+      long categories =
+          purgeInChunks(
+              "categories",
+              afterId ->
+                  categoryRepository.findPurgeableIdsAfter(softDeleteCutoff, afterId, chunk()),
+              categoryRepository::deleteSoftDeletedByIdIn);
+
+      long customers =
+          purgeInChunks(
+              "customers",
+              afterId ->
+                  customerRepository.findPurgeableIdsAfter(softDeleteCutoff, afterId, chunk()),
+              ids -> {
+                cartRepository.deleteAllByCustomerIdIn(ids);
+                List<UUID> reviewedProducts = reviewRepository.findProductIdsByCustomerIdIn(ids);
+                reviewRepository.deleteAllByCustomerIdIn(ids);
+                if (!reviewedProducts.isEmpty()) {
+                  productRepository.recomputeRatings(reviewedProducts);
+                }
+                return customerRepository.deleteSoftDeletedByIdIn(ids);
+              });
+
+      long outboxEvents =
+          purgeInChunks(
+              "outbox_events",
+              afterId ->
+                  outboxEventRepository.findProcessedIdsAfter(outboxCutoff, afterId, chunk()),
+              outboxEventRepository::deleteProcessedByIdIn);
+
+      PurgeReportResponse report =
+          PurgeReportResponse.builder()
+              .startedAt(startedAt)
+              .durationMs(Duration.between(startedAt, LocalDateTime.now()).toMillis())
+              .cartItemsDeleted(cartItems)
+              .productsDeleted(products)
+              .categoriesDeleted(categories)
+              .customersDeleted(customers)
+              .outboxEventsDeleted(outboxEvents)
+              .build();
+      log.info(
+          "Purge finished in {} ms: cartItems={}, products={}, categories={}, customers={},"
+              + " outboxEvents={}",
+          report.getDurationMs(),
+          cartItems,
+          products,
+          categories,
+          customers,
+          outboxEvents);
+      lastReport = report;
+      return report;
+    } finally {
+      running.set(false);
+    }
+  }
+
+  @Override
+  public PurgeReportResponse getLastReport() {
+    return lastReport;
+  }
+
+  private long purgeInChunks(
+      String target, Function<UUID, List<UUID>> nextChunk, ToIntFunction<List<UUID>> deleteChunk) {
+    long processed = 0;
+    UUID afterId = MIN_ID;
+    for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+      List<UUID> ids = nextChunk.apply(afterId);
+      if (ids.isEmpty()) {
+        break;
+      }
+      Integer deleted = transactionTemplate.execute(status -> deleteChunk.applyAsInt(ids));
+      processed += deleted == null ? 0 : deleted;
+      afterId = ids.get(ids.size() - 1);
+      if (ids.size() < chunkSize || !pause()) {
+        break;
+      }
+    }
+    log.debug("Purged {} rows from {}", processed, target);
+    return processed;
+  }
+
+  private Pageable chunk() {
+    return PageRequest.of(0, chunkSize);
+  }
+
+  private boolean pause() {
+    if (pauseBetweenChunksMs <= 0) {
+      return true;
+    }
+    try {
+      Thread.sleep(pauseBetweenChunksMs);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
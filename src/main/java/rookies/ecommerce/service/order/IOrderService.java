@@ -0,0 +1,29 @@
+package rookies.ecommerce.service.order;
+
+import java.util.UUID;
+import rookies.ecommerce.dto.response.KeysetPageResponse;
+import rookies.ecommerce.dto.response.order.OrderResponse;
+import rookies.ecommerce.exception.AppException;
+
+/** Service interface for customer order operations. */
+public interface IOrderService {
+  /**
+   * Retrieves a page of a customer's orders, newest first, together with their items.
+   *
+   * @param customerId the customer whose orders are listed
+   * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+   * @param size the maximum number of orders in the page
+   * @return a page of orders and the cursor of the next page
+   * @throws AppException if the cursor is malformed
+   */
+  KeysetPageResponse<OrderResponse> getOrderHistory(UUID customerId, String cursor, int size);
+
+  /**
+   * Places an order for everything in the customer's cart and empties the cart.
+   *
+   * @param customerId the customer checking out
+   * @return the placed order with its items
+   * @throws AppException if the cart is empty, a product no longer exists or stock is insufficient
+   */
+  OrderResponse placeOrder(UUID customerId);
+}
@@ -0,0 +1,214 @@
+package rookies.ecommerce.service.order;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import rookies.ecommerce.dto.event.OrderPlacedPayload;
+import rookies.ecommerce.dto.event.ProductChangedEvent;
+import rookies.ecommerce.dto.response.KeysetPageResponse;
+import rookies.ecommerce.dto.response.order.OrderItemResponse;
+import rookies.ecommerce.dto.response.order.OrderResponse;
+import rookies.ecommerce.entity.CartItem;
+import rookies.ecommerce.entity.Order;
+import rookies.ecommerce.entity.OrderItem;
+import rookies.ecommerce.entity.Product;
+import rookies.ecommerce.exception.AppException;
+import rookies.ecommerce.exception.ErrorCode;
+import rookies.ecommerce.repository.CartRepository;
+import rookies.ecommerce.repository.OrderItemRepository;
+import rookies.ecommerce.repository.OrderRepository;
+import rookies.ecommerce.repository.ProductRepository;
+import rookies.ecommerce.service.outbox.IOutboxService;
+import rookies.ecommerce.service.report.ISalesReportService;
+
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class OrderService implements IOrderService {
+  static final int MAX_PAGE_SIZE = 50;
+  static final String CURSOR_SEPARATOR = "|";
+  static final String AGGREGATE_TYPE = "Order";
+
+  OrderRepository orderRepository;
+  OrderItemRepository orderItemRepository;
+  CartRepository cartRepository;
+  ProductRepository productRepository;
+  IOutboxService outboxService;
+  ISalesReportService salesReportService;
+  ApplicationEventPublisher eventPublisher;
+
+  /**
+   * Turns the customer's cart into an order.
+   *
+   * <p>The products in the cart are row-locked while stock is checked and decremented, and the
+   * order, the emptied cart, the sales rollups and the {@code OrderPlaced} outbox event are
+   * committed together. A {@link ProductChangedEvent} is published for every product whose stock
+   * changed, so local read models such as the product detail cache refresh once the order commits.
+   *
+   * @param customerId the customer checking out
+   * @return the placed order with its items
+   * @throws AppException if the cart is empty, a product no longer exists or stock is insufficient
+   */
+  @Override
+  @Transactional
+  public OrderResponse placeOrder(UUID customerId) {
+    List<CartItem> cartItems = cartRepository.findByCustomerId(customerId);
+    if (cartItems.isEmpty()) {
+      throw new AppException(ErrorCode.EMPTY_CART, HttpStatus.BAD_REQUEST);
+    }
+
+    Map<UUID, Product> products =
+        productRepository
+            .findAllByIdInForUpdate(
+                cartItems.stream().map(cartItem -> cartItem.getProduct().getId()).toList())
+            .stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+    Order order = new Order();
+    order.setCustomer(cartItems.get(0).getCustomer());
+    double totalAmount = 0;
+    for (CartItem cartItem : cartItems) {
+      Product product = products.get(cartItem.getProduct().getId());
+      if (product == null) {
+        throw new AppException(ErrorCode.PRODUCT_NOT_FOUND, HttpStatus.NOT_FOUND);
+      }
+      if (product.getQuantity() < cartItem.getQuantity()) {
+        throw new AppException(ErrorCode.INSUFFICIENT_STOCK, HttpStatus.BAD_REQUEST);
+      }
+      product.setQuantity(product.getQuantity() - cartItem.getQuantity());
+      order
+          .getOrderItems()
+          .add(
+              OrderItem.builder()
+                  .order(order)
+                  .product(product)
+                  .quantity(cartItem.getQuantity())
+                  .price(product.getPrice())
+                  .build());
+      totalAmount += product.getPrice() * cartItem.getQuantity();
+    }
+    order.setTotalAmount(totalAmount);
+    orderRepository.save(order);
+    cartRepository.deleteByCustomerId(customerId);
+    salesReportService.recordOrder(order);
+    products.keySet().forEach(id -> eventPublisher.publishEvent(new ProductChangedEvent(id)));
+
+    List<OrderPlacedPayload.Item> eventItems = new ArrayList<>();
+    OrderResponse response = new OrderResponse(order.getId(), totalAmount, order.getCreatedAt());
+    for (OrderItem item : order.getOrderItems()) {
+      Product product = item.getProduct();
+      eventItems.add(
+          OrderPlacedPayload.Item.builder()
+              .productId(product.getId())
+              .quantity(item.getQuantity())
+              .price(item.getPrice())
+              .build());
+      response
+          .getItems()
+          .add(
+              new OrderItemResponse(
+                  order.getId(),
+                  product.getId(),
+                  product.getName(),
+                  item.getQuantity(),
+                  item.getPrice()));
+    }
+    outboxService.publish(
+        AGGREGATE_TYPE,
+        order.getId(),
+        "OrderPlaced",
+        OrderPlacedPayload.builder()
+            .orderId(order.getId())
+            .customerId(customerId)
+            .totalAmount(totalAmount)
+            .items(eventItems)
+            .build());
+    return response;
+  }
+
+  /**
+   * Retrieves a page of a customer's orders ordered by creation time and ID, newest first.
+   *
+   * <p>The page is read with exactly two queries regardless of its size: one keyset query for the
+   * orders, and one query that loads the items and product names of all those orders at once.
+   *
+   * @param customerId the customer whose orders are listed
+   * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+   * @param size the maximum number of orders in the page, capped at {@value #MAX_PAGE_SIZE}
+   * @return a page of orders and the cursor of the next page
+   * @throws AppException if the cursor is malformed
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public KeysetPageResponse<OrderResponse> getOrderHistory(
+      UUID customerId, String cursor, int size) {
+    int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    // Fetch one extra row to know whether another page follows.
+    Pageable limit = PageRequest.of(0, pageSize + 1);
+
+    List<OrderResponse> orders;
+    if (cursor == null || cursor.isBlank()) {
+      orders = orderRepository.findFirstPageByCustomerId(customerId, limit);
+    } else {
+      OrderResponse last = decodeCursor(cursor);
+      orders =
+          orderRepository.findPageByCustomerIdAfter(
+              customerId, last.getCreatedAt(), last.getId(), limit);
+    }
+
+    boolean hasNext = orders.size() > pageSize;
+    if (hasNext) {
+      orders = orders.subList(0, pageSize);
+    }
+    if (orders.isEmpty()) {
+      return new KeysetPageResponse<>(orders, null, false);
+    }
+
+    Map<UUID, OrderResponse> ordersById =
+        orders.stream().collect(Collectors.toMap(OrderResponse::getId, Function.identity()));
+    for (OrderItemResponse item : orderItemRepository.findItemsByOrderIdIn(ordersById.keySet())) {
+      ordersById.get(item.getOrderId()).getItems().add(item);
+    }
+
+    String nextCursor = hasNext ? encodeCursor(orders.get(orders.size() - 1)) : null;
+    return new KeysetPageResponse<>(orders, nextCursor, hasNext);
+  }
+
+  private String encodeCursor(OrderResponse order) {
+    String raw = order.getCreatedAt() + CURSOR_SEPARATOR + order.getId();
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private OrderResponse decodeCursor(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = raw.indexOf(CURSOR_SEPARATOR);
+      if (separator < 0) {
+        throw new AppException(ErrorCode.INVALID_CURSOR, HttpStatus.BAD_REQUEST);
+      }
+      LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, separator));
+      UUID id = UUID.fromString(raw.substring(separator + 1));
+      return new OrderResponse(id, 0, createdAt);
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new AppException(ErrorCode.INVALID_CURSOR, HttpStatus.BAD_REQUEST);
+    }
+  }
+}
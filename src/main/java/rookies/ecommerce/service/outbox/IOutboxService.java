@@ -0,0 +1,21 @@
+package rookies.ecommerce.service.outbox;
+
+import java.util.UUID;
+
+/** Service interface for recording domain events in the transactional outbox. */
+public interface IOutboxService {
+  /**
+   * Records an event in the outbox as part of the caller's transaction.
+   *
+   * <p>The event becomes visible to the relay only if the surrounding transaction commits, so the
+   * state change and its notification are never out of step.
+   *
+   * @param aggregateType the kind of entity the event is about, e.g. {@code Product}
+   * @param aggregateId the ID of that entity
+   * @param eventType the event name, e.g. {@code ProductUpdated}
+   * @param payload the event body, serialized to JSON
+   * @throws org.springframework.transaction.IllegalTransactionStateException if no transaction is
+   *     active
+   */
+  void publish(String aggregateType, UUID aggregateId, String eventType, Object payload);
+}
@@ -0,0 +1,29 @@
+package rookies.ecommerce.service.outbox;
+
+import rookies.ecommerce.entity.OutboxEvent;
+
+/**
+ * An in-process subscriber that the outbox relay hands committed events to.
+ *
+ * <p>Implementations are picked up as Spring beans. A consumer that throws causes the event to be
+ * retried on a later poll, so consumers must be idempotent.
+ */
+public interface OutboxEventConsumer {
+  /**
+   * Tells whether this consumer wants events of the given type.
+   *
+   * @param eventType the event name, e.g. {@code OrderPlaced}
+   * @return {@code true} if {@link #consume(OutboxEvent)} should be called for it
+   */
+  default boolean supports(String eventType) {
+    return true;
+  }
+
+  /**
+   * Handles one event. The event must not be modified.
+   *
+   * @param event the committed outbox event
+   * @throws Exception if the event could not be handled and should be retried
+   */
+  void consume(OutboxEvent event) throws Exception;
+}
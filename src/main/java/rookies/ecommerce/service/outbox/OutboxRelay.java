@@ -0,0 +1,185 @@
+package rookies.ecommerce.service.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import rookies.ecommerce.entity.OutboxEvent;
+import rookies.ecommerce.repository.OutboxEventRepository;
+
+/**
+ * Polls the outbox and hands committed events to every {@link OutboxEventConsumer}.
+ *
+ * <p>Each batch is claimed with {@code FOR UPDATE SKIP LOCKED} and dispatched inside the claiming
+ * transaction, so an event is marked processed only once all consumers have accepted it. A failed
+ * delivery is retried with exponential backoff and given up on after {@code max-attempts}.
+ * Processed events are deleted by the maintenance purge once past their retention.
+ */
+@Slf4j
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class OutboxRelay {
+  static final int MAX_ERROR_LENGTH = 1000;
+  static final int MAX_BACKOFF_SHIFT = 20;
+
+  final OutboxEventRepository outboxEventRepository;
+  final List<OutboxEventConsumer> consumers;
+  final TransactionTemplate transactionTemplate;
+
+  final Counter dispatchedEvents;
+  final Counter failedEvents;
+  final Counter retriedEvents;
+  final Timer batchDuration;
+  final Timer eventLag;
+  final AtomicLong pendingEvents = new AtomicLong();
+  final AtomicLong oldestPendingAgeMs = new AtomicLong();
+
+  @Value("${app.outbox.relay.batch-size:100}")
+  int batchSize;
+
+  @Value("${app.outbox.relay.max-batches-per-poll:10}")
+  int maxBatchesPerPoll;
+
+  @Value("${app.outbox.relay.max-attempts:10}")
+  int maxAttempts;
+
+  @Value("${app.outbox.relay.base-backoff-ms:1000}")
+  long baseBackoffMs;
+
+  @Value("${app.outbox.relay.max-backoff-ms:600000}")
+  long maxBackoffMs;
+
+  public OutboxRelay(
+      OutboxEventRepository outboxEventRepository,
+      ObjectProvider<OutboxEventConsumer> consumers,
+      TransactionTemplate transactionTemplate,
+      MeterRegistry meterRegistry) {
+    this.outboxEventRepository = outboxEventRepository;
+    this.consumers = consumers.orderedStream().toList();
+    this.transactionTemplate = transactionTemplate;
+    this.dispatchedEvents =
+        Counter.builder("outbox.events.dispatched")
+            .description("Outbox events delivered to all consumers")
+            .register(meterRegistry);
+    this.failedEvents =
+        Counter.builder("outbox.events.failed")
+            .description("Outbox events abandoned after exhausting their attempts")
+            .register(meterRegistry);
+    this.retriedEvents =
+        Counter.builder("outbox.events.retried")
+            .description("Outbox deliveries that failed and will be retried")
+            .register(meterRegistry);
+    this.batchDuration =
+        Timer.builder("outbox.relay.batch")
+            .description("Time to claim and dispatch one outbox batch")
+            .register(meterRegistry);
+    this.eventLag =
+        Timer.builder("outbox.event.lag")
+            .description("Time from an event being written to it being dispatched")
+            .register(meterRegistry);
+    Gauge.builder("outbox.events.pending", pendingEvents, AtomicLong::get)
+        .description("Outbox events waiting to be dispatched")
+        .register(meterRegistry);
+    Gauge.builder("outbox.events.oldest.pending.age", oldestPendingAgeMs, AtomicLong::get)
+        .description("Age of the oldest undispatched outbox event")
+        .baseUnit("milliseconds")
+        .register(meterRegistry);
+  }
+
+  /** Drains up to {@code max-batches-per-poll} batches, then refreshes the backlog gauges. */
+  @Scheduled(fixedDelayString = "${app.outbox.relay.poll-interval-ms:1000}")
+  public void relay() {
+    for (int i = 0; i < maxBatchesPerPoll; i++) {
+      Integer dispatched = transactionTemplate.execute(status -> relayBatch());
+      if (dispatched == null || dispatched < batchSize) {
+        break;
+      }
+    }
+    refreshBacklogMetrics();
+  }
+
+  /**
+   * Claims and dispatches one batch in the current transaction.
+   *
+   * @return the number of events delivered; fewer than the batch size means the relay should stop
+   *     draining for this poll
+   */
+  int relayBatch() {
+    LocalDateTime now = LocalDateTime.now();
+    List<OutboxEvent> batch = outboxEventRepository.claimPendingBatch(now, batchSize);
+    if (batch.isEmpty()) {
+      return 0;
+    }
+    Timer.Sample sample = Timer.start();
+    int dispatched = 0;
+    for (OutboxEvent event : batch) {
+      if (dispatch(event, now)) {
+        dispatched++;
+      }
+    }
+    sample.stop(batchDuration);
+    return dispatched;
+  }
+
+  private boolean dispatch(OutboxEvent event, LocalDateTime now) {
+    for (OutboxEventConsumer consumer : consumers) {
+      if (!consumer.supports(event.getEventType())) {
+        continue;
+      }
+      try {
+        consumer.consume(event);
+      } catch (Exception e) {
+        recordFailure(event, consumer, e, now);
+        return false;
+      }
+    }
+    LocalDateTime processedAt = LocalDateTime.now();
+    event.setStatus(OutboxEvent.Status.PROCESSED);
+    event.setProcessedAt(processedAt);
+    dispatchedEvents.increment();
+    if (event.getCreatedAt() != null) {
+      eventLag.record(Duration.between(event.getCreatedAt(), processedAt));
+    }
+    return true;
+  }
+
+  private void recordFailure(
+      OutboxEvent event, OutboxEventConsumer consumer, Exception e, LocalDateTime now) {
+    int attempts = event.getAttempts() + 1;
+    event.setAttempts(attempts);
+    String message = consumer.getClass().getSimpleName() + ": " + e.getMessage();
+    event.setLastError(
+        message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+    if (attempts >= maxAttempts) {
+      event.setStatus(OutboxEvent.Status.FAILED);
+      failedEvents.increment();
+      log.error("Giving up on outbox event {} after {} attempts", event.getId(), attempts, e);
+      return;
+    }
+    long backoffMs = baseBackoffMs << Math.min(attempts - 1, MAX_BACKOFF_SHIFT);
+    event.setNextAttemptAt(now.plus(Duration.ofMillis(Math.min(backoffMs, maxBackoffMs))));
+    retriedEvents.increment();
+    log.warn("Outbox event {} failed, attempt {}: {}", event.getId(), attempts, message);
+  }
+
+  private void refreshBacklogMetrics() {
+    pendingEvents.set(outboxEventRepository.countByStatus(OutboxEvent.Status.PENDING));
+    oldestPendingAgeMs.set(
+        outboxEventRepository
+            .findFirstByStatusOrderByCreatedAtAsc(OutboxEvent.Status.PENDING)
+            .map(event -> Duration.between(event.getCreatedAt(), LocalDateTime.now()).toMillis())
+            .orElse(0L));
+  }
+}
@@ -0,0 +1,44 @@
+package rookies.ecommerce.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import rookies.ecommerce.entity.OutboxEvent;
+import rookies.ecommerce.repository.OutboxEventRepository;
+
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class OutboxService implements IOutboxService {
+  OutboxEventRepository outboxEventRepository;
+  ObjectMapper objectMapper;
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void publish(String aggregateType, UUID aggregateId, String eventType, Object payload) {
+    OutboxEvent event =
+        OutboxEvent.builder()
+            .aggregateType(aggregateType)
+            .aggregateId(aggregateId)
+            .eventType(eventType)
+            .payload(toJson(payload))
+            .nextAttemptAt(LocalDateTime.now())
+            .build();
+    outboxEventRepository.save(event);
+  }
+
+  private String toJson(Object payload) {
+    try {
+      return objectMapper.writeValueAsString(payload);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Outbox payload is not serializable", e);
+    }
+  }
+}
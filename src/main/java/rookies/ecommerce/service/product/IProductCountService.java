@@ -0,0 +1,25 @@
+package rookies.ecommerce.service.product;
+
+import java.util.UUID;
+
+/** Totals of the paged product listings that do not need a count query per page. */
+public interface IProductCountService {
+
+  /**
+   * Get the number of active products from the maintained counters
+   *
+   * @param categoryId the category to count, or {@code null} for every category
+   * @param featuredOnly whether to count featured products only
+   * @return the number of products as of the last refresh
+   */
+  long count(UUID categoryId, boolean featuredOnly);
+
+  /**
+   * Get the planner's estimate of the number of active products
+   *
+   * @param categoryId the category to count, or {@code null} for every category
+   * @param featuredOnly whether to count featured products only
+   * @return the estimated number of products
+   */
+  long estimate(UUID categoryId, boolean featuredOnly);
+}
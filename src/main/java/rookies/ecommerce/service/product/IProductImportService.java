@@ -0,0 +1,31 @@
+package rookies.ecommerce.service.product;
+
+import java.io.IOException;
+import java.util.UUID;
+import org.springframework.web.multipart.MultipartFile;
+import rookies.ecommerce.dto.response.product.ProductImportStatusResponse;
+
+/** Service interface for importing products in bulk from CSV or NDJSON files. */
+public interface IProductImportService {
+  /**
+   * Queues a file for import and returns straight away. Progress is polled with {@link
+   * #getImport(UUID)}.
+   *
+   * @param file the uploaded CSV or NDJSON file
+   * @param format {@code csv} or {@code ndjson}; when {@code null} it is taken from the file name
+   * @return the queued import
+   * @throws IOException if the upload cannot be staged
+   * @throws rookies.ecommerce.exception.AppException if the format is unknown or too many imports
+   *     are waiting
+   */
+  ProductImportStatusResponse startImport(MultipartFile file, String format) throws IOException;
+
+  /**
+   * Returns the progress of an import, including the rows that were rejected and why.
+   *
+   * @param id the import ID
+   * @return the import's current progress
+   * @throws rookies.ecommerce.exception.AppException if the import is unknown
+   */
+  ProductImportStatusResponse getImport(UUID id);
+}
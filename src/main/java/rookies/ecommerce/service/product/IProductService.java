@@ -1,13 +1,19 @@
 package rookies.ecommerce.service.product;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.web.multipart.MultipartFile;
-import rookies.ecommerce.dto.projection.product.IProductWithCategoryNameProjection;
 import rookies.ecommerce.dto.request.product.CreateProductRequest;
+import rookies.ecommerce.dto.request.product.ProductCountMode;
+import rookies.ecommerce.dto.request.product.ProductListingField;
+import rookies.ecommerce.dto.request.product.ProductListingFilter;
 import rookies.ecommerce.dto.request.product.UpdateProductRequest;
+import rookies.ecommerce.dto.response.KeysetPageResponse;
 import rookies.ecommerce.dto.response.product.ProductDetailResponse;
+import rookies.ecommerce.dto.response.product.ProductListItem;
 import rookies.ecommerce.entity.Product;
 
 /** Interface for product management operations */
@@ -18,9 +24,12 @@ public interface IProductService {
    *
    * @param page the page number
    * @param size the page size
+   * @param countMode where the total number of products comes from
+   * @param fields the fields to read; any other field is left null
    * @return paginated list of products
    */
-  Page<IProductWithCategoryNameProjection> getActiveProducts(int page, int size);
+  Page<ProductListItem> getActiveProducts(
+      int page, int size, ProductCountMode countMode, Set<ProductListingField> fields);
 
   /**
    * Get a product by ID
@@ -32,6 +41,14 @@ public interface IProductService {
 
   ProductDetailResponse getProductDetailById(UUID id);
 
+  /**
+   * Get the details of several products, in request order
+   *
+   * @param ids the product IDs
+   * @return the details of the active products among them
+   */
+  List<ProductDetailResponse> getProductDetailsByIds(List<UUID> ids);
+
   /**
    * Create a new product
    *
@@ -64,7 +81,21 @@ public interface IProductService {
    *
    * @param page the page number
    * @param size the page size
+   * @param countMode where the total number of featured products comes from
+   * @param fields the fields to read; any other field is left null
    * @return paginated list of featured products
    */
-  Page<IProductWithCategoryNameProjection> getFeaturedProducts(int page, int size);
+  Page<ProductListItem> getFeaturedProducts(
+      int page, int size, ProductCountMode countMode, Set<ProductListingField> fields);
+
+  /**
+   * Get active products with keyset pagination, optionally by category or featured only
+   *
+   * @param filter the listing restriction, price range and sort order
+   * @param cursor the cursor of the previous page, or null for the first page
+   * @param size the page size
+   * @return a page of products and the cursor of the next page
+   */
+  KeysetPageResponse<ProductListItem> scrollProducts(
+      ProductListingFilter filter, String cursor, int size);
 }
@@ -0,0 +1,180 @@
+package rookies.ecommerce.service.product;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import rookies.ecommerce.dto.request.product.ProductImportRow;
+
+/**
+ * Reads an import file one record at a time, so memory use does not grow with the file size.
+ *
+ * <p>CSV files start with a header row naming the {@link ProductImportRow} fields and follow RFC
+ * 4180 quoting, so quoted values may contain commas, doubled quotes and line breaks. NDJSON files
+ * hold one JSON object per line; blank lines are skipped.
+ */
+abstract class ImportRowReader {
+  /** A parsed record, or the reason it could not be parsed, with the line it started on. */
+  record Parsed(long line, ProductImportRow row, String error) {}
+
+  final BufferedReader reader;
+  final ObjectMapper objectMapper;
+  long lineNumber;
+
+  private ImportRowReader(BufferedReader reader, ObjectMapper objectMapper) {
+    this.reader = reader;
+    this.objectMapper = objectMapper;
+  }
+
+  static ImportRowReader csv(BufferedReader reader, ObjectMapper objectMapper) {
+    return new Csv(reader, objectMapper);
+  }
+
+  static ImportRowReader ndjson(BufferedReader reader, ObjectMapper objectMapper) {
+    return new Ndjson(reader, objectMapper);
+  }
+
+  /** Returns the next record, or {@code null} at the end of the file. */
+  abstract Parsed next() throws IOException;
+
+  static String describe(JsonProcessingException e) {
+    if (e instanceof JsonMappingException mapping && !mapping.getPath().isEmpty()) {
+      String field =
+          mapping.getPath().stream()
+              .map(JsonMappingException.Reference::getFieldName)
+              .collect(Collectors.joining("."));
+      return "Invalid value for field '" + field + "'";
+    }
+    return "Malformed record";
+  }
+
+  private static final class Ndjson extends ImportRowReader {
+    Ndjson(BufferedReader reader, ObjectMapper objectMapper) {
+      super(reader, objectMapper);
+    }
+
+    @Override
+    Parsed next() throws IOException {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        lineNumber++;
+        if (line.isBlank()) {
+          continue;
+        }
+        try {
+          return new Parsed(lineNumber, objectMapper.readValue(line, ProductImportRow.class), null);
+        } catch (JsonProcessingException e) {
+          return new Parsed(lineNumber, null, describe(e));
+        }
+      }
+      return null;
+    }
+  }
+
+  private static final class Csv extends ImportRowReader {
+    List<String> header;
+    long recordStart;
+
+    Csv(BufferedReader reader, ObjectMapper objectMapper) {
+      super(reader, objectMapper);
+    }
+
+    @Override
+    Parsed next() throws IOException {
+      if (header == null) {
+        header = readRecord();
+        if (header == null) {
+          return null;
+        }
+        // Spreadsheet exports often start with a byte order mark.
+        header.set(0, header.get(0).replace("\uFEFF", ""));
+        header.replaceAll(String::trim);
+      }
+      List<String> values;
+      do {
+        values = readRecord();
+        if (values == null) {
+          return null;
+        }
+      } while (values.size() == 1 && values.get(0).isBlank());
+
+      long line = recordStart;
+      if (values.size() != header.size()) {
+        return new Parsed(
+            line, null, "Expected " + header.size() + " columns but found " + values.size());
+      }
+      Map<String, String> fields = new HashMap<>();
+      for (int i = 0; i < values.size(); i++) {
+        if (!values.get(i).isEmpty()) {
+          fields.put(header.get(i), values.get(i));
+        }
+      }
+      try {
+        return new Parsed(line, objectMapper.convertValue(fields, ProductImportRow.class), null);
+      } catch (IllegalArgumentException e) {
+        return new Parsed(
+            line,
+            null,
+            e.getCause() instanceof JsonProcessingException cause
+                ? describe(cause)
+                : "Malformed record");
+      }
+    }
+
+    /** Reads one record, which may span several lines when a quoted value contains breaks. */
+    private List<String> readRecord() throws IOException {
+      String line = reader.readLine();
+      if (line == null) {
+        return null;
+      }
+      lineNumber++;
+      recordStart = lineNumber;
+      List<String> values = new ArrayList<>();
+      StringBuilder value = new StringBuilder();
+      boolean quoted = false;
+      int i = 0;
+      while (true) {
+        if (i == line.length()) {
+          if (!quoted) {
+            values.add(value.toString());
+            return values;
+          }
+          line = reader.readLine();
+          if (line == null) {
+            // Unterminated quote: keep what was read rather than dropping the record.
+            values.add(value.toString());
+            return values;
+          }
+          lineNumber++;
+          value.append('\n');
+          i = 0;
+          continue;
+        }
+        char c = line.charAt(i++);
+        if (quoted) {
+          if (c != '"') {
+            value.append(c);
+          } else if (i < line.length() && line.charAt(i) == '"') {
+            value.append('"');
+            i++;
+          } else {
+            quoted = false;
+          }
+        } else if (c == '"') {
+          quoted = true;
+        } else if (c == ',') {
+          values.add(value.toString());
+          value.setLength(0);
+        } else {
+          value.append(c);
+        }
+      }
+    }
+  }
+}
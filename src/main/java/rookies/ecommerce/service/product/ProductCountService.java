@@ -0,0 +1,110 @@
+package rookies.ecommerce.service.product;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import rookies.ecommerce.dto.event.ProductChangedEvent;
+import rookies.ecommerce.dto.response.product.ProductCountRow;
+import rookies.ecommerce.repository.ProductRepository;
+
+/**
+ * Serves listing totals without a count query per page.
+ *
+ * <p>The counters hold the number of active products per category and featured flag, loaded with
+ * one grouped query. A product change on this instance marks them stale and the next refresh
+ * reloads them, so totals trail writes by at most {@code refresh-interval-ms}. Changes made on
+ * other instances show up once the counters are older than {@code max-age-ms}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ProductCountService implements IProductCountService {
+  final ProductRepository productRepository;
+  final Object refreshLock = new Object();
+
+  volatile Counts counts;
+  volatile boolean changed;
+
+  @Value("${app.product-counts.max-age-ms:60000}")
+  long maxAgeMs;
+
+  /** Active products overall, featured, and per category, in total and featured only. */
+  record Counts(
+      long all,
+      long featured,
+      Map<UUID, Long> byCategory,
+      Map<UUID, Long> featuredByCategory,
+      long loadedAt) {}
+
+  @Override
+  public long count(UUID categoryId, boolean featuredOnly) {
+    Counts current = counts;
+    if (current == null) {
+      current = reload();
+    }
+    if (categoryId == null) {
+      return featuredOnly ? current.featured() : current.all();
+    }
+    Map<UUID, Long> byCategory = featuredOnly ? current.featuredByCategory() : current.byCategory();
+    return byCategory.getOrDefault(categoryId, 0L);
+  }
+
+  @Override
+  public long estimate(UUID categoryId, boolean featuredOnly) {
+    return productRepository.estimateActiveCount(categoryId, featuredOnly);
+  }
+
+  /** Marks the counters stale once a product change on this instance has committed. */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onProductChanged(ProductChangedEvent event) {
+    changed = true;
+  }
+
+  /** Reloads the counters if they were read before and are now stale or too old. */
+  @Scheduled(fixedDelayString = "${app.product-counts.refresh-interval-ms:5000}")
+  public void refresh() {
+    Counts current = counts;
+    if (current == null) {
+      return;
+    }
+    if (changed || System.currentTimeMillis() - current.loadedAt() >= maxAgeMs) {
+      try {
+        reload();
+      } catch (RuntimeException e) {
+        log.warn("Could not refresh the product counters", e);
+      }
+    }
+  }
+
+  Counts reload() {
+    synchronized (refreshLock) {
+      // Cleared first, so a change that commits while the counts are read triggers another load.
+      changed = false;
+      long all = 0;
+      long featured = 0;
+      Map<UUID, Long> byCategory = new HashMap<>();
+      Map<UUID, Long> featuredByCategory = new HashMap<>();
+      for (ProductCountRow row : productRepository.countActiveByCategoryAndFeatured()) {
+        all += row.count();
+        byCategory.merge(row.categoryId(), row.count(), Long::sum);
+        if (row.isFeatured()) {
+          featured += row.count();
+          featuredByCategory.put(row.categoryId(), row.count());
+        }
+      }
+      Counts fresh =
+          new Counts(all, featured, byCategory, featuredByCategory, System.currentTimeMillis());
+      counts = fresh;
+      return fresh;
+    }
+  }
+}
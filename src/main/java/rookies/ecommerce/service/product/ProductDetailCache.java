@@ -0,0 +1,128 @@
+package rookies.ecommerce.service.product;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import rookies.ecommerce.dto.event.ProductChangedEvent;
+import rookies.ecommerce.dto.response.product.ProductDetailResponse;
+
+/**
+ * Keeps recently read product details in a bounded map local to this instance, least recently used
+ * first out.
+ *
+ * <p>Changes made on this instance evict the product once they commit. Entries also expire after
+ * their TTL, which bounds how long a change made on another instance can go unseen. A product
+ * loaded by a read that started before its eviction is not cached, so a slow reader cannot put back
+ * the old version: callers take {@link #version()} before reading and pass it to {@link #putAll}.
+ * Evictions are remembered per product, so a change to one product does not keep the others of a
+ * concurrent read out of the cache.
+ */
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ProductDetailCache {
+  final Map<UUID, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  // The version at which each product was last evicted, oldest eviction first.
+  final Map<UUID, Long> evictions = new LinkedHashMap<>();
+  final int maxEntries;
+  final long ttlNanos;
+  long version;
+  // The newest eviction version no longer remembered per product.
+  long forgottenVersion;
+
+  public ProductDetailCache(
+      @Value("${app.product-cache.max-entries:10000}") int maxEntries,
+      @Value("${app.product-cache.ttl-ms:60000}") long ttlMs) {
+    this.maxEntries = maxEntries;
+    this.ttlNanos = Duration.ofMillis(ttlMs).toNanos();
+  }
+
+  public synchronized Optional<ProductDetailResponse> get(UUID id) {
+    return Optional.ofNullable(live(id, System.nanoTime()));
+  }
+
+  /** Returns the cached details among the given products, keyed by ID. */
+  public synchronized Map<UUID, ProductDetailResponse> getAll(Collection<UUID> ids) {
+    long now = System.nanoTime();
+    Map<UUID, ProductDetailResponse> found = new HashMap<>();
+    for (UUID id : ids) {
+      ProductDetailResponse detail = live(id, now);
+      if (detail != null) {
+        found.put(id, detail);
+      }
+    }
+    return found;
+  }
+
+  /** The current eviction count, to be taken before reading what will be cached. */
+  public synchronized long version() {
+    return version;
+  }
+
+  /**
+   * Caches details read from the database, except those of products evicted since {@code
+   * readVersion} was taken: the read may predate their change. Reads older than the evictions still
+   * remembered per product cache nothing.
+   */
+  public synchronized void putAll(long readVersion, Collection<ProductDetailResponse> details) {
+    if (readVersion < forgottenVersion) {
+      return;
+    }
+    long expiresAt = System.nanoTime() + ttlNanos;
+    for (ProductDetailResponse detail : details) {
+      Long evictedAt = evictions.get(detail.getId());
+      if (evictedAt == null || evictedAt <= readVersion) {
+        entries.put(detail.getId(), new Entry(detail, expiresAt));
+      }
+    }
+    Iterator<UUID> eldest = entries.keySet().iterator();
+    while (entries.size() > maxEntries) {
+      eldest.next();
+      eldest.remove();
+    }
+  }
+
+  public synchronized void evict(UUID id) {
+    entries.remove(id);
+    version++;
+    evictions.remove(id);
+    evictions.put(id, version);
+    Iterator<Long> oldest = evictions.values().iterator();
+    while (evictions.size() > maxEntries) {
+      forgottenVersion = oldest.next();
+      oldest.remove();
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onProductChanged(ProductChangedEvent event) {
+    evict(event.getProductId());
+  }
+
+  synchronized int size() {
+    return entries.size();
+  }
+
+  private ProductDetailResponse live(UUID id, long now) {
+    Entry entry = entries.get(id);
+    if (entry == null) {
+      return null;
+    }
+    if (now - entry.expiresAt >= 0) {
+      entries.remove(id);
+      return null;
+    }
+    return entry.detail;
+  }
+
+  private record Entry(ProductDetailResponse detail, long expiresAt) {}
+}
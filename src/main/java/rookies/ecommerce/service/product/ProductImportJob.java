@@ -0,0 +1,93 @@
+package rookies.ecommerce.service.product;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import rookies.ecommerce.dto.response.product.ProductImportStatusResponse;
+import rookies.ecommerce.dto.response.product.ProductImportStatusResponse.RowError;
+import rookies.ecommerce.dto.response.product.ProductImportStatusResponse.Status;
+
+/** Progress of one import, updated by the import thread and read by status requests. */
+@FieldDefaults(level = AccessLevel.PRIVATE)
+class ProductImportJob {
+  @Getter final UUID id = UUID.randomUUID();
+  final String fileName;
+  final int maxErrors;
+  final AtomicLong processedRows = new AtomicLong();
+  final AtomicLong importedRows = new AtomicLong();
+  final AtomicLong failedRows = new AtomicLong();
+  final List<RowError> errors = new ArrayList<>();
+  volatile Status status = Status.QUEUED;
+  volatile LocalDateTime startedAt;
+  volatile LocalDateTime finishedAt;
+
+  ProductImportJob(String fileName, int maxErrors) {
+    this.fileName = fileName;
+    this.maxErrors = maxErrors;
+  }
+
+  void start() {
+    startedAt = LocalDateTime.now();
+    status = Status.RUNNING;
+  }
+
+  void finish(Status outcome) {
+    finishedAt = LocalDateTime.now();
+    status = outcome;
+  }
+
+  boolean isFinished() {
+    return finishedAt != null;
+  }
+
+  long processedRows() {
+    return processedRows.get();
+  }
+
+  long importedRows() {
+    return importedRows.get();
+  }
+
+  long failedRows() {
+    return failedRows.get();
+  }
+
+  void imported(int rows) {
+    processedRows.addAndGet(rows);
+    importedRows.addAndGet(rows);
+  }
+
+  /** Counts a rejected row; only the first {@code maxErrors} reasons are kept. */
+  void failed(long line, String message) {
+    processedRows.incrementAndGet();
+    failedRows.incrementAndGet();
+    synchronized (errors) {
+      if (errors.size() < maxErrors) {
+        errors.add(new RowError(line, message));
+      }
+    }
+  }
+
+  ProductImportStatusResponse toResponse() {
+    List<RowError> snapshot;
+    synchronized (errors) {
+      snapshot = List.copyOf(errors);
+    }
+    return ProductImportStatusResponse.builder()
+        .id(id)
+        .status(status)
+        .fileName(fileName)
+        .startedAt(startedAt)
+        .finishedAt(finishedAt)
+        .processedRows(processedRows.get())
+        .importedRows(importedRows.get())
+        .failedRows(failedRows.get())
+        .errors(snapshot)
+        .build();
+  }
+}
@@ -0,0 +1,346 @@
+package rookies.ecommerce.service.product;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+import rookies.ecommerce.dto.event.ProductEventPayload;
+import rookies.ecommerce.dto.request.product.ProductImportRow;
+import rookies.ecommerce.dto.response.category.CategorySummaryResponse;
+import rookies.ecommerce.dto.response.product.ProductImportStatusResponse;
+import rookies.ecommerce.dto.response.product.ProductImportStatusResponse.Status;
+import rookies.ecommerce.entity.Category;
+import rookies.ecommerce.entity.Product;
+import rookies.ecommerce.exception.AppException;
+import rookies.ecommerce.exception.ErrorCode;
+import rookies.ecommerce.repository.CategoryRepository;
+import rookies.ecommerce.service.outbox.IOutboxService;
+
+/**
+ * Imports products in bulk from CSV or NDJSON files.
+ *
+ * <p>Uploads are staged to disk and imported one at a time on a background thread, so a request
+ * only waits for the transfer. The file is streamed record by record: each row is validated as it
+ * is read and its category is resolved from a map loaded once per import. Valid rows are written in
+ * transactions of {@code batch-size} products, with the JDBC batch size of the session raised to
+ * match so each batch costs a handful of round trips, and the persistence context is cleared after
+ * every batch. If a batch is rejected, its rows are retried one by one so only the offending rows
+ * are reported.
+ *
+ * <p>Progress and the reasons for rejected rows are kept in memory for the most recent {@code
+ * max-retained-jobs} imports.
+ */
+@Slf4j
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ProductImportService implements IProductImportService {
+  static final String CSV = "csv";
+  static final String NDJSON = "ndjson";
+
+  CategoryRepository categoryRepository;
+  IOutboxService outboxService;
+  ObjectMapper objectMapper;
+  Validator validator;
+  EntityManager entityManager;
+  TransactionTemplate transactionTemplate;
+  ThreadPoolExecutor executor;
+  Map<UUID, ProductImportJob> jobs = new LinkedHashMap<>();
+  int batchSize;
+  int maxErrors;
+  int maxRetainedJobs;
+
+  public ProductImportService(
+      CategoryRepository categoryRepository,
+      IOutboxService outboxService,
+      ObjectMapper objectMapper,
+      Validator validator,
+      EntityManager entityManager,
+      PlatformTransactionManager transactionManager,
+      @Value("${app.product-import.batch-size:500}") int batchSize,
+      @Value("${app.product-import.max-errors:1000}") int maxErrors,
+      @Value("${app.product-import.max-retained-jobs:20}") int maxRetainedJobs,
+      @Value("${app.product-import.queue-capacity:4}") int queueCapacity) {
+    this.categoryRepository = categoryRepository;
+    this.outboxService = outboxService;
+    this.objectMapper = objectMapper;
+    this.validator = validator;
+    this.entityManager = entityManager;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchSize = batchSize;
+    this.maxErrors = maxErrors;
+    this.maxRetainedJobs = maxRetainedJobs;
+    this.executor =
+        new ThreadPoolExecutor(
+            1,
+            1,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new CustomizableThreadFactory("product-import-"),
+            new ThreadPoolExecutor.AbortPolicy());
+  }
+
+  @Override
+  public ProductImportStatusResponse startImport(MultipartFile file, String format)
+      throws IOException {
+    String resolvedFormat = resolveFormat(format, file.getOriginalFilename());
+    Path staged = Files.createTempFile("product-import-", "." + resolvedFormat);
+    ProductImportJob job = new ProductImportJob(file.getOriginalFilename(), maxErrors);
+    try {
+      file.transferTo(staged);
+      register(job);
+      executor.execute(() -> run(job, staged, resolvedFormat));
+    } catch (RejectedExecutionException e) {
+      unregister(job);
+      Files.deleteIfExists(staged);
+      throw new AppException(ErrorCode.IMPORT_QUEUE_FULL, HttpStatus.SERVICE_UNAVAILABLE);
+    } catch (IOException | RuntimeException e) {
+      unregister(job);
+      Files.deleteIfExists(staged);
+      throw e;
+    }
+    return job.toResponse();
+  }
+
+  @Override
+  public ProductImportStatusResponse getImport(UUID id) {
+    ProductImportJob job;
+    synchronized (jobs) {
+      job = jobs.get(id);
+    }
+    if (job == null) {
+      throw new AppException(ErrorCode.IMPORT_NOT_FOUND, HttpStatus.NOT_FOUND);
+    }
+    return job.toResponse();
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private void run(ProductImportJob job, Path staged, String format) {
+    try {
+      runImport(job, staged, format);
+    } finally {
+      try {
+        Files.deleteIfExists(staged);
+      } catch (IOException e) {
+        log.warn("Failed to remove staged import {}", staged, e);
+      }
+    }
+  }
+
+  /** Imports the staged file on the calling thread and records the outcome on the job. */
+  void runImport(ProductImportJob job, Path staged, String format) {
+    job.start();
+    long started = System.nanoTime();
+    try (BufferedReader in = Files.newBufferedReader(staged, StandardCharsets.UTF_8)) {
+      ImportRowReader reader =
+          CSV.equals(format)
+              ? ImportRowReader.csv(in, objectMapper)
+              : ImportRowReader.ndjson(in, objectMapper);
+      CategoryLookup categories = loadCategories();
+      List<PendingRow> batch = new ArrayList<>(batchSize);
+
+      ImportRowReader.Parsed parsed;
+      while ((parsed = reader.next()) != null) {
+        if (parsed.error() != null) {
+          job.failed(parsed.line(), parsed.error());
+          continue;
+        }
+        String error = validate(parsed.row());
+        UUID categoryId = error == null ? categories.resolve(parsed.row()) : null;
+        if (error == null && categoryId == null) {
+          error = ErrorCode.CATEGORY_NOT_FOUND.getMessage();
+        }
+        if (error != null) {
+          job.failed(parsed.line(), error);
+          continue;
+        }
+        batch.add(new PendingRow(parsed.line(), parsed.row(), categoryId));
+        if (batch.size() == batchSize) {
+          writeBatch(job, batch);
+          batch.clear();
+        }
+      }
+      if (!batch.isEmpty()) {
+        writeBatch(job, batch);
+      }
+      job.finish(Status.COMPLETED);
+    } catch (IOException | RuntimeException e) {
+      log.error("Product import {} aborted", job.getId(), e);
+      job.failed(0, "Import aborted: " + e.getMessage());
+      job.finish(Status.FAILED);
+    }
+    log.info(
+        "Product import {} finished in {} ms: {} rows imported, {} rejected",
+        job.getId(),
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started),
+        job.importedRows(),
+        job.failedRows());
+  }
+
+  /**
+   * Inserts a batch in one transaction. If it is rejected, the rows are retried in their own
+   * transactions so a single bad row does not fail its neighbours.
+   */
+  private void writeBatch(ProductImportJob job, List<PendingRow> batch) {
+    try {
+      transactionTemplate.executeWithoutResult(status -> insert(batch));
+      job.imported(batch.size());
+      log.debug("Product import {}: {} rows processed", job.getId(), job.processedRows());
+      return;
+    } catch (RuntimeException e) {
+      log.warn("Product import {}: batch rejected, retrying row by row", job.getId(), e);
+    }
+    for (PendingRow row : batch) {
+      try {
+        transactionTemplate.executeWithoutResult(status -> insert(List.of(row)));
+        job.imported(1);
+      } catch (RuntimeException e) {
+        job.failed(row.line(), "Rejected by the database: " + e.getMessage());
+      }
+    }
+  }
+
+  private void insert(List<PendingRow> rows) {
+    entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+    try {
+      for (PendingRow pending : rows) {
+        ProductImportRow row = pending.row();
+        Product product =
+            Product.builder()
+                .category(entityManager.getReference(Category.class, pending.categoryId()))
+                .name(row.getName())
+                .description(row.getDescription())
+                .imageUrl(row.getImageUrl())
+                .price(row.getPrice())
+                .quantity(row.getQuantity())
+                .isFeatured(row.isFeatured())
+                .build();
+        entityManager.persist(product);
+        outboxService.publish(
+            ProductService.AGGREGATE_TYPE,
+            product.getId(),
+            "ProductCreated",
+            ProductEventPayload.from(product));
+      }
+      entityManager.flush();
+    } finally {
+      entityManager.clear();
+    }
+  }
+
+  /** Returns the constraint violations of a row as messages, or {@code null} if it is valid. */
+  private String validate(ProductImportRow row) {
+    Set<ConstraintViolation<ProductImportRow>> violations = validator.validate(row);
+    if (violations.isEmpty()) {
+      return null;
+    }
+    return violations.stream()
+        .map(violation -> messageOf(violation.getMessage()))
+        .sorted()
+        .collect(Collectors.joining("; "));
+  }
+
+  private static String messageOf(String errorCode) {
+    try {
+      return ErrorCode.valueOf(errorCode).getMessage();
+    } catch (IllegalArgumentException e) {
+      return errorCode;
+    }
+  }
+
+  private CategoryLookup loadCategories() {
+    Set<UUID> ids = new HashSet<>();
+    Map<String, UUID> byName = new HashMap<>();
+    for (CategorySummaryResponse category :
+        categoryRepository.findAllByIsDeletedFalseOrderByCreatedAtDesc()) {
+      ids.add(category.getId());
+      byName.putIfAbsent(category.getName().trim().toLowerCase(Locale.ROOT), category.getId());
+    }
+    return new CategoryLookup(ids, byName);
+  }
+
+  static String resolveFormat(String format, String fileName) {
+    String candidate = format != null ? format : StringUtils.getFilenameExtension(fileName);
+    if (candidate != null) {
+      switch (candidate.toLowerCase(Locale.ROOT)) {
+        case CSV:
+          return CSV;
+        case NDJSON, "jsonl":
+          return NDJSON;
+        default:
+          break;
+      }
+    }
+    throw new AppException(ErrorCode.INVALID_IMPORT_FORMAT, HttpStatus.BAD_REQUEST);
+  }
+
+  private void register(ProductImportJob job) {
+    synchronized (jobs) {
+      jobs.put(job.getId(), job);
+      Iterator<ProductImportJob> oldest = jobs.values().iterator();
+      while (jobs.size() > maxRetainedJobs && oldest.hasNext()) {
+        if (oldest.next().isFinished()) {
+          oldest.remove();
+        }
+      }
+    }
+  }
+
+  private void unregister(ProductImportJob job) {
+    synchronized (jobs) {
+      jobs.remove(job.getId());
+    }
+  }
+
+  private record PendingRow(long line, ProductImportRow row, UUID categoryId) {}
+
+  /** Active categories by ID and by case-insensitive name. */
+  private record CategoryLookup(Set<UUID> ids, Map<String, UUID> byName) {
+    UUID resolve(ProductImportRow row) {
+      if (row.getCategoryId() != null) {
+        return ids.contains(row.getCategoryId()) ? row.getCategoryId() : null;
+      }
+      if (row.getCategory() == null) {
+        return null;
+      }
+      return byName.get(row.getCategory().trim().toLowerCase(Locale.ROOT));
+    }
+  }
+}
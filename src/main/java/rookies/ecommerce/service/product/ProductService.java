@@ -1,50 +1,98 @@
 package rookies.ecommerce.service.product;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
-import rookies.ecommerce.dto.projection.product.IProductWithCategoryNameProjection;
+import rookies.ecommerce.dto.event.ProductChangedEvent;
+import rookies.ecommerce.dto.event.ProductEventPayload;
 import rookies.ecommerce.dto.request.product.CreateProductRequest;
+import rookies.ecommerce.dto.request.product.ProductCountMode;
+import rookies.ecommerce.dto.request.product.ProductListingField;
+import rookies.ecommerce.dto.request.product.ProductListingFilter;
+import rookies.ecommerce.dto.request.product.ProductSort;
 import rookies.ecommerce.dto.request.product.UpdateProductRequest;
+import rookies.ecommerce.dto.response.KeysetPageResponse;
 import rookies.ecommerce.dto.response.product.ProductDetailResponse;
+import rookies.ecommerce.dto.response.product.ProductListItem;
 import rookies.ecommerce.entity.Category;
 import rookies.ecommerce.entity.Product;
 import rookies.ecommerce.exception.AppException;
 import rookies.ecommerce.exception.ErrorCode;
 import rookies.ecommerce.repository.ProductRepository;
 import rookies.ecommerce.service.category.ICategoryService;
-import rookies.ecommerce.service.upload.IUploadService;
+import rookies.ecommerce.service.outbox.IOutboxService;
+import rookies.ecommerce.service.upload.IImageDeletionService;
+import rookies.ecommerce.service.upload.IProductImageService;
+import rookies.ecommerce.service.upload.ImageVariants;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class ProductService implements IProductService {
+  static final String AGGREGATE_TYPE = "Product";
+  static final int MAX_SCROLL_SIZE = 100;
+  static final String CURSOR_SEPARATOR = "|";
+  static final int MAX_BATCH_SIZE = 50;
 
   ProductRepository productRepository;
-  IUploadService cloudinaryService;
+  IProductImageService productImageService;
   ICategoryService categoryService;
+  IOutboxService outboxService;
+  TransactionTemplate transactionTemplate;
+  IImageDeletionService imageDeletionService;
+  ApplicationEventPublisher eventPublisher;
+  ProductDetailCache productDetailCache;
+  IProductCountService productCountService;
 
   /**
    * Retrieves a page of active products sorted by creation time in descending order.
    *
    * @param page the page number
    * @param size the page size
+   * @param countMode where the total number of products comes from
+   * @param fields the fields to read; any other field is left null
    * @return a page of active products
    */
   @Override
-  public Page<IProductWithCategoryNameProjection> getActiveProducts(int page, int size) {
+  public Page<ProductListItem> getActiveProducts(
+      int page, int size, ProductCountMode countMode, Set<ProductListingField> fields) {
+    if (!ProductListingField.isEvery(fields)) {
+      return narrowedPage(
+          ProductListingFilter.builder().fields(fields).build(), page, size, countMode);
+    }
     Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-    return productRepository.findAllByIsDeletedFalse(pageable);
+    if (countMode == ProductCountMode.EXACT) {
+      return productRepository.findAllByIsDeletedFalse(pageable);
+    }
+    return pageOf(
+        productRepository.findActiveListing(pageable), pageable, totalOf(countMode, null, false));
   }
 
   /**
@@ -62,7 +110,8 @@ public class ProductService implements IProductService {
   }
 
   /**
-   * Retrieves a product by its ID, including its category name and other details.
+   * Retrieves a product by its ID, including its category name and other details. Recently read
+   * products are served from the {@link ProductDetailCache}.
    *
    * @param id the unique identifier of the product to be retrieved
    * @return a {@link ProductDetailResponse} containing the product's details
@@ -70,58 +119,114 @@ public class ProductService implements IProductService {
    */
   @Override
   public ProductDetailResponse getProductDetailById(UUID id) {
-    Product product = getProductById(id);
-    Category category = product.getCategory();
-    return ProductDetailResponse.builder()
-        .id(product.getId())
-        .category(
-            ProductDetailResponse.Category.builder()
-                .id(category.getId())
-                .name(category.getName())
-                .build())
-        .name(product.getName())
-        .price(product.getPrice())
-        .quantity(product.getQuantity())
-        .description(product.getDescription())
-        .imageUrl(product.getImageUrl())
-        .isFeatured(product.isFeatured())
-        .createdAt(product.getCreatedAt())
-        .updatedAt(product.getUpdatedAt())
-        .build();
+    Optional<ProductDetailResponse> cached = productDetailCache.get(id);
+    if (cached.isPresent()) {
+      return cached.get();
+    }
+    long cacheVersion = productDetailCache.version();
+    ProductDetailResponse detail = toDetail(getProductById(id));
+    productDetailCache.putAll(cacheVersion, List.of(detail));
+    return detail;
+  }
+
+  /**
+   * Retrieves the details of several products at once, in the order they were requested.
+   *
+   * <p>Cached products are served from the {@link ProductDetailCache}; the rest are read together
+   * with their categories in a single query. Unknown or deleted products are left out, and a
+   * product requested twice is returned once.
+   *
+   * @param ids the products to retrieve, at most {@value #MAX_BATCH_SIZE}
+   * @return the details of the active products among them
+   * @throws AppException if more than {@value #MAX_BATCH_SIZE} products are requested
+   */
+  @Override
+  public List<ProductDetailResponse> getProductDetailsByIds(List<UUID> ids) {
+    Set<UUID> requested = new LinkedHashSet<>(ids);
+    if (requested.size() > MAX_BATCH_SIZE) {
+      throw new AppException(ErrorCode.PRODUCT_BATCH_TOO_LARGE, HttpStatus.BAD_REQUEST);
+    }
+
+    Map<UUID, ProductDetailResponse> details = new HashMap<>(productDetailCache.getAll(requested));
+    if (details.size() < requested.size()) {
+      List<UUID> missing = new ArrayList<>(requested.size() - details.size());
+      for (UUID id : requested) {
+        if (!details.containsKey(id)) {
+          missing.add(id);
+        }
+      }
+      long cacheVersion = productDetailCache.version();
+      List<ProductDetailResponse> loaded = new ArrayList<>(missing.size());
+      for (Product product : productRepository.findAllActiveWithCategoryByIdIn(missing)) {
+        ProductDetailResponse detail = toDetail(product);
+        loaded.add(detail);
+        details.put(detail.getId(), detail);
+      }
+      productDetailCache.putAll(cacheVersion, loaded);
+    }
+
+    List<ProductDetailResponse> ordered = new ArrayList<>(details.size());
+    for (UUID id : requested) {
+      ProductDetailResponse detail = details.get(id);
+      if (detail != null) {
+        ordered.add(detail);
+      }
+    }
+    return ordered;
   }
 
   /**
    * Creates a new product with the specified details and uploads its image.
    *
+   * <p>The image and its listing variants are uploaded before any database work, and the row is
+   * then written in a short transaction, so no connection is held during the transfer. If the write
+   * fails, the uploaded images are queued for deletion.
+   *
    * @param productDTO the data transfer object containing new product details
    * @param image the image file to be uploaded for the product
    * @throws IOException if an error occurs during image upload
    */
   @Override
-  @Transactional
   public void createProduct(CreateProductRequest productDTO, MultipartFile image)
       throws IOException {
-    String imageUrl = cloudinaryService.uploadImage(image);
+    ImageVariants images = productImageService.upload(image);
 
-    Category category = categoryService.getCategoryById(productDTO.getCategoryId());
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> {
+            Category category = categoryService.getCategoryById(productDTO.getCategoryId());
 
-    Product product =
-        Product.builder()
-            .category(category)
-            .name(productDTO.getName())
-            .description(productDTO.getDescription())
-            .imageUrl(imageUrl)
-            .price(productDTO.getPrice())
-            .quantity(productDTO.getQuantity())
-            .isFeatured(productDTO.isFeatured())
-            .build();
+            Product product =
+                Product.builder()
+                    .category(category)
+                    .name(productDTO.getName())
+                    .description(productDTO.getDescription())
+                    .imageUrl(images.originalUrl())
+                    .imageSmallUrl(images.smallUrl())
+                    .imageMediumUrl(images.mediumUrl())
+                    .imageLargeUrl(images.largeUrl())
+                    .price(productDTO.getPrice())
+                    .quantity(productDTO.getQuantity())
+                    .isFeatured(productDTO.isFeatured())
+                    .build();
 
-    productRepository.save(product);
+            productRepository.save(product);
+            publish(product, "ProductCreated");
+          });
+    } catch (RuntimeException e) {
+      discardImages(images);
+      throw e;
+    }
   }
 
   /**
    * Updates an existing product with the provided details and optional new image.
    *
+   * <p>A new image and its variants are uploaded before the short transaction that updates the row.
+   * The replaced images are queued for deletion in that same transaction, so they are only removed
+   * from storage once the update has committed. If the update fails, the new uploads are queued for
+   * deletion instead.
+   *
    * @param id the unique identifier of the product to be updated
    * @param productDTO the data transfer object containing the updated product details
    * @param image the new image file to be uploaded for the product (optional)
@@ -129,34 +234,45 @@ public class ProductService implements IProductService {
    * @throws AppException if the product with the given ID does not exist
    */
   @Override
-  @Transactional
   public void updateProduct(UUID id, UpdateProductRequest productDTO, MultipartFile image)
       throws IOException {
-    Product product =
-        productRepository
-            .findByIdAndIsDeletedFalse(id)
-            .orElseThrow(() -> new AppException(ErrorCode.PRODUCT_NOT_FOUND, HttpStatus.NOT_FOUND));
+    ImageVariants newImages =
+        image != null && !image.isEmpty() ? productImageService.upload(image) : null;
 
-    Category category = categoryService.getCategoryById(productDTO.getCategoryId());
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> {
+            Product product =
+                productRepository
+                    .findByIdAndIsDeletedFalse(id)
+                    .orElseThrow(
+                        () -> new AppException(ErrorCode.PRODUCT_NOT_FOUND, HttpStatus.NOT_FOUND));
 
-    String imageUrl = product.getImageUrl();
-    if (image != null && !image.isEmpty()) {
-      // Delete old image if it exists
-      if (imageUrl != null && !imageUrl.isEmpty()) {
-        cloudinaryService.deleteImage(imageUrl);
-      }
-      imageUrl = cloudinaryService.uploadImage(image);
-    }
+            Category category = categoryService.getCategoryById(productDTO.getCategoryId());
 
-    product.setCategory(category);
-    product.setName(productDTO.getName());
-    product.setDescription(productDTO.getDescription());
-    product.setImageUrl(imageUrl);
-    product.setPrice(productDTO.getPrice());
-    product.setQuantity(productDTO.getQuantity());
-    product.setFeatured(productDTO.isFeatured());
+            product.setCategory(category);
+            product.setName(productDTO.getName());
+            product.setDescription(productDTO.getDescription());
+            if (newImages != null) {
+              imagesOf(product).urls().forEach(imageDeletionService::enqueue);
+              product.setImageUrl(newImages.originalUrl());
+              product.setImageSmallUrl(newImages.smallUrl());
+              product.setImageMediumUrl(newImages.mediumUrl());
+              product.setImageLargeUrl(newImages.largeUrl());
+            }
+            product.setPrice(productDTO.getPrice());
+            product.setQuantity(productDTO.getQuantity());
+            product.setFeatured(productDTO.isFeatured());
 
-    productRepository.save(product);
+            productRepository.save(product);
+            publish(product, "ProductUpdated");
+          });
+    } catch (RuntimeException e) {
+      if (newImages != null) {
+        discardImages(newImages);
+      }
+      throw e;
+    }
   }
 
   /**
@@ -179,6 +295,7 @@ public class ProductService implements IProductService {
     product.setIsDeleted(true);
 
     productRepository.save(product);
+    publish(product, "ProductDeleted");
   }
 
   /**
@@ -186,18 +303,135 @@ public class ProductService implements IProductService {
    *
    * @param page the page number
    * @param size the page size
+   * @param countMode where the total number of featured products comes from
+   * @param fields the fields to read; any other field is left null
    * @return a page of featured products
    */
-  public Page<IProductWithCategoryNameProjection> getFeaturedProducts(int page, int size) {
-    return productRepository.findAllByIsDeletedFalseAndIsFeaturedTrue(PageRequest.of(page, size));
+  public Page<ProductListItem> getFeaturedProducts(
+      int page, int size, ProductCountMode countMode, Set<ProductListingField> fields) {
+    if (!ProductListingField.isEvery(fields)) {
+      return narrowedPage(
+          ProductListingFilter.builder().featuredOnly(true).fields(fields).build(),
+          page,
+          size,
+          countMode);
+    }
+    Pageable pageable = PageRequest.of(page, size);
+    if (countMode == ProductCountMode.EXACT) {
+      return productRepository.findAllByIsDeletedFalseAndIsFeaturedTrue(pageable);
+    }
+    return pageOf(
+        productRepository.findFeaturedListing(pageable), pageable, totalOf(countMode, null, true));
   }
 
-  public Page<IProductWithCategoryNameProjection> getProductsByCategory(
-      int page, int size, UUID categoryId) {
-    return productRepository.findAllByIsDeletedFalseAndCategoryId(
-        categoryId, PageRequest.of(page, size));
+  public Page<ProductListItem> getProductsByCategory(
+      int page,
+      int size,
+      UUID categoryId,
+      ProductCountMode countMode,
+      Set<ProductListingField> fields) {
+    if (!ProductListingField.isEvery(fields)) {
+      return narrowedPage(
+          ProductListingFilter.builder().categoryId(categoryId).fields(fields).build(),
+          page,
+          size,
+          countMode);
+    }
+    Pageable pageable = PageRequest.of(page, size);
+    if (countMode == ProductCountMode.EXACT) {
+      return productRepository.findAllByIsDeletedFalseAndCategoryId(categoryId, pageable);
+    }
+    return pageOf(
+        productRepository.findCategoryListing(categoryId, pageable),
+        pageable,
+        totalOf(countMode, categoryId, false));
+  }
+
+  /**
+   * Reads a page-numbered listing narrowed to a fieldset through the listing query, which selects
+   * only the requested columns and skips the category join unless asked for. Rows come newest
+   * first, like the keyset listing they share the query and indexes with.
+   */
+  private Page<ProductListItem> narrowedPage(
+      ProductListingFilter filter, int page, int size, ProductCountMode countMode) {
+    Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+    List<ProductListItem> content =
+        productRepository.findListingSlice(filter, pageable.getOffset(), pageable.getPageSize());
+    if (countMode == ProductCountMode.EXACT) {
+      return PageableExecutionUtils.getPage(
+          content, pageable, () -> productRepository.countListing(filter));
+    }
+    return pageOf(
+        content, pageable, totalOf(countMode, filter.getCategoryId(), filter.isFeaturedOnly()));
   }
 
+  /**
+   * Looks up a listing total without counting it. The total may be stale or, for an estimate, off
+   * in either direction; {@link #pageOf} corrects it where the page itself proves it wrong.
+   */
+  private long totalOf(ProductCountMode countMode, UUID categoryId, boolean featuredOnly) {
+    return countMode == ProductCountMode.COUNTER
+        ? productCountService.count(categoryId, featuredOnly)
+        : productCountService.estimate(categoryId, featuredOnly);
+  }
+
+  /**
+   * Wraps a listing page with a looked-up total. A page shorter than its size is the last one, so
+   * its rows fix the total at {@code offset + content.size()} whatever the lookup said; {@link
+   * PageImpl} alone only lowers a total that the page runs past.
+   */
+  private static Page<ProductListItem> pageOf(
+      List<ProductListItem> content, Pageable pageable, long total) {
+    if (content.size() < pageable.getPageSize()) {
+      total = pageable.getOffset() + content.size();
+    }
+    return new PageImpl<>(content, pageable, total);
+  }
+
+  /**
+   * Retrieves a page of active products in the order and price range of the filter, addressed by a
+   * cursor so deep pages cost the same as the first one.
+   *
+   * <p>Each page is a single read of one {@code (sort key, id)} index range, with no per-request
+   * rating aggregate: ratings are stored on the product.
+   *
+   * @param filter the category or featured restriction, price range and order
+   * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+   * @param size the maximum number of products in the page, capped at {@value #MAX_SCROLL_SIZE}
+   * @return a page of products and the cursor of the next page
+   * @throws AppException if the price range or cursor is not valid
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public KeysetPageResponse<ProductListItem> scrollProducts(
+      ProductListingFilter filter, String cursor, int size) {
+    Double minPrice = filter.getMinPrice();
+    Double maxPrice = filter.getMaxPrice();
+    if ((minPrice != null && minPrice < 0)
+        || (maxPrice != null && maxPrice < 0)
+        || (minPrice != null && maxPrice != null && minPrice > maxPrice)) {
+      throw new AppException(ErrorCode.INVALID_PRICE_RANGE, HttpStatus.BAD_REQUEST);
+    }
+    int pageSize = Math.max(1, Math.min(size, MAX_SCROLL_SIZE));
+
+    ListingPosition after =
+        cursor == null || cursor.isBlank()
+            ? ListingPosition.START
+            : decodeCursor(cursor, filter.getSort());
+
+    // Fetch one extra row to know whether another page follows.
+    List<ProductListItem> products =
+        productRepository.findListingPage(filter, after.key(), after.id(), pageSize + 1);
+    boolean hasNext = products.size() > pageSize;
+    if (hasNext) {
+      products = products.subList(0, pageSize);
+    }
+    String nextCursor =
+        hasNext ? encodeCursor(filter.getSort(), products.get(products.size() - 1)) : null;
+    return new KeysetPageResponse<>(products, nextCursor, hasNext);
+  }
+
+  @Transactional
   public void updateProductQuantity(UUID id, int quantity) {
     Product product =
         productRepository
@@ -205,5 +439,92 @@ public class ProductService implements IProductService {
             .orElseThrow(() -> new AppException(ErrorCode.PRODUCT_NOT_FOUND, HttpStatus.NOT_FOUND));
     product.setQuantity(quantity);
     productRepository.save(product);
+    publish(product, "ProductUpdated");
+  }
+
+  /**
+   * Queues uploads whose product write failed for deletion. A failure only leaves orphaned files
+   * behind, so it is logged rather than propagated over the original error.
+   */
+  private void discardImages(ImageVariants images) {
+    for (String imageUrl : images.urls()) {
+      try {
+        imageDeletionService.enqueue(imageUrl);
+      } catch (RuntimeException e) {
+        log.warn("Failed to queue orphaned image {} for deletion", imageUrl, e);
+      }
+    }
+  }
+
+  private static String encodeCursor(ProductSort sort, ProductListItem last) {
+    Object key =
+        switch (sort) {
+          case NEWEST -> last.createdAt();
+          case PRICE -> last.price();
+          case RATING -> last.averageRating();
+        };
+    String raw = sort + CURSOR_SEPARATOR + key + CURSOR_SEPARATOR + last.id();
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /** Reads the position a cursor points at, rejecting cursors issued for another sort. */
+  private static ListingPosition decodeCursor(String cursor, ProductSort sort) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = raw.split("\\" + CURSOR_SEPARATOR, -1);
+      if (parts.length != 3 || !parts[0].equals(sort.name())) {
+        throw new AppException(ErrorCode.INVALID_CURSOR, HttpStatus.BAD_REQUEST);
+      }
+      Object key =
+          sort == ProductSort.NEWEST ? LocalDateTime.parse(parts[1]) : Double.valueOf(parts[1]);
+      return new ListingPosition(key, UUID.fromString(parts[2]));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new AppException(ErrorCode.INVALID_CURSOR, HttpStatus.BAD_REQUEST);
+    }
+  }
+
+  /** The sort key and ID of the last product a listing page ended with. */
+  private record ListingPosition(Object key, UUID id) {
+    static final ListingPosition START = new ListingPosition(null, null);
+  }
+
+  private static ProductDetailResponse toDetail(Product product) {
+    Category category = product.getCategory();
+    return ProductDetailResponse.builder()
+        .id(product.getId())
+        .category(
+            ProductDetailResponse.Category.builder()
+                .id(category.getId())
+                .name(category.getName())
+                .build())
+        .name(product.getName())
+        .price(product.getPrice())
+        .quantity(product.getQuantity())
+        .description(product.getDescription())
+        .imageUrl(product.getImageUrl())
+        .isFeatured(product.isFeatured())
+        .createdAt(product.getCreatedAt())
+        .updatedAt(product.getUpdatedAt())
+        .build();
+  }
+
+  private static ImageVariants imagesOf(Product product) {
+    return new ImageVariants(
+        product.getImageUrl(),
+        product.getImageSmallUrl(),
+        product.getImageMediumUrl(),
+        product.getImageLargeUrl());
+  }
+
+  /**
+   * Records a product change in the outbox as part of the current transaction, and notifies local
+   * listeners such as the search index once it commits.
+   */
+  private void publish(Product product, String eventType) {
+    outboxService.publish(
+        AGGREGATE_TYPE, product.getId(), eventType, ProductEventPayload.from(product));
+    eventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
   }
 }
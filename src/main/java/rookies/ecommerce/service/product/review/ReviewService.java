@@ -5,8 +5,11 @@ import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import rookies.ecommerce.dto.event.ProductChangedEvent;
 import rookies.ecommerce.dto.projection.product.review.ReviewWithUserPreviewProjection;
 import rookies.ecommerce.dto.request.product.review.CreateReviewRequest;
 import rookies.ecommerce.entity.Product;
@@ -14,6 +17,7 @@ import rookies.ecommerce.entity.Review;
 import rookies.ecommerce.entity.user.Customer;
 import rookies.ecommerce.exception.AppException;
 import rookies.ecommerce.exception.ErrorCode;
+import rookies.ecommerce.repository.ProductRepository;
 import rookies.ecommerce.repository.ReviewRepository;
 import rookies.ecommerce.service.product.ProductService;
 import rookies.ecommerce.service.user.UserService;
@@ -24,10 +28,13 @@ import rookies.ecommerce.service.user.UserService;
 public class ReviewService implements IReviewService {
 
   ReviewRepository reviewRepository;
+  ProductRepository productRepository;
   UserService userService;
   ProductService productService;
+  ApplicationEventPublisher eventPublisher;
 
   @Override
+  @Transactional
   public void createReview(CreateReviewRequest request, UUID productId, UUID customerId) {
     Customer customer = userService.getUserById(customerId);
 
@@ -46,6 +53,9 @@ public class ReviewService implements IReviewService {
     review.setRating(request.getRating());
 
     reviewRepository.save(review);
+    productRepository.addRating(productId, request.getRating());
+    // The product's average rating changed; let local read models such as the facets refresh.
+    eventPublisher.publishEvent(new ProductChangedEvent(productId));
   }
 
   @Override
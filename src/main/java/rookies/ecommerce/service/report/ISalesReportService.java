@@ -0,0 +1,47 @@
+package rookies.ecommerce.service.report;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import rookies.ecommerce.dto.response.report.SalesPointResponse;
+import rookies.ecommerce.dto.response.report.SalesRollupRebuildResponse;
+import rookies.ecommerce.entity.Order;
+import rookies.ecommerce.exception.AppException;
+
+/** Service interface for the daily sales rollups behind admin reporting. */
+public interface ISalesReportService {
+  /**
+   * Adds a newly placed order to the daily product and category rollups. Must be called in the
+   * transaction that persists the order.
+   *
+   * @param order the order that was just saved, with its items
+   */
+  void recordOrder(Order order);
+
+  /**
+   * Gets units sold and revenue per day, with days without sales reported as zero.
+   *
+   * <p>At most one of {@code productId} and {@code categoryId} may be given; without either the
+   * series covers the whole store.
+   *
+   * @param from the first day, inclusive
+   * @param to the last day, inclusive
+   * @param productId restricts the series to one product, or {@code null}
+   * @param categoryId restricts the series to one category, or {@code null}
+   * @return one point per day from {@code from} to {@code to}
+   * @throws AppException if the range is empty, too long, or both filters are given
+   */
+  List<SalesPointResponse> getSalesSeries(
+      LocalDate from, LocalDate to, UUID productId, UUID categoryId);
+
+  /**
+   * Recomputes the rollups of every day in the range from the orders table. Category rollups are
+   * recomputed from the products' current categories.
+   *
+   * @param from the first day, inclusive
+   * @param to the last day, inclusive
+   * @return the number of rollup rows written
+   * @throws AppException if the range is empty or too long
+   */
+  SalesRollupRebuildResponse rebuild(LocalDate from, LocalDate to);
+}
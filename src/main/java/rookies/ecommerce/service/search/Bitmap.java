@@ -0,0 +1,101 @@
+package rookies.ecommerce.service.search;
+
+import java.util.Arrays;
+
+/**
+ * Growable bitmap over product ordinals, backed by a plain word array.
+ *
+ * <p>Unlike {@link java.util.BitSet} it can count an intersection without materializing it, which
+ * is most of the work of computing facet counts.
+ */
+final class Bitmap {
+  private long[] words = new long[0];
+
+  void set(int bit) {
+    int word = bit >>> 6;
+    if (word >= words.length) {
+      words = Arrays.copyOf(words, Math.max(word + 1, words.length * 2));
+    }
+    words[word] |= 1L << bit;
+  }
+
+  void clear(int bit) {
+    int word = bit >>> 6;
+    if (word < words.length) {
+      words[word] &= ~(1L << bit);
+    }
+  }
+
+  boolean get(int bit) {
+    int word = bit >>> 6;
+    return word < words.length && (words[word] & 1L << bit) != 0;
+  }
+
+  Bitmap copy() {
+    Bitmap copy = new Bitmap();
+    copy.words = words.clone();
+    return copy;
+  }
+
+  void and(Bitmap other) {
+    int shared = Math.min(words.length, other.words.length);
+    for (int i = 0; i < shared; i++) {
+      words[i] &= other.words[i];
+    }
+    Arrays.fill(words, shared, words.length, 0L);
+  }
+
+  void or(Bitmap other) {
+    if (other.words.length > words.length) {
+      words = Arrays.copyOf(words, other.words.length);
+    }
+    for (int i = 0; i < other.words.length; i++) {
+      words[i] |= other.words[i];
+    }
+  }
+
+  int cardinality() {
+    int count = 0;
+    for (long word : words) {
+      count += Long.bitCount(word);
+    }
+    return count;
+  }
+
+  int andCardinality(Bitmap other) {
+    int shared = Math.min(words.length, other.words.length);
+    int count = 0;
+    for (int i = 0; i < shared; i++) {
+      count += Long.bitCount(words[i] & other.words[i]);
+    }
+    return count;
+  }
+
+  /** The highest set bit at or below {@code from}, or -1 if there is none. */
+  int previousSetBit(int from) {
+    if (from < 0 || words.length == 0) {
+      return -1;
+    }
+    int index = from >>> 6;
+    long word;
+    if (index >= words.length) {
+      index = words.length - 1;
+      word = words[index];
+    } else {
+      word = words[index] & (-1L >>> (63 - (from & 63)));
+    }
+    while (true) {
+      if (word != 0) {
+        return index * 64 + 63 - Long.numberOfLeadingZeros(word);
+      }
+      if (index-- == 0) {
+        return -1;
+      }
+      word = words[index];
+    }
+  }
+
+  long sizeInBytes() {
+    return words.length * (long) Long.BYTES;
+  }
+}
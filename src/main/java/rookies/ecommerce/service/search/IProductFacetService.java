@@ -0,0 +1,19 @@
+package rookies.ecommerce.service.search;
+
+import rookies.ecommerce.dto.request.product.ProductFacetFilter;
+import rookies.ecommerce.dto.response.product.ProductFacetResponse;
+
+/** Service interface for faceted catalog browsing. */
+public interface IProductFacetService {
+  /**
+   * Lists active products matching the facet selections, newest first, with the counts for every
+   * facet value.
+   *
+   * @param filter the selected facet values
+   * @param page the page number
+   * @param size the page size
+   * @return a page of products and the facet counts; only the first matches can be paged through
+   * @throws rookies.ecommerce.exception.AppException if a price band or rating is not valid
+   */
+  ProductFacetResponse search(ProductFacetFilter filter, int page, int size);
+}
@@ -0,0 +1,18 @@
+package rookies.ecommerce.service.search;
+
+import org.springframework.data.domain.Page;
+import rookies.ecommerce.dto.response.product.ProductListItem;
+
+/** Service interface for full-text product search. */
+public interface IProductSearchService {
+  /**
+   * Finds active products whose name, category or description match the query, best match first.
+   *
+   * @param query free text; every term is optional but products matching more terms rank higher
+   * @param page the page number
+   * @param size the page size
+   * @return a page of matching products; only the first results of a search can be paged through
+   * @throws rookies.ecommerce.exception.AppException if the query is blank
+   */
+  Page<ProductListItem> search(String query, int page, int size);
+}
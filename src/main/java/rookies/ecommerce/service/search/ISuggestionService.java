@@ -0,0 +1,16 @@
+package rookies.ecommerce.service.search;
+
+import java.util.List;
+import rookies.ecommerce.dto.response.search.SuggestionResponse;
+
+/** Service interface for search box typeahead. */
+public interface ISuggestionService {
+  /**
+   * Suggests products and categories whose name, or a later word of it, starts with the prefix.
+   *
+   * @param prefix what has been typed so far; blank prefixes get no suggestions
+   * @param limit the maximum number of suggestions
+   * @return the most popular matches first
+   */
+  List<SuggestionResponse> suggest(String prefix, int limit);
+}
@@ -0,0 +1,317 @@
+package rookies.ecommerce.service.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory facet index over active products: one bitmap per category, price band, rating band,
+ * in-stock and featured flag, all over the same dense product ordinals.
+ *
+ * <p>A filter ORs the selected values within a facet and ANDs the facets together. Each facet's
+ * counts are taken with every other facet's filter applied but not its own, so shoppers see how
+ * many products each alternative value would give them. Products keep their ordinal for life and
+ * the catalog is loaded oldest first, so walking the matches from the highest ordinal down lists
+ * the newest products first.
+ */
+final class ProductFacetIndex {
+  static final int RATING_BANDS = 5;
+
+  private static final int CATEGORY = 0;
+  private static final int PRICE = 1;
+  private static final int RATING = 2;
+  private static final int STOCK = 3;
+  private static final int FEATURED = 4;
+  private static final int FACETS = 5;
+  private static final byte NONE = -1;
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  private final double[] priceBounds;
+  private final ProductOrdinals ordinals = new ProductOrdinals();
+  private final Bitmap live = new Bitmap();
+  private final Bitmap inStock = new Bitmap();
+  private final Bitmap featured = new Bitmap();
+  private final Map<UUID, Integer> categoryIndex = new HashMap<>();
+  private final List<UUID> categoryIds = new ArrayList<>();
+  private final List<Bitmap> categories = new ArrayList<>();
+  private final Bitmap[] priceBands;
+  private final Bitmap[] ratingBands = newBitmaps(RATING_BANDS);
+
+  private int[] categoryOf = new int[1024];
+  private byte[] priceBandOf = new byte[1024];
+  private byte[] ratingBandOf = new byte[1024];
+
+  /** Values selected per facet; an empty set or zero leaves that facet unfiltered. */
+  record Filter(
+      Set<UUID> categoryIds,
+      Set<Integer> priceBands,
+      int minRating,
+      boolean inStockOnly,
+      boolean featuredOnly) {}
+
+  /**
+   * One page of matching product IDs, newest first, with the facet counts. {@code minRatingCounts}
+   * is cumulative: entry {@code r - 1} counts products rated {@code r} stars or better.
+   */
+  record Result(
+      int total,
+      List<UUID> ids,
+      Map<UUID, Integer> categoryCounts,
+      int[] priceBandCounts,
+      int[] minRatingCounts,
+      int inStockCount,
+      int featuredCount) {}
+
+  /**
+   * @param priceBounds ascending upper bounds of every price band but the last, which is open
+   */
+  ProductFacetIndex(double[] priceBounds) {
+    this.priceBounds = priceBounds.clone();
+    this.priceBands = newBitmaps(priceBounds.length + 1);
+  }
+
+  /**
+   * Adds a product or moves it to its new facet values.
+   *
+   * @param averageRating the product's average review rating, or 0 if unrated
+   */
+  void upsert(
+      UUID id,
+      UUID categoryId,
+      double price,
+      int quantity,
+      boolean isFeatured,
+      double averageRating) {
+    lock.writeLock().lock();
+    try {
+      int ordinal = ordinals.add(id);
+      ensureCapacity(ordinal);
+      if (live.get(ordinal)) {
+        clearValues(ordinal);
+      }
+
+      int category = categoryIndex.computeIfAbsent(categoryId, this::newCategory);
+      categories.get(category).set(ordinal);
+      categoryOf[ordinal] = category;
+
+      byte priceBand = (byte) priceBand(price);
+      priceBands[priceBand].set(ordinal);
+      priceBandOf[ordinal] = priceBand;
+
+      byte ratingBand = ratingBand(averageRating);
+      if (ratingBand != NONE) {
+        ratingBands[ratingBand].set(ordinal);
+      }
+      ratingBandOf[ordinal] = ratingBand;
+
+      if (quantity > 0) {
+        inStock.set(ordinal);
+      }
+      if (isFeatured) {
+        featured.set(ordinal);
+      }
+      live.set(ordinal);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  void remove(UUID id) {
+    lock.writeLock().lock();
+    try {
+      int ordinal = ordinals.ordinalOf(id);
+      if (ordinal >= 0 && live.get(ordinal)) {
+        clearValues(ordinal);
+        live.clear(ordinal);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  Result query(Filter filter, int offset, int limit) {
+    lock.readLock().lock();
+    try {
+      Bitmap[] masks = new Bitmap[FACETS];
+      if (!filter.categoryIds().isEmpty()) {
+        masks[CATEGORY] = new Bitmap();
+        for (UUID categoryId : filter.categoryIds()) {
+          Integer category = categoryIndex.get(categoryId);
+          if (category != null) {
+            masks[CATEGORY].or(categories.get(category));
+          }
+        }
+      }
+      if (!filter.priceBands().isEmpty()) {
+        masks[PRICE] = new Bitmap();
+        for (int band : filter.priceBands()) {
+          masks[PRICE].or(priceBands[band]);
+        }
+      }
+      if (filter.minRating() > 0) {
+        masks[RATING] = new Bitmap();
+        for (int band = filter.minRating() - 1; band < RATING_BANDS; band++) {
+          masks[RATING].or(ratingBands[band]);
+        }
+      }
+      masks[STOCK] = filter.inStockOnly() ? inStock : null;
+      masks[FEATURED] = filter.featuredOnly() ? featured : null;
+
+      Bitmap matches = intersect(masks, -1);
+
+      Map<UUID, Integer> categoryCounts = new LinkedHashMap<>();
+      Bitmap base = countBase(masks, CATEGORY, matches);
+      for (int i = 0; i < categories.size(); i++) {
+        int count = base.andCardinality(categories.get(i));
+        if (count > 0) {
+          categoryCounts.put(categoryIds.get(i), count);
+        }
+      }
+
+      int[] priceBandCounts = new int[priceBands.length];
+      base = countBase(masks, PRICE, matches);
+      for (int band = 0; band < priceBands.length; band++) {
+        priceBandCounts[band] = base.andCardinality(priceBands[band]);
+      }
+
+      int[] minRatingCounts = new int[RATING_BANDS];
+      base = countBase(masks, RATING, matches);
+      int atLeast = 0;
+      for (int band = RATING_BANDS - 1; band >= 0; band--) {
+        atLeast += base.andCardinality(ratingBands[band]);
+        minRatingCounts[band] = atLeast;
+      }
+
+      int inStockCount = countBase(masks, STOCK, matches).andCardinality(inStock);
+      int featuredCount = countBase(masks, FEATURED, matches).andCardinality(featured);
+
+      List<UUID> ids = new ArrayList<>(Math.max(0, limit));
+      int skipped = 0;
+      for (int ordinal = matches.previousSetBit(ordinals.size() - 1);
+          ordinal >= 0 && ids.size() < limit;
+          ordinal = matches.previousSetBit(ordinal - 1)) {
+        if (skipped++ >= offset) {
+          ids.add(ordinals.idOf(ordinal));
+        }
+      }
+
+      return new Result(
+          matches.cardinality(),
+          ids,
+          categoryCounts,
+          priceBandCounts,
+          minRatingCounts,
+          inStockCount,
+          featuredCount);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  int size() {
+    lock.readLock().lock();
+    try {
+      return live.cardinality();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  int priceBandCount() {
+    return priceBands.length;
+  }
+
+  long estimatedBytes() {
+    lock.readLock().lock();
+    try {
+      long bytes =
+          ordinals.sizeInBytes()
+              + live.sizeInBytes()
+              + inStock.sizeInBytes()
+              + featured.sizeInBytes()
+              + categoryOf.length * 6L;
+      for (Bitmap bitmap : categories) {
+        bytes += bitmap.sizeInBytes();
+      }
+      for (Bitmap bitmap : priceBands) {
+        bytes += bitmap.sizeInBytes();
+      }
+      for (Bitmap bitmap : ratingBands) {
+        bytes += bitmap.sizeInBytes();
+      }
+      return bytes;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private Bitmap intersect(Bitmap[] masks, int except) {
+    Bitmap result = live.copy();
+    for (int facet = 0; facet < FACETS; facet++) {
+      if (facet != except && masks[facet] != null) {
+        result.and(masks[facet]);
+      }
+    }
+    return result;
+  }
+
+  /** Matches ignoring the facet's own filter; when it has none, that is just the matches. */
+  private Bitmap countBase(Bitmap[] masks, int facet, Bitmap matches) {
+    return masks[facet] == null ? matches : intersect(masks, facet);
+  }
+
+  private void clearValues(int ordinal) {
+    categories.get(categoryOf[ordinal]).clear(ordinal);
+    priceBands[priceBandOf[ordinal]].clear(ordinal);
+    if (ratingBandOf[ordinal] != NONE) {
+      ratingBands[ratingBandOf[ordinal]].clear(ordinal);
+    }
+    inStock.clear(ordinal);
+    featured.clear(ordinal);
+  }
+
+  private int newCategory(UUID categoryId) {
+    categoryIds.add(categoryId);
+    categories.add(new Bitmap());
+    return categories.size() - 1;
+  }
+
+  private int priceBand(double price) {
+    int band = 0;
+    while (band < priceBounds.length && price >= priceBounds[band]) {
+      band++;
+    }
+    return band;
+  }
+
+  /** Band {@code r - 1} holds products averaging at least {@code r} stars but less than r + 1. */
+  private static byte ratingBand(double averageRating) {
+    if (averageRating < 1) {
+      return NONE;
+    }
+    return (byte) (Math.min(RATING_BANDS, (int) Math.floor(averageRating)) - 1);
+  }
+
+  private void ensureCapacity(int ordinal) {
+    if (ordinal >= categoryOf.length) {
+      int capacity = Math.max(ordinal + 1, categoryOf.length * 2);
+      categoryOf = Arrays.copyOf(categoryOf, capacity);
+      priceBandOf = Arrays.copyOf(priceBandOf, capacity);
+      ratingBandOf = Arrays.copyOf(ratingBandOf, capacity);
+    }
+  }
+
+  private static Bitmap[] newBitmaps(int count) {
+    Bitmap[] bitmaps = new Bitmap[count];
+    for (int i = 0; i < count; i++) {
+      bitmaps[i] = new Bitmap();
+    }
+    return bitmaps;
+  }
+}
@@ -0,0 +1,278 @@
+package rookies.ecommerce.service.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import rookies.ecommerce.dto.event.ProductChangedEvent;
+import rookies.ecommerce.dto.request.product.ProductFacetFilter;
+import rookies.ecommerce.dto.response.product.ProductFacetResponse;
+import rookies.ecommerce.dto.response.product.ProductFacetResponse.FacetCount;
+import rookies.ecommerce.dto.response.product.ProductFacetRow;
+import rookies.ecommerce.exception.AppException;
+import rookies.ecommerce.exception.ErrorCode;
+import rookies.ecommerce.repository.ProductRepository;
+
+/**
+ * Faceted catalog browsing backed by an in-memory {@link ProductFacetIndex}, so any combination of
+ * filters costs a few bitmap intersections instead of a new query with the review aggregate.
+ *
+ * <p>The index is kept current like the search index: products changed or reviewed on this instance
+ * are applied once the change commits, and a short poll over {@code updated_at} picks up bulk
+ * imports and product edits made elsewhere. Reviews posted on other instances do not move {@code
+ * updated_at}, so the index is also rebuilt every {@code rebuild-interval-ms}. Changes that arrive
+ * during a rebuild are replayed on the new index once it is swapped in.
+ */
+@Slf4j
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ProductFacetService implements IProductFacetService {
+  final ProductRepository productRepository;
+  final TransactionTemplate transactionTemplate;
+  final double[] priceBounds;
+  final List<String> priceBandLabels;
+  final Object refreshLock = new Object();
+  final Set<UUID> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+  volatile ProductFacetIndex index;
+  volatile boolean ready;
+  volatile boolean rebuilding;
+  LocalDateTime watermark;
+
+  @Value("${app.facets.max-result-window:1000}")
+  int maxResultWindow;
+
+  @Value("${app.facets.catch-up-overlap-ms:60000}")
+  long catchUpOverlapMs;
+
+  public ProductFacetService(
+      ProductRepository productRepository,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${app.facets.price-bands:10,25,50,100}") double[] priceBounds) {
+    this.productRepository = productRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+    this.priceBounds = priceBounds.clone();
+    this.priceBandLabels = labelsOf(this.priceBounds);
+    this.index = new ProductFacetIndex(this.priceBounds);
+
+    Gauge.builder("facets.index.memory", this, service -> service.index.estimatedBytes())
+        .description("Estimated heap held by the facet index")
+        .baseUnit("bytes")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public ProductFacetResponse search(ProductFacetFilter filter, int page, int size) {
+    ProductFacetIndex.Filter selection = toSelection(filter);
+    PageRequest pageable = PageRequest.of(page, size);
+    int offset = (int) Math.min(pageable.getOffset(), maxResultWindow);
+    int limit = Math.min(size, maxResultWindow - offset);
+
+    ProductFacetIndex.Result result = index.query(selection, offset, limit);
+
+    List<FacetCount> categories = new ArrayList<>(result.categoryCounts().size());
+    for (Map.Entry<UUID, Integer> entry : result.categoryCounts().entrySet()) {
+      categories.add(new FacetCount(entry.getKey().toString(), entry.getValue()));
+    }
+    List<FacetCount> priceBands = new ArrayList<>(priceBandLabels.size());
+    for (int band = 0; band < priceBandLabels.size(); band++) {
+      priceBands.add(new FacetCount(priceBandLabels.get(band), result.priceBandCounts()[band]));
+    }
+    List<FacetCount> minRatings = new ArrayList<>(ProductFacetIndex.RATING_BANDS);
+    for (int rating = 1; rating <= ProductFacetIndex.RATING_BANDS; rating++) {
+      minRatings.add(new FacetCount(String.valueOf(rating), result.minRatingCounts()[rating - 1]));
+    }
+
+    return ProductFacetResponse.builder()
+        .products(
+            new PageImpl<>(
+                RankedProducts.load(productRepository, result.ids()),
+                pageable,
+                Math.min(result.total(), maxResultWindow)))
+        .facets(
+            ProductFacetResponse.Facets.builder()
+                .categories(categories)
+                .priceBands(priceBands)
+                .minRatings(minRatings)
+                .inStock(result.inStockCount())
+                .featured(result.featuredCount())
+                .build())
+        .build();
+  }
+
+  /**
+   * Applies a product change made on this instance once it has committed. A failure only delays the
+   * change until the next refresh, so it is logged rather than propagated.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onProductChanged(ProductChangedEvent event) {
+    if (rebuilding) {
+      changedDuringRebuild.add(event.getProductId());
+    }
+    if (ready) {
+      reload(index, event.getProductId());
+    }
+  }
+
+  /** Builds the index on the first run, then catches up with recent product changes. */
+  @Scheduled(fixedDelayString = "${app.facets.refresh-interval-ms:5000}")
+  public void refresh() {
+    synchronized (refreshLock) {
+      if (watermark == null) {
+        rebuild();
+      } else {
+        catchUp();
+      }
+    }
+  }
+
+  @Scheduled(
+      fixedDelayString = "${app.facets.rebuild-interval-ms:900000}",
+      initialDelayString = "${app.facets.rebuild-interval-ms:900000}")
+  public void scheduledRebuild() {
+    synchronized (refreshLock) {
+      rebuild();
+    }
+  }
+
+  void rebuild() {
+    long started = System.nanoTime();
+    LocalDateTime buildStart = LocalDateTime.now();
+    ProductFacetIndex fresh = new ProductFacetIndex(priceBounds);
+    rebuilding = true;
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> {
+            try (Stream<ProductFacetRow> rows = productRepository.streamAllActiveForFacets()) {
+              rows.forEach(row -> apply(fresh, row));
+            }
+          });
+      index = fresh;
+      watermark = buildStart;
+      ready = true;
+    } finally {
+      rebuilding = false;
+    }
+
+    for (Iterator<UUID> changed = changedDuringRebuild.iterator(); changed.hasNext(); ) {
+      UUID productId = changed.next();
+      changed.remove();
+      reload(fresh, productId);
+    }
+    log.info(
+        "Facet index built: {} products, ~{} KB in {} ms",
+        fresh.size(),
+        fresh.estimatedBytes() >> 10,
+        Duration.ofNanos(System.nanoTime() - started).toMillis());
+  }
+
+  /** Applies products updated since the watermark, less an overlap for late commits and skew. */
+  void catchUp() {
+    ProductFacetIndex current = index;
+    LocalDateTime since = watermark.minus(Duration.ofMillis(catchUpOverlapMs));
+    watermark =
+        transactionTemplate.execute(
+            status -> {
+              LocalDateTime seen = watermark;
+              try (Stream<ProductFacetRow> rows =
+                  productRepository.streamFacetRowsUpdatedSince(since)) {
+                Iterator<ProductFacetRow> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                  ProductFacetRow row = iterator.next();
+                  apply(current, row);
+                  if (row.getUpdatedAt() != null && row.getUpdatedAt().isAfter(seen)) {
+                    seen = row.getUpdatedAt();
+                  }
+                }
+              }
+              return seen;
+            });
+  }
+
+  private void reload(ProductFacetIndex target, UUID productId) {
+    try {
+      productRepository
+          .findFacetRowById(productId)
+          .ifPresentOrElse(row -> apply(target, row), () -> target.remove(productId));
+    } catch (RuntimeException e) {
+      log.warn("Failed to refresh facets of product {}", productId, e);
+    }
+  }
+
+  private ProductFacetIndex.Filter toSelection(ProductFacetFilter filter) {
+    Set<Integer> priceBands = new LinkedHashSet<>();
+    if (filter.getPriceBands() != null) {
+      for (String label : filter.getPriceBands()) {
+        int band = priceBandLabels.indexOf(label);
+        if (band < 0) {
+          throw new AppException(ErrorCode.INVALID_PRICE_BAND, HttpStatus.BAD_REQUEST);
+        }
+        priceBands.add(band);
+      }
+    }
+    Integer minRating = filter.getMinRating();
+    if (minRating != null && (minRating < 1 || minRating > ProductFacetIndex.RATING_BANDS)) {
+      throw new AppException(ErrorCode.INVALID_RATING_FILTER, HttpStatus.BAD_REQUEST);
+    }
+    return new ProductFacetIndex.Filter(
+        filter.getCategoryIds() != null ? Set.copyOf(filter.getCategoryIds()) : Set.of(),
+        priceBands,
+        minRating != null ? minRating : 0,
+        filter.isInStock(),
+        filter.isFeatured());
+  }
+
+  private static void apply(ProductFacetIndex index, ProductFacetRow row) {
+    if (row.isDeleted()) {
+      index.remove(row.getId());
+    } else {
+      index.upsert(
+          row.getId(),
+          row.getCategoryId(),
+          row.getPrice(),
+          row.getQuantity(),
+          row.isFeatured(),
+          row.getAverageRating());
+    }
+  }
+
+  /** Labels such as {@code 0-10}, {@code 10-25} and {@code 100+}. */
+  private static List<String> labelsOf(double[] bounds) {
+    List<String> labels = new ArrayList<>(bounds.length + 1);
+    String lower = "0";
+    for (double bound : bounds) {
+      String upper = format(bound);
+      labels.add(lower + "-" + upper);
+      lower = upper;
+    }
+    labels.add(lower + "+");
+    return List.copyOf(labels);
+  }
+
+  private static String format(double bound) {
+    return bound == Math.rint(bound) ? String.valueOf((long) bound) : String.valueOf(bound);
+  }
+}
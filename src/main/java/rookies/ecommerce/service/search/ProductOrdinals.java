@@ -0,0 +1,87 @@
+package rookies.ecommerce.service.search;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Assigns dense, stable ordinals to product IDs. IDs are kept as two parallel long arrays and
+ * looked up through an open-addressing table, which costs about a quarter of a {@code HashMap<UUID,
+ * Integer>}. Not thread-safe; callers guard it with their own lock.
+ */
+final class ProductOrdinals {
+  private static final int EMPTY = -1;
+
+  private long[] idHigh = new long[1024];
+  private long[] idLow = new long[1024];
+  private int[] slots = newSlots(2048);
+  private int size;
+
+  /** The product's ordinal, or -1 if it has none. */
+  int ordinalOf(UUID id) {
+    return slots[slotOf(id.getMostSignificantBits(), id.getLeastSignificantBits())];
+  }
+
+  /** The product's ordinal, assigning the next one if it has none yet. */
+  int add(UUID id) {
+    long high = id.getMostSignificantBits();
+    long low = id.getLeastSignificantBits();
+    int slot = slotOf(high, low);
+    if (slots[slot] != EMPTY) {
+      return slots[slot];
+    }
+    int ordinal = size++;
+    if (ordinal == idHigh.length) {
+      idHigh = Arrays.copyOf(idHigh, ordinal * 2);
+      idLow = Arrays.copyOf(idLow, ordinal * 2);
+    }
+    idHigh[ordinal] = high;
+    idLow[ordinal] = low;
+    slots[slot] = ordinal;
+    if (size * 2 > slots.length) {
+      rehash(slots.length * 2);
+    }
+    return ordinal;
+  }
+
+  UUID idOf(int ordinal) {
+    return new UUID(idHigh[ordinal], idLow[ordinal]);
+  }
+
+  int size() {
+    return size;
+  }
+
+  long sizeInBytes() {
+    return idHigh.length * 16L + slots.length * 4L;
+  }
+
+  private int slotOf(long high, long low) {
+    int mask = slots.length - 1;
+    int slot = mix(high ^ low) & mask;
+    while (true) {
+      int ordinal = slots[slot];
+      if (ordinal == EMPTY || idHigh[ordinal] == high && idLow[ordinal] == low) {
+        return slot;
+      }
+      slot = (slot + 1) & mask;
+    }
+  }
+
+  private void rehash(int capacity) {
+    slots = newSlots(capacity);
+    for (int ordinal = 0; ordinal < size; ordinal++) {
+      slots[slotOf(idHigh[ordinal], idLow[ordinal])] = ordinal;
+    }
+  }
+
+  private static int[] newSlots(int capacity) {
+    int[] slots = new int[capacity];
+    Arrays.fill(slots, EMPTY);
+    return slots;
+  }
+
+  private static int mix(long hash) {
+    int h = (int) (hash ^ (hash >>> 32));
+    return h * 0x9E3779B9;
+  }
+}
@@ -0,0 +1,457 @@
+package rookies.ecommerce.service.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over product name, category name and description, ranked with BM25.
+ *
+ * <p>Every indexed version of a product gets a dense document number. A term's postings are
+ * appended in document order to one byte array as varint-encoded (document gap, term frequency)
+ * pairs, so a catalog of a million products costs a few hundred bytes per product. Updating a
+ * product tombstones its old document and appends a new one; tombstoned documents are skipped when
+ * scoring and only disappear when the index is rebuilt.
+ *
+ * <p>Name terms count three times and category terms twice, so a match in the name outranks one in
+ * the description. Searches share a read lock and updates hold the write lock only for the append.
+ */
+final class ProductSearchIndex {
+  static final int NAME_WEIGHT = 3;
+  static final int CATEGORY_WEIGHT = 2;
+  static final int DESCRIPTION_WEIGHT = 1;
+  static final float K1 = 1.2f;
+  static final float B = 0.75f;
+
+  private static final int EMPTY = -1;
+  private static final int INITIAL_CAPACITY = 1024;
+
+  /** Rough per-term cost of the dictionary entry, key string and postings header. */
+  private static final int TERM_OVERHEAD_BYTES = 120;
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  private final Map<String, Postings> postings = new HashMap<>();
+  private final BitSet deleted = new BitSet();
+  private final ConcurrentLinkedQueue<Scratch> scratchPool = new ConcurrentLinkedQueue<>();
+  private final int maxPooledScratch = Runtime.getRuntime().availableProcessors();
+
+  private long[] idHigh = new long[INITIAL_CAPACITY];
+  private long[] idLow = new long[INITIAL_CAPACITY];
+  private int[] docLength = new int[INITIAL_CAPACITY];
+  private int[] contentHash = new int[INITIAL_CAPACITY];
+  private int[] slots = newSlots(INITIAL_CAPACITY * 2);
+  private int usedSlots;
+  private int maxDoc;
+  private int liveDocs;
+  private long liveLength;
+
+  /** One page of ranked product IDs and the number of products that matched at all. */
+  record Hits(long total, List<UUID> ids) {
+    static final Hits NONE = new Hits(0, List.of());
+  }
+
+  /**
+   * Indexes a product, replacing its previous version.
+   *
+   * @return {@code false} if the indexed text was already identical
+   */
+  boolean upsert(UUID id, String name, String category, String description) {
+    int hash = Objects.hash(name, category, description);
+    Map<String, Integer> frequencies = new HashMap<>();
+    int length =
+        addTerms(frequencies, name, NAME_WEIGHT)
+            + addTerms(frequencies, category, CATEGORY_WEIGHT)
+            + addTerms(frequencies, description, DESCRIPTION_WEIGHT);
+
+    lock.writeLock().lock();
+    try {
+      int slot = slotOf(id.getMostSignificantBits(), id.getLeastSignificantBits());
+      int current = slots[slot];
+      if (current != EMPTY && !deleted.get(current)) {
+        if (contentHash[current] == hash) {
+          return false;
+        }
+        tombstone(current);
+      }
+      slots[slot] = append(id, hash, length, frequencies);
+      if (current == EMPTY && ++usedSlots * 2 > slots.length) {
+        rehash(slots.length * 2);
+      }
+      return true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Removes a product from the results.
+   *
+   * @return {@code false} if it was not indexed
+   */
+  boolean remove(UUID id) {
+    lock.writeLock().lock();
+    try {
+      int doc = slots[slotOf(id.getMostSignificantBits(), id.getLeastSignificantBits())];
+      if (doc == EMPTY || deleted.get(doc)) {
+        return false;
+      }
+      tombstone(doc);
+      return true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Ranks the products matching any term of the query and returns the requested slice, best match
+   * first. Equal scores rank the more recently indexed product first.
+   */
+  Hits search(String query, int offset, int limit) {
+    List<String> terms = List.copyOf(new LinkedHashSet<>(Tokenizer.tokenize(query)));
+    if (terms.isEmpty()) {
+      return Hits.NONE;
+    }
+
+    lock.readLock().lock();
+    Scratch scratch = acquireScratch();
+    try {
+      if (liveDocs == 0) {
+        return Hits.NONE;
+      }
+      scratch.ensureCapacity(maxDoc);
+      float averageLength = Math.max(1f, (float) liveLength / liveDocs);
+      for (String term : terms) {
+        Postings list = postings.get(term);
+        if (list != null) {
+          score(list, idf(list.docFreq), averageLength, scratch);
+        }
+      }
+
+      int total = scratch.touchedCount;
+      int window = (int) Math.min((long) offset + limit, total);
+      if (offset >= window) {
+        return new Hits(total, List.of());
+      }
+      int[] ranked = topK(scratch, window);
+      List<UUID> ids = new ArrayList<>(window - offset);
+      for (int i = offset; i < window; i++) {
+        ids.add(new UUID(idHigh[ranked[i]], idLow[ranked[i]]));
+      }
+      return new Hits(total, ids);
+    } finally {
+      releaseScratch(scratch);
+      lock.readLock().unlock();
+    }
+  }
+
+  /** Number of products currently searchable. */
+  int size() {
+    lock.readLock().lock();
+    try {
+      return liveDocs;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** Number of replaced or removed documents still occupying space until the next rebuild. */
+  int deletedDocs() {
+    lock.readLock().lock();
+    try {
+      return maxDoc - liveDocs;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  int termCount() {
+    lock.readLock().lock();
+    try {
+      return postings.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** Approximate heap held by the index, for the memory gauge. */
+  long estimatedBytes() {
+    lock.readLock().lock();
+    try {
+      long bytes =
+          idHigh.length * 16L
+              + docLength.length * 4L
+              + contentHash.length * 4L
+              + slots.length * 4L
+              + deleted.size() / 8;
+      for (Map.Entry<String, Postings> entry : postings.entrySet()) {
+        bytes += TERM_OVERHEAD_BYTES + entry.getKey().length() + entry.getValue().data.length;
+      }
+      return bytes;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** Releases the spare capacity left by growing the arrays, after a bulk build. */
+  void trimToSize() {
+    lock.writeLock().lock();
+    try {
+      for (Postings list : postings.values()) {
+        list.data = Arrays.copyOf(list.data, list.size);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private static int addTerms(Map<String, Integer> frequencies, String text, int weight) {
+    int[] length = {0};
+    Tokenizer.forEachTerm(
+        text,
+        term -> {
+          frequencies.merge(term, weight, Integer::sum);
+          length[0] += weight;
+        });
+    return length[0];
+  }
+
+  private int append(UUID id, int hash, int length, Map<String, Integer> frequencies) {
+    int doc = maxDoc++;
+    if (doc == idHigh.length) {
+      int capacity = idHigh.length * 2;
+      idHigh = Arrays.copyOf(idHigh, capacity);
+      idLow = Arrays.copyOf(idLow, capacity);
+      docLength = Arrays.copyOf(docLength, capacity);
+      contentHash = Arrays.copyOf(contentHash, capacity);
+    }
+    idHigh[doc] = id.getMostSignificantBits();
+    idLow[doc] = id.getLeastSignificantBits();
+    docLength[doc] = length;
+    contentHash[doc] = hash;
+    for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+      postings.computeIfAbsent(entry.getKey(), term -> new Postings()).add(doc, entry.getValue());
+    }
+    liveDocs++;
+    liveLength += length;
+    return doc;
+  }
+
+  private void tombstone(int doc) {
+    deleted.set(doc);
+    liveDocs--;
+    liveLength -= docLength[doc];
+  }
+
+  private float idf(int docFreq) {
+    // The document frequency still counts tombstones, so keep the weight positive.
+    double idf = Math.log(1 + (liveDocs - docFreq + 0.5) / (docFreq + 0.5));
+    return (float) Math.max(idf, 1e-6);
+  }
+
+  private void score(Postings list, float idf, float averageLength, Scratch scratch) {
+    byte[] data = list.data;
+    float[] scores = scratch.scores;
+    int position = 0;
+    int doc = 0;
+    while (position < list.size) {
+      int gap = 0;
+      int shift = 0;
+      byte b;
+      do {
+        b = data[position++];
+        gap |= (b & 0x7F) << shift;
+        shift += 7;
+      } while (b < 0);
+      int frequency = 0;
+      shift = 0;
+      do {
+        b = data[position++];
+        frequency |= (b & 0x7F) << shift;
+        shift += 7;
+      } while (b < 0);
+      doc += gap;
+
+      if (deleted.get(doc)) {
+        continue;
+      }
+      float norm = K1 * (1 - B + B * docLength[doc] / averageLength);
+      if (scores[doc] == 0f) {
+        scratch.touch(doc);
+      }
+      scores[doc] += idf * frequency * (K1 + 1) / (frequency + norm);
+    }
+  }
+
+  /** Selects the best {@code k} matches with a min-heap, then sorts them best first in place. */
+  private static int[] topK(Scratch scratch, int k) {
+    float[] scores = scratch.scores;
+    int[] heap = new int[k];
+    int size = 0;
+    for (int i = 0; i < scratch.touchedCount; i++) {
+      int doc = scratch.touched[i];
+      if (size < k) {
+        heap[size] = doc;
+        siftUp(heap, size++, scores);
+      } else if (better(doc, heap[0], scores)) {
+        heap[0] = doc;
+        siftDown(heap, 0, size, scores);
+      }
+    }
+    for (int end = size - 1; end > 0; end--) {
+      int worst = heap[0];
+      heap[0] = heap[end];
+      heap[end] = worst;
+      siftDown(heap, 0, end, scores);
+    }
+    return heap;
+  }
+
+  private static boolean better(int a, int b, float[] scores) {
+    return scores[a] > scores[b] || scores[a] == scores[b] && a > b;
+  }
+
+  private static void siftUp(int[] heap, int index, float[] scores) {
+    while (index > 0) {
+      int parent = (index - 1) >>> 1;
+      if (!better(heap[parent], heap[index], scores)) {
+        return;
+      }
+      swap(heap, parent, index);
+      index = parent;
+    }
+  }
+
+  private static void siftDown(int[] heap, int index, int size, float[] scores) {
+    while (true) {
+      int child = 2 * index + 1;
+      if (child >= size) {
+        return;
+      }
+      if (child + 1 < size && better(heap[child], heap[child + 1], scores)) {
+        child++;
+      }
+      if (!better(heap[index], heap[child], scores)) {
+        return;
+      }
+      swap(heap, index, child);
+      index = child;
+    }
+  }
+
+  private static void swap(int[] heap, int i, int j) {
+    int tmp = heap[i];
+    heap[i] = heap[j];
+    heap[j] = tmp;
+  }
+
+  /** Open addressing from product ID to its live (or latest tombstoned) document. */
+  private int slotOf(long high, long low) {
+    int mask = slots.length - 1;
+    int slot = mix(high ^ low) & mask;
+    while (true) {
+      int doc = slots[slot];
+      if (doc == EMPTY || idHigh[doc] == high && idLow[doc] == low) {
+        return slot;
+      }
+      slot = (slot + 1) & mask;
+    }
+  }
+
+  private void rehash(int capacity) {
+    int[] old = slots;
+    slots = newSlots(capacity);
+    for (int doc : old) {
+      if (doc != EMPTY) {
+        slots[slotOf(idHigh[doc], idLow[doc])] = doc;
+      }
+    }
+  }
+
+  private static int[] newSlots(int capacity) {
+    int[] slots = new int[capacity];
+    Arrays.fill(slots, EMPTY);
+    return slots;
+  }
+
+  private static int mix(long hash) {
+    int h = (int) (hash ^ (hash >>> 32));
+    return h * 0x9E3779B9;
+  }
+
+  /**
+   * Score buffers are as large as the index, so a few are pooled instead of one per request thread;
+   * a burst beyond the pool allocates buffers that are simply dropped afterwards.
+   */
+  private Scratch acquireScratch() {
+    Scratch scratch = scratchPool.poll();
+    return scratch != null ? scratch : new Scratch();
+  }
+
+  private void releaseScratch(Scratch scratch) {
+    scratch.reset();
+    if (scratchPool.size() < maxPooledScratch) {
+      scratchPool.offer(scratch);
+    }
+  }
+
+  /** Varint-encoded (document gap, frequency) pairs in ascending document order. */
+  private static final class Postings {
+    byte[] data = new byte[8];
+    int size;
+    int lastDoc;
+    int docFreq;
+
+    void add(int doc, int frequency) {
+      if (data.length - size < 10) {
+        data = Arrays.copyOf(data, Math.max(size + 10, size + (size >> 1)));
+      }
+      write(doc - lastDoc);
+      write(frequency);
+      lastDoc = doc;
+      docFreq++;
+    }
+
+    private void write(int value) {
+      while ((value & ~0x7F) != 0) {
+        data[size++] = (byte) (value | 0x80);
+        value >>>= 7;
+      }
+      data[size++] = (byte) value;
+    }
+  }
+
+  /** Per-search score accumulator and the list of documents it touched. */
+  private static final class Scratch {
+    float[] scores = new float[0];
+    int[] touched = new int[256];
+    int touchedCount;
+
+    void ensureCapacity(int docs) {
+      if (scores.length < docs) {
+        scores = new float[docs + (docs >> 3)];
+      }
+    }
+
+    void touch(int doc) {
+      if (touchedCount == touched.length) {
+        touched = Arrays.copyOf(touched, touchedCount * 2);
+      }
+      touched[touchedCount++] = doc;
+    }
+
+    void reset() {
+      for (int i = 0; i < touchedCount; i++) {
+        scores[touched[i]] = 0f;
+      }
+      touchedCount = 0;
+    }
+  }
+}
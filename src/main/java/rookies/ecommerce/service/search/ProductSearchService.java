@@ -0,0 +1,205 @@
+package rookies.ecommerce.service.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import rookies.ecommerce.dto.event.ProductChangedEvent;
+import rookies.ecommerce.dto.response.product.ProductListItem;
+import rookies.ecommerce.dto.response.product.ProductSearchDocument;
+import rookies.ecommerce.exception.AppException;
+import rookies.ecommerce.exception.ErrorCode;
+import rookies.ecommerce.repository.ProductRepository;
+
+/**
+ * Full-text product search backed by an in-memory {@link ProductSearchIndex}.
+ *
+ * <p>The index is built from the database shortly after startup and rebuilt nightly, or sooner once
+ * too many tombstones pile up. Between builds it is kept current two ways: products changed through
+ * this instance are re-indexed as soon as their transaction commits, and a short poll re-reads rows
+ * whose {@code updated_at} moved since the previous pass, which picks up bulk imports and writes
+ * made by other instances. Searches return nothing until the first build completes.
+ *
+ * <p>Only the ranked IDs come from the index; the page itself is loaded from the database, so
+ * prices and stock are never stale.
+ */
+@Slf4j
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ProductSearchService implements IProductSearchService {
+  final ProductRepository productRepository;
+  final TransactionTemplate transactionTemplate;
+  final Object refreshLock = new Object();
+
+  volatile ProductSearchIndex index = new ProductSearchIndex();
+  volatile boolean ready;
+  LocalDateTime watermark;
+
+  @Value("${app.search.max-result-window:1000}")
+  int maxResultWindow;
+
+  @Value("${app.search.catch-up-overlap-ms:60000}")
+  long catchUpOverlapMs;
+
+  @Value("${app.search.max-deleted-ratio:0.25}")
+  double maxDeletedRatio;
+
+  public ProductSearchService(
+      ProductRepository productRepository,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry) {
+    this.productRepository = productRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+
+    Gauge.builder("search.index.documents", this, service -> service.index.size())
+        .description("Products in the search index")
+        .register(meterRegistry);
+    Gauge.builder("search.index.memory", this, service -> service.index.estimatedBytes())
+        .description("Estimated heap held by the search index")
+        .baseUnit("bytes")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Searches the index and loads the matching page. Results past {@code max-result-window} are not
+   * ranked, so the reported total is capped there as well.
+   */
+  @Override
+  public Page<ProductListItem> search(String query, int page, int size) {
+    if (query == null || query.isBlank()) {
+      throw new AppException(ErrorCode.SEARCH_QUERY_REQUIRED, HttpStatus.BAD_REQUEST);
+    }
+    PageRequest pageable = PageRequest.of(page, size);
+    int offset = (int) Math.min(pageable.getOffset(), maxResultWindow);
+    int limit = Math.min(size, maxResultWindow - offset);
+
+    ProductSearchIndex.Hits hits = index.search(query, offset, limit);
+    long total = Math.min(hits.total(), maxResultWindow);
+    return new PageImpl<>(RankedProducts.load(productRepository, hits.ids()), pageable, total);
+  }
+
+  /**
+   * Re-indexes a product changed on this instance once its transaction has committed. A failure
+   * here only delays the change until the next refresh, so it is logged rather than propagated to
+   * the request that made it.
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onProductChanged(ProductChangedEvent event) {
+    if (!ready) {
+      return;
+    }
+    ProductSearchIndex current = index;
+    try {
+      productRepository
+          .findSearchDocumentById(event.getProductId())
+          .ifPresentOrElse(
+              document -> apply(current, document), () -> current.remove(event.getProductId()));
+    } catch (RuntimeException e) {
+      log.warn("Failed to re-index product {}", event.getProductId(), e);
+    }
+  }
+
+  /** Builds the index on the first run, then catches up with recent changes. */
+  @Scheduled(fixedDelayString = "${app.search.refresh-interval-ms:5000}")
+  public void refresh() {
+    synchronized (refreshLock) {
+      ProductSearchIndex current = index;
+      if (watermark == null
+          || current.deletedDocs() > maxDeletedRatio * Math.max(current.size(), 1)) {
+        rebuild();
+      } else {
+        catchUp();
+      }
+    }
+  }
+
+  /** Rebuilds from scratch, which also drops the tombstones left by updates. */
+  @Scheduled(cron = "${app.search.rebuild-cron:0 0 4 * * *}")
+  public void scheduledRebuild() {
+    synchronized (refreshLock) {
+      rebuild();
+    }
+  }
+
+  /**
+   * Builds a fresh index off to the side and swaps it in. Changes that commit during the build may
+   * be missed by both the stream and the event listener, so the watermark is set to the start of
+   * the build and the next catch-up re-reads them.
+   */
+  void rebuild() {
+    long started = System.nanoTime();
+    LocalDateTime buildStart = LocalDateTime.now();
+    ProductSearchIndex fresh = new ProductSearchIndex();
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          try (Stream<ProductSearchDocument> documents =
+              productRepository.streamAllActiveForSearch()) {
+            documents.forEach(document -> apply(fresh, document));
+          }
+        });
+    fresh.trimToSize();
+
+    index = fresh;
+    watermark = buildStart;
+    ready = true;
+    log.info(
+        "Search index built: {} products, {} terms, ~{} MB in {} ms",
+        fresh.size(),
+        fresh.termCount(),
+        fresh.estimatedBytes() >> 20,
+        Duration.ofNanos(System.nanoTime() - started).toMillis());
+  }
+
+  /**
+   * Applies products updated since the watermark, less an overlap for clock skew between instances
+   * and for transactions that committed after a later one. Re-reading unchanged rows is cheap
+   * because the index skips identical text.
+   */
+  void catchUp() {
+    ProductSearchIndex current = index;
+    LocalDateTime since = watermark.minus(Duration.ofMillis(catchUpOverlapMs));
+    LocalDateTime latest =
+        transactionTemplate.execute(
+            status -> {
+              LocalDateTime seen = watermark;
+              try (Stream<ProductSearchDocument> documents =
+                  productRepository.streamSearchDocumentsUpdatedSince(since)) {
+                Iterator<ProductSearchDocument> iterator = documents.iterator();
+                while (iterator.hasNext()) {
+                  ProductSearchDocument document = iterator.next();
+                  apply(current, document);
+                  if (document.getUpdatedAt() != null && document.getUpdatedAt().isAfter(seen)) {
+                    seen = document.getUpdatedAt();
+                  }
+                }
+              }
+              return seen;
+            });
+    watermark = latest;
+  }
+
+  private static void apply(ProductSearchIndex index, ProductSearchDocument document) {
+    if (document.isDeleted()) {
+      index.remove(document.getId());
+    } else {
+      index.upsert(
+          document.getId(), document.getName(), document.getCategory(), document.getDescription());
+    }
+  }
+}
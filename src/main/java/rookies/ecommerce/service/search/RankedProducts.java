@@ -0,0 +1,36 @@
+package rookies.ecommerce.service.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import rookies.ecommerce.dto.response.product.ProductListItem;
+import rookies.ecommerce.repository.ProductRepository;
+
+/** Loads the listing view of products picked by an in-memory index, keeping the index's order. */
+final class RankedProducts {
+  private RankedProducts() {}
+
+  /**
+   * Loads the products in one query and returns them in the order of {@code ids}. Products that
+   * were deleted after the index picked them are left out.
+   */
+  static List<ProductListItem> load(ProductRepository productRepository, List<UUID> ids) {
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+    Map<UUID, ProductListItem> products =
+        productRepository.findAllActiveByIdIn(ids).stream()
+            .collect(Collectors.toMap(ProductListItem::id, Function.identity()));
+    List<ProductListItem> ranked = new ArrayList<>(ids.size());
+    for (UUID id : ids) {
+      ProductListItem product = products.get(id);
+      if (product != null) {
+        ranked.add(product);
+      }
+    }
+    return ranked;
+  }
+}
@@ -0,0 +1,117 @@
+package rookies.ecommerce.service.search;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import rookies.ecommerce.dto.projection.product.IProductUnitsSoldProjection;
+import rookies.ecommerce.dto.response.product.ProductSuggestionSource;
+import rookies.ecommerce.dto.response.search.SuggestionResponse;
+import rookies.ecommerce.repository.DailyProductSalesRepository;
+import rookies.ecommerce.repository.ProductRepository;
+
+/**
+ * Serves typeahead suggestions from a {@link SuggestionTrie} that is rebuilt on a fixed delay and
+ * swapped in whole, so lookups never wait on a build and never see a half-built trie.
+ *
+ * <p>A product is as popular as the units it sold over the last {@code popularity-days} days, plus
+ * one so unsold products still rank by name, and a category as popular as all its products
+ * together. Suggestions lag catalog changes by at most one rebuild interval.
+ */
+@Slf4j
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SuggestionService implements ISuggestionService {
+  final ProductRepository productRepository;
+  final DailyProductSalesRepository dailyProductSalesRepository;
+  final TransactionTemplate transactionTemplate;
+
+  volatile SuggestionTrie trie = SuggestionTrie.EMPTY;
+
+  @Value("${app.suggest.max-results:10}")
+  int maxResults;
+
+  @Value("${app.suggest.popularity-days:30}")
+  int popularityDays;
+
+  public SuggestionService(
+      ProductRepository productRepository,
+      DailyProductSalesRepository dailyProductSalesRepository,
+      PlatformTransactionManager transactionManager) {
+    this.productRepository = productRepository;
+    this.dailyProductSalesRepository = dailyProductSalesRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setReadOnly(true);
+  }
+
+  @Override
+  public List<SuggestionResponse> suggest(String prefix, int limit) {
+    if (prefix == null || prefix.isBlank()) {
+      return List.of();
+    }
+    return trie.suggest(prefix, Math.min(limit, maxResults)).stream()
+        .map(
+            suggestion ->
+                SuggestionResponse.builder()
+                    .type(suggestion.type())
+                    .id(suggestion.id())
+                    .text(suggestion.text())
+                    .build())
+        .toList();
+  }
+
+  /** Builds a new trie from the catalog and recent sales, then swaps it in. */
+  @Scheduled(fixedDelayString = "${app.suggest.rebuild-interval-ms:300000}")
+  public void rebuild() {
+    long started = System.nanoTime();
+    SuggestionTrie.Builder builder = SuggestionTrie.builder(maxResults);
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          Map<UUID, Long> unitsSold =
+              dailyProductSalesRepository
+                  .sumUnitsSoldSince(LocalDate.now().minusDays(popularityDays))
+                  .stream()
+                  .collect(
+                      Collectors.toMap(
+                          IProductUnitsSoldProjection::getProductId,
+                          IProductUnitsSoldProjection::getUnitsSold));
+          Map<UUID, Long> categoryWeights = new HashMap<>();
+          Map<UUID, String> categoryNames = new HashMap<>();
+          try (Stream<ProductSuggestionSource> products =
+              productRepository.streamAllActiveForSuggestions()) {
+            products.forEach(
+                product -> {
+                  long weight = 1 + unitsSold.getOrDefault(product.getId(), 0L);
+                  builder.add(
+                      SuggestionResponse.Type.PRODUCT, product.getId(), product.getName(), weight);
+                  categoryWeights.merge(product.getCategoryId(), weight, Long::sum);
+                  categoryNames.putIfAbsent(product.getCategoryId(), product.getCategory());
+                });
+          }
+          categoryWeights.forEach(
+              (id, weight) ->
+                  builder.add(SuggestionResponse.Type.CATEGORY, id, categoryNames.get(id), weight));
+        });
+
+    SuggestionTrie built = builder.build();
+    trie = built;
+    log.debug(
+        "Suggestion trie rebuilt: {} suggestions, {} nodes, ~{} KB in {} ms",
+        built.size(),
+        built.nodeCount(),
+        built.estimatedBytes() >> 10,
+        Duration.ofNanos(System.nanoTime() - started).toMillis());
+  }
+}
@@ -0,0 +1,397 @@
+package rookies.ecommerce.service.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import rookies.ecommerce.dto.response.search.SuggestionResponse;
+
+/**
+ * Immutable radix trie from normalized name prefixes to the most popular matching suggestions.
+ *
+ * <p>Each suggestion is keyed by its whole name and by the suffixes starting at its next few words,
+ * so "cake" also finds "Chocolate Cake". Edges are labelled with runs of characters in one shared
+ * array, and the children of a node are stored next to each other in label order, so a lookup
+ * binary-searches one level per edge. Suggestions are numbered by rank, most popular first, so the
+ * best matches under a node are simply its smallest distinct suggestion numbers.
+ *
+ * <p>Since keys are inserted in sorted order, a node's subtree covers a contiguous range of keys.
+ * Small subtrees are ranked by scanning that range at lookup time; larger ones keep their top
+ * suggestions precomputed, which bounds every lookup by the prefix length rather than by the number
+ * of matches.
+ */
+final class SuggestionTrie {
+  static final int MAX_KEY_LENGTH = 64;
+  static final int MAX_KEY_WORDS = 4;
+
+  /** Subtrees with at most this many keys are ranked by scanning instead of storing a list. */
+  static final int SCAN_LIMIT = 64;
+
+  static final SuggestionTrie EMPTY = new Builder(0).build();
+
+  private final SuggestionResponse.Type[] types;
+  private final UUID[] ids;
+  private final String[] texts;
+  private final int maxResults;
+
+  private final int[] keyEntries;
+  private final char[] labels;
+  private final int[] labelStart;
+  private final int[] labelLength;
+  private final int[] firstChild;
+  private final int[] childCount;
+  private final int[] rangeStart;
+  private final int[] rangeEnd;
+
+  /** Offset of the node's precomputed list in {@link #topLists}, stored as length then entries. */
+  private final int[] topStart;
+
+  private final int[] topLists;
+  private final int nodeCount;
+
+  /** One ranked suggestion. */
+  record Suggestion(SuggestionResponse.Type type, UUID id, String text) {}
+
+  private SuggestionTrie(Builder builder, List<Candidate> ranked, List<Key> keys) {
+    int entries = ranked.size();
+    this.types = new SuggestionResponse.Type[entries];
+    this.ids = new UUID[entries];
+    this.texts = new String[entries];
+    for (int i = 0; i < entries; i++) {
+      Candidate candidate = ranked.get(i);
+      types[i] = candidate.type();
+      ids[i] = candidate.id();
+      texts[i] = candidate.text();
+    }
+    this.maxResults = builder.maxResults;
+
+    this.keyEntries = new int[keys.size()];
+    for (int i = 0; i < keyEntries.length; i++) {
+      keyEntries[i] = keys.get(i).entry();
+    }
+
+    Layout layout = new Layout(keys, Math.max(1, 2 * keys.size()));
+    if (!keys.isEmpty()) {
+      layout.nodeCount = 1;
+      layout.fill(this, 0, 0, keys.size(), 0);
+    }
+    this.nodeCount = layout.nodeCount;
+    this.labels = layout.labels.toString().toCharArray();
+    this.labelStart = Arrays.copyOf(layout.labelStart, nodeCount);
+    this.labelLength = Arrays.copyOf(layout.labelLength, nodeCount);
+    this.firstChild = Arrays.copyOf(layout.firstChild, nodeCount);
+    this.childCount = Arrays.copyOf(layout.childCount, nodeCount);
+    this.rangeStart = Arrays.copyOf(layout.rangeStart, nodeCount);
+    this.rangeEnd = Arrays.copyOf(layout.rangeEnd, nodeCount);
+    this.topStart = Arrays.copyOf(layout.topStart, nodeCount);
+    this.topLists = Arrays.copyOf(layout.topLists, layout.topSize);
+  }
+
+  static Builder builder(int maxResults) {
+    return new Builder(maxResults);
+  }
+
+  /**
+   * Returns up to {@code limit} suggestions whose name, or one of its later words, starts with the
+   * prefix, most popular first.
+   */
+  List<Suggestion> suggest(String prefix, int limit) {
+    String key = normalizePrefix(prefix);
+    if (key.isEmpty() || nodeCount == 0 || limit <= 0) {
+      return List.of();
+    }
+    int node = 0;
+    int position = 0;
+    while (true) {
+      int start = labelStart[node];
+      int matched = Math.min(labelLength[node], key.length() - position);
+      for (int i = 0; i < matched; i++) {
+        if (labels[start + i] != key.charAt(position + i)) {
+          return List.of();
+        }
+      }
+      position += matched;
+      if (position == key.length()) {
+        break;
+      }
+      node = child(node, key.charAt(position));
+      if (node < 0) {
+        return List.of();
+      }
+    }
+
+    int[] entries = top(node, Math.min(limit, maxResults));
+    List<Suggestion> suggestions = new ArrayList<>(entries.length);
+    for (int entry : entries) {
+      suggestions.add(new Suggestion(types[entry], ids[entry], texts[entry]));
+    }
+    return suggestions;
+  }
+
+  int size() {
+    return texts.length;
+  }
+
+  int nodeCount() {
+    return nodeCount;
+  }
+
+  /** Approximate heap held by the trie, excluding the suggestion strings themselves. */
+  long estimatedBytes() {
+    return labels.length * 2L
+        + nodeCount * 7L * Integer.BYTES
+        + keyEntries.length * (long) Integer.BYTES
+        + topLists.length * (long) Integer.BYTES
+        + texts.length * 40L;
+  }
+
+  private int child(int node, char c) {
+    int low = firstChild[node];
+    int high = low + childCount[node] - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      char first = labels[labelStart[mid]];
+      if (first < c) {
+        low = mid + 1;
+      } else if (first > c) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -1;
+  }
+
+  private int[] top(int node, int limit) {
+    int stored = topStart[node];
+    if (stored >= 0) {
+      int length = Math.min(limit, topLists[stored]);
+      return Arrays.copyOfRange(topLists, stored + 1, stored + 1 + length);
+    }
+    return best(Arrays.copyOfRange(keyEntries, rangeStart[node], rangeEnd[node]), limit);
+  }
+
+  /** The {@code limit} smallest distinct entry numbers, i.e. the best ranked suggestions. */
+  private static int[] best(int[] entries, int limit) {
+    Arrays.sort(entries);
+    int distinct = 0;
+    for (int i = 0; i < entries.length && distinct < limit; i++) {
+      if (distinct == 0 || entries[i] != entries[distinct - 1]) {
+        entries[distinct++] = entries[i];
+      }
+    }
+    return Arrays.copyOf(entries, distinct);
+  }
+
+  /** Lower-cases, folds accents and collapses everything but letters and digits to one space. */
+  static String normalize(String text) {
+    if (text == null) {
+      return "";
+    }
+    String folded = Tokenizer.fold(text);
+    StringBuilder normalized = new StringBuilder(folded.length());
+    boolean pendingSpace = false;
+    for (int i = 0; i < folded.length(); i++) {
+      char c = folded.charAt(i);
+      if (Character.isLetterOrDigit(c)) {
+        if (pendingSpace && !normalized.isEmpty()) {
+          normalized.append(' ');
+        }
+        pendingSpace = false;
+        normalized.append(c);
+      } else {
+        pendingSpace = true;
+      }
+    }
+    return normalized.toString();
+  }
+
+  /** Like {@link #normalize}, but keeps a trailing separator so "lemon " skips "lemonade". */
+  private static String normalizePrefix(String prefix) {
+    String key = normalize(prefix);
+    if (!key.isEmpty() && !Character.isLetterOrDigit(prefix.charAt(prefix.length() - 1))) {
+      key += ' ';
+    }
+    return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+  }
+
+  private static Set<String> keysOf(String normalized) {
+    Set<String> keys = new LinkedHashSet<>();
+    int start = 0;
+    for (int word = 0; word < MAX_KEY_WORDS && start >= 0; word++) {
+      keys.add(normalized.substring(start, Math.min(normalized.length(), start + MAX_KEY_LENGTH)));
+      int space = normalized.indexOf(' ', start);
+      start = space < 0 ? -1 : space + 1;
+    }
+    return keys;
+  }
+
+  private record Candidate(
+      SuggestionResponse.Type type, UUID id, String text, String normalized, long weight) {}
+
+  private record Key(String key, int entry) {}
+
+  /**
+   * Collects suggestions for one build. Suggestions of the same type whose names normalize to the
+   * same text are merged: their popularity is summed and the most popular one's ID is kept.
+   */
+  static final class Builder {
+    private final int maxResults;
+    private final Map<String, Candidate> candidates = new HashMap<>();
+
+    private Builder(int maxResults) {
+      this.maxResults = maxResults;
+    }
+
+    Builder add(SuggestionResponse.Type type, UUID id, String text, long weight) {
+      String normalized = normalize(text);
+      if (normalized.isEmpty()) {
+        return this;
+      }
+      Candidate candidate = new Candidate(type, id, text.strip(), normalized, weight);
+      candidates.merge(
+          type.name() + ':' + normalized,
+          candidate,
+          (current, added) -> {
+            Candidate winner = added.weight() > current.weight() ? added : current;
+            return new Candidate(
+                winner.type(),
+                winner.id(),
+                winner.text(),
+                winner.normalized(),
+                current.weight() + added.weight());
+          });
+      return this;
+    }
+
+    SuggestionTrie build() {
+      List<Candidate> ranked = new ArrayList<>(candidates.values());
+      ranked.sort(
+          Comparator.comparingLong(Candidate::weight)
+              .reversed()
+              .thenComparingInt(candidate -> candidate.normalized().length())
+              .thenComparing(Candidate::normalized)
+              .thenComparing(Candidate::type));
+
+      List<Key> keys = new ArrayList<>();
+      for (int entry = 0; entry < ranked.size(); entry++) {
+        for (String key : keysOf(ranked.get(entry).normalized())) {
+          keys.add(new Key(key, entry));
+        }
+      }
+      keys.sort(Comparator.comparing(Key::key).thenComparingInt(Key::entry));
+      return new SuggestionTrie(this, ranked, keys);
+    }
+  }
+
+  /** Growable node arrays used while laying out the trie. */
+  private static final class Layout {
+    final List<Key> keys;
+    final StringBuilder labels = new StringBuilder();
+    final int[] labelStart;
+    final int[] labelLength;
+    final int[] firstChild;
+    final int[] childCount;
+    final int[] rangeStart;
+    final int[] rangeEnd;
+    final int[] topStart;
+    int[] topLists = new int[1024];
+    int topSize;
+    int nodeCount;
+
+    Layout(List<Key> keys, int maxNodes) {
+      this.keys = keys;
+      this.labelStart = new int[maxNodes];
+      this.labelLength = new int[maxNodes];
+      this.firstChild = new int[maxNodes];
+      this.childCount = new int[maxNodes];
+      this.rangeStart = new int[maxNodes];
+      this.rangeEnd = new int[maxNodes];
+      this.topStart = new int[maxNodes];
+    }
+
+    /**
+     * Lays out the node for keys {@code [from, to)}, which all share their first {@code depth}
+     * characters. Children are allocated as one block before any of them is filled in.
+     */
+    void fill(SuggestionTrie trie, int node, int from, int to, int depth) {
+      String first = keys.get(from).key();
+      int end = to - from == 1 ? first.length() : commonPrefix(first, keys.get(to - 1).key());
+      labelStart[node] = labels.length();
+      labelLength[node] = end - depth;
+      labels.append(first, depth, end);
+      rangeStart[node] = from;
+      rangeEnd[node] = to;
+
+      int terminals = from;
+      while (terminals < to && keys.get(terminals).key().length() == end) {
+        terminals++;
+      }
+      List<int[]> groups = new ArrayList<>();
+      for (int i = terminals; i < to; ) {
+        char c = keys.get(i).key().charAt(end);
+        int j = i + 1;
+        while (j < to && keys.get(j).key().charAt(end) == c) {
+          j++;
+        }
+        groups.add(new int[] {i, j});
+        i = j;
+      }
+
+      firstChild[node] = nodeCount;
+      childCount[node] = groups.size();
+      nodeCount += groups.size();
+      for (int g = 0; g < groups.size(); g++) {
+        fill(trie, firstChild[node] + g, groups.get(g)[0], groups.get(g)[1], end);
+      }
+
+      topStart[node] = -1;
+      if (to - from > SCAN_LIMIT) {
+        storeTop(trie, node, from, terminals);
+      }
+    }
+
+    /** Merges the node's own keys with its children's best suggestions. */
+    private void storeTop(SuggestionTrie trie, int node, int from, int terminals) {
+      int limit = trie.maxResults;
+      int[] candidates = new int[terminals - from + childCount[node] * limit];
+      int size = 0;
+      for (int i = from; i < terminals; i++) {
+        candidates[size++] = keys.get(i).entry();
+      }
+      for (int child = firstChild[node]; child < firstChild[node] + childCount[node]; child++) {
+        int stored = topStart[child];
+        int[] best =
+            stored >= 0
+                ? Arrays.copyOfRange(topLists, stored + 1, stored + 1 + topLists[stored])
+                : best(
+                    Arrays.copyOfRange(trie.keyEntries, rangeStart[child], rangeEnd[child]), limit);
+        System.arraycopy(best, 0, candidates, size, best.length);
+        size += best.length;
+      }
+      int[] top = best(Arrays.copyOf(candidates, size), limit);
+
+      if (topSize + top.length + 1 > topLists.length) {
+        topLists = Arrays.copyOf(topLists, Math.max(topLists.length * 2, topSize + top.length + 1));
+      }
+      topStart[node] = topSize;
+      topLists[topSize++] = top.length;
+      System.arraycopy(top, 0, topLists, topSize, top.length);
+      topSize += top.length;
+    }
+
+    private static int commonPrefix(String a, String b) {
+      int length = Math.min(a.length(), b.length());
+      int i = 0;
+      while (i < length && a.charAt(i) == b.charAt(i)) {
+        i++;
+      }
+      return i;
+    }
+  }
+}
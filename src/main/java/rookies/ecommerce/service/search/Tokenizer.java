@@ -0,0 +1,81 @@
+package rookies.ecommerce.service.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Splits product text into search terms.
+ *
+ * <p>Text is lower-cased and folded to ASCII, so accented Vietnamese names also match their
+ * unaccented spelling, then split on anything that is not a letter or digit. Single letters and a
+ * handful of English stop words are dropped, and a trailing plural "s" is stripped so "cakes" finds
+ * "cake".
+ */
+final class Tokenizer {
+  static final int MAX_TERM_LENGTH = 40;
+
+  private static final Set<String> STOP_WORDS =
+      Set.of(
+          "a", "an", "and", "are", "as", "at", "by", "for", "from", "in", "is", "of", "on", "or",
+          "the", "to", "with");
+
+  private Tokenizer() {}
+
+  static List<String> tokenize(String text) {
+    List<String> terms = new ArrayList<>();
+    forEachTerm(text, terms::add);
+    return terms;
+  }
+
+  static void forEachTerm(String text, Consumer<String> action) {
+    if (text == null || text.isEmpty()) {
+      return;
+    }
+    String folded = fold(text);
+    int start = -1;
+    for (int i = 0; i <= folded.length(); i++) {
+      boolean wordChar = i < folded.length() && Character.isLetterOrDigit(folded.charAt(i));
+      if (wordChar && start < 0) {
+        start = i;
+      } else if (!wordChar && start >= 0) {
+        String term = normalize(folded.substring(start, Math.min(i, start + MAX_TERM_LENGTH)));
+        if (term != null) {
+          action.accept(term);
+        }
+        start = -1;
+      }
+    }
+  }
+
+  static String fold(String text) {
+    String decomposed = Normalizer.normalize(text.toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+    StringBuilder folded = new StringBuilder(decomposed.length());
+    for (int i = 0; i < decomposed.length(); i++) {
+      char c = decomposed.charAt(i);
+      if (Character.getType(c) == Character.NON_SPACING_MARK) {
+        continue;
+      }
+      // The Vietnamese d with stroke has no decomposition, so NFD leaves it alone.
+      folded.append(c == '\u0111' ? 'd' : c);
+    }
+    return folded.toString();
+  }
+
+  private static String normalize(String term) {
+    if (term.length() == 1 && !Character.isDigit(term.charAt(0)) || STOP_WORDS.contains(term)) {
+      return null;
+    }
+    if (term.length() > 3
+        && term.endsWith("s")
+        && !term.endsWith("ss")
+        && !term.endsWith("us")
+        && !term.endsWith("is")) {
+      return term.substring(0, term.length() - 1);
+    }
+    return term;
+  }
+}
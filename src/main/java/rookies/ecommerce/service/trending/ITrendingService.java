@@ -0,0 +1,24 @@
+package rookies.ecommerce.service.trending;
+
+import java.util.List;
+import java.util.UUID;
+import rookies.ecommerce.dto.response.product.TrendingProductResponse;
+
+/** Interface for ranking products by their recent detail views */
+public interface ITrendingService {
+
+  /**
+   * Count a view of a product's detail page
+   *
+   * @param productId the ID of the viewed product
+   */
+  void recordView(UUID productId);
+
+  /**
+   * Get the most viewed products of the trending window
+   *
+   * @param limit the maximum number of products
+   * @return the products, most viewed first
+   */
+  List<TrendingProductResponse> getTrending(int limit);
+}
@@ -0,0 +1,140 @@
+package rookies.ecommerce.service.trending;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Product views over a sliding window of fixed-length time buckets.
+ *
+ * <p>Views are recorded without locks into one {@link LongAdder} per product, whose cells spread
+ * concurrent increments of a popular product over several counters. A single background thread
+ * drains them into the current bucket every few seconds, and the views of a bucket leave the window
+ * totals as it slides out, so the totals always cover the last {@code bucketCount} buckets.
+ */
+final class SlidingViewCounter {
+  private static final Comparator<Ranked> BY_VIEWS =
+      Comparator.comparingLong(Ranked::views).thenComparing(Ranked::productId);
+
+  private final ConcurrentHashMap<UUID, LongAdder> pending = new ConcurrentHashMap<>();
+  private final long bucketMillis;
+  private final Map<UUID, Long>[] buckets;
+  private final long[] bucketNumbers;
+  private final Map<UUID, Long> totals = new HashMap<>();
+
+  /** A product and its views over the window. */
+  record Ranked(UUID productId, long views) {}
+
+  @SuppressWarnings("unchecked")
+  SlidingViewCounter(long bucketMillis, int bucketCount) {
+    this.bucketMillis = bucketMillis;
+    this.buckets = new Map[bucketCount];
+    this.bucketNumbers = new long[bucketCount];
+    for (int slot = 0; slot < bucketCount; slot++) {
+      buckets[slot] = new HashMap<>();
+    }
+    Arrays.fill(bucketNumbers, -1);
+  }
+
+  /** Counts one view. Safe to call from any thread, and never blocks. */
+  void record(UUID productId) {
+    LongAdder views = pending.get(productId);
+    if (views == null) {
+      views = pending.computeIfAbsent(productId, id -> new LongAdder());
+    }
+    views.increment();
+  }
+
+  /**
+   * Moves the views recorded since the last drain into the bucket of {@code nowMillis}.
+   *
+   * <p>Counters that saw no views since the last drain are dropped to keep the map to recently
+   * viewed products. A view recorded at that very moment may be lost with its counter, which a
+   * popularity ranking can afford.
+   *
+   * @return the drained views per product, for persisting
+   */
+  synchronized Map<UUID, Long> drain(long nowMillis) {
+    long bucket = bucketOf(nowMillis);
+    slide(bucket);
+    Map<UUID, Long> drained = new HashMap<>();
+    Iterator<Map.Entry<UUID, LongAdder>> entries = pending.entrySet().iterator();
+    while (entries.hasNext()) {
+      Map.Entry<UUID, LongAdder> entry = entries.next();
+      long views = entry.getValue().sumThenReset();
+      if (views == 0) {
+        pending.remove(entry.getKey(), entry.getValue());
+      } else {
+        drained.put(entry.getKey(), views);
+        add(bucket, entry.getKey(), views);
+      }
+    }
+    return drained;
+  }
+
+  /** Adds views persisted earlier, ignoring those of buckets that have left the window. */
+  synchronized void restore(long nowMillis, long bucketStartMillis, UUID productId, long views) {
+    long current = bucketOf(nowMillis);
+    slide(current);
+    long bucket = bucketOf(bucketStartMillis);
+    if (bucket > current - buckets.length && bucket <= current) {
+      add(bucket, productId, views);
+    }
+  }
+
+  /** Returns the {@code k} most viewed products over the window, most viewed first. */
+  synchronized List<Ranked> top(int k) {
+    PriorityQueue<Ranked> heap = new PriorityQueue<>(k + 1, BY_VIEWS);
+    for (Map.Entry<UUID, Long> entry : totals.entrySet()) {
+      Ranked candidate = new Ranked(entry.getKey(), entry.getValue());
+      if (heap.size() < k) {
+        heap.add(candidate);
+      } else if (k > 0 && BY_VIEWS.compare(candidate, heap.peek()) > 0) {
+        heap.poll();
+        heap.add(candidate);
+      }
+    }
+    List<Ranked> ranked = new ArrayList<>(heap);
+    ranked.sort(BY_VIEWS.reversed());
+    return ranked;
+  }
+
+  /** The number of products viewed within the window. */
+  synchronized int size() {
+    return totals.size();
+  }
+
+  long bucketOf(long millis) {
+    return Math.floorDiv(millis, bucketMillis);
+  }
+
+  private void add(long bucket, UUID productId, long views) {
+    int slot = (int) Math.floorMod(bucket, (long) buckets.length);
+    bucketNumbers[slot] = bucket;
+    buckets[slot].merge(productId, views, Long::sum);
+    totals.merge(productId, views, Long::sum);
+  }
+
+  /** Expires the buckets that are no longer among the last {@code bucketCount} up to current. */
+  private void slide(long current) {
+    for (int slot = 0; slot < buckets.length; slot++) {
+      if (bucketNumbers[slot] != -1 && bucketNumbers[slot] <= current - buckets.length) {
+        for (Map.Entry<UUID, Long> expired : buckets[slot].entrySet()) {
+          long expiredViews = expired.getValue();
+          totals.computeIfPresent(
+              expired.getKey(), (id, views) -> views == expiredViews ? null : views - expiredViews);
+        }
+        buckets[slot].clear();
+        bucketNumbers[slot] = -1;
+      }
+    }
+  }
+}
@@ -0,0 +1,208 @@
+package rookies.ecommerce.service.trending;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import rookies.ecommerce.dto.event.ProductChangedEvent;
+import rookies.ecommerce.dto.response.product.ProductListItem;
+import rookies.ecommerce.dto.response.product.TrendingProductResponse;
+import rookies.ecommerce.entity.ProductViewBucket;
+import rookies.ecommerce.repository.ProductRepository;
+import rookies.ecommerce.repository.ProductViewBucketRepository;
+
+/**
+ * "Trending now" ranking from product detail views, served from memory.
+ *
+ * <p>Views go into a {@link SlidingViewCounter} without touching the database. Every {@code
+ * refresh-interval-ms} the counter is drained, the top products are picked with a bounded heap and
+ * their listing rows are loaded, so reads only return the last published list. Drained views are
+ * buffered per bucket and upserted in one transaction every {@code flush-interval-ms}, and the
+ * window is restored from those rows on start. Nothing is flushed until the restore has succeeded,
+ * since a later restore would read this instance's own views back on top of the counted ones. Each
+ * instance ranks the views it served itself on top of what was persisted when it started.
+ */
+@Slf4j
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class TrendingService implements ITrendingService {
+  final ProductRepository productRepository;
+  final ProductViewBucketRepository productViewBucketRepository;
+  final TransactionTemplate transactionTemplate;
+  final SlidingViewCounter counter;
+  final long bucketMillis;
+  final int bucketCount;
+  final int size;
+  final Object refreshLock = new Object();
+  final Map<Long, Map<UUID, Long>> unflushed = new HashMap<>();
+  final Map<UUID, ProductListItem> products = new HashMap<>();
+
+  volatile List<TrendingProductResponse> trending = List.of();
+  volatile boolean productsChanged;
+  boolean restored;
+
+  public TrendingService(
+      ProductRepository productRepository,
+      ProductViewBucketRepository productViewBucketRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${app.trending.bucket-ms:300000}") long bucketMillis,
+      @Value("${app.trending.buckets:12}") int bucketCount,
+      @Value("${app.trending.size:20}") int size) {
+    this.productRepository = productRepository;
+    this.productViewBucketRepository = productViewBucketRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.counter = new SlidingViewCounter(bucketMillis, bucketCount);
+    this.bucketMillis = bucketMillis;
+    this.bucketCount = bucketCount;
+    this.size = size;
+  }
+
+  @Override
+  public void recordView(UUID productId) {
+    counter.record(productId);
+  }
+
+  @Override
+  public List<TrendingProductResponse> getTrending(int limit) {
+    List<TrendingProductResponse> current = trending;
+    return current.subList(0, Math.max(0, Math.min(limit, current.size())));
+  }
+
+  /** Reloads the listing rows of the trending products once a product change has committed. */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onProductChanged(ProductChangedEvent event) {
+    productsChanged = true;
+  }
+
+  /** Restores the window on the first run, then drains new views and republishes the ranking. */
+  @Scheduled(fixedDelayString = "${app.trending.refresh-interval-ms:5000}")
+  public void refresh() {
+    synchronized (refreshLock) {
+      long now = System.currentTimeMillis();
+      if (!restored) {
+        restore(now);
+      }
+      Map<UUID, Long> drained = counter.drain(now);
+      if (!drained.isEmpty()) {
+        Map<UUID, Long> bucket =
+            unflushed.computeIfAbsent(counter.bucketOf(now), b -> new HashMap<>());
+        drained.forEach((productId, views) -> bucket.merge(productId, views, Long::sum));
+      }
+      publish(counter.top(size));
+    }
+  }
+
+  /**
+   * Persists the views drained since the last flush. Rows are upserted in bucket and product order
+   * so that instances flushing the same rows cannot deadlock. On failure, or while the window has
+   * not been restored yet, the views are kept for the next flush.
+   */
+  @Scheduled(fixedDelayString = "${app.trending.flush-interval-ms:30000}")
+  public void flush() {
+    Map<Long, Map<UUID, Long>> batch = new TreeMap<>();
+    synchronized (refreshLock) {
+      if (!restored) {
+        return;
+      }
+      unflushed.forEach((bucket, views) -> batch.put(bucket, new TreeMap<>(views)));
+      unflushed.clear();
+    }
+    if (batch.isEmpty()) {
+      return;
+    }
+    long oldestBucket = counter.bucketOf(System.currentTimeMillis()) - bucketCount + 1;
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> {
+            batch.forEach(
+                (bucket, views) ->
+                    views.forEach(
+                        (productId, count) ->
+                            productViewBucketRepository.upsert(
+                                bucketStart(bucket), productId, count)));
+            productViewBucketRepository.deleteOlderThan(bucketStart(oldestBucket));
+          });
+    } catch (RuntimeException e) {
+      log.warn("Could not flush product views, keeping them for the next flush", e);
+      synchronized (refreshLock) {
+        batch.forEach(
+            (bucket, views) ->
+                views.forEach(
+                    (productId, count) ->
+                        unflushed
+                            .computeIfAbsent(bucket, b -> new HashMap<>())
+                            .merge(productId, count, Long::sum)));
+      }
+    }
+  }
+
+  private void restore(long now) {
+    try {
+      LocalDateTime from = bucketStart(counter.bucketOf(now) - bucketCount + 1);
+      List<ProductViewBucket> rows = productViewBucketRepository.findByBucketStartFrom(from);
+      for (ProductViewBucket row : rows) {
+        counter.restore(
+            now,
+            row.getBucketStart().toInstant(ZoneOffset.UTC).toEpochMilli(),
+            row.getProductId(),
+            row.getViews());
+      }
+      restored = true;
+      log.info("Restored {} product view buckets for trending", rows.size());
+    } catch (RuntimeException e) {
+      log.warn("Could not restore product views, retrying on the next refresh", e);
+    }
+  }
+
+  /** Loads the listing rows the ranking needs and swaps in the new list. */
+  private void publish(List<SlidingViewCounter.Ranked> top) {
+    if (productsChanged) {
+      productsChanged = false;
+      products.clear();
+    }
+    List<UUID> missing = new ArrayList<>();
+    for (SlidingViewCounter.Ranked entry : top) {
+      if (!products.containsKey(entry.productId())) {
+        missing.add(entry.productId());
+      }
+    }
+    if (!missing.isEmpty()) {
+      List<ProductListItem> loaded = productRepository.findAllActiveByIdIn(missing);
+      // Products that are gone are remembered as null, so they are not looked up again.
+      missing.forEach(productId -> products.put(productId, null));
+      loaded.forEach(product -> products.put(product.id(), product));
+    }
+
+    List<TrendingProductResponse> published = new ArrayList<>(top.size());
+    Set<UUID> ranked = new HashSet<>();
+    for (SlidingViewCounter.Ranked entry : top) {
+      ranked.add(entry.productId());
+      ProductListItem product = products.get(entry.productId());
+      if (product != null) {
+        published.add(new TrendingProductResponse(product, entry.views()));
+      }
+    }
+    products.keySet().retainAll(ranked);
+    trending = List.copyOf(published);
+  }
+
+  private LocalDateTime bucketStart(long bucket) {
+    return LocalDateTime.ofInstant(Instant.ofEpochMilli(bucket * bucketMillis), ZoneOffset.UTC);
+  }
+}
@@ -0,0 +1,73 @@
+package rookies.ecommerce.service.upload;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Opens after {@code failureThreshold} consecutive failures and rejects calls until {@code
+ * openDurationNanos} have passed. It then lets a single trial call through: success closes the
+ * breaker, failure opens it again.
+ */
+class CircuitBreaker {
+  enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private final int failureThreshold;
+  private final long openDurationNanos;
+  private final LongSupplier nanoClock;
+
+  private State state = State.CLOSED;
+  private int consecutiveFailures;
+  private long openedAt;
+  private boolean trialInFlight;
+
+  CircuitBreaker(int failureThreshold, long openDurationNanos, LongSupplier nanoClock) {
+    this.failureThreshold = failureThreshold;
+    this.openDurationNanos = openDurationNanos;
+    this.nanoClock = nanoClock;
+  }
+
+  /** Returns whether a call may go ahead; every permitted call must be settled exactly once. */
+  synchronized boolean tryAcquire() {
+    if (state == State.OPEN) {
+      if (nanoClock.getAsLong() - openedAt < openDurationNanos) {
+        return false;
+      }
+      state = State.HALF_OPEN;
+      trialInFlight = false;
+    }
+    if (state == State.HALF_OPEN) {
+      if (trialInFlight) {
+        return false;
+      }
+      trialInFlight = true;
+    }
+    return true;
+  }
+
+  synchronized void onSuccess() {
+    state = State.CLOSED;
+    consecutiveFailures = 0;
+    trialInFlight = false;
+  }
+
+  synchronized void onFailure() {
+    consecutiveFailures++;
+    if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+      state = State.OPEN;
+      openedAt = nanoClock.getAsLong();
+    }
+    trialInFlight = false;
+  }
+
+  /** Settles a permitted call that never reached the provider, without changing the state. */
+  synchronized void release() {
+    trialInFlight = false;
+  }
+
+  synchronized State state() {
+    return state;
+  }
+}
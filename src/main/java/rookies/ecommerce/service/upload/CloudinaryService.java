@@ -3,21 +3,28 @@ package rookies.ecommerce.service.upload;
 import com.cloudinary.Cloudinary;
 import com.cloudinary.utils.ObjectUtils;
 import java.io.IOException;
+import java.nio.file.Path;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
 @Service
+@Qualifier("storageProvider")
+@ConditionalOnProperty(
+    name = "app.upload.provider",
+    havingValue = "cloudinary",
+    matchIfMissing = true)
 @RequiredArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
 public class CloudinaryService implements IUploadService {
 
   Cloudinary cloudinary;
 
-  public String uploadImage(MultipartFile file) throws IOException {
-    var uploadResult = cloudinary.uploader().upload(file.getBytes(), ObjectUtils.emptyMap());
+  public String uploadImage(Path file) throws IOException {
+    var uploadResult = cloudinary.uploader().upload(file.toFile(), ObjectUtils.emptyMap());
     return (String) uploadResult.get("url");
   }
 
@@ -0,0 +1,164 @@
+package rookies.ecommerce.service.upload;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import rookies.ecommerce.entity.StoredImage;
+import rookies.ecommerce.repository.StoredImageRepository;
+
+/**
+ * Deduplicates uploads by content hash in front of the configured image storage.
+ *
+ * <p>Uploads are hashed with SHA-256 and looked up in {@code stored_images}. Content that is
+ * already stored reuses the existing URL and gains a reference instead of being uploaded again.
+ * Deleting a URL drops one reference, and the asset only leaves storage with its last reference.
+ *
+ * <p>Index updates run in their own short transactions, so no connection is held while the delegate
+ * talks to storage, even when the caller runs with an open session.
+ */
+@Slf4j
+@Primary
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class DeduplicatingUploadService implements IUploadService {
+  IUploadService delegate;
+  StoredImageRepository storedImageRepository;
+  TransactionTemplate transactionTemplate;
+
+  public DeduplicatingUploadService(
+      @Qualifier("imageStorage") IUploadService delegate,
+      StoredImageRepository storedImageRepository,
+      PlatformTransactionManager transactionManager) {
+    this.delegate = delegate;
+    this.storedImageRepository = storedImageRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+  }
+
+  /**
+   * Returns the URL of an identical stored image if there is one, otherwise uploads the file and
+   * indexes it. When a concurrent upload of the same content is indexed first, its URL wins and
+   * this upload is removed from storage again.
+   */
+  @Override
+  public String uploadImage(Path file) throws IOException {
+    String contentHash = sha256(file);
+    String existing = transactionTemplate.execute(status -> acquire(contentHash));
+    if (existing != null) {
+      return existing;
+    }
+
+    String url = delegate.uploadImage(file);
+    String indexed;
+    try {
+      indexed = transactionTemplate.execute(status -> index(contentHash, url));
+    } catch (RuntimeException e) {
+      discard(url);
+      throw e;
+    }
+    if (!url.equals(indexed)) {
+      discard(url);
+    }
+    return indexed;
+  }
+
+  /**
+   * Drops one reference to the URL and removes the asset from storage once none are left. URLs that
+   * were never indexed are removed straight away. A failed removal leaves the index row at zero
+   * references, so a retry goes straight back to storage without releasing twice.
+   */
+  @Override
+  public void deleteImage(String imageUrl) {
+    Boolean lastReference = transactionTemplate.execute(status -> release(imageUrl));
+    if (!Boolean.TRUE.equals(lastReference)) {
+      return;
+    }
+    delegate.deleteImage(imageUrl);
+    transactionTemplate.executeWithoutResult(
+        status ->
+            storedImageRepository
+                .findByUrlForUpdate(imageUrl)
+                .filter(image -> image.getRefCount() == 0)
+                .ifPresent(storedImageRepository::delete));
+  }
+
+  private String acquire(String contentHash) {
+    return storedImageRepository
+        .findByContentHashForUpdate(contentHash)
+        .filter(image -> image.getRefCount() > 0)
+        .map(
+            image -> {
+              image.setRefCount(image.getRefCount() + 1);
+              return image.getUrl();
+            })
+        .orElse(null);
+  }
+
+  private String index(String contentHash, String url) {
+    while (storedImageRepository.insertIfAbsent(contentHash, url) == 0) {
+      Optional<StoredImage> existing =
+          storedImageRepository.findByContentHashForUpdate(contentHash);
+      if (existing.isEmpty()) {
+        continue;
+      }
+      StoredImage image = existing.get();
+      if (image.getRefCount() == 0) {
+        // The indexed asset is on its way out of storage; take the row over for this upload.
+        image.setUrl(url);
+      }
+      image.setRefCount(image.getRefCount() + 1);
+      return image.getUrl();
+    }
+    return url;
+  }
+
+  private boolean release(String imageUrl) {
+    Optional<StoredImage> indexed = storedImageRepository.findByUrlForUpdate(imageUrl);
+    if (indexed.isEmpty()) {
+      return true;
+    }
+    StoredImage image = indexed.get();
+    if (image.getRefCount() > 1) {
+      image.setRefCount(image.getRefCount() - 1);
+      return false;
+    }
+    image.setRefCount(0);
+    return true;
+  }
+
+  private void discard(String url) {
+    try {
+      delegate.deleteImage(url);
+    } catch (RuntimeException e) {
+      log.warn("Failed to remove duplicate upload {}: {}", url, e.getMessage());
+    }
+  }
+
+  private static String sha256(Path file) throws IOException {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+        in.transferTo(OutputStream.nullOutputStream());
+      }
+      return HexFormat.of().formatHex(digest.digest());
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package rookies.ecommerce.service.upload;
+
+/** Service interface for the durable queue of images waiting to be deleted from storage. */
+public interface IImageDeletionService {
+  /**
+   * Queues an image for deletion. When called inside a transaction the task commits or rolls back
+   * with it, so an image is only deleted once the change that dropped it is durable.
+   *
+   * @param imageUrl the URL of the image to delete; blank values are ignored
+   */
+  void enqueue(String imageUrl);
+
+  /**
+   * Counts the deletions that exhausted their retries.
+   *
+   * @return the number of dead-lettered tasks
+   */
+  long countDeadLetters();
+
+  /**
+   * Moves every dead-lettered task back to the queue with its attempts reset.
+   *
+   * @return the number of tasks requeued
+   */
+  int requeueDeadLetters();
+}
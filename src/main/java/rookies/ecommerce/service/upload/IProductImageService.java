@@ -0,0 +1,15 @@
+package rookies.ecommerce.service.upload;
+
+import java.io.IOException;
+import org.springframework.web.multipart.MultipartFile;
+
+public interface IProductImageService {
+  /**
+   * Upload a product image together with its resized variants
+   *
+   * @param image the image file to upload
+   * @return the URL of the original and of every variant that could be produced
+   * @throws IOException if the original image cannot be uploaded
+   */
+  ImageVariants upload(MultipartFile image) throws IOException;
+}
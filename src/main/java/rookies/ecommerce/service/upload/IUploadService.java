@@ -1,19 +1,42 @@
 package rookies.ecommerce.service.upload;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import org.springframework.web.multipart.MultipartFile;
 
 /** Interface for cloud storage operations */
 public interface IUploadService {
 
   /**
-   * Upload an image to cloud storage
+   * Upload an image to cloud storage.
+   *
+   * <p>The multipart file is staged in a temporary file and passed to {@link #uploadImage(Path)},
+   * so the upload is never held in memory as a whole. The temporary file is removed afterwards.
    *
    * @param file the image file to upload
    * @return the URL of the uploaded image
    * @throws IOException if an error occurs during upload
    */
-  String uploadImage(MultipartFile file) throws IOException;
+  default String uploadImage(MultipartFile file) throws IOException {
+    Path staged = Files.createTempFile("upload-", ".tmp");
+    try {
+      file.transferTo(staged);
+      return uploadImage(staged);
+    } finally {
+      Files.deleteIfExists(staged);
+    }
+  }
+
+  /**
+   * Upload an image that is already on local disk. The file is streamed to storage rather than read
+   * into memory.
+   *
+   * @param file the path of the image file to upload
+   * @return the URL of the uploaded image
+   * @throws IOException if an error occurs during upload
+   */
+  String uploadImage(Path file) throws IOException;
 
   /**
    * Delete an image from cloud storage
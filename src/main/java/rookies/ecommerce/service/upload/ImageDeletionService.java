@@ -0,0 +1,150 @@
+package rookies.ecommerce.service.upload;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import rookies.ecommerce.entity.BaseEntity;
+import rookies.ecommerce.entity.ImageDeletionTask;
+import rookies.ecommerce.repository.ImageDeletionTaskRepository;
+
+/**
+ * Deletes unreferenced images in the background so that product writes never wait on storage.
+ *
+ * <p>A worker claims due tasks in batches and leases them by pushing their next attempt into the
+ * future, then calls storage outside any transaction. Successful tasks are removed; failed ones are
+ * retried with exponential backoff and dead-lettered after {@code max-attempts}. A worker that dies
+ * mid-batch leaves its tasks to be picked up again once the lease runs out.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ImageDeletionService implements IImageDeletionService {
+  static final int MAX_ERROR_LENGTH = 1000;
+  static final int MAX_BACKOFF_SHIFT = 20;
+
+  final ImageDeletionTaskRepository imageDeletionTaskRepository;
+  final IUploadService cloudinaryService;
+  final TransactionTemplate transactionTemplate;
+
+  @Value("${app.upload.deletion.batch-size:50}")
+  int batchSize;
+
+  @Value("${app.upload.deletion.max-batches-per-poll:10}")
+  int maxBatchesPerPoll;
+
+  @Value("${app.upload.deletion.max-attempts:8}")
+  int maxAttempts;
+
+  @Value("${app.upload.deletion.base-backoff-ms:30000}")
+  long baseBackoffMs;
+
+  @Value("${app.upload.deletion.max-backoff-ms:3600000}")
+  long maxBackoffMs;
+
+  @Value("${app.upload.deletion.lease-ms:300000}")
+  long leaseMs;
+
+  @Override
+  @Transactional
+  public void enqueue(String imageUrl) {
+    if (imageUrl == null || imageUrl.isBlank()) {
+      return;
+    }
+    imageDeletionTaskRepository.save(
+        ImageDeletionTask.builder().imageUrl(imageUrl).nextAttemptAt(LocalDateTime.now()).build());
+  }
+
+  @Override
+  public long countDeadLetters() {
+    return imageDeletionTaskRepository.countByStatus(ImageDeletionTask.Status.DEAD);
+  }
+
+  @Override
+  @Transactional
+  public int requeueDeadLetters() {
+    return imageDeletionTaskRepository.requeueDead(
+        LocalDateTime.now(), ImageDeletionTask.Status.PENDING, ImageDeletionTask.Status.DEAD);
+  }
+
+  /** Drains due tasks until a batch comes back short or {@code max-batches-per-poll} is hit. */
+  @Scheduled(fixedDelayString = "${app.upload.deletion.poll-interval-ms:5000}")
+  public void processDueTasks() {
+    for (int i = 0; i < maxBatchesPerPoll; i++) {
+      if (processBatch() < batchSize) {
+        break;
+      }
+    }
+  }
+
+  /**
+   * Claims, deletes and settles one batch.
+   *
+   * @return the number of tasks claimed
+   */
+  int processBatch() {
+    LocalDateTime now = LocalDateTime.now();
+    List<ImageDeletionTask> batch =
+        transactionTemplate.execute(
+            status -> {
+              List<ImageDeletionTask> claimed =
+                  imageDeletionTaskRepository.claimDueBatch(now, batchSize);
+              LocalDateTime leaseExpiry = now.plus(Duration.ofMillis(leaseMs));
+              claimed.forEach(task -> task.setNextAttemptAt(leaseExpiry));
+              return claimed;
+            });
+    if (batch == null || batch.isEmpty()) {
+      return 0;
+    }
+
+    List<ImageDeletionTask> deleted = new ArrayList<>();
+    List<ImageDeletionTask> failed = new ArrayList<>();
+    for (ImageDeletionTask task : batch) {
+      try {
+        cloudinaryService.deleteImage(task.getImageUrl());
+        deleted.add(task);
+      } catch (RuntimeException e) {
+        recordFailure(task, e, now);
+        failed.add(task);
+      }
+    }
+
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          if (!deleted.isEmpty()) {
+            imageDeletionTaskRepository.deleteAllByIdInBatch(
+                deleted.stream().map(BaseEntity::getId).toList());
+          }
+          if (!failed.isEmpty()) {
+            imageDeletionTaskRepository.saveAll(failed);
+          }
+        });
+    return batch.size();
+  }
+
+  private void recordFailure(ImageDeletionTask task, RuntimeException e, LocalDateTime now) {
+    int attempts = task.getAttempts() + 1;
+    task.setAttempts(attempts);
+    String message = String.valueOf(e.getMessage());
+    task.setLastError(
+        message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+    if (attempts >= maxAttempts) {
+      task.setStatus(ImageDeletionTask.Status.DEAD);
+      log.error("Giving up deleting image {} after {} attempts", task.getImageUrl(), attempts, e);
+      return;
+    }
+    long backoffMs = baseBackoffMs << Math.min(attempts - 1, MAX_BACKOFF_SHIFT);
+    task.setNextAttemptAt(now.plus(Duration.ofMillis(Math.min(backoffMs, maxBackoffMs))));
+    log.warn("Failed to delete image {}, attempt {}: {}", task.getImageUrl(), attempts, message);
+  }
+}
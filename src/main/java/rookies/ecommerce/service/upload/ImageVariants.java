@@ -0,0 +1,18 @@
+package rookies.ecommerce.service.upload;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * URLs of an uploaded product image and its fixed-width JPEG variants. A variant is {@code null}
+ * when it could not be produced, in which case clients fall back to the original.
+ */
+public record ImageVariants(
+    String originalUrl, String smallUrl, String mediumUrl, String largeUrl) {
+
+  /** Returns every URL that is set, original first. */
+  public List<String> urls() {
+    return Stream.of(originalUrl, smallUrl, mediumUrl, largeUrl).filter(Objects::nonNull).toList();
+  }
+}
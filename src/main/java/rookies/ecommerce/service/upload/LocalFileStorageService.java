@@ -0,0 +1,209 @@
+package rookies.ecommerce.service.upload;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import rookies.ecommerce.exception.AppException;
+import rookies.ecommerce.exception.ErrorCode;
+
+/**
+ * Stores images on the local filesystem for deployments that run without Cloudinary.
+ *
+ * <p>Images live under {@code root-dir} in two levels of shard directories taken from the content
+ * hash, e.g. {@code 3f/a2/3fa2..._9c01d2e4b7aa.png}. The random suffix keeps every upload in its
+ * own file, so deleting one product's image never removes a file another product still points at.
+ * Files are never rewritten once moved into place, which is what lets {@code ImageController} serve
+ * them with immutable cache headers and the content hash as a strong ETag.
+ */
+@Slf4j
+@Service
+@Qualifier("storageProvider")
+@ConditionalOnProperty(name = "app.upload.provider", havingValue = "local")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class LocalFileStorageService implements IUploadService {
+  static final Pattern RELATIVE_PATH =
+      Pattern.compile(
+          "([0-9a-f]{2})/([0-9a-f]{2})/(\\1\\2[0-9a-f]{60})_[0-9a-f]{12}\\.(jpg|png|gif|webp)");
+  static final int SNIFF_LENGTH = 12;
+
+  final SecureRandom random = new SecureRandom();
+
+  @Value("${app.upload.local.root-dir:./uploads}")
+  String rootDir;
+
+  @Value("${app.upload.local.public-url:http://localhost:8080/api/images}")
+  String publicUrl;
+
+  /**
+   * Copies the file into the store while hashing it, then moves it to its sharded location. The
+   * copy goes to a temporary file inside {@code root-dir} so the final move is an atomic rename.
+   *
+   * @throws AppException if the file is not a JPEG, PNG, GIF or WebP image
+   */
+  @Override
+  public String uploadImage(Path file) throws IOException {
+    String extension = detectExtension(file);
+    Path incoming = Files.createDirectories(root().resolve("incoming"));
+    Path staged = Files.createTempFile(incoming, "upload-", ".tmp");
+    try {
+      MessageDigest digest = sha256();
+      try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+        Files.copy(in, staged, StandardCopyOption.REPLACE_EXISTING);
+      }
+      String hash = HexFormat.of().formatHex(digest.digest());
+      String relativePath =
+          hash.substring(0, 2)
+              + "/"
+              + hash.substring(2, 4)
+              + "/"
+              + hash
+              + "_"
+              + randomSuffix()
+              + "."
+              + extension;
+      Path target = root().resolve(relativePath);
+      Files.createDirectories(target.getParent());
+      Files.move(staged, target, StandardCopyOption.ATOMIC_MOVE);
+      return publicUrl + "/" + relativePath;
+    } finally {
+      Files.deleteIfExists(staged);
+    }
+  }
+
+  @Override
+  public void deleteImage(String imageUrl) {
+    if (imageUrl == null || !imageUrl.startsWith(publicUrl + "/")) {
+      log.warn("Ignoring deletion of image not stored locally: {}", imageUrl);
+      return;
+    }
+    resolve(imageUrl.substring(publicUrl.length() + 1))
+        .ifPresent(
+            path -> {
+              try {
+                Files.deleteIfExists(path);
+              } catch (IOException e) {
+                throw new RuntimeException("Error deleting image: " + e.getMessage());
+              }
+            });
+  }
+
+  /**
+   * Resolves a path relative to the public URL to a stored file. Anything that does not have the
+   * exact shape this service writes is rejected, so requests cannot reach outside {@code root-dir}.
+   *
+   * @param relativePath the path after the public URL, e.g. {@code 3f/a2/3fa2..._9c01d2e4b7aa.png}
+   * @return the stored file, or empty if the path is malformed or the file does not exist
+   */
+  public Optional<Path> resolve(String relativePath) {
+    if (relativePath == null || !RELATIVE_PATH.matcher(relativePath).matches()) {
+      return Optional.empty();
+    }
+    Path path = root().resolve(relativePath);
+    return Files.isRegularFile(path) ? Optional.of(path) : Optional.empty();
+  }
+
+  /**
+   * Returns the content hash embedded in a stored file's name, used as its strong ETag.
+   *
+   * @param relativePath a path accepted by {@link #resolve(String)}
+   * @return the hex SHA-256 of the file content
+   */
+  public String contentHash(String relativePath) {
+    var matcher = RELATIVE_PATH.matcher(relativePath);
+    if (!matcher.matches()) {
+      throw new AppException(ErrorCode.IMAGE_NOT_FOUND, HttpStatus.NOT_FOUND);
+    }
+    return matcher.group(3);
+  }
+
+  /**
+   * Returns the media type for a stored file from its extension.
+   *
+   * @param relativePath a path accepted by {@link #resolve(String)}
+   * @return the image media type
+   */
+  public MediaType mediaType(String relativePath) {
+    String extension = relativePath.substring(relativePath.lastIndexOf('.') + 1);
+    return switch (extension) {
+      case "jpg" -> MediaType.IMAGE_JPEG;
+      case "png" -> MediaType.IMAGE_PNG;
+      case "gif" -> MediaType.IMAGE_GIF;
+      default -> MediaType.parseMediaType("image/webp");
+    };
+  }
+
+  /**
+   * Detects the image format from the file's magic bytes rather than trusting a client-supplied
+   * name or content type, so only real images are ever served from our origin.
+   */
+  private String detectExtension(Path file) throws IOException {
+    byte[] header = new byte[SNIFF_LENGTH];
+    int read;
+    try (InputStream in = Files.newInputStream(file)) {
+      read = in.readNBytes(header, 0, SNIFF_LENGTH);
+    }
+    if (read >= 3 && startsWith(header, new byte[] {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF})) {
+      return "jpg";
+    }
+    if (read >= 8 && startsWith(header, new byte[] {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A})) {
+      return "png";
+    }
+    if (read >= 6 && startsWith(header, new byte[] {'G', 'I', 'F', '8'})) {
+      return "gif";
+    }
+    if (read >= 12
+        && startsWith(header, new byte[] {'R', 'I', 'F', 'F'})
+        && header[8] == 'W'
+        && header[9] == 'E'
+        && header[10] == 'B'
+        && header[11] == 'P') {
+      return "webp";
+    }
+    throw new AppException(ErrorCode.UNSUPPORTED_IMAGE_FORMAT, HttpStatus.BAD_REQUEST);
+  }
+
+  private Path root() {
+    return Path.of(rootDir);
+  }
+
+  private static boolean startsWith(byte[] header, byte[] prefix) {
+    for (int i = 0; i < prefix.length; i++) {
+      if (header[i] != prefix[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private String randomSuffix() {
+    byte[] bytes = new byte[6];
+    random.nextBytes(bytes);
+    return HexFormat.of().formatHex(bytes);
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
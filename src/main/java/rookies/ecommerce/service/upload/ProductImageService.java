@@ -0,0 +1,316 @@
+package rookies.ecommerce.service.upload;
+
+import jakarta.annotation.PreDestroy;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Uploads product images together with 200, 400 and 800 pixel wide JPEG variants for listings.
+ *
+ * <p>The image is staged once. While the original uploads on the caller's thread, each variant is
+ * decoded with source subsampling, so a large photo is never held in memory at full resolution,
+ * then scaled, encoded and uploaded on a small bounded pool. When the pool and its queue are full
+ * the caller renders the variant itself, which throttles uploads instead of growing the backlog.
+ *
+ * <p>Variants are best effort: one that fails or takes longer than {@code timeout-ms} is left out,
+ * and the formats ImageIO cannot decode get no variants at all. A variant left out for being late
+ * skips its upload if it has not started it yet, or queues the uploaded image for deletion once it
+ * completes. The staged file is deleted only after the request and every variant are done with it.
+ */
+@Slf4j
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ProductImageService implements IProductImageService {
+  static final int SMALL_WIDTH = 200;
+  static final int MEDIUM_WIDTH = 400;
+  static final int LARGE_WIDTH = 800;
+
+  IUploadService uploadService;
+  IImageDeletionService imageDeletionService;
+  ThreadPoolExecutor executor;
+  float jpegQuality;
+  long timeoutMs;
+
+  public ProductImageService(
+      IUploadService uploadService,
+      IImageDeletionService imageDeletionService,
+      @Value("${app.upload.variants.pool-size:2}") int poolSize,
+      @Value("${app.upload.variants.queue-capacity:12}") int queueCapacity,
+      @Value("${app.upload.variants.jpeg-quality:0.82}") float jpegQuality,
+      @Value("${app.upload.variants.timeout-ms:60000}") long timeoutMs) {
+    this.uploadService = uploadService;
+    this.imageDeletionService = imageDeletionService;
+    this.jpegQuality = jpegQuality;
+    this.timeoutMs = timeoutMs;
+    this.executor =
+        new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new CustomizableThreadFactory("image-variants-"),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+  }
+
+  /**
+   * Uploads the original and its variants. If the original fails, variants that were already
+   * uploaded are queued for deletion before the error is rethrown.
+   */
+  @Override
+  public ImageVariants upload(MultipartFile image) throws IOException {
+    StagedFile staged = new StagedFile(Files.createTempFile("upload-", ".tmp"));
+    try {
+      image.transferTo(staged.path);
+      List<Variant> variants = new ArrayList<>();
+      if (isDecodable(staged.path)) {
+        for (int width : new int[] {SMALL_WIDTH, MEDIUM_WIDTH, LARGE_WIDTH}) {
+          variants.add(submitVariant(staged, width));
+        }
+      }
+
+      String originalUrl;
+      try {
+        originalUrl = uploadService.uploadImage(staged.path);
+      } catch (IOException | RuntimeException e) {
+        for (Variant variant : variants) {
+          discard(await(variant));
+        }
+        throw e;
+      }
+
+      long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+      List<String> urls = new ArrayList<>();
+      for (Variant variant : variants) {
+        urls.add(await(variant, deadline));
+      }
+      return variants.isEmpty()
+          ? new ImageVariants(originalUrl, null, null, null)
+          : new ImageVariants(originalUrl, urls.get(0), urls.get(1), urls.get(2));
+    } finally {
+      staged.release();
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private boolean isDecodable(Path source) throws IOException {
+    try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+      if (in != null && ImageIO.getImageReaders(in).hasNext()) {
+        return true;
+      }
+    }
+    log.info("Skipping image variants: format not supported by ImageIO");
+    return false;
+  }
+
+  /**
+   * Renders a variant on the pool. Whichever of the task and the waiting request settles the
+   * variant first decides who takes its URL: the request once the task has finished, the task
+   * itself once the request has given up, in which case the URL is queued for deletion.
+   */
+  private Variant submitVariant(StagedFile staged, int width) {
+    AtomicBoolean settled = new AtomicBoolean();
+    staged.retain();
+    Future<String> future =
+        executor.submit(
+            () -> {
+              String url;
+              try {
+                url = renderVariant(staged.path, width, settled);
+              } finally {
+                staged.release();
+              }
+              if (url != null && !settled.compareAndSet(false, true)) {
+                discard(url);
+              }
+              return url;
+            });
+    return new Variant(future, settled);
+  }
+
+  /**
+   * Renders and uploads one variant; never wider than the source.
+   *
+   * @return the URL of the variant, or {@code null} if the request gave up before its upload
+   */
+  private String renderVariant(Path source, int width, AtomicBoolean settled) throws IOException {
+    BufferedImage scaled = scale(decodeSubsampled(source, width), width);
+    Path encoded = Files.createTempFile("variant-", ".jpg");
+    try {
+      writeJpeg(scaled, encoded);
+      if (settled.get()) {
+        return null;
+      }
+      return uploadService.uploadImage(encoded);
+    } finally {
+      Files.deleteIfExists(encoded);
+    }
+  }
+
+  /**
+   * Decodes every n-th pixel in each direction, with n as large as possible while the result is
+   * still at least {@code width} wide.
+   */
+  private BufferedImage decodeSubsampled(Path source, int width) throws IOException {
+    try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+      Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+      if (!readers.hasNext()) {
+        throw new IOException("No image reader for staged upload");
+      }
+      ImageReader reader = readers.next();
+      try {
+        reader.setInput(in, true, true);
+        int step = Math.max(1, reader.getWidth(0) / width);
+        ImageReadParam param = reader.getDefaultReadParam();
+        param.setSourceSubsampling(step, step, 0, 0);
+        return reader.read(0, param);
+      } finally {
+        reader.dispose();
+      }
+    }
+  }
+
+  /** Scales to the target width on a white background, since JPEG has no alpha channel. */
+  private static BufferedImage scale(BufferedImage decoded, int width) {
+    int targetWidth = Math.min(width, decoded.getWidth());
+    double ratio = (double) targetWidth / decoded.getWidth();
+    int targetHeight = (int) Math.max(1, Math.round(decoded.getHeight() * ratio));
+    BufferedImage scaled = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+    Graphics2D graphics = scaled.createGraphics();
+    try {
+      graphics.setColor(Color.WHITE);
+      graphics.fillRect(0, 0, targetWidth, targetHeight);
+      graphics.setRenderingHint(
+          RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+      graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+      graphics.drawImage(decoded, 0, 0, targetWidth, targetHeight, null);
+    } finally {
+      graphics.dispose();
+    }
+    return scaled;
+  }
+
+  private void writeJpeg(BufferedImage image, Path target) throws IOException {
+    ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+    try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+      ImageWriteParam param = writer.getDefaultWriteParam();
+      param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+      param.setCompressionQuality(jpegQuality);
+      param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+      writer.setOutput(out);
+      writer.write(null, new IIOImage(image, null, null), param);
+    } finally {
+      writer.dispose();
+    }
+  }
+
+  private String await(Variant variant) {
+    return await(variant, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs));
+  }
+
+  /**
+   * Waits for a variant until the deadline. A variant still running then is left to clean up after
+   * itself; one that finished just as the deadline passed is still returned.
+   */
+  private String await(Variant variant, long deadline) {
+    try {
+      try {
+        return variant
+            .future()
+            .get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+      } catch (TimeoutException e) {
+        if (variant.settled().compareAndSet(false, true)) {
+          log.warn("Image variant timed out after {} ms", timeoutMs);
+          return null;
+        }
+        return variant.future().get();
+      }
+    } catch (ExecutionException e) {
+      log.warn("Failed to produce image variant: {}", e.getCause().getMessage());
+    } catch (InterruptedException e) {
+      if (!variant.settled().compareAndSet(false, true)) {
+        // The variant is already uploaded and no longer anyone else's to clean up.
+        try {
+          discard(variant.future().get());
+        } catch (ExecutionException | InterruptedException ignored) {
+          // Nothing was uploaded, or the request is shutting down.
+        }
+      }
+      Thread.currentThread().interrupt();
+    }
+    return null;
+  }
+
+  private void discard(String url) {
+    if (url == null) {
+      return;
+    }
+    try {
+      imageDeletionService.enqueue(url);
+    } catch (RuntimeException e) {
+      log.warn("Failed to queue orphaned image variant {} for deletion", url, e);
+    }
+  }
+
+  private record Variant(Future<String> future, AtomicBoolean settled) {}
+
+  /** A staged upload, deleted once the request and every variant task have released it. */
+  private static final class StagedFile {
+    final Path path;
+    final AtomicInteger users = new AtomicInteger(1);
+
+    StagedFile(Path path) {
+      this.path = path;
+    }
+
+    void retain() {
+      users.incrementAndGet();
+    }
+
+    void release() {
+      if (users.decrementAndGet() > 0) {
+        return;
+      }
+      try {
+        Files.deleteIfExists(path);
+      } catch (IOException e) {
+        log.warn("Failed to delete staged upload {}: {}", path, e.getMessage());
+      }
+    }
+  }
+}
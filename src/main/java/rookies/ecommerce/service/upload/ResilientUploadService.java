@@ -0,0 +1,229 @@
+package rookies.ecommerce.service.upload;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import rookies.ecommerce.exception.AppException;
+import rookies.ecommerce.exception.ErrorCode;
+
+/**
+ * Isolates calls to the storage provider from request threads.
+ *
+ * <p>Calls run on a small dedicated pool with a bounded queue, so a slow provider ties up at most
+ * {@code pool-size} threads and callers beyond the queue are turned away at once instead of piling
+ * up in Tomcat's pool. Every call has a timeout, and a circuit breaker fails fast after repeated
+ * provider failures. Client errors such as an unsupported image do not count as failures.
+ *
+ * <p>Cancelling a timed-out call cannot stop a provider that has already accepted the upload, so an
+ * upload that completes after its caller gave up is queued for deletion instead of being left in
+ * storage unreferenced.
+ */
+@Slf4j
+@Service
+@Qualifier("imageStorage")
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ResilientUploadService implements IUploadService {
+  IUploadService delegate;
+  ObjectProvider<IImageDeletionService> imageDeletionService;
+  ThreadPoolExecutor executor;
+  CircuitBreaker circuitBreaker;
+  MeterRegistry meterRegistry;
+  long uploadTimeoutMs;
+  long deleteTimeoutMs;
+
+  public ResilientUploadService(
+      @Qualifier("storageProvider") IUploadService delegate,
+      ObjectProvider<IImageDeletionService> imageDeletionService,
+      MeterRegistry meterRegistry,
+      @Value("${app.upload.resilience.pool-size:4}") int poolSize,
+      @Value("${app.upload.resilience.queue-capacity:16}") int queueCapacity,
+      @Value("${app.upload.resilience.upload-timeout-ms:30000}") long uploadTimeoutMs,
+      @Value("${app.upload.resilience.delete-timeout-ms:10000}") long deleteTimeoutMs,
+      @Value("${app.upload.resilience.failure-threshold:5}") int failureThreshold,
+      @Value("${app.upload.resilience.open-duration-ms:30000}") long openDurationMs) {
+    this.delegate = delegate;
+    this.imageDeletionService = imageDeletionService;
+    this.meterRegistry = meterRegistry;
+    this.uploadTimeoutMs = uploadTimeoutMs;
+    this.deleteTimeoutMs = deleteTimeoutMs;
+    this.executor =
+        new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            new CustomizableThreadFactory("image-storage-"),
+            new ThreadPoolExecutor.AbortPolicy());
+    this.circuitBreaker =
+        new CircuitBreaker(
+            failureThreshold, TimeUnit.MILLISECONDS.toNanos(openDurationMs), System::nanoTime);
+    Gauge.builder("upload.executor.queue.size", executor, e -> e.getQueue().size())
+        .description("Storage calls waiting for a free upload thread")
+        .register(meterRegistry);
+    Gauge.builder("upload.executor.active", executor, ThreadPoolExecutor::getActiveCount)
+        .description("Storage calls currently running")
+        .register(meterRegistry);
+    Gauge.builder("upload.circuit.state", circuitBreaker, breaker -> breaker.state().ordinal())
+        .description("Storage circuit breaker state: 0 closed, 1 open, 2 half-open")
+        .register(meterRegistry);
+  }
+
+  /**
+   * @throws AppException with {@code 503} if the pool is saturated or the circuit is open, or
+   *     {@code 504} if the provider does not answer within {@code upload-timeout-ms}
+   */
+  @Override
+  public String uploadImage(Path file) throws IOException {
+    return call("upload", uploadTimeoutMs, () -> delegate.uploadImage(file), this::discardLate);
+  }
+
+  @Override
+  public void deleteImage(String imageUrl) {
+    try {
+      call(
+          "delete",
+          deleteTimeoutMs,
+          () -> {
+            delegate.deleteImage(imageUrl);
+            return null;
+          },
+          result -> {});
+    } catch (IOException e) {
+      throw new RuntimeException("Error deleting image: " + e.getMessage());
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Runs a storage call on the pool and waits for it up to the timeout.
+   *
+   * @param onAbandoned receives the result of a call that completes after its caller gave up
+   */
+  private <T> T call(String operation, long timeoutMs, Callable<T> task, Consumer<T> onAbandoned)
+      throws IOException {
+    if (!circuitBreaker.tryAcquire()) {
+      record(operation, "short_circuited", 0L);
+      throw new AppException(ErrorCode.IMAGE_STORAGE_UNAVAILABLE, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+    long startedAt = System.nanoTime();
+    AtomicBoolean settled = new AtomicBoolean();
+    Future<T> future;
+    try {
+      future =
+          executor.submit(
+              () -> {
+                T result = task.call();
+                if (!settled.compareAndSet(false, true)) {
+                  // Clear the interrupt of the caller's cancel so the result can still be handled.
+                  Thread.interrupted();
+                  onAbandoned.accept(result);
+                }
+                return result;
+              });
+    } catch (RejectedExecutionException e) {
+      circuitBreaker.release();
+      record(operation, "rejected", 0L);
+      throw new AppException(ErrorCode.IMAGE_STORAGE_BUSY, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    try {
+      T result = future.get(timeoutMs, TimeUnit.MILLISECONDS);
+      circuitBreaker.onSuccess();
+      record(operation, "success", startedAt);
+      return result;
+    } catch (TimeoutException e) {
+      abandon(future, settled, onAbandoned);
+      circuitBreaker.onFailure();
+      record(operation, "timeout", startedAt);
+      log.warn("Storage {} timed out after {} ms", operation, timeoutMs);
+      throw new AppException(ErrorCode.IMAGE_STORAGE_TIMEOUT, HttpStatus.GATEWAY_TIMEOUT);
+    } catch (InterruptedException e) {
+      abandon(future, settled, onAbandoned);
+      circuitBreaker.release();
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for image storage", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof AppException appException
+          && appException.getHttpStatus().is4xxClientError()) {
+        circuitBreaker.onSuccess();
+        record(operation, "client_error", startedAt);
+        throw appException;
+      }
+      circuitBreaker.onFailure();
+      record(operation, "failure", startedAt);
+      if (cause instanceof IOException ioException) {
+        throw ioException;
+      }
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IOException(cause);
+    }
+  }
+
+  /**
+   * Gives up on a call. If the call has already produced its result, which it does just before
+   * completing, the result is handed to {@code onAbandoned} here; otherwise the call does so itself
+   * should it ever complete.
+   */
+  private static <T> void abandon(
+      Future<T> future, AtomicBoolean settled, Consumer<T> onAbandoned) {
+    if (settled.compareAndSet(false, true)) {
+      future.cancel(true);
+      return;
+    }
+    try {
+      onAbandoned.accept(future.get());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      // The call failed after all, so there is nothing to clean up.
+    }
+  }
+
+  private void discardLate(String imageUrl) {
+    log.warn("Storage upload of {} completed after timing out, queueing it for deletion", imageUrl);
+    try {
+      imageDeletionService.getObject().enqueue(imageUrl);
+    } catch (RuntimeException e) {
+      log.error("Could not queue late upload {} for deletion", imageUrl, e);
+    }
+  }
+
+  private void record(String operation, String outcome, long startedAt) {
+    Timer.builder("upload.calls")
+        .description("Calls to the image storage provider")
+        .tag("operation", operation)
+        .tag("outcome", outcome)
+        .register(meterRegistry)
+        .record(startedAt == 0L ? 0L : System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+  }
+}
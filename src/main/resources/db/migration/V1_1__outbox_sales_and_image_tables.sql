@@ -0,0 +1,77 @@
+-- Tables and product columns added after the V1 baseline while the schema was still generated by
+-- Hibernate. Databases baselined at V1 may or may not have them, depending on the build that last
+-- ran "update" against them, so every statement here tolerates objects that already exist.
+
+ALTER TABLE products
+    ADD COLUMN IF NOT EXISTS image_small_url  varchar(255),
+    ADD COLUMN IF NOT EXISTS image_medium_url varchar(255),
+    ADD COLUMN IF NOT EXISTS image_large_url  varchar(255);
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id             uuid         NOT NULL,
+    aggregate_type varchar(50)  NOT NULL,
+    aggregate_id   uuid         NOT NULL,
+    event_type     varchar(100) NOT NULL,
+    payload        text         NOT NULL,
+    status         varchar(20)  NOT NULL,
+    attempts       integer      NOT NULL,
+    last_error     varchar(1000),
+    created_at     timestamp(6),
+    processed_at   timestamp(6),
+    CONSTRAINT pk_outbox_events PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    id              uuid         NOT NULL,
+    idempotency_key varchar(64)  NOT NULL,
+    request_hash    varchar(64)  NOT NULL,
+    completed       boolean      NOT NULL,
+    response_status integer,
+    content_type    varchar(255),
+    response_body   bytea,
+    expires_at      timestamp(6) NOT NULL,
+    CONSTRAINT pk_idempotency_keys PRIMARY KEY (id),
+    CONSTRAINT uk_idempotency_keys_key UNIQUE (idempotency_key)
+);
+
+CREATE TABLE IF NOT EXISTS daily_product_sales (
+    id         uuid             NOT NULL,
+    sales_date date             NOT NULL,
+    product_id uuid             NOT NULL,
+    units_sold bigint           NOT NULL,
+    revenue    double precision NOT NULL,
+    CONSTRAINT pk_daily_product_sales PRIMARY KEY (id),
+    CONSTRAINT uk_daily_product_sales_date_product UNIQUE (sales_date, product_id)
+);
+
+CREATE TABLE IF NOT EXISTS daily_category_sales (
+    id          uuid             NOT NULL,
+    sales_date  date             NOT NULL,
+    category_id uuid             NOT NULL,
+    units_sold  bigint           NOT NULL,
+    revenue     double precision NOT NULL,
+    CONSTRAINT pk_daily_category_sales PRIMARY KEY (id),
+    CONSTRAINT uk_daily_category_sales_date_category UNIQUE (sales_date, category_id)
+);
+
+CREATE TABLE IF NOT EXISTS image_deletion_tasks (
+    id              uuid          NOT NULL,
+    image_url       varchar(1000) NOT NULL,
+    status          varchar(20)   NOT NULL,
+    attempts        integer       NOT NULL,
+    next_attempt_at timestamp(6)  NOT NULL,
+    last_error      varchar(1000),
+    created_at      timestamp(6),
+    CONSTRAINT pk_image_deletion_tasks PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS stored_images (
+    id           uuid          NOT NULL,
+    content_hash varchar(64)   NOT NULL,
+    url          varchar(1000) NOT NULL,
+    ref_count    integer       NOT NULL,
+    created_at   timestamp(6),
+    CONSTRAINT pk_stored_images PRIMARY KEY (id),
+    CONSTRAINT uk_stored_images_content_hash UNIQUE (content_hash),
+    CONSTRAINT uk_stored_images_url UNIQUE (url)
+);
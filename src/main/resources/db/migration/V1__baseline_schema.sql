@@ -0,0 +1,139 @@
+-- Schema as Hibernate generated it while spring.jpa.hibernate.ddl-auto was "update", before any
+-- versioned migration existed. Databases created that way are baselined at this version
+-- (spring.flyway.baseline-on-migrate), so this script only runs against empty databases and must
+-- not grow: later tables and columns go in later versions, which baselined databases still run.
+
+CREATE TABLE roles (
+    id   integer      NOT NULL,
+    name varchar(255) NOT NULL,
+    CONSTRAINT pk_roles PRIMARY KEY (id),
+    CONSTRAINT uk_roles_name UNIQUE (name)
+);
+
+CREATE TABLE users (
+    id            uuid         NOT NULL,
+    created_at    timestamp(6),
+    updated_at    timestamp(6),
+    created_by    uuid,
+    updated_by    uuid,
+    is_deleted    boolean DEFAULT false,
+    email         varchar(255) NOT NULL,
+    password      varchar(255) NOT NULL,
+    role_id       integer      NOT NULL,
+    is_active     boolean DEFAULT true,
+    refresh_token varchar(255),
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT fk_users_role FOREIGN KEY (role_id) REFERENCES roles (id)
+);
+
+CREATE TABLE customers (
+    id           uuid         NOT NULL,
+    first_name   varchar(50),
+    last_name    varchar(50),
+    phone_number varchar(255) NOT NULL,
+    address      varchar(255) NOT NULL,
+    CONSTRAINT pk_customers PRIMARY KEY (id),
+    CONSTRAINT fk_customers_user FOREIGN KEY (id) REFERENCES users (id)
+);
+
+CREATE TABLE admins (
+    id uuid NOT NULL,
+    CONSTRAINT pk_admins PRIMARY KEY (id),
+    CONSTRAINT fk_admins_user FOREIGN KEY (id) REFERENCES users (id)
+);
+
+CREATE TABLE categories (
+    id         uuid        NOT NULL,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    created_by uuid,
+    updated_by uuid,
+    is_deleted boolean DEFAULT false,
+    name       varchar(25) NOT NULL,
+    CONSTRAINT pk_categories PRIMARY KEY (id),
+    CONSTRAINT uk_categories_name UNIQUE (name)
+);
+
+CREATE TABLE products (
+    id               uuid             NOT NULL,
+    created_at       timestamp(6),
+    updated_at       timestamp(6),
+    created_by       uuid,
+    updated_by       uuid,
+    is_deleted       boolean DEFAULT false,
+    category_id      uuid             NOT NULL,
+    name             varchar(200)     NOT NULL,
+    description      text,
+    image_url        varchar(255)     NOT NULL,
+    price            double precision NOT NULL CHECK (price >= 0),
+    quantity         integer          NOT NULL CHECK (quantity >= 0),
+    is_featured      boolean DEFAULT false,
+    CONSTRAINT pk_products PRIMARY KEY (id),
+    CONSTRAINT fk_products_category FOREIGN KEY (category_id) REFERENCES categories (id)
+);
+
+CREATE TABLE reviews (
+    id          uuid NOT NULL,
+    customer_id uuid,
+    product_id  uuid,
+    content     varchar(255),
+    rating      integer CHECK (rating BETWEEN 1 AND 5),
+    created_at  timestamp(6),
+    CONSTRAINT pk_reviews PRIMARY KEY (id),
+    CONSTRAINT uk_reviews_customer_product UNIQUE (customer_id, product_id),
+    CONSTRAINT fk_reviews_customer FOREIGN KEY (customer_id) REFERENCES customers (id),
+    CONSTRAINT fk_reviews_product FOREIGN KEY (product_id) REFERENCES products (id)
+);
+
+-- Join table of the unidirectional Customer.reviews association.
+CREATE TABLE customers_reviews (
+    customer_id uuid NOT NULL,
+    reviews_id  uuid NOT NULL,
+    CONSTRAINT uk_customers_reviews_review UNIQUE (reviews_id),
+    CONSTRAINT fk_customers_reviews_customer FOREIGN KEY (customer_id) REFERENCES customers (id),
+    CONSTRAINT fk_customers_reviews_review FOREIGN KEY (reviews_id) REFERENCES reviews (id)
+);
+
+CREATE TABLE cart_items (
+    id          uuid    NOT NULL,
+    created_at  timestamp(6),
+    updated_at  timestamp(6),
+    created_by  uuid,
+    updated_by  uuid,
+    is_deleted  boolean DEFAULT false,
+    customer_id uuid    NOT NULL,
+    product_id  uuid    NOT NULL,
+    quantity    integer NOT NULL CHECK (quantity >= 1),
+    CONSTRAINT pk_cart_items PRIMARY KEY (id),
+    CONSTRAINT fk_cart_items_customer FOREIGN KEY (customer_id) REFERENCES customers (id),
+    CONSTRAINT fk_cart_items_product FOREIGN KEY (product_id) REFERENCES products (id)
+);
+
+CREATE TABLE orders (
+    id           uuid             NOT NULL,
+    created_at   timestamp(6),
+    updated_at   timestamp(6),
+    created_by   uuid,
+    updated_by   uuid,
+    is_deleted   boolean DEFAULT false,
+    customer_id  uuid             NOT NULL,
+    total_amount double precision NOT NULL,
+    CONSTRAINT pk_orders PRIMARY KEY (id),
+    CONSTRAINT fk_orders_customer FOREIGN KEY (customer_id) REFERENCES customers (id)
+);
+
+CREATE TABLE order_items (
+    id         uuid             NOT NULL,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    created_by uuid,
+    updated_by uuid,
+    is_deleted boolean DEFAULT false,
+    order_id   uuid             NOT NULL,
+    product_id uuid             NOT NULL,
+    quantity   integer          NOT NULL CHECK (quantity >= 1),
+    price      double precision NOT NULL CHECK (price >= 0),
+    CONSTRAINT pk_order_items PRIMARY KEY (id),
+    CONSTRAINT fk_order_items_order FOREIGN KEY (order_id) REFERENCES orders (id),
+    CONSTRAINT fk_order_items_product FOREIGN KEY (product_id) REFERENCES products (id)
+);
@@ -0,0 +1,66 @@
+-- Indexes for the repository queries. Partial indexes skip soft-deleted rows and settled queue
+-- entries; INCLUDE columns let the hot reads run as index-only scans.
+--
+-- Built CONCURRENTLY so existing databases keep taking writes, which means this script runs
+-- outside a transaction (see the .conf file). If a build fails, drop the INVALID index it leaves
+-- behind before retrying, since IF NOT EXISTS would skip it.
+
+-- Catalog listings: newest first, optionally by category or featured only.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_active_created
+    ON products (created_at DESC, id) WHERE is_deleted = false;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_active_category_created
+    ON products (category_id, created_at DESC) WHERE is_deleted = false;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_active_featured_created
+    ON products (created_at DESC) WHERE is_deleted = false AND is_featured = true;
+-- Foreign key, also probed when purging categories.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_category_id
+    ON products (category_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_deleted_id
+    ON products (id) WHERE is_deleted = true;
+
+-- Rating aggregates of the listings read only product_id and rating.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_reviews_product_rating
+    ON reviews (product_id) INCLUDE (rating);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_email
+    ON users (email);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_cart_items_customer_product
+    ON cart_items (customer_id, product_id) INCLUDE (quantity);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_cart_items_product_id
+    ON cart_items (product_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_cart_items_updated_at
+    ON cart_items (updated_at);
+
+-- Keyset pages of a customer's order history.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_customer_history
+    ON orders (customer_id, created_at DESC, id DESC) INCLUDE (total_amount)
+    WHERE is_deleted = false;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_customer_id
+    ON orders (customer_id);
+-- Daily sales rollup rebuilds.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_active_created_at
+    ON orders (created_at) WHERE is_deleted = false;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_order_items_order
+    ON order_items (order_id, created_at, id) INCLUDE (product_id, quantity, price);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_order_items_product_id
+    ON order_items (product_id);
+
+-- Relay and worker claims only look at rows that still need work.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_outbox_events_pending
+    ON outbox_events (created_at, id) WHERE status = 'PENDING';
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_image_deletion_tasks_due
+    ON image_deletion_tasks (next_attempt_at, id) WHERE status = 'PENDING';
+-- Dead-letter count for the health gauge.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_image_deletion_tasks_status
+    ON image_deletion_tasks (status);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_idempotency_keys_expires_at
+    ON idempotency_keys (expires_at);
+
+-- Per-product and per-category sales series.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_daily_product_sales_product_date
+    ON daily_product_sales (product_id, sales_date) INCLUDE (units_sold, revenue);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_daily_category_sales_category_date
+    ON daily_category_sales (category_id, sales_date) INCLUDE (units_sold, revenue);
@@ -0,0 +1,4 @@
+-- The search index polls for products changed since its last pass, deleted ones included.
+-- Built CONCURRENTLY like V2, so this script also runs outside a transaction.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_updated_at
+    ON products (updated_at);
@@ -0,0 +1,13 @@
+-- Listings sort and filter by rating, so each product carries its review average and count
+-- instead of aggregating its reviews on every read. Reviews keep both current from here on.
+ALTER TABLE products
+    ADD COLUMN average_rating double precision NOT NULL DEFAULT 0,
+    ADD COLUMN rating_count   bigint           NOT NULL DEFAULT 0;
+
+UPDATE products p
+SET average_rating = r.average_rating,
+    rating_count   = r.rating_count
+FROM (SELECT product_id, AVG(rating) AS average_rating, COUNT(*) AS rating_count
+      FROM reviews
+      GROUP BY product_id) r
+WHERE r.product_id = p.id;
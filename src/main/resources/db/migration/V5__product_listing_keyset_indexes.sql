@@ -0,0 +1,31 @@
+-- Keyset listings walk (sort key, id) in either direction: newest, cheapest or best rated first,
+-- over all active products, one category or the featured ones. A price range is a range scan
+-- on the price indexes and a filter on the others.
+--
+-- The created_at indexes gain the id tie-breaker and replace the V2 ones, which the offset
+-- listings can still scan backwards. Built CONCURRENTLY like V2, so this script also runs
+-- outside a transaction.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_active_created_id
+    ON products (created_at, id) WHERE is_deleted = false;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_active_price
+    ON products (price, id) WHERE is_deleted = false;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_active_rating
+    ON products (average_rating, id) WHERE is_deleted = false;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_active_category_created_id
+    ON products (category_id, created_at, id) WHERE is_deleted = false;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_active_category_price
+    ON products (category_id, price, id) WHERE is_deleted = false;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_active_category_rating
+    ON products (category_id, average_rating, id) WHERE is_deleted = false;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_active_featured_created_id
+    ON products (created_at, id) WHERE is_deleted = false AND is_featured = true;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_active_featured_price
+    ON products (price, id) WHERE is_deleted = false AND is_featured = true;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_active_featured_rating
+    ON products (average_rating, id) WHERE is_deleted = false AND is_featured = true;
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_products_active_created;
+DROP INDEX CONCURRENTLY IF EXISTS idx_products_active_category_created;
+DROP INDEX CONCURRENTLY IF EXISTS idx_products_active_featured_created;
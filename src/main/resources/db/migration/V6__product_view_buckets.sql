@@ -0,0 +1,11 @@
+-- Product detail views per time bucket, flushed in batches by the trending service so the
+-- sliding window survives restarts. bucket_start is in UTC and aligned to the bucket length;
+-- rows older than the window are deleted as new ones are flushed.
+CREATE TABLE product_view_buckets (
+    id           uuid      NOT NULL,
+    bucket_start timestamp NOT NULL,
+    product_id   uuid      NOT NULL,
+    views        bigint    NOT NULL,
+    CONSTRAINT pk_product_view_buckets PRIMARY KEY (id),
+    CONSTRAINT uk_product_view_buckets_bucket_product UNIQUE (bucket_start, product_id)
+);
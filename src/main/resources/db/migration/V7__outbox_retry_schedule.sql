@@ -0,0 +1,6 @@
+-- Failed outbox deliveries back off instead of being retried on every poll: the relay claims a
+-- pending event only once its next_attempt_at has passed. Existing events are due at once.
+ALTER TABLE outbox_events
+    ADD COLUMN next_attempt_at timestamp(6) NOT NULL DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE outbox_events
+    ALTER COLUMN next_attempt_at DROP DEFAULT;
@@ -0,0 +1,5 @@
+-- Lets the maintenance purge walk processed outbox events by id without reading the pending ones.
+-- Built CONCURRENTLY so the relay keeps writing, which means this script runs outside a
+-- transaction (see the .conf file).
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_outbox_events_processed_id
+    ON outbox_events (id) WHERE status = 'PROCESSED';
@@ -0,0 +1,168 @@
+package rookies.ecommerce.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import rookies.ecommerce.service.idempotency.InMemoryIdempotencyStore;
+
+class IdempotencyFilterTest {
+
+  InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(100);
+
+  ObjectMapper mapper = new ObjectMapper();
+
+  IdempotencyFilter filter = new IdempotencyFilter(store, mapper);
+
+  AtomicInteger executions = new AtomicInteger();
+
+  FilterChain countingChain =
+      (request, response) -> {
+        executions.incrementAndGet();
+        request.getInputStream().readAllBytes();
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+        httpResponse.setStatus(201);
+        httpResponse.setContentType("application/json");
+        httpResponse.getWriter().write("{\"code\":1000}");
+      };
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(filter, "ttlSeconds", 60L);
+  }
+
+  @Test
+  void retryWithSameKey_replaysStoredResponse() throws Exception {
+    MockHttpServletResponse first = new MockHttpServletResponse();
+    filter.doFilter(request("key-1", "{\"quantity\":1}"), first, countingChain);
+
+    MockHttpServletResponse retry = new MockHttpServletResponse();
+    filter.doFilter(request("key-1", "{\"quantity\":1}"), retry, countingChain);
+
+    assertEquals(1, executions.get());
+    assertEquals(201, retry.getStatus());
+    assertEquals(first.getContentAsString(), retry.getContentAsString());
+    assertEquals("true", retry.getHeader("Idempotent-Replayed"));
+  }
+
+  @Test
+  void sameKeyWithDifferentBody_isRejected() throws Exception {
+    filter.doFilter(
+        request("key-1", "{\"quantity\":1}"), new MockHttpServletResponse(), countingChain);
+
+    MockHttpServletResponse retry = new MockHttpServletResponse();
+    filter.doFilter(request("key-1", "{\"quantity\":2}"), retry, countingChain);
+
+    assertEquals(1, executions.get());
+    assertEquals(422, retry.getStatus());
+  }
+
+  @Test
+  void concurrentDuplicate_isRejectedWhileFirstRequestRuns() throws Exception {
+    MockHttpServletResponse duplicate = new MockHttpServletResponse();
+    FilterChain reentrantChain =
+        (request, response) -> {
+          executions.incrementAndGet();
+          filter.doFilter(request("key-1", ""), duplicate, countingChain);
+          ((HttpServletResponse) response).setStatus(201);
+        };
+
+    filter.doFilter(request("key-1", ""), new MockHttpServletResponse(), reentrantChain);
+
+    assertEquals(1, executions.get());
+    assertEquals(409, duplicate.getStatus());
+  }
+
+  @Test
+  void serverError_releasesKeySoRetryRunsAgain() throws Exception {
+    FilterChain failingChain =
+        (request, response) -> {
+          executions.incrementAndGet();
+          ((HttpServletResponse) response).setStatus(500);
+        };
+    filter.doFilter(request("key-1", ""), new MockHttpServletResponse(), failingChain);
+
+    filter.doFilter(request("key-1", ""), new MockHttpServletResponse(), countingChain);
+
+    assertEquals(2, executions.get());
+  }
+
+  @Test
+  void asyncRead_deliversCachedBodyToReadListener() throws Exception {
+    StringBuilder events = new StringBuilder();
+    FilterChain asyncChain =
+        (request, response) -> {
+          ServletInputStream input = request.getInputStream();
+          input.setReadListener(
+              new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                  events.append(new String(input.readAllBytes(), StandardCharsets.UTF_8));
+                }
+
+                @Override
+                public void onAllDataRead() {
+                  events.append("|done");
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                  events.append("|error");
+                }
+              });
+          ((HttpServletResponse) response).setStatus(201);
+        };
+
+    filter.doFilter(
+        request("key-1", "{\"quantity\":1}"), new MockHttpServletResponse(), asyncChain);
+
+    assertEquals("{\"quantity\":1}|done", events.toString());
+  }
+
+  @Test
+  void fullStore_rejectsNewKeyWithoutRunningRequest() throws Exception {
+    IdempotencyFilter smallFilter = new IdempotencyFilter(new InMemoryIdempotencyStore(1), mapper);
+    ReflectionTestUtils.setField(smallFilter, "ttlSeconds", 60L);
+    MockHttpServletResponse rejected = new MockHttpServletResponse();
+    FilterChain reentrantChain =
+        (request, response) -> {
+          executions.incrementAndGet();
+          smallFilter.doFilter(request("key-2", ""), rejected, countingChain);
+          ((HttpServletResponse) response).setStatus(201);
+        };
+
+    smallFilter.doFilter(request("key-1", ""), new MockHttpServletResponse(), reentrantChain);
+
+    assertEquals(1, executions.get());
+    assertEquals(429, rejected.getStatus());
+  }
+
+  @Test
+  void requestWithoutKey_isNotDeduplicated() throws Exception {
+    filter.doFilter(request(null, ""), new MockHttpServletResponse(), countingChain);
+    filter.doFilter(request(null, ""), new MockHttpServletResponse(), countingChain);
+
+    assertEquals(2, executions.get());
+  }
+
+  private MockHttpServletRequest request(String idempotencyKey, String body) {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/customer/api/cart/add");
+    request.setServletPath("/customer/api/cart/add");
+    request.setContent(body.getBytes(StandardCharsets.UTF_8));
+    if (idempotencyKey != null) {
+      request.addHeader("Idempotency-Key", idempotencyKey);
+    }
+    return request;
+  }
+}
@@ -0,0 +1,50 @@
+package rookies.ecommerce.dto.request.product;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.EnumSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import rookies.ecommerce.exception.AppException;
+import rookies.ecommerce.exception.ErrorCode;
+
+class ProductListingFieldTest {
+
+  @Test
+  void parse_blank_returnsEveryField() {
+    Set<ProductListingField> all = EnumSet.allOf(ProductListingField.class);
+
+    assertEquals(all, ProductListingField.parse(null));
+    assertEquals(all, ProductListingField.parse(" "));
+  }
+
+  @Test
+  void parse_grid_returnsGridFields() {
+    assertEquals(ProductListingField.GRID, ProductListingField.parse("grid"));
+  }
+
+  @Test
+  void parse_namedFields_alwaysIncludesId() {
+    assertEquals(
+        EnumSet.of(ProductListingField.ID, ProductListingField.NAME, ProductListingField.PRICE),
+        ProductListingField.parse("name, price,,"));
+  }
+
+  @Test
+  void parse_gridWithMoreFields_addsThemToGrid() {
+    Set<ProductListingField> expected = EnumSet.copyOf(ProductListingField.GRID);
+    expected.add(ProductListingField.CATEGORY);
+
+    assertEquals(expected, ProductListingField.parse("grid,category"));
+  }
+
+  @Test
+  void parse_unknownField_throwsAppException() {
+    AppException exception =
+        assertThrows(AppException.class, () -> ProductListingField.parse("name,secret"));
+
+    assertEquals(ErrorCode.INVALID_LISTING_FIELDS, exception.getErrorCode());
+    assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+  }
+}
@@ -0,0 +1,92 @@
+package rookies.ecommerce.dto.response.product;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import rookies.ecommerce.dto.request.product.ProductListingField;
+import rookies.ecommerce.dto.response.KeysetPageResponse;
+
+class SparseProductListItemTest {
+
+  static final UUID CAKE = UUID.randomUUID();
+
+  final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+  @Test
+  void fullRow_writesNullFields() {
+    JsonNode json = objectMapper.valueToTree(item());
+
+    assertTrue(json.has("description"));
+    assertTrue(json.get("description").isNull());
+    assertTrue(json.get("imageSmallUrl").isNull());
+  }
+
+  @Test
+  void narrow_writesOnlyRequestedFields() {
+    KeysetPageResponse<ProductListItem> page = new KeysetPageResponse<>(List.of(item()), "c", true);
+
+    KeysetPageResponse<?> narrowed =
+        SparseProductListItem.narrow(
+            page, EnumSet.of(ProductListingField.ID, ProductListingField.PRICE));
+    JsonNode row = objectMapper.valueToTree(narrowed).get("content").get(0);
+
+    assertEquals(List.of("id", "price"), fieldNames(row));
+    assertEquals(CAKE.toString(), row.get("id").asText());
+    assertEquals(29.99, row.get("price").asDouble());
+    assertEquals("c", narrowed.getNextCursor());
+  }
+
+  @Test
+  void narrow_everyField_returnsPageUnchanged() {
+    KeysetPageResponse<ProductListItem> page =
+        new KeysetPageResponse<>(List.of(item()), null, false);
+
+    assertSame(page, SparseProductListItem.narrow(page, ProductListingField.parse(null)));
+  }
+
+  @Test
+  void narrow_numberedPage_keepsPagination() {
+    Page<ProductListItem> page = new PageImpl<>(List.of(item()), PageRequest.of(1, 1), 5);
+
+    Page<?> narrowed = SparseProductListItem.narrow(page, ProductListingField.parse("name"));
+
+    assertEquals(5, narrowed.getTotalElements());
+    assertEquals(1, narrowed.getNumber());
+    SparseProductListItem row = (SparseProductListItem) narrowed.getContent().get(0);
+    assertEquals(List.of("id", "name"), List.copyOf(row.toJson().keySet()));
+  }
+
+  private static List<String> fieldNames(JsonNode node) {
+    List<String> names = new ArrayList<>();
+    node.fieldNames().forEachRemaining(names::add);
+    return names;
+  }
+
+  private static ProductListItem item() {
+    return new ProductListItem(
+        CAKE,
+        new ProductListItem.Category(UUID.randomUUID(), "Cakes"),
+        "Chocolate Cake",
+        null,
+        "https://cloudinary.com/image/cake.jpg",
+        null,
+        null,
+        null,
+        29.99,
+        10,
+        true,
+        null,
+        null,
+        4.5,
+        2L);
+  }
+}
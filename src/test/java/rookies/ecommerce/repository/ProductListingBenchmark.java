@@ -0,0 +1,392 @@
+package rookies.ecommerce.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import rookies.ecommerce.dto.request.product.ProductListingField;
+import rookies.ecommerce.dto.request.product.ProductListingFilter;
+import rookies.ecommerce.dto.request.product.ProductSort;
+import rookies.ecommerce.dto.response.product.ProductListItem;
+import rookies.ecommerce.dto.response.product.SparseProductListItem;
+import rookies.ecommerce.entity.Product;
+
+/**
+ * Measures the latency of keyset listing pages over a million products, for every listing, sort and
+ * a price range, starting at random depths. Run it against a throwaway PostgreSQL database the
+ * migrations are applied to:
+ *
+ * <pre>
+ * RUN_BENCHMARKS=true BENCHMARK_DB_URL=jdbc:postgresql://localhost:5432/bench \
+ *   mvn test -Dtest=ProductListingBenchmark
+ * </pre>
+ *
+ * <p>The catalog is generated once and committed, so later runs reuse it. Fails if the p99 of any
+ * query shape exceeds {@value #P99_TARGET_MS} ms, if the {@code grid} fieldset does not shrink the
+ * serialized page, or if record listing rows allocate as much as the interface projections they
+ * replaced.
+ */
+@DataJpaTest(
+    properties = {
+      "spring.datasource.url=${BENCHMARK_DB_URL}",
+      "spring.datasource.username=${BENCHMARK_DB_USERNAME:postgres}",
+      "spring.datasource.password=${BENCHMARK_DB_PASSWORD:postgresql}",
+      "spring.jpa.hibernate.ddl-auto=validate",
+      "spring.jpa.show-sql=false"
+    })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARKS", matches = "true")
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_DB_URL", matches = ".+")
+class ProductListingBenchmark {
+
+  static final int PRODUCTS = 1_000_000;
+  static final int CATEGORIES = 50;
+  static final int START_POSITIONS = 500;
+  static final int WARMUP_QUERIES = 200;
+  static final int PAGE_SIZE = 20;
+  static final double P99_TARGET_MS = 20;
+  static final int PROJECTION_PAGES = 20;
+  static final int PROJECTION_PAGE_SIZE = 1000;
+  static final int PROJECTION_ROUNDS = 5;
+
+  @Autowired ProductRepository productRepository;
+  @Autowired DataSource dataSource;
+  @Autowired EntityManager entityManager;
+
+  final Random random = new Random(42);
+
+  /** Keeps the JIT from discarding the fields read from each row. */
+  long sink;
+
+  JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    Integer products = jdbcTemplate.queryForObject("SELECT count(*) FROM products", Integer.class);
+    if (products == null || products < PRODUCTS) {
+      seed(PRODUCTS - (products == null ? 0 : products));
+    }
+  }
+
+  @Test
+  void millionProducts_keysetPageLatency() {
+    List<Map<String, Object>> positions =
+        jdbcTemplate.queryForList(
+            "SELECT id, category_id, created_at, price, average_rating FROM products "
+                + "WHERE is_deleted = false ORDER BY random() LIMIT ?",
+            START_POSITIONS);
+    UUID categoryId = (UUID) positions.get(0).get("category_id");
+
+    List<String> failures = new ArrayList<>();
+    for (ProductSort sort : ProductSort.values()) {
+      Map<String, ProductListingFilter> shapes =
+          Map.of(
+              "all",
+              ProductListingFilter.builder().sort(sort).build(),
+              "category",
+              ProductListingFilter.builder().sort(sort).categoryId(categoryId).build(),
+              "featured",
+              ProductListingFilter.builder().sort(sort).featuredOnly(true).build(),
+              "all 20-60",
+              ProductListingFilter.builder().sort(sort).minPrice(20.0).maxPrice(60.0).build());
+      for (Map.Entry<String, ProductListingFilter> shape : shapes.entrySet()) {
+        double p99 = measure(sort + " " + shape.getKey(), shape.getValue(), positions);
+        if (p99 > P99_TARGET_MS) {
+          failures.add(String.format("%s %s: p99 %.2f ms", sort, shape.getKey(), p99));
+        }
+      }
+    }
+    assertEquals(List.of(), failures);
+  }
+
+  @Test
+  void gridFieldset_smallerPayloadThanFullRows() throws Exception {
+    List<Map<String, Object>> positions =
+        jdbcTemplate.queryForList(
+            "SELECT id, created_at FROM products WHERE is_deleted = false "
+                + "ORDER BY random() LIMIT ?",
+            START_POSITIONS);
+    ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    ProductListingFilter full = ProductListingFilter.builder().build();
+    ProductListingFilter grid =
+        ProductListingFilter.builder().fields(ProductListingField.parse("grid")).build();
+    double fullP99 = measure("NEWEST all fields", full, positions);
+    double gridP99 = measure("NEWEST grid fields", grid, positions);
+    long fullBytes = payloadBytes(objectMapper, full);
+    long gridBytes = payloadBytes(objectMapper, grid);
+    System.out.printf(
+        "page of %d: all fields %,d bytes, grid %,d bytes (%.0f%%), p99 %.2f ms vs %.2f ms%n",
+        PAGE_SIZE, fullBytes, gridBytes, 100.0 * gridBytes / fullBytes, fullP99, gridP99);
+    assertTrue(gridBytes < fullBytes, "grid page is not smaller than the full page");
+  }
+
+  @Test
+  void listingRows_recordVersusInterfaceProjection() {
+    ListingProjections projections =
+        new JpaRepositoryFactory(entityManager).getRepository(ListingProjections.class);
+
+    // Read every field of every row, as serializing the page would.
+    long interfaceBytes =
+        measureRows(
+            "interface",
+            projections::findInterfaceRows,
+            row ->
+                Objects.hashCode(row.getId())
+                    + Objects.hashCode(row.getCategory().getId())
+                    + Objects.hashCode(row.getCategory().getName())
+                    + Objects.hashCode(row.getName())
+                    + Objects.hashCode(row.getDescription())
+                    + Objects.hashCode(row.getImageUrl())
+                    + Objects.hashCode(row.getImageSmallUrl())
+                    + Objects.hashCode(row.getImageMediumUrl())
+                    + Objects.hashCode(row.getImageLargeUrl())
+                    + Double.hashCode(row.getPrice())
+                    + row.getQuantity()
+                    + Boolean.hashCode(row.getIsFeatured())
+                    + Objects.hashCode(row.getCreatedAt())
+                    + Objects.hashCode(row.getUpdatedAt())
+                    + Objects.hashCode(row.getAverageRating())
+                    + Objects.hashCode(row.getRatingCount()));
+    long recordBytes =
+        measureRows(
+            "record",
+            projections::findRecordRows,
+            row ->
+                Objects.hashCode(row.id())
+                    + Objects.hashCode(row.category().id())
+                    + Objects.hashCode(row.category().name())
+                    + Objects.hashCode(row.name())
+                    + Objects.hashCode(row.description())
+                    + Objects.hashCode(row.imageUrl())
+                    + Objects.hashCode(row.imageSmallUrl())
+                    + Objects.hashCode(row.imageMediumUrl())
+                    + Objects.hashCode(row.imageLargeUrl())
+                    + Objects.hashCode(row.price())
+                    + Objects.hashCode(row.quantity())
+                    + Objects.hashCode(row.isFeatured())
+                    + Objects.hashCode(row.createdAt())
+                    + Objects.hashCode(row.updatedAt())
+                    + Objects.hashCode(row.averageRating())
+                    + Objects.hashCode(row.ratingCount()));
+    assertTrue(
+        recordBytes < interfaceBytes,
+        "records allocate " + recordBytes + " bytes/row, interfaces " + interfaceBytes);
+  }
+
+  /**
+   * Reads the first pages of the newest products a few times over after a warmup round, printing
+   * the rows per second and the bytes this thread allocated per row. Returns the bytes per row.
+   */
+  private <T> long measureRows(
+      String name, Function<Pageable, List<T>> query, ToIntFunction<T> read) {
+    com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long thread = Thread.currentThread().getId();
+    readPages(query, read);
+    long bytes = threads.getThreadAllocatedBytes(thread);
+    long start = System.nanoTime();
+    long rows = 0;
+    for (int round = 0; round < PROJECTION_ROUNDS; round++) {
+      rows += readPages(query, read);
+    }
+    long elapsed = System.nanoTime() - start;
+    bytes = threads.getThreadAllocatedBytes(thread) - bytes;
+    System.out.printf(
+        "%-10s %,12.0f rows/s, %,6d bytes/row (%,d rows)%n",
+        name, rows / (elapsed / 1e9), bytes / rows, rows);
+    return bytes / rows;
+  }
+
+  private <T> long readPages(Function<Pageable, List<T>> query, ToIntFunction<T> read) {
+    long rows = 0;
+    for (int page = 0; page < PROJECTION_PAGES; page++) {
+      List<T> products =
+          query.apply(
+              PageRequest.of(page, PROJECTION_PAGE_SIZE, Sort.by("createdAt").descending()));
+      for (T product : products) {
+        sink += read.applyAsInt(product);
+      }
+      rows += products.size();
+    }
+    return rows;
+  }
+
+  private long payloadBytes(ObjectMapper objectMapper, ProductListingFilter filter)
+      throws Exception {
+    List<SparseProductListItem> rows =
+        productRepository.findListingPage(filter, null, null, PAGE_SIZE).stream()
+            .map(item -> new SparseProductListItem(item, filter.getFields()))
+            .toList();
+    return objectMapper.writeValueAsBytes(rows).length;
+  }
+
+  /** Times the first page and pages starting at every sampled position, returning the p99. */
+  private double measure(
+      String name, ProductListingFilter filter, List<Map<String, Object>> positions) {
+    for (int i = 0; i < WARMUP_QUERIES; i++) {
+      page(filter, positions.get(random.nextInt(positions.size())));
+    }
+    long[] latencies = new long[positions.size() + 1];
+    long start = System.nanoTime();
+    int rows = productRepository.findListingPage(filter, null, null, PAGE_SIZE + 1).size();
+    latencies[0] = System.nanoTime() - start;
+    for (int i = 0; i < positions.size(); i++) {
+      start = System.nanoTime();
+      rows += page(filter, positions.get(i));
+      latencies[i + 1] = System.nanoTime() - start;
+    }
+    Arrays.sort(latencies);
+    System.out.printf(
+        "%-22s p50 %6.2f ms, p95 %6.2f ms, p99 %6.2f ms, max %6.2f ms (%,d rows)%n",
+        name,
+        percentile(latencies, 0.50),
+        percentile(latencies, 0.95),
+        percentile(latencies, 0.99),
+        latencies[latencies.length - 1] / 1e6,
+        rows);
+    assertTrue(rows > 0, name + " returned no rows");
+    return percentile(latencies, 0.99);
+  }
+
+  private int page(ProductListingFilter filter, Map<String, Object> position) {
+    Object key =
+        switch (filter.getSort()) {
+          case NEWEST -> ((Timestamp) position.get("created_at")).toLocalDateTime();
+          case PRICE -> position.get("price");
+          case RATING -> position.get("average_rating");
+        };
+    return productRepository
+        .findListingPage(filter, key, (UUID) position.get("id"), PAGE_SIZE + 1)
+        .size();
+  }
+
+  /**
+   * Generates products with a realistic spread: prices up to 200, a third unrated, one in twenty
+   * featured and one in fifty soft-deleted, with descriptions of a few hundred bytes.
+   */
+  private void seed(int count) {
+    long started = System.nanoTime();
+    jdbcTemplate.update(
+        "INSERT INTO categories (id, created_at, updated_at, is_deleted, name) "
+            + "SELECT gen_random_uuid(), now(), now(), false, 'Benchmark ' || g "
+            + "FROM generate_series(1, ?) g "
+            + "ON CONFLICT (name) DO NOTHING",
+        CATEGORIES);
+    jdbcTemplate.update(
+        "INSERT INTO products (id, created_at, updated_at, is_deleted, category_id, name, "
+            + "description, image_url, price, quantity, is_featured, average_rating, "
+            + "rating_count) "
+            + "SELECT gen_random_uuid(), ?::timestamp - g * interval '1 second', now(), "
+            + "g % 50 = 0, c.ids[1 + g % array_length(c.ids, 1)], 'Product ' || g, "
+            + "repeat('Soft sponge layered with cream and fruit. ', 8), "
+            + "'https://cdn.example.com/' || g || '.jpg', round((random() * 200)::numeric, 2), "
+            + "(random() * 100)::int, g % 20 = 0, "
+            + "CASE WHEN g % 3 = 0 THEN 0 ELSE round((1 + random() * 4)::numeric, 2) END, "
+            + "CASE WHEN g % 3 = 0 THEN 0 ELSE 1 + (random() * 50)::int END "
+            + "FROM generate_series(1, ?) g, "
+            + "(SELECT array_agg(id) AS ids FROM categories WHERE name LIKE 'Benchmark %') c",
+        LocalDateTime.now(), count);
+    jdbcTemplate.execute("ANALYZE products");
+    System.out.printf(
+        "Seeded %,d products in %,d ms%n", count, (System.nanoTime() - started) / 1_000_000);
+  }
+
+  /**
+   * The active product listing read both ways: as the interface projection it used to be, proxied
+   * per row with the whole category entity, and as the scalar record query that replaced it.
+   */
+  interface ListingProjections extends Repository<Product, UUID> {
+    @Query(
+        "SELECT p.id AS id, p.category AS category, p.name AS name, "
+            + "p.description AS description, p.imageUrl AS imageUrl, "
+            + "p.imageSmallUrl AS imageSmallUrl, p.imageMediumUrl AS imageMediumUrl, "
+            + "p.imageLargeUrl AS imageLargeUrl, p.price AS price, p.quantity AS quantity, "
+            + "p.isFeatured AS isFeatured, p.createdAt AS createdAt, p.updatedAt AS updatedAt, "
+            + "p.averageRating AS averageRating, p.ratingCount AS ratingCount "
+            + "FROM Product p "
+            + "WHERE p.isDeleted = false")
+    List<ProductView> findInterfaceRows(Pageable pageable);
+
+    @Query(
+        "SELECT new rookies.ecommerce.dto.response.product.ProductListItem("
+            + "p.id, c.id, c.name, p.name, p.description, p.imageUrl, p.imageSmallUrl, "
+            + "p.imageMediumUrl, p.imageLargeUrl, p.price, p.quantity, p.isFeatured, "
+            + "p.createdAt, p.updatedAt, p.averageRating, p.ratingCount) "
+            + "FROM Product p JOIN p.category c "
+            + "WHERE p.isDeleted = false")
+    List<ProductListItem> findRecordRows(Pageable pageable);
+  }
+
+  interface ProductView {
+    UUID getId();
+
+    CategoryView getCategory();
+
+    String getName();
+
+    String getDescription();
+
+    String getImageUrl();
+
+    String getImageSmallUrl();
+
+    String getImageMediumUrl();
+
+    String getImageLargeUrl();
+
+    double getPrice();
+
+    int getQuantity();
+
+    boolean getIsFeatured();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    Double getAverageRating();
+
+    Long getRatingCount();
+
+    interface CategoryView {
+      UUID getId();
+
+      String getName();
+    }
+  }
+
+  private static double percentile(long[] sorted, double p) {
+    return sorted[Math.min(sorted.length - 1, (int) (sorted.length * p))] / 1e6;
+  }
+}
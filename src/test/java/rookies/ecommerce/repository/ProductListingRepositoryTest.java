@@ -0,0 +1,126 @@
+package rookies.ecommerce.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import rookies.ecommerce.dto.request.product.ProductListingField;
+import rookies.ecommerce.dto.request.product.ProductListingFilter;
+import rookies.ecommerce.dto.request.product.ProductSort;
+import rookies.ecommerce.dto.response.product.ProductListItem;
+import rookies.ecommerce.entity.Category;
+import rookies.ecommerce.entity.Product;
+
+@DataJpaTest(
+    properties = {
+      "spring.flyway.enabled=false",
+      "spring.jpa.hibernate.ddl-auto=create-drop",
+      "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+      "spring.jpa.show-sql=false"
+    })
+class ProductListingRepositoryTest {
+
+  @Autowired ProductRepository productRepository;
+
+  @Autowired TestEntityManager entityManager;
+
+  Category category;
+
+  @BeforeEach
+  void setUp() {
+    category = Category.builder().name("Cakes").build();
+    entityManager.persist(category);
+    for (int i = 0; i < 3; i++) {
+      entityManager.persist(
+          Product.builder()
+              .category(category)
+              .name("Cake " + i)
+              .description("Cake number " + i)
+              .imageUrl("http://image.url/" + i)
+              .price(10.0 + i)
+              .quantity(5)
+              .build());
+    }
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  void findListingPage_gridFields_leavesOtherFieldsNull() {
+    ProductListingFilter filter =
+        ProductListingFilter.builder()
+            .sort(ProductSort.PRICE)
+            .fields(ProductListingField.parse("grid"))
+            .build();
+
+    List<ProductListItem> page = productRepository.findListingPage(filter, null, null, 2);
+
+    assertEquals(2, page.size());
+    ProductListItem first = page.get(0);
+    assertNotNull(first.id());
+    assertEquals("Cake 0", first.name());
+    assertEquals(10.0, first.price());
+    assertEquals("http://image.url/0", first.imageUrl());
+    assertEquals(0.0, first.averageRating());
+    assertNull(first.category());
+    assertNull(first.description());
+    assertNull(first.quantity());
+    assertNull(first.isFeatured());
+  }
+
+  @Test
+  void findListingPage_everyField_readsWholeRow() {
+    ProductListingFilter filter = ProductListingFilter.builder().sort(ProductSort.PRICE).build();
+
+    List<ProductListItem> page = productRepository.findListingPage(filter, null, null, 10);
+
+    assertEquals(3, page.size());
+    ProductListItem first = page.get(0);
+    assertEquals(category.getId(), first.category().id());
+    assertEquals("Cakes", first.category().name());
+    assertEquals("Cake number 0", first.description());
+    assertEquals(5, first.quantity());
+    assertEquals(0L, first.ratingCount());
+  }
+
+  @Test
+  void findListingPage_afterPosition_continuesFromIt() {
+    ProductListingFilter filter =
+        ProductListingFilter.builder()
+            .sort(ProductSort.PRICE)
+            .fields(ProductListingField.parse("name"))
+            .build();
+    ProductListItem first = productRepository.findListingPage(filter, null, null, 1).get(0);
+
+    List<ProductListItem> rest =
+        productRepository.findListingPage(filter, first.price(), first.id(), 10);
+
+    assertEquals(List.of("Cake 1", "Cake 2"), rest.stream().map(ProductListItem::name).toList());
+  }
+
+  @Test
+  void findListingSlice_skipsTheOffsetInListingOrder() {
+    ProductListingFilter filter =
+        ProductListingFilter.builder()
+            .sort(ProductSort.PRICE)
+            .fields(ProductListingField.parse("name"))
+            .build();
+
+    List<ProductListItem> slice = productRepository.findListingSlice(filter, 1, 1);
+
+    assertEquals(List.of("Cake 1"), slice.stream().map(ProductListItem::name).toList());
+    assertNull(slice.get(0).description());
+  }
+
+  @Test
+  void countListing_countsFilteredProducts() {
+    ProductListingFilter filter =
+        ProductListingFilter.builder().categoryId(category.getId()).minPrice(11.0).build();
+
+    assertEquals(2, productRepository.countListing(filter));
+  }
+}
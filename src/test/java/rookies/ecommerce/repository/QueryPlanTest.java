@@ -0,0 +1,253 @@
+package rookies.ecommerce.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.DataSource;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import rookies.ecommerce.dto.request.product.ProductListingField;
+import rookies.ecommerce.dto.request.product.ProductListingFilter;
+import rookies.ecommerce.dto.request.product.ProductSort;
+import rookies.ecommerce.entity.ImageDeletionTask;
+import rookies.ecommerce.entity.OutboxEvent;
+
+/**
+ * Runs {@code EXPLAIN} on the SQL behind each repository query and fails if any of them would scan
+ * a large table sequentially.
+ *
+ * <p>Needs a throwaway PostgreSQL 16+ database, which the migrations are applied to:
+ *
+ * <pre>
+ * QUERY_PLAN_DB_URL=jdbc:postgresql://localhost:5432/plan_test mvn test -Dtest=QueryPlanTest
+ * </pre>
+ *
+ * <p>The tables are nearly empty, so sequential scans are disabled for the session: the planner
+ * then picks an index whenever one can serve the query, and a sequential scan in the plan means
+ * none can.
+ */
+@DataJpaTest(
+    properties = {
+      "spring.datasource.url=${QUERY_PLAN_DB_URL}",
+      "spring.datasource.username=${QUERY_PLAN_DB_USERNAME:postgres}",
+      "spring.datasource.password=${QUERY_PLAN_DB_PASSWORD:postgresql}",
+      "spring.jpa.hibernate.ddl-auto=validate",
+      "spring.jpa.show-sql=false",
+      "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+          + "rookies.ecommerce.repository.QueryPlanTest$CapturingStatementInspector"
+    })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = "QUERY_PLAN_DB_URL", matches = ".+")
+class QueryPlanTest {
+
+  static final Set<String> LARGE_TABLES =
+      Set.of(
+          "products",
+          "reviews",
+          "users",
+          "customers",
+          "cart_items",
+          "orders",
+          "order_items",
+          "outbox_events",
+          "image_deletion_tasks",
+          "idempotency_keys",
+          "daily_product_sales",
+          "daily_category_sales",
+          "product_view_buckets");
+
+  static final UUID ID = UUID.randomUUID();
+  static final LocalDateTime NOW = LocalDateTime.now();
+  static final LocalDate TODAY = LocalDate.now();
+
+  @Autowired ProductRepository productRepository;
+  @Autowired ReviewRepository reviewRepository;
+  @Autowired UserRepository userRepository;
+  @Autowired CartRepository cartRepository;
+  @Autowired OrderRepository orderRepository;
+  @Autowired OrderItemRepository orderItemRepository;
+  @Autowired OutboxEventRepository outboxEventRepository;
+  @Autowired ImageDeletionTaskRepository imageDeletionTaskRepository;
+  @Autowired IdempotencyKeyRepository idempotencyKeyRepository;
+  @Autowired DailyProductSalesRepository dailyProductSalesRepository;
+  @Autowired DailyCategorySalesRepository dailyCategorySalesRepository;
+  @Autowired ProductViewBucketRepository productViewBucketRepository;
+  @Autowired DataSource dataSource;
+
+  final ObjectMapper objectMapper = new ObjectMapper();
+
+  JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  void setUp() {
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+  }
+
+  @Test
+  void catalogQueries_useIndexes() {
+    assertIndexed(
+        () ->
+            productRepository.findAllByIsDeletedFalse(
+                PageRequest.of(0, 20, Sort.by("createdAt").descending())));
+    assertIndexed(
+        () -> productRepository.findAllByIsDeletedFalseAndIsFeaturedTrue(PageRequest.of(0, 20)));
+    assertIndexed(
+        () -> productRepository.findAllByIsDeletedFalseAndCategoryId(ID, PageRequest.of(0, 20)));
+    assertIndexed(
+        () ->
+            productRepository.findActiveListing(
+                PageRequest.of(0, 20, Sort.by("createdAt").descending())));
+    assertIndexed(() -> productRepository.findFeaturedListing(PageRequest.of(0, 20)));
+    assertIndexed(() -> productRepository.findCategoryListing(ID, PageRequest.of(0, 20)));
+    assertIndexed(() -> productRepository.countActiveByCategoryAndFeatured());
+    assertIndexed(() -> productRepository.findByIdAndIsDeletedFalse(ID));
+    assertIndexed(() -> productRepository.findAllActiveByIdIn(List.of(ID)));
+    assertIndexed(() -> productRepository.findAllActiveWithCategoryByIdIn(List.of(ID)));
+    assertIndexed(() -> productRepository.findSearchDocumentById(ID));
+    assertIndexed(() -> productRepository.findFacetRowById(ID));
+    assertIndexed(() -> reviewRepository.findByProductId(ID));
+    assertIndexed(() -> reviewRepository.existsByProductIdAndCustomerId(ID, ID));
+    assertIndexed(() -> productRepository.addRating(ID, 5));
+  }
+
+  @Test
+  void keysetListingQueries_useIndexes() {
+    for (ProductSort sort : ProductSort.values()) {
+      Object key = sort == ProductSort.NEWEST ? NOW : 10.0;
+      List<ProductListingFilter> filters =
+          List.of(
+              ProductListingFilter.builder().sort(sort).build(),
+              ProductListingFilter.builder().sort(sort).categoryId(ID).minPrice(5.0).build(),
+              ProductListingFilter.builder().sort(sort).fields(ProductListingField.GRID).build(),
+              ProductListingFilter.builder()
+                  .sort(sort)
+                  .featuredOnly(true)
+                  .minPrice(5.0)
+                  .maxPrice(50.0)
+                  .build());
+      for (ProductListingFilter filter : filters) {
+        assertIndexed(() -> productRepository.findListingPage(filter, null, null, 21));
+        assertIndexed(() -> productRepository.findListingPage(filter, key, ID, 21));
+      }
+    }
+  }
+
+  @Test
+  void customerQueries_useIndexes() {
+    assertIndexed(() -> userRepository.findByEmailAndIsDeletedFalseAndIsActiveTrue("a@b.c"));
+    assertIndexed(() -> cartRepository.findByCustomerIdAndProductId(ID, ID));
+    assertIndexed(() -> cartRepository.findCartItemsByCustomerId(ID));
+    assertIndexed(() -> orderRepository.findFirstPageByCustomerId(ID, PageRequest.of(0, 20)));
+    assertIndexed(
+        () -> orderRepository.findPageByCustomerIdAfter(ID, NOW, ID, PageRequest.of(0, 20)));
+    assertIndexed(() -> orderItemRepository.findItemsByOrderIdIn(List.of(ID)));
+  }
+
+  @Test
+  void backgroundQueries_useIndexes() {
+    assertIndexed(() -> outboxEventRepository.claimPendingBatch(NOW, 100));
+    assertIndexed(
+        () -> outboxEventRepository.findProcessedIdsAfter(NOW, ID, PageRequest.of(0, 500)));
+    assertIndexed(() -> outboxEventRepository.countByStatus(OutboxEvent.Status.PENDING));
+    assertIndexed(() -> imageDeletionTaskRepository.claimDueBatch(NOW, 50));
+    assertIndexed(() -> imageDeletionTaskRepository.countByStatus(ImageDeletionTask.Status.DEAD));
+    assertIndexed(() -> idempotencyKeyRepository.deleteExpired(NOW));
+    assertIndexed(() -> cartRepository.findAbandonedIdsAfter(NOW, ID, PageRequest.of(0, 500)));
+    assertIndexed(() -> productRepository.findPurgeableIdsAfter(NOW, ID, PageRequest.of(0, 500)));
+    assertIndexed(() -> dailyProductSalesRepository.rebuildDay(TODAY, NOW, NOW));
+    assertIndexed(() -> productRepository.streamSearchDocumentsUpdatedSince(NOW).close());
+    assertIndexed(() -> productRepository.streamFacetRowsUpdatedSince(NOW).close());
+    assertIndexed(() -> reviewRepository.findProductIdsByCustomerIdIn(List.of(ID)));
+    assertIndexed(() -> productRepository.recomputeRatings(List.of(ID)));
+    assertIndexed(() -> productViewBucketRepository.upsert(NOW, ID, 1));
+    assertIndexed(() -> productViewBucketRepository.findByBucketStartFrom(NOW));
+    assertIndexed(() -> productViewBucketRepository.deleteOlderThan(NOW));
+  }
+
+  @Test
+  void reportQueries_useIndexes() {
+    assertIndexed(
+        () -> dailyProductSalesRepository.findSeriesByProductId(ID, TODAY.minusDays(30), TODAY));
+    assertIndexed(
+        () -> dailyCategorySalesRepository.findSeriesByCategoryId(ID, TODAY.minusDays(30), TODAY));
+    assertIndexed(() -> dailyCategorySalesRepository.findTotalSeries(TODAY.minusDays(30), TODAY));
+    assertIndexed(() -> dailyProductSalesRepository.findProductSalesSince(TODAY.minusDays(6)));
+  }
+
+  /** Runs the call to capture its SQL, then explains each statement it issued. */
+  private void assertIndexed(Runnable call) {
+    CapturingStatementInspector.STATEMENTS.clear();
+    call.run();
+    List<String> statements = List.copyOf(CapturingStatementInspector.STATEMENTS);
+    assertFalse(statements.isEmpty(), "call issued no SQL");
+
+    for (String sql : statements) {
+      String plan =
+          jdbcTemplate.queryForObject(
+              "EXPLAIN (GENERIC_PLAN, FORMAT JSON) " + numberPlaceholders(sql), String.class);
+      List<String> scans = new ArrayList<>();
+      try {
+        collectSequentialScans(objectMapper.readTree(plan).get(0).get("Plan"), scans);
+      } catch (Exception e) {
+        throw new AssertionError("Unreadable plan for " + sql, e);
+      }
+      assertEquals(List.of(), scans, () -> "Sequential scan in plan of:\n" + sql + "\n" + plan);
+    }
+  }
+
+  private static void collectSequentialScans(JsonNode node, List<String> scans) {
+    if ("Seq Scan".equals(node.path("Node Type").asText())
+        && LARGE_TABLES.contains(node.path("Relation Name").asText())) {
+      scans.add(node.path("Relation Name").asText());
+    }
+    for (JsonNode child : node.path("Plans")) {
+      collectSequentialScans(child, scans);
+    }
+  }
+
+  /** Rewrites JDBC {@code ?} placeholders outside string literals as {@code $1, $2, ...}. */
+  private static String numberPlaceholders(String sql) {
+    StringBuilder numbered = new StringBuilder(sql.length() + 16);
+    boolean inLiteral = false;
+    int parameter = 0;
+    for (char c : sql.toCharArray()) {
+      if (c == '\'') {
+        inLiteral = !inLiteral;
+      }
+      if (c == '?' && !inLiteral) {
+        numbered.append('$').append(++parameter);
+      } else {
+        numbered.append(c);
+      }
+    }
+    return numbered.toString();
+  }
+
+  /** Records the SQL Hibernate prepares, so the test can explain exactly what ran. */
+  public static class CapturingStatementInspector implements StatementInspector {
+    static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+      STATEMENTS.add(sql);
+      return sql;
+    }
+  }
+}
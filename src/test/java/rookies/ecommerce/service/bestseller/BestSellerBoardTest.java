@@ -0,0 +1,93 @@
+package rookies.ecommerce.service.bestseller;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import rookies.ecommerce.dto.request.product.BestSellerWindow;
+import rookies.ecommerce.service.bestseller.BestSellerBoard.Ranked;
+
+class BestSellerBoardTest {
+
+  static final LocalDate TODAY = LocalDate.of(2025, 4, 20);
+  static final UUID CAKES = new UUID(1, 0);
+  static final UUID PIES = new UUID(2, 0);
+  static final UUID CAKE = new UUID(0, 1);
+  static final UUID TART = new UUID(0, 2);
+  static final UUID PIE = new UUID(0, 3);
+
+  BestSellerBoard board = new BestSellerBoard(TODAY);
+
+  @Test
+  void top_ranksGloballyAndPerCategory() {
+    board.record(TODAY, CAKE, CAKES, 2);
+    board.record(TODAY, TART, CAKES, 5);
+    board.record(TODAY, PIE, PIES, 3);
+    board.record(TODAY, CAKE, CAKES, 2);
+
+    assertEquals(
+        List.of(new Ranked(TART, 5), new Ranked(CAKE, 4)),
+        board.top(BestSellerWindow.DAILY, null, 2));
+    assertEquals(
+        List.of(new Ranked(TART, 5), new Ranked(CAKE, 4)),
+        board.top(BestSellerWindow.WEEKLY, CAKES, 10));
+    assertEquals(List.of(new Ranked(PIE, 3)), board.top(BestSellerWindow.DAILY, PIES, 10));
+    assertEquals(List.of(), board.top(BestSellerWindow.DAILY, new UUID(3, 0), 10));
+    assertEquals(List.of(), board.top(BestSellerWindow.DAILY, null, 0));
+  }
+
+  @Test
+  void record_earlierDayCountsInWeeklyWindowOnly() {
+    board.record(TODAY.minusDays(3), CAKE, CAKES, 4);
+    board.record(TODAY.minusDays(7), TART, CAKES, 9);
+
+    assertEquals(List.of(), board.top(BestSellerWindow.DAILY, null, 10));
+    assertEquals(List.of(new Ranked(CAKE, 4)), board.top(BestSellerWindow.WEEKLY, null, 10));
+  }
+
+  @Test
+  void advanceTo_dropsDaysThatLeaveEachWindow() {
+    board.record(TODAY.minusDays(6), CAKE, CAKES, 4);
+    board.record(TODAY, TART, CAKES, 2);
+
+    board.advanceTo(TODAY.plusDays(1));
+
+    assertEquals(List.of(), board.top(BestSellerWindow.DAILY, null, 10));
+    assertEquals(List.of(new Ranked(TART, 2)), board.top(BestSellerWindow.WEEKLY, null, 10));
+    assertEquals(List.of(new Ranked(TART, 2)), board.top(BestSellerWindow.WEEKLY, CAKES, 10));
+    assertEquals(1, board.size());
+
+    board.record(TODAY.plusDays(8), PIE, PIES, 1);
+
+    assertEquals(TODAY.plusDays(8), board.today());
+    assertEquals(List.of(new Ranked(PIE, 1)), board.top(BestSellerWindow.WEEKLY, null, 10));
+    assertEquals(List.of(), board.top(BestSellerWindow.WEEKLY, CAKES, 10));
+    assertEquals(1, board.size());
+  }
+
+  @Test
+  void record_movesEarlierSalesWhenProductChangesCategory() {
+    board.record(TODAY.minusDays(1), CAKE, CAKES, 3);
+    board.record(TODAY, CAKE, PIES, 1);
+
+    assertEquals(List.of(), board.top(BestSellerWindow.WEEKLY, CAKES, 10));
+    assertEquals(List.of(new Ranked(CAKE, 4)), board.top(BestSellerWindow.WEEKLY, PIES, 10));
+    assertEquals(List.of(new Ranked(CAKE, 1)), board.top(BestSellerWindow.DAILY, PIES, 10));
+
+    board.advanceTo(TODAY.plusDays(6));
+
+    assertEquals(List.of(new Ranked(CAKE, 1)), board.top(BestSellerWindow.WEEKLY, PIES, 10));
+  }
+
+  @Test
+  void top_breaksTiesByProductId() {
+    board.record(TODAY, TART, CAKES, 2);
+    board.record(TODAY, CAKE, CAKES, 2);
+
+    assertEquals(
+        List.of(new Ranked(CAKE, 2), new Ranked(TART, 2)),
+        board.top(BestSellerWindow.DAILY, null, 10));
+  }
+}
@@ -0,0 +1,197 @@
+package rookies.ecommerce.service.bestseller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import rookies.ecommerce.dto.event.ProductChangedEvent;
+import rookies.ecommerce.dto.event.ProductsSoldEvent;
+import rookies.ecommerce.dto.request.product.BestSellerWindow;
+import rookies.ecommerce.dto.response.product.BestSellerResponse;
+import rookies.ecommerce.dto.response.product.ProductListItem;
+import rookies.ecommerce.dto.response.report.ProductSalesRow;
+import rookies.ecommerce.repository.DailyProductSalesRepository;
+import rookies.ecommerce.repository.OrderRepository;
+import rookies.ecommerce.repository.ProductRepository;
+import rookies.ecommerce.service.report.ISalesReportService;
+
+@ExtendWith(MockitoExtension.class)
+class BestSellerServiceTest {
+
+  static final UUID CAKES = UUID.randomUUID();
+  static final UUID CAKE = UUID.randomUUID();
+  static final UUID TART = UUID.randomUUID();
+
+  @Mock DailyProductSalesRepository dailyProductSalesRepository;
+
+  @Mock ProductRepository productRepository;
+
+  @Mock ISalesReportService salesReportService;
+
+  @Mock OrderRepository orderRepository;
+
+  @Mock PlatformTransactionManager transactionManager;
+
+  @InjectMocks BestSellerService bestSellerService;
+
+  @Test
+  void reload_loadsRollupsAndAddsOrdersPlacedSince() {
+    LocalDate today = LocalDate.now();
+    when(dailyProductSalesRepository.findProductSalesSince(today.minusDays(6)))
+        .thenReturn(List.of(new ProductSalesRow(CAKE, CAKES, today.minusDays(2), 5)));
+    ProductListItem cake = item(CAKE);
+    ProductListItem tart = item(TART);
+    when(productRepository.findAllActiveByIdIn(any())).thenReturn(List.of(cake, tart));
+
+    bestSellerService.reload();
+    sold(TART, 2);
+
+    assertEquals(
+        List.of(new BestSellerResponse(cake, 5), new BestSellerResponse(tart, 2)),
+        bestSellerService.getBestSellers(BestSellerWindow.WEEKLY, null, 10));
+    assertEquals(
+        List.of(new BestSellerResponse(tart, 2)),
+        bestSellerService.getBestSellers(BestSellerWindow.DAILY, CAKES, 10));
+    verify(productRepository).findAllActiveByIdIn(any());
+  }
+
+  @Test
+  void getBestSellers_skipsProductsThatAreGone() {
+    ProductListItem tart = item(TART);
+    when(productRepository.findAllActiveByIdIn(any())).thenReturn(List.of(tart));
+    sold(CAKE, 3);
+    sold(TART, 1);
+
+    assertEquals(
+        List.of(new BestSellerResponse(tart, 1)),
+        bestSellerService.getBestSellers(BestSellerWindow.DAILY, null, 10));
+    bestSellerService.getBestSellers(BestSellerWindow.DAILY, null, 10);
+    verify(productRepository, times(1)).findAllActiveByIdIn(any());
+
+    bestSellerService.onProductChanged(new ProductChangedEvent(CAKE));
+    bestSellerService.getBestSellers(BestSellerWindow.DAILY, null, 10);
+    verify(productRepository, times(2)).findAllActiveByIdIn(any());
+  }
+
+  @Test
+  void reload_replaysOnlyOrdersMissingFromTheRollupsRead() {
+    LocalDate today = LocalDate.now();
+    UUID counted = UUID.randomUUID();
+    UUID late = UUID.randomUUID();
+    when(dailyProductSalesRepository.findProductSalesSince(today.minusDays(6)))
+        .thenAnswer(
+            invocation -> {
+              // Both orders commit during the read, but only the first made it into the rollups.
+              sold(counted, CAKE, 4);
+              sold(late, CAKE, 1);
+              return List.of(new ProductSalesRow(CAKE, CAKES, today, 4));
+            });
+    when(orderRepository.findIdsByIdIn(List.of(counted, late))).thenReturn(List.of(counted));
+    when(productRepository.findAllActiveByIdIn(any())).thenReturn(List.of(item(CAKE)));
+
+    bestSellerService.reload();
+
+    assertEquals(
+        5, bestSellerService.getBestSellers(BestSellerWindow.DAILY, null, 10).get(0).unitsSold());
+  }
+
+  @Test
+  void reload_dropsCachedRows() {
+    when(dailyProductSalesRepository.findProductSalesSince(any())).thenReturn(List.of());
+    when(productRepository.findAllActiveByIdIn(any())).thenReturn(List.of(item(CAKE)));
+    sold(CAKE, 1);
+    bestSellerService.getBestSellers(BestSellerWindow.DAILY, null, 10);
+
+    bestSellerService.reload();
+    sold(CAKE, 1);
+    bestSellerService.getBestSellers(BestSellerWindow.DAILY, null, 10);
+
+    verify(productRepository, times(2)).findAllActiveByIdIn(any());
+  }
+
+  @Test
+  void getBestSellers_productChangedDuringLoad_doesNotCacheOldRows() {
+    ProductListItem cake = item(CAKE);
+    when(productRepository.findAllActiveByIdIn(any()))
+        .thenAnswer(
+            invocation -> {
+              bestSellerService.onProductChanged(new ProductChangedEvent(CAKE));
+              return List.of(cake);
+            });
+    sold(CAKE, 1);
+
+    assertEquals(
+        List.of(new BestSellerResponse(cake, 1)),
+        bestSellerService.getBestSellers(BestSellerWindow.DAILY, null, 10));
+    bestSellerService.getBestSellers(BestSellerWindow.DAILY, null, 10);
+
+    verify(productRepository, times(2)).findAllActiveByIdIn(any());
+  }
+
+  @Test
+  void reload_failureKeepsCurrentRankings() {
+    when(dailyProductSalesRepository.findProductSalesSince(any()))
+        .thenThrow(new IllegalStateException("down"));
+    when(productRepository.findAllActiveByIdIn(any())).thenReturn(List.of(item(CAKE)));
+    sold(CAKE, 2);
+
+    bestSellerService.reload();
+    sold(CAKE, 1);
+
+    assertEquals(
+        3, bestSellerService.getBestSellers(BestSellerWindow.DAILY, null, 10).get(0).unitsSold());
+  }
+
+  @Test
+  void rebuild_rebuildsRollupsOfLongestWindowThenReloads() {
+    LocalDate today = LocalDate.now();
+    when(dailyProductSalesRepository.findProductSalesSince(today.minusDays(6)))
+        .thenReturn(List.of());
+
+    bestSellerService.rebuild();
+
+    var inOrder = inOrder(salesReportService, dailyProductSalesRepository);
+    inOrder.verify(salesReportService).rebuild(today.minusDays(6), today);
+    inOrder.verify(dailyProductSalesRepository).findProductSalesSince(today.minusDays(6));
+  }
+
+  private void sold(UUID productId, long units) {
+    sold(UUID.randomUUID(), productId, units);
+  }
+
+  private void sold(UUID orderId, UUID productId, long units) {
+    bestSellerService.onProductsSold(
+        new ProductsSoldEvent(
+            orderId,
+            LocalDate.now(),
+            List.of(new ProductsSoldEvent.Sale(productId, CAKES, units))));
+  }
+
+  private static ProductListItem item(UUID id) {
+    return new ProductListItem(
+        id,
+        new ProductListItem.Category(CAKES, "Cakes"),
+        "Cake " + id,
+        null,
+        null,
+        null,
+        null,
+        null,
+        10.0,
+        5,
+        false,
+        null,
+        null,
+        0.0,
+        0L);
+  }
+}
@@ -0,0 +1,129 @@
+package rookies.ecommerce.service.export;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import rookies.ecommerce.entity.Category;
+import rookies.ecommerce.entity.Product;
+import rookies.ecommerce.entity.Role;
+import rookies.ecommerce.entity.user.Customer;
+import rookies.ecommerce.exception.AppException;
+import rookies.ecommerce.exception.ErrorCode;
+
+@DataJpaTest(
+    properties = {
+      "spring.flyway.enabled=false",
+      "spring.jpa.hibernate.ddl-auto=create-drop",
+      "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+      "spring.jpa.show-sql=false"
+    })
+@Import(ExportService.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class ExportServiceTest {
+
+  @Autowired ExportService exportService;
+
+  @Autowired TestEntityManager entityManager;
+
+  @Autowired ObjectMapper objectMapper;
+
+  @BeforeEach
+  void setUp() {
+    Category category = Category.builder().name("Cakes").build();
+    entityManager.persist(category);
+    entityManager.persist(product(category, "Sponge", "Light, airy\nand \"fresh\"", false));
+    entityManager.persist(product(category, "Tart", null, false));
+    entityManager.persist(product(category, "Gone", null, true));
+
+    Role role = new Role();
+    role.setId(2);
+    role.setName("CUSTOMER");
+    entityManager.persist(role);
+    Customer customer = new Customer();
+    customer.setEmail("customer@example.com");
+    customer.setPassword("password");
+    customer.setFirstName("Jane");
+    customer.setPhoneNumber("0912345678");
+    customer.setAddress("12 Main St, Hanoi");
+    customer.setRole(role);
+    entityManager.persist(customer);
+
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  void exportProducts_csv_writesHeaderAndQuotesSpecialValues() throws IOException {
+    String csv = export(out -> exportService.exportProducts(ExportFormat.CSV, out));
+
+    List<String> records = List.of(csv.split("\r\n"));
+    assertEquals(String.join(",", ExportService.PRODUCT_COLUMNS), records.get(0));
+    assertEquals(3, records.size());
+    assertTrue(csv.contains(",Sponge,Cakes,\"Light, airy\nand \"\"fresh\"\"\",12.5,10,false,"));
+    assertTrue(csv.contains(",Tart,Cakes,,12.5,10,false,"));
+    assertFalse(csv.contains("Gone"));
+  }
+
+  @Test
+  void exportCustomers_ndjson_writesOneObjectPerLine() throws IOException {
+    String ndjson = export(out -> exportService.exportCustomers(ExportFormat.NDJSON, out));
+
+    String[] lines = ndjson.split("\n");
+    assertEquals(1, lines.length);
+    assertTrue(ndjson.endsWith("\n"));
+    JsonNode customer = objectMapper.readTree(lines[0]);
+    assertEquals("customer@example.com", customer.get("email").asText());
+    assertEquals("12 Main St, Hanoi", customer.get("address").asText());
+    assertTrue(customer.get("lastName").isNull());
+    assertTrue(customer.get("isActive").asBoolean());
+  }
+
+  @Test
+  void from_unknownFormat_throwsAppException() {
+    assertEquals(ExportFormat.NDJSON, ExportFormat.from("NDJSON"));
+
+    AppException exception = assertThrows(AppException.class, () -> ExportFormat.from("xlsx"));
+
+    assertEquals(ErrorCode.INVALID_EXPORT_FORMAT, exception.getErrorCode());
+    assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+  }
+
+  private static Product product(
+      Category category, String name, String description, boolean isDeleted) {
+    Product product =
+        Product.builder()
+            .category(category)
+            .name(name)
+            .description(description)
+            .imageUrl("http://image.url/" + name)
+            .price(12.5)
+            .quantity(10)
+            .build();
+    product.setIsDeleted(isDeleted);
+    return product;
+  }
+
+  private static String export(Export export) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    export.writeTo(out);
+    return out.toString(StandardCharsets.UTF_8);
+  }
+
+  private interface Export {
+    void writeTo(ByteArrayOutputStream out) throws IOException;
+  }
+}
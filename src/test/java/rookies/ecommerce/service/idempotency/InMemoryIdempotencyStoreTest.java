@@ -0,0 +1,89 @@
+package rookies.ecommerce.service.idempotency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import rookies.ecommerce.exception.AppException;
+import rookies.ecommerce.exception.ErrorCode;
+
+class InMemoryIdempotencyStoreTest {
+
+  static final Duration TTL = Duration.ofMinutes(5);
+
+  InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(2);
+
+  @Test
+  void claim_secondClaimSeesRequestInProgress() {
+    assertTrue(store.claim("key", "hash", TTL).isEmpty());
+
+    Optional<IdempotencyRecord> duplicate = store.claim("key", "hash", TTL);
+
+    assertTrue(duplicate.isPresent());
+    assertFalse(duplicate.get().isCompleted());
+  }
+
+  @Test
+  void complete_storesResponseForReplay() {
+    store.claim("key", "hash", TTL);
+    store.complete(
+        "key",
+        IdempotencyRecord.builder()
+            .requestHash("hash")
+            .completed(true)
+            .status(201)
+            .body(new byte[] {1, 2})
+            .build(),
+        TTL);
+
+    IdempotencyRecord replay = store.claim("key", "hash", TTL).orElseThrow();
+
+    assertTrue(replay.isCompleted());
+    assertEquals(201, replay.getStatus());
+    assertArrayEquals(new byte[] {1, 2}, replay.getBody());
+  }
+
+  @Test
+  void release_allowsTheKeyToBeClaimedAgain() {
+    store.claim("key", "hash", TTL);
+    store.release("key");
+
+    assertTrue(store.claim("key", "hash", TTL).isEmpty());
+  }
+
+  @Test
+  void claim_expiredEntryCanBeClaimedAgain() {
+    store.claim("key", "hash", Duration.ofMillis(-1));
+
+    assertTrue(store.claim("key", "hash", TTL).isEmpty());
+  }
+
+  @Test
+  void claim_evictsOldestCompletedEntryWhenFull() {
+    store.claim("first", "hash", TTL);
+    store.claim("second", "hash", TTL);
+    store.complete(
+        "second", IdempotencyRecord.builder().requestHash("hash").completed(true).build(), TTL);
+
+    assertTrue(store.claim("third", "hash", TTL).isEmpty());
+
+    assertEquals(2, store.size());
+    assertFalse(store.claim("first", "hash", TTL).orElseThrow().isCompleted());
+    assertFalse(store.claim("third", "hash", TTL).orElseThrow().isCompleted());
+  }
+
+  @Test
+  void claim_rejectedWhenOnlyRequestsInProgressRemain() {
+    store.claim("first", "hash", TTL);
+    store.claim("second", "hash", TTL);
+
+    AppException exception =
+        assertThrows(AppException.class, () -> store.claim("third", "hash", TTL));
+
+    assertEquals(ErrorCode.IDEMPOTENCY_STORE_FULL, exception.getErrorCode());
+    assertEquals(HttpStatus.TOO_MANY_REQUESTS, exception.getHttpStatus());
+    assertFalse(store.claim("first", "hash", TTL).orElseThrow().isCompleted());
+  }
+}
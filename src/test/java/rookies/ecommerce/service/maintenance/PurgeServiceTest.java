@@ -0,0 +1,143 @@
+package rookies.ecommerce.service.maintenance;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import rookies.ecommerce.dto.response.maintenance.PurgeReportResponse;
+import rookies.ecommerce.repository.CartRepository;
+import rookies.ecommerce.repository.CategoryRepository;
+import rookies.ecommerce.repository.CustomerRepository;
+import rookies.ecommerce.repository.OutboxEventRepository;
+import rookies.ecommerce.repository.ProductRepository;
+import rookies.ecommerce.repository.ReviewRepository;
+
+@ExtendWith(MockitoExtension.class)
+class PurgeServiceTest {
+
+  static final UUID MIN_ID = new UUID(0L, 0L);
+
+  @Mock CartRepository cartRepository;
+
+  @Mock ProductRepository productRepository;
+
+  @Mock CategoryRepository categoryRepository;
+
+  @Mock CustomerRepository customerRepository;
+
+  @Mock ReviewRepository reviewRepository;
+
+  @Mock OutboxEventRepository outboxEventRepository;
+
+  @Mock TransactionTemplate transactionTemplate;
+
+  @InjectMocks PurgeService purgeService;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(purgeService, "chunkSize", 2);
+    ReflectionTestUtils.setField(purgeService, "maxChunksPerRun", 10);
+    ReflectionTestUtils.setField(purgeService, "pauseBetweenChunksMs", 0L);
+    ReflectionTestUtils.setField(purgeService, "abandonedCartDays", 30);
+    ReflectionTestUtils.setField(purgeService, "softDeletedRetentionDays", 90);
+    ReflectionTestUtils.setField(purgeService, "processedOutboxRetentionDays", 7);
+
+    when(transactionTemplate.execute(any()))
+        .thenAnswer(
+            invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    lenient()
+        .when(productRepository.findPurgeableIdsAfter(any(), any(), any(Pageable.class)))
+        .thenReturn(Collections.emptyList());
+    lenient()
+        .when(categoryRepository.findPurgeableIdsAfter(any(), any(), any(Pageable.class)))
+        .thenReturn(Collections.emptyList());
+    lenient()
+        .when(customerRepository.findPurgeableIdsAfter(any(), any(), any(Pageable.class)))
+        .thenReturn(Collections.emptyList());
+    lenient()
+        .when(outboxEventRepository.findProcessedIdsAfter(any(), any(), any(Pageable.class)))
+        .thenReturn(Collections.emptyList());
+  }
+
+  @Test
+  void purge_walksCartItemsInKeysetChunks() {
+    UUID first = new UUID(0L, 1L);
+    UUID second = new UUID(0L, 2L);
+    UUID third = new UUID(0L, 3L);
+
+    when(cartRepository.findAbandonedIdsAfter(any(), eq(MIN_ID), any(Pageable.class)))
+        .thenReturn(List.of(first, second));
+    when(cartRepository.findAbandonedIdsAfter(any(), eq(second), any(Pageable.class)))
+        .thenReturn(List.of(third));
+    when(cartRepository.deleteAbandonedByIdIn(eq(List.of(first, second)), any())).thenReturn(2);
+    when(cartRepository.deleteAbandonedByIdIn(eq(List.of(third)), any())).thenReturn(1);
+
+    PurgeReportResponse report = purgeService.purge();
+
+    assertEquals(3, report.getCartItemsDeleted());
+    assertEquals(0, report.getProductsDeleted());
+    verify(cartRepository, times(2)).findAbandonedIdsAfter(any(), any(), any(Pageable.class));
+    verify(transactionTemplate, times(2)).execute(any());
+    assertSame(report, purgeService.getLastReport());
+  }
+
+  @Test
+  void purge_removesDependentRowsBeforeProducts() {
+    UUID productId = UUID.randomUUID();
+    when(cartRepository.findAbandonedIdsAfter(any(), any(), any(Pageable.class)))
+        .thenReturn(Collections.emptyList());
+    when(productRepository.findPurgeableIdsAfter(any(), eq(MIN_ID), any(Pageable.class)))
+        .thenReturn(List.of(productId));
+    when(productRepository.deleteSoftDeletedByIdIn(List.of(productId))).thenReturn(1);
+
+    PurgeReportResponse report = purgeService.purge();
+
+    assertEquals(1, report.getProductsDeleted());
+    var inOrder = inOrder(cartRepository, reviewRepository, productRepository);
+    inOrder.verify(cartRepository).deleteAllByProductIdIn(List.of(productId));
+    inOrder.verify(reviewRepository).deleteAllByProductIdIn(List.of(productId));
+    inOrder.verify(productRepository).deleteSoftDeletedByIdIn(List.of(productId));
+  }
+
+  @Test
+  void purge_deletesProcessedOutboxEventsPastRetention() {
+    UUID eventId = UUID.randomUUID();
+    when(cartRepository.findAbandonedIdsAfter(any(), any(), any(Pageable.class)))
+        .thenReturn(Collections.emptyList());
+    when(outboxEventRepository.findProcessedIdsAfter(any(), eq(MIN_ID), any(Pageable.class)))
+        .thenReturn(List.of(eventId));
+    when(outboxEventRepository.deleteProcessedByIdIn(List.of(eventId))).thenReturn(1);
+
+    PurgeReportResponse report = purgeService.purge();
+
+    assertEquals(1, report.getOutboxEventsDeleted());
+    verify(outboxEventRepository).deleteProcessedByIdIn(List.of(eventId));
+  }
+
+  @Test
+  void purge_respectsMaxChunksPerRun() {
+    ReflectionTestUtils.setField(purgeService, "maxChunksPerRun", 1);
+    when(cartRepository.findAbandonedIdsAfter(any(), any(), any(Pageable.class)))
+        .thenReturn(List.of(UUID.randomUUID(), UUID.randomUUID()));
+    when(cartRepository.deleteAbandonedByIdIn(any(), any())).thenReturn(2);
+
+    PurgeReportResponse report = purgeService.purge();
+
+    assertEquals(2, report.getCartItemsDeleted());
+    verify(cartRepository, times(1)).findAbandonedIdsAfter(any(), any(), any(Pageable.class));
+  }
+}
@@ -0,0 +1,103 @@
+package rookies.ecommerce.service.order;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.support.TransactionTemplate;
+import rookies.ecommerce.entity.CartItem;
+import rookies.ecommerce.entity.Category;
+import rookies.ecommerce.entity.Product;
+import rookies.ecommerce.entity.Role;
+import rookies.ecommerce.entity.user.Customer;
+import rookies.ecommerce.service.category.ICategoryService;
+import rookies.ecommerce.service.outbox.IOutboxService;
+import rookies.ecommerce.service.product.IProductCountService;
+import rookies.ecommerce.service.product.ProductDetailCache;
+import rookies.ecommerce.service.product.ProductService;
+import rookies.ecommerce.service.report.ISalesReportService;
+import rookies.ecommerce.service.upload.IImageDeletionService;
+import rookies.ecommerce.service.upload.IProductImageService;
+
+/**
+ * Checks that checkout evicts the product detail cache once the order commits. The test commits its
+ * transaction, so it has a context, and therefore a database, of its own.
+ */
+@DataJpaTest(
+    properties = {
+      "spring.flyway.enabled=false",
+      "spring.jpa.hibernate.ddl-auto=create-drop",
+      "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+      "spring.jpa.show-sql=false"
+    })
+@Import({OrderService.class, ProductService.class, ProductDetailCache.class})
+class OrderServiceCacheTest {
+
+  @Autowired OrderService orderService;
+
+  @Autowired ProductService productService;
+
+  @Autowired TestEntityManager entityManager;
+
+  @MockitoBean IOutboxService outboxService;
+
+  @MockitoBean ISalesReportService salesReportService;
+
+  @MockitoBean IProductImageService productImageService;
+
+  @MockitoBean ICategoryService categoryService;
+
+  @MockitoBean IImageDeletionService imageDeletionService;
+
+  @MockitoBean IProductCountService productCountService;
+
+  @MockitoBean TransactionTemplate transactionTemplate;
+
+  @Test
+  void placeOrder_cachedDetailShowsNewStockOnceOrderCommits() {
+    Role role = new Role();
+    role.setId(2);
+    role.setName("CUSTOMER");
+    entityManager.persist(role);
+
+    Customer customer = new Customer();
+    customer.setEmail("customer@example.com");
+    customer.setPassword("password");
+    customer.setPhoneNumber("0912345678");
+    customer.setAddress("Ho Chi Minh City");
+    customer.setRole(role);
+    entityManager.persist(customer);
+
+    Category category = Category.builder().name("Cakes").build();
+    entityManager.persist(category);
+    Product product =
+        Product.builder()
+            .category(category)
+            .name("Chocolate Cake")
+            .imageUrl("http://image.url/cake")
+            .price(10.0)
+            .quantity(10)
+            .build();
+    entityManager.persist(product);
+    entityManager.persist(
+        CartItem.builder().customer(customer).product(product).quantity(3).build());
+    entityManager.flush();
+    entityManager.clear();
+    UUID productId = product.getId();
+
+    assertEquals(10, productService.getProductDetailById(productId).getQuantity());
+
+    orderService.placeOrder(customer.getId());
+    TestTransaction.flagForCommit();
+    TestTransaction.end();
+
+    TestTransaction.start();
+    assertEquals(7, productService.getProductDetailById(productId).getQuantity());
+  }
+}
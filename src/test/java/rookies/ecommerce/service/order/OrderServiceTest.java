@@ -0,0 +1,230 @@
+package rookies.ecommerce.service.order;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import rookies.ecommerce.dto.response.KeysetPageResponse;
+import rookies.ecommerce.dto.response.order.OrderResponse;
+import rookies.ecommerce.entity.CartItem;
+import rookies.ecommerce.entity.Category;
+import rookies.ecommerce.entity.Order;
+import rookies.ecommerce.entity.OrderItem;
+import rookies.ecommerce.entity.Product;
+import rookies.ecommerce.entity.Role;
+import rookies.ecommerce.entity.user.Customer;
+import rookies.ecommerce.exception.AppException;
+import rookies.ecommerce.exception.ErrorCode;
+import rookies.ecommerce.service.outbox.IOutboxService;
+import rookies.ecommerce.service.report.ISalesReportService;
+
+@DataJpaTest(
+    properties = {
+      "spring.flyway.enabled=false",
+      "spring.jpa.hibernate.ddl-auto=create-drop",
+      "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+      "spring.jpa.properties.hibernate.generate_statistics=true",
+      "spring.jpa.show-sql=false"
+    })
+@Import(OrderService.class)
+class OrderServiceTest {
+
+  static final int ORDER_COUNT = 30;
+  static final int ITEMS_PER_ORDER = 3;
+
+  @Autowired OrderService orderService;
+
+  @Autowired TestEntityManager entityManager;
+
+  @Autowired EntityManagerFactory entityManagerFactory;
+
+  @MockitoBean IOutboxService outboxService;
+
+  @MockitoBean ISalesReportService salesReportService;
+
+  UUID customerId;
+
+  UUID productId;
+
+  @BeforeEach
+  void setUp() {
+    Role role = new Role();
+    role.setId(2);
+    role.setName("CUSTOMER");
+    entityManager.persist(role);
+
+    Customer customer = new Customer();
+    customer.setEmail("customer@example.com");
+    customer.setPassword("password");
+    customer.setPhoneNumber("0912345678");
+    customer.setAddress("Ho Chi Minh City");
+    customer.setRole(role);
+    entityManager.persist(customer);
+    customerId = customer.getId();
+
+    Category category = Category.builder().name("Cakes").build();
+    entityManager.persist(category);
+
+    Product[] products = new Product[ITEMS_PER_ORDER];
+    for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+      products[i] =
+          Product.builder()
+              .category(category)
+              .name("Product " + i)
+              .imageUrl("http://image.url/" + i)
+              .price(10.0 + i)
+              .quantity(100)
+              .build();
+      entityManager.persist(products[i]);
+    }
+
+    for (int i = 0; i < ORDER_COUNT; i++) {
+      Order order = new Order();
+      order.setCustomer(customer);
+      order.setTotalAmount(33.0);
+      entityManager.persist(order);
+      for (Product product : products) {
+        OrderItem item =
+            OrderItem.builder()
+                .order(order)
+                .product(product)
+                .quantity(1)
+                .price(product.getPrice())
+                .build();
+        entityManager.persist(item);
+      }
+    }
+    productId = products[0].getId();
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  void placeOrder_decrementsStockEmptiesCartAndPublishesEvent() {
+    addToCart(4);
+
+    OrderResponse order = orderService.placeOrder(customerId);
+    entityManager.flush();
+    entityManager.clear();
+
+    assertEquals(40.0, order.getTotalAmount());
+    assertEquals(1, order.getItems().size());
+    assertEquals(96, entityManager.find(Product.class, productId).getQuantity());
+    assertNotNull(entityManager.find(Order.class, order.getId()));
+    assertTrue(
+        entityManager
+            .getEntityManager()
+            .createQuery("SELECT ci FROM CartItem ci WHERE ci.customer.id = :id", CartItem.class)
+            .setParameter("id", customerId)
+            .getResultList()
+            .isEmpty());
+    verify(outboxService).publish(eq("Order"), eq(order.getId()), eq("OrderPlaced"), any());
+    verify(salesReportService).recordOrder(any());
+  }
+
+  @Test
+  void placeOrder_insufficientStock_throwsAppException() {
+    addToCart(101);
+
+    AppException exception =
+        assertThrows(AppException.class, () -> orderService.placeOrder(customerId));
+
+    assertEquals(ErrorCode.INSUFFICIENT_STOCK, exception.getErrorCode());
+    verifyNoInteractions(outboxService, salesReportService);
+  }
+
+  @Test
+  void placeOrder_emptyCart_throwsAppException() {
+    AppException exception =
+        assertThrows(AppException.class, () -> orderService.placeOrder(customerId));
+
+    assertEquals(ErrorCode.EMPTY_CART, exception.getErrorCode());
+  }
+
+  @Test
+  void getOrderHistory_statementCountDoesNotGrowWithPageSize() {
+    Statistics statistics = statistics();
+
+    statistics.clear();
+    KeysetPageResponse<OrderResponse> small = orderService.getOrderHistory(customerId, null, 2);
+    long smallPageStatements = statistics.getPrepareStatementCount();
+    entityManager.clear();
+
+    statistics.clear();
+    KeysetPageResponse<OrderResponse> large = orderService.getOrderHistory(customerId, null, 25);
+    long largePageStatements = statistics.getPrepareStatementCount();
+
+    assertEquals(2, small.getContent().size());
+    assertEquals(25, large.getContent().size());
+    large.getContent().forEach(order -> assertEquals(ITEMS_PER_ORDER, order.getItems().size()));
+    assertTrue(largePageStatements <= 2, "expected at most 2 statements");
+    assertEquals(smallPageStatements, largePageStatements);
+  }
+
+  @Test
+  void getOrderHistory_cursorWalksEveryOrderOnce() {
+    Set<UUID> seen = new HashSet<>();
+    String cursor = null;
+    int pages = 0;
+    do {
+      KeysetPageResponse<OrderResponse> page = orderService.getOrderHistory(customerId, cursor, 7);
+      page.getContent().forEach(order -> assertTrue(seen.add(order.getId())));
+      cursor = page.getNextCursor();
+      assertEquals(page.isHasNext(), cursor != null);
+      pages++;
+    } while (cursor != null);
+
+    assertEquals(ORDER_COUNT, seen.size());
+    assertEquals(5, pages);
+  }
+
+  @Test
+  void getOrderHistory_otherCustomer_returnsEmptyPage() {
+    KeysetPageResponse<OrderResponse> page =
+        orderService.getOrderHistory(UUID.randomUUID(), null, 10);
+
+    assertTrue(page.getContent().isEmpty());
+    assertFalse(page.isHasNext());
+    assertNull(page.getNextCursor());
+  }
+
+  @Test
+  void getOrderHistory_malformedCursor_throwsAppException() {
+    AppException exception =
+        assertThrows(
+            AppException.class, () -> orderService.getOrderHistory(customerId, "not-a-cursor", 10));
+
+    assertEquals(ErrorCode.INVALID_CURSOR, exception.getErrorCode());
+    assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+  }
+
+  private void addToCart(int quantity) {
+    CartItem cartItem =
+        CartItem.builder()
+            .customer(entityManager.find(Customer.class, customerId))
+            .product(entityManager.find(Product.class, productId))
+            .quantity(quantity)
+            .build();
+    entityManager.persistAndFlush(cartItem);
+    entityManager.clear();
+  }
+
+  private Statistics statistics() {
+    return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+}
@@ -0,0 +1,166 @@
+package rookies.ecommerce.service.outbox;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import rookies.ecommerce.entity.OutboxEvent;
+import rookies.ecommerce.repository.OutboxEventRepository;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+  @Mock OutboxEventRepository outboxEventRepository;
+
+  @Mock TransactionTemplate transactionTemplate;
+
+  @Mock ObjectProvider<OutboxEventConsumer> consumerProvider;
+
+  RecordingConsumer consumer = new RecordingConsumer();
+
+  SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  OutboxRelay outboxRelay;
+
+  @BeforeEach
+  void setUp() {
+    when(consumerProvider.orderedStream()).thenReturn(Stream.of(consumer));
+    outboxRelay =
+        new OutboxRelay(
+            outboxEventRepository, consumerProvider, transactionTemplate, meterRegistry);
+    ReflectionTestUtils.setField(outboxRelay, "batchSize", 2);
+    ReflectionTestUtils.setField(outboxRelay, "maxBatchesPerPoll", 5);
+    ReflectionTestUtils.setField(outboxRelay, "maxAttempts", 3);
+    ReflectionTestUtils.setField(outboxRelay, "baseBackoffMs", 1000L);
+    ReflectionTestUtils.setField(outboxRelay, "maxBackoffMs", 60000L);
+
+    lenient()
+        .when(transactionTemplate.execute(any()))
+        .thenAnswer(
+            invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    lenient()
+        .when(outboxEventRepository.findFirstByStatusOrderByCreatedAtAsc(any()))
+        .thenReturn(Optional.empty());
+  }
+
+  @Test
+  void relay_drainsFullBatchesUntilBacklogIsEmpty() {
+    OutboxEvent first = event();
+    OutboxEvent second = event();
+    OutboxEvent third = event();
+    when(outboxEventRepository.claimPendingBatch(any(), anyInt()))
+        .thenReturn(List.of(first, second))
+        .thenReturn(List.of(third));
+
+    outboxRelay.relay();
+
+    assertEquals(List.of(first, second, third), consumer.received);
+    assertEquals(OutboxEvent.Status.PROCESSED, third.getStatus());
+    assertNotNull(third.getProcessedAt());
+    verify(outboxEventRepository, times(2)).claimPendingBatch(any(), eq(2));
+    assertEquals(3.0, meterRegistry.counter("outbox.events.dispatched").count());
+  }
+
+  @Test
+  void relay_failedEventIsRetriedUntilMaxAttempts() {
+    OutboxEvent event = event();
+    event.setAttempts(2);
+    consumer.failing = true;
+    when(outboxEventRepository.claimPendingBatch(any(), anyInt())).thenReturn(List.of(event));
+
+    outboxRelay.relay();
+
+    assertEquals(3, event.getAttempts());
+    assertEquals(OutboxEvent.Status.FAILED, event.getStatus());
+    assertTrue(event.getLastError().contains("boom"));
+    assertEquals(1.0, meterRegistry.counter("outbox.events.failed").count());
+  }
+
+  @Test
+  void relay_failedEventBacksOffExponentially() {
+    OutboxEvent event = event();
+    event.setAttempts(1);
+    consumer.failing = true;
+    when(outboxEventRepository.claimPendingBatch(any(), anyInt())).thenReturn(List.of(event));
+    LocalDateTime before = LocalDateTime.now();
+
+    outboxRelay.relay();
+
+    assertEquals(2, event.getAttempts());
+    assertEquals(OutboxEvent.Status.PENDING, event.getStatus());
+    assertFalse(event.getNextAttemptAt().isBefore(before.plusSeconds(2)));
+    assertTrue(event.getNextAttemptAt().isBefore(before.plusSeconds(3)));
+  }
+
+  @Test
+  void relay_stopsDrainingWhenBatchHasFailures() {
+    OutboxEvent first = event();
+    OutboxEvent second = event();
+    consumer.failing = true;
+    when(outboxEventRepository.claimPendingBatch(any(), anyInt()))
+        .thenReturn(List.of(first, second));
+
+    outboxRelay.relay();
+
+    verify(outboxEventRepository, times(1)).claimPendingBatch(any(), eq(2));
+    assertEquals(OutboxEvent.Status.PENDING, first.getStatus());
+    assertEquals(1, first.getAttempts());
+  }
+
+  @Test
+  void relay_updatesBacklogGauges() {
+    when(outboxEventRepository.claimPendingBatch(any(), anyInt()))
+        .thenReturn(Collections.emptyList());
+    when(outboxEventRepository.countByStatus(OutboxEvent.Status.PENDING)).thenReturn(7L);
+
+    outboxRelay.relay();
+
+    assertEquals(7.0, meterRegistry.get("outbox.events.pending").gauge().value());
+  }
+
+  private OutboxEvent event() {
+    OutboxEvent event =
+        OutboxEvent.builder()
+            .aggregateType("Product")
+            .aggregateId(UUID.randomUUID())
+            .eventType("ProductUpdated")
+            .payload("{}")
+            .createdAt(LocalDateTime.now().minusSeconds(1))
+            .nextAttemptAt(LocalDateTime.now().minusSeconds(1))
+            .build();
+    event.setId(UUID.randomUUID());
+    return event;
+  }
+
+  static class RecordingConsumer implements OutboxEventConsumer {
+    final List<OutboxEvent> received = new ArrayList<>();
+    boolean failing;
+
+    @Override
+    public void consume(OutboxEvent event) {
+      if (failing) {
+        throw new IllegalStateException("boom");
+      }
+      received.add(event);
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package rookies.ecommerce.service.product;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import rookies.ecommerce.dto.event.ProductChangedEvent;
+import rookies.ecommerce.dto.response.product.ProductCountRow;
+import rookies.ecommerce.repository.ProductRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCountServiceTest {
+
+  static final UUID CAKES = UUID.randomUUID();
+  static final UUID BREAD = UUID.randomUUID();
+
+  @Mock ProductRepository productRepository;
+
+  @InjectMocks ProductCountService productCountService;
+
+  @Test
+  void count_sumsGroupedCountsPerListing() {
+    when(productRepository.countActiveByCategoryAndFeatured())
+        .thenReturn(
+            List.of(
+                new ProductCountRow(CAKES, false, 30),
+                new ProductCountRow(CAKES, true, 5),
+                new ProductCountRow(BREAD, false, 12)));
+
+    assertEquals(47, productCountService.count(null, false));
+    assertEquals(5, productCountService.count(null, true));
+    assertEquals(35, productCountService.count(CAKES, false));
+    assertEquals(5, productCountService.count(CAKES, true));
+    assertEquals(0, productCountService.count(BREAD, true));
+    assertEquals(0, productCountService.count(UUID.randomUUID(), false));
+    verify(productRepository, times(1)).countActiveByCategoryAndFeatured();
+  }
+
+  @Test
+  void refresh_reloadsOnlyAfterProductChange() {
+    ReflectionTestUtils.setField(productCountService, "maxAgeMs", 60_000L);
+    when(productRepository.countActiveByCategoryAndFeatured())
+        .thenReturn(List.of(new ProductCountRow(CAKES, false, 30)))
+        .thenReturn(List.of(new ProductCountRow(CAKES, false, 31)));
+    productCountService.count(null, false);
+
+    productCountService.refresh();
+    assertEquals(30, productCountService.count(null, false));
+
+    productCountService.onProductChanged(new ProductChangedEvent(UUID.randomUUID()));
+    productCountService.refresh();
+    assertEquals(31, productCountService.count(null, false));
+    verify(productRepository, times(2)).countActiveByCategoryAndFeatured();
+  }
+
+  @Test
+  void refresh_beforeFirstRead_loadsNothing() {
+    productCountService.refresh();
+
+    verifyNoInteractions(productRepository);
+  }
+
+  @Test
+  void estimate_asksThePlanner() {
+    when(productRepository.estimateActiveCount(CAKES, true)).thenReturn(120L);
+
+    assertEquals(120, productCountService.estimate(CAKES, true));
+  }
+}
@@ -0,0 +1,96 @@
+package rookies.ecommerce.service.product;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import rookies.ecommerce.dto.event.ProductChangedEvent;
+import rookies.ecommerce.dto.response.product.ProductDetailResponse;
+
+class ProductDetailCacheTest {
+
+  static final UUID CAKE = UUID.randomUUID();
+  static final UUID TART = UUID.randomUUID();
+  static final UUID PIE = UUID.randomUUID();
+
+  ProductDetailCache cache = new ProductDetailCache(2, 60_000);
+
+  @Test
+  void putAll_thenGet_returnsCachedDetails() {
+    cache.putAll(cache.version(), List.of(detail(CAKE), detail(TART)));
+
+    assertEquals(CAKE, cache.get(CAKE).orElseThrow().getId());
+    assertEquals(Map.of(TART, cache.get(TART).orElseThrow()), cache.getAll(List.of(TART, PIE)));
+  }
+
+  @Test
+  void putAll_overCapacity_evictsLeastRecentlyUsed() {
+    cache.putAll(cache.version(), List.of(detail(CAKE), detail(TART)));
+    cache.get(CAKE);
+
+    cache.putAll(cache.version(), List.of(detail(PIE)));
+
+    assertTrue(cache.get(CAKE).isPresent());
+    assertEquals(Optional.empty(), cache.get(TART));
+    assertEquals(2, cache.size());
+  }
+
+  @Test
+  void onProductChanged_evictsProduct() {
+    cache.putAll(cache.version(), List.of(detail(CAKE), detail(TART)));
+
+    cache.onProductChanged(new ProductChangedEvent(CAKE));
+
+    assertEquals(Optional.empty(), cache.get(CAKE));
+    assertTrue(cache.get(TART).isPresent());
+  }
+
+  @Test
+  void putAll_readBeforeEviction_isNotCached() {
+    long readVersion = cache.version();
+    cache.evict(CAKE);
+
+    cache.putAll(readVersion, List.of(detail(CAKE)));
+
+    assertEquals(Optional.empty(), cache.get(CAKE));
+  }
+
+  @Test
+  void putAll_evictionOfAnotherProduct_stillCachesTheRead() {
+    long readVersion = cache.version();
+    cache.evict(TART);
+
+    cache.putAll(readVersion, List.of(detail(CAKE), detail(TART)));
+
+    assertTrue(cache.get(CAKE).isPresent());
+    assertEquals(Optional.empty(), cache.get(TART));
+  }
+
+  @Test
+  void putAll_readOlderThanForgottenEvictions_isNotCached() {
+    long readVersion = cache.version();
+    cache.evict(CAKE);
+    cache.evict(TART);
+    cache.evict(PIE);
+
+    cache.putAll(readVersion, List.of(detail(CAKE)));
+
+    assertEquals(Optional.empty(), cache.get(CAKE));
+  }
+
+  @Test
+  void get_expiredEntry_isDropped() {
+    ProductDetailCache expiring = new ProductDetailCache(10, 0);
+    expiring.putAll(expiring.version(), List.of(detail(CAKE)));
+
+    assertEquals(Optional.empty(), expiring.get(CAKE));
+    assertEquals(0, expiring.size());
+  }
+
+  private static ProductDetailResponse detail(UUID id) {
+    return ProductDetailResponse.builder().id(id).name("Product " + id).build();
+  }
+}
@@ -0,0 +1,176 @@
+package rookies.ecommerce.service.product;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import rookies.ecommerce.dto.response.product.ProductImportStatusResponse;
+import rookies.ecommerce.dto.response.product.ProductImportStatusResponse.RowError;
+import rookies.ecommerce.dto.response.product.ProductImportStatusResponse.Status;
+import rookies.ecommerce.entity.Category;
+import rookies.ecommerce.entity.Product;
+import rookies.ecommerce.exception.AppException;
+import rookies.ecommerce.exception.ErrorCode;
+import rookies.ecommerce.service.outbox.IOutboxService;
+
+@DataJpaTest(
+    properties = {
+      "spring.flyway.enabled=false",
+      "spring.jpa.hibernate.ddl-auto=create-drop",
+      "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+      "spring.jpa.properties.hibernate.generate_statistics=true",
+      "spring.jpa.show-sql=false",
+      "app.product-import.batch-size=100"
+    })
+@Import(ProductImportService.class)
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+class ProductImportServiceTest {
+
+  static final String HEADER = "name,category,description,price,quantity,isFeatured,imageUrl";
+
+  @Autowired ProductImportService productImportService;
+
+  @Autowired TestEntityManager entityManager;
+
+  @Autowired EntityManagerFactory entityManagerFactory;
+
+  @MockitoBean IOutboxService outboxService;
+
+  @TempDir Path tempDir;
+
+  UUID categoryId;
+
+  @BeforeEach
+  void setUp() {
+    Category category = Category.builder().name("Cakes").build();
+    entityManager.persist(category);
+    categoryId = category.getId();
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  void runImport_csv_insertsRowsInJdbcBatches() throws IOException {
+    StringBuilder csv = new StringBuilder(HEADER).append('\n');
+    for (int i = 0; i < 250; i++) {
+      csv.append("Cake ").append(i).append(",cakes,,12.5,10,false,http://image.url/").append(i);
+      csv.append('\n');
+    }
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    ProductImportStatusResponse result = runImport("products.csv", csv.toString());
+
+    assertEquals(Status.COMPLETED, result.getStatus());
+    assertEquals(250, result.getImportedRows());
+    assertEquals(0, result.getFailedRows());
+    assertEquals(250, statistics.getEntityInsertCount());
+    // One statement per batch of 100 rather than one per row.
+    assertTrue(statistics.getPrepareStatementCount() < 10);
+    assertEquals(250L, countProducts());
+    verify(outboxService, times(250))
+        .publish(eq("Product"), any(UUID.class), eq("ProductCreated"), any());
+  }
+
+  @Test
+  void runImport_csv_reportsRejectedRowsByLine() throws IOException {
+    String csv =
+        HEADER
+            + "\n"
+            + "Sponge,Cakes,\"Light, airy\nand \"\"fresh\"\"\",9.5,3,true,http://image.url/1\n"
+            + "No price,Cakes,,,3,false,http://image.url/2\n"
+            + "Unknown,Pies,,4,3,false,http://image.url/3\n"
+            + "Bad number,Cakes,,abc,3,false,http://image.url/4\n"
+            + "Short row,Cakes\n";
+
+    ProductImportStatusResponse result = runImport("products.csv", csv);
+
+    assertEquals(1, result.getImportedRows());
+    assertEquals(4, result.getFailedRows());
+    assertEquals(
+        List.of(
+            "4: Product price is required",
+            "5: Category not found",
+            "6: Invalid value for field 'price'",
+            "7: Expected 7 columns but found 2"),
+        result.getErrors().stream().map(ProductImportServiceTest::describe).toList());
+    Product sponge =
+        entityManager
+            .getEntityManager()
+            .createQuery("SELECT p FROM Product p", Product.class)
+            .getSingleResult();
+    assertEquals("Light, airy\nand \"fresh\"", sponge.getDescription());
+    assertTrue(sponge.isFeatured());
+  }
+
+  @Test
+  void runImport_ndjson_resolvesCategoryById() throws IOException {
+    String ndjson =
+        "{\"name\":\"Tart\",\"categoryId\":\""
+            + categoryId
+            + "\",\"price\":5,\"quantity\":1,\"imageUrl\":\"http://image.url/1\"}\n"
+            + "\n"
+            + "{\"name\":\"Broken\",\n"
+            + "{\"name\":\"Pie\",\"categoryId\":\""
+            + UUID.randomUUID()
+            + "\",\"price\":5,\"quantity\":1,\"imageUrl\":\"http://image.url/2\"}\n";
+
+    ProductImportStatusResponse result = runImport("products.ndjson", ndjson);
+
+    assertEquals(1, result.getImportedRows());
+    assertEquals(
+        List.of("3: Malformed record", "4: Category not found"),
+        result.getErrors().stream().map(ProductImportServiceTest::describe).toList());
+  }
+
+  @Test
+  void resolveFormat_unknownExtension_throwsAppException() {
+    assertEquals("ndjson", ProductImportService.resolveFormat(null, "products.jsonl"));
+    assertEquals("csv", ProductImportService.resolveFormat("CSV", "products.txt"));
+
+    AppException exception =
+        assertThrows(
+            AppException.class, () -> ProductImportService.resolveFormat(null, "products.xlsx"));
+
+    assertEquals(ErrorCode.INVALID_IMPORT_FORMAT, exception.getErrorCode());
+  }
+
+  private ProductImportStatusResponse runImport(String fileName, String content)
+      throws IOException {
+    Path file = Files.writeString(tempDir.resolve(fileName), content);
+    ProductImportJob job = new ProductImportJob(fileName, 100);
+    productImportService.runImport(job, file, ProductImportService.resolveFormat(null, fileName));
+    return job.toResponse();
+  }
+
+  private long countProducts() {
+    return entityManager
+        .getEntityManager()
+        .createQuery("SELECT COUNT(p) FROM Product p", Long.class)
+        .getSingleResult();
+  }
+
+  private static String describe(RowError error) {
+    return error.getLine() + ": " + error.getMessage();
+  }
+}
@@ -1,48 +1,79 @@
 package rookies.ecommerce.service.product;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
-import rookies.ecommerce.dto.projection.product.IProductWithCategoryNameProjection;
+import rookies.ecommerce.dto.event.ProductChangedEvent;
 import rookies.ecommerce.dto.request.product.CreateProductRequest;
+import rookies.ecommerce.dto.request.product.ProductCountMode;
+import rookies.ecommerce.dto.request.product.ProductListingField;
+import rookies.ecommerce.dto.request.product.ProductListingFilter;
 import rookies.ecommerce.dto.request.product.UpdateProductRequest;
 import rookies.ecommerce.dto.response.product.ProductDetailResponse;
+import rookies.ecommerce.dto.response.product.ProductListItem;
 import rookies.ecommerce.entity.Category;
 import rookies.ecommerce.entity.Product;
 import rookies.ecommerce.exception.AppException;
 import rookies.ecommerce.exception.ErrorCode;
 import rookies.ecommerce.repository.ProductRepository;
 import rookies.ecommerce.service.category.ICategoryService;
-import rookies.ecommerce.service.upload.IUploadService;
+import rookies.ecommerce.service.outbox.IOutboxService;
+import rookies.ecommerce.service.upload.IImageDeletionService;
+import rookies.ecommerce.service.upload.IProductImageService;
+import rookies.ecommerce.service.upload.ImageVariants;
 
 @ExtendWith(MockitoExtension.class)
 class ProductServiceTest {
 
   @Mock ProductRepository productRepository;
 
-  @Mock IUploadService cloudinaryService;
+  @Mock IProductImageService productImageService;
 
   @Mock ICategoryService categoryService;
 
+  @Mock IOutboxService outboxService;
+
+  @Mock TransactionTemplate transactionTemplate;
+
+  @Mock IImageDeletionService imageDeletionService;
+
+  @Mock ApplicationEventPublisher eventPublisher;
+
+  @Mock ProductDetailCache productDetailCache;
+
+  @Mock IProductCountService productCountService;
+
   @InjectMocks ProductService productService;
 
+  static final Set<ProductListingField> EVERY_FIELD = ProductListingField.parse(null);
+
   UUID productId = UUID.randomUUID();
   UUID categoryId = UUID.randomUUID();
 
@@ -53,21 +84,90 @@ class ProductServiceTest {
     int size = 2;
     Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
 
-    IProductWithCategoryNameProjection product1 = mock(IProductWithCategoryNameProjection.class);
-    IProductWithCategoryNameProjection product2 = mock(IProductWithCategoryNameProjection.class);
+    ProductListItem product1 = listItem(UUID.randomUUID());
+    ProductListItem product2 = listItem(UUID.randomUUID());
 
-    List<IProductWithCategoryNameProjection> products = List.of(product1, product2);
-    Page<IProductWithCategoryNameProjection> mockPage =
-        new PageImpl<>(products, pageable, products.size());
+    List<ProductListItem> products = List.of(product1, product2);
+    Page<ProductListItem> mockPage = new PageImpl<>(products, pageable, products.size());
 
     when(productRepository.findAllByIsDeletedFalse(pageable)).thenReturn(mockPage);
 
     // When
-    Page<IProductWithCategoryNameProjection> result = productService.getActiveProducts(page, size);
+    Page<ProductListItem> result =
+        productService.getActiveProducts(page, size, ProductCountMode.EXACT, EVERY_FIELD);
 
     // Then
     assertEquals(2, result.getContent().size());
     verify(productRepository).findAllByIsDeletedFalse(pageable);
+    verifyNoInteractions(productCountService);
+  }
+
+  @Test
+  void getActiveProducts_withCounterMode_shouldTakeTotalFromCounters() {
+    Pageable pageable = PageRequest.of(0, 2, Sort.by("createdAt").descending());
+    List<ProductListItem> products =
+        List.of(listItem(UUID.randomUUID()), listItem(UUID.randomUUID()));
+    when(productRepository.findActiveListing(pageable)).thenReturn(products);
+    when(productCountService.count(null, false)).thenReturn(40L);
+
+    Page<ProductListItem> result =
+        productService.getActiveProducts(0, 2, ProductCountMode.COUNTER, EVERY_FIELD);
+
+    assertEquals(products, result.getContent());
+    assertEquals(40, result.getTotalElements());
+    assertEquals(20, result.getTotalPages());
+    verify(productRepository, never()).findAllByIsDeletedFalse(any());
+  }
+
+  @Test
+  void getProductsByCategory_withFields_readsNarrowedSliceAndCountsIt() {
+    Set<ProductListingField> fields = ProductListingField.parse("grid");
+    List<ProductListItem> products =
+        List.of(listItem(UUID.randomUUID()), listItem(UUID.randomUUID()));
+    when(productRepository.findListingSlice(any(), eq(2L), eq(2))).thenReturn(products);
+    when(productRepository.countListing(any())).thenReturn(7L);
+
+    Page<ProductListItem> result =
+        productService.getProductsByCategory(1, 2, categoryId, ProductCountMode.EXACT, fields);
+
+    assertEquals(products, result.getContent());
+    assertEquals(7, result.getTotalElements());
+    ArgumentCaptor<ProductListingFilter> filter =
+        ArgumentCaptor.forClass(ProductListingFilter.class);
+    verify(productRepository).findListingSlice(filter.capture(), eq(2L), eq(2));
+    assertEquals(categoryId, filter.getValue().getCategoryId());
+    assertEquals(fields, filter.getValue().getFields());
+    verify(productRepository, never()).findAllByIsDeletedFalseAndCategoryId(any(), any());
+  }
+
+  @Test
+  void getFeaturedProducts_withFieldsAndCounterMode_takesTotalFromCounters() {
+    List<ProductListItem> products = List.of(listItem(UUID.randomUUID()));
+    when(productRepository.findListingSlice(any(), eq(0L), eq(1))).thenReturn(products);
+    when(productCountService.count(null, true)).thenReturn(30L);
+
+    Page<ProductListItem> result =
+        productService.getFeaturedProducts(
+            0, 1, ProductCountMode.COUNTER, ProductListingField.parse("name,price"));
+
+    assertEquals(30, result.getTotalElements());
+    verify(productRepository, never()).countListing(any());
+  }
+
+  @Test
+  void getProductsByCategory_withEstimateMode_shouldTakeTotalFromPlanner() {
+    Pageable pageable = PageRequest.of(0, 10);
+    List<ProductListItem> products = List.of(listItem(UUID.randomUUID()));
+    when(productRepository.findCategoryListing(categoryId, pageable)).thenReturn(products);
+    when(productCountService.estimate(categoryId, false)).thenReturn(500L);
+
+    Page<ProductListItem> result =
+        productService.getProductsByCategory(
+            0, 10, categoryId, ProductCountMode.ESTIMATE, EVERY_FIELD);
+
+    // A short first page proves the estimate too high, so the page reports what it holds.
+    assertEquals(1, result.getTotalElements());
+    verify(productCountService).estimate(categoryId, false);
   }
 
   @Test
@@ -125,6 +225,53 @@ class ProductServiceTest {
     assertEquals("Electronics", response.getCategory().getName());
   }
 
+  @Test
+  void getProductDetailsByIds_mixesCachedAndLoaded_inRequestOrder() {
+    UUID cachedId = UUID.randomUUID();
+    UUID unknownId = UUID.randomUUID();
+    ProductDetailResponse cached = ProductDetailResponse.builder().id(cachedId).build();
+    Category category = Category.builder().name("Cakes").build();
+    category.setId(categoryId);
+    Product product = Product.builder().name("Tart").category(category).build();
+    product.setId(productId);
+
+    when(productDetailCache.getAll(any())).thenReturn(Map.of(cachedId, cached));
+    when(productDetailCache.version()).thenReturn(7L);
+    when(productRepository.findAllActiveWithCategoryByIdIn(List.of(productId, unknownId)))
+        .thenReturn(List.of(product));
+
+    List<ProductDetailResponse> details =
+        productService.getProductDetailsByIds(List.of(productId, cachedId, unknownId, productId));
+
+    assertEquals(
+        List.of(productId, cachedId), details.stream().map(ProductDetailResponse::getId).toList());
+    assertEquals("Cakes", details.get(0).getCategory().getName());
+    verify(productDetailCache).putAll(7L, List.of(details.get(0)));
+  }
+
+  @Test
+  void getProductDetailsByIds_allCached_skipsDatabase() {
+    ProductDetailResponse cached = ProductDetailResponse.builder().id(productId).build();
+    when(productDetailCache.getAll(any())).thenReturn(Map.of(productId, cached));
+
+    assertEquals(List.of(cached), productService.getProductDetailsByIds(List.of(productId)));
+    verify(productRepository, never()).findAllActiveWithCategoryByIdIn(any());
+  }
+
+  @Test
+  void getProductDetailsByIds_tooMany_throwsBadRequest() {
+    List<UUID> ids = new ArrayList<>();
+    for (int i = 0; i <= ProductService.MAX_BATCH_SIZE; i++) {
+      ids.add(UUID.randomUUID());
+    }
+
+    AppException exception =
+        assertThrows(AppException.class, () -> productService.getProductDetailsByIds(ids));
+
+    assertEquals(ErrorCode.PRODUCT_BATCH_TOO_LARGE, exception.getErrorCode());
+    verifyNoInteractions(productRepository);
+  }
+
   @Test
   void createProduct_shouldUploadImageAndSaveProduct() throws IOException {
     CreateProductRequest request = new CreateProductRequest();
@@ -141,8 +288,10 @@ class ProductServiceTest {
     Category category = Category.builder().name("Phones").build();
     category.setId(categoryId);
 
-    when(cloudinaryService.uploadImage(image)).thenReturn(uploadedImageUrl);
+    when(productImageService.upload(image))
+        .thenReturn(new ImageVariants(uploadedImageUrl, "small-url", "medium-url", "large-url"));
     when(categoryService.getCategoryById(categoryId)).thenReturn(category);
+    runTransactionsInline();
 
     productService.createProduct(request, image);
 
@@ -152,6 +301,9 @@ class ProductServiceTest {
     Product saved = productCaptor.getValue();
     assertEquals("Phone", saved.getName());
     assertEquals(uploadedImageUrl, saved.getImageUrl());
+    assertEquals("small-url", saved.getImageSmallUrl());
+    assertEquals("medium-url", saved.getImageMediumUrl());
+    assertEquals("large-url", saved.getImageLargeUrl());
     assertEquals(category, saved.getCategory());
   }
 
@@ -161,6 +313,7 @@ class ProductServiceTest {
     Product existingProduct = new Product();
     existingProduct.setId(productId);
     existingProduct.setImageUrl("old-image-url");
+    existingProduct.setImageSmallUrl("old-small-url");
     existingProduct.setIsDeleted(false);
 
     UpdateProductRequest updateRequest = new UpdateProductRequest();
@@ -181,15 +334,19 @@ class ProductServiceTest {
         .thenReturn(Optional.of(existingProduct));
     when(categoryService.getCategoryById(categoryId)).thenReturn(category);
     when(image.isEmpty()).thenReturn(false);
-    when(cloudinaryService.uploadImage(image)).thenReturn("new-image-url");
+    when(productImageService.upload(image))
+        .thenReturn(new ImageVariants("new-image-url", "new-small-url", null, null));
+    runTransactionsInline();
 
     // When
     productService.updateProduct(productId, updateRequest, image);
 
     // Then
-    verify(cloudinaryService).deleteImage("old-image-url");
-    verify(cloudinaryService).uploadImage(image);
-    verify(productRepository).save(existingProduct);
+    var inOrder = inOrder(productImageService, imageDeletionService, productRepository);
+    inOrder.verify(productImageService).upload(image);
+    inOrder.verify(imageDeletionService).enqueue("old-image-url");
+    inOrder.verify(imageDeletionService).enqueue("old-small-url");
+    inOrder.verify(productRepository).save(existingProduct);
 
     assertEquals("Updated Name", existingProduct.getName());
     assertEquals("Updated Desc", existingProduct.getDescription());
@@ -198,6 +355,46 @@ class ProductServiceTest {
     assertTrue(existingProduct.isFeatured());
     assertEquals(category, existingProduct.getCategory());
     assertEquals("new-image-url", existingProduct.getImageUrl());
+    assertEquals("new-small-url", existingProduct.getImageSmallUrl());
+    assertNull(existingProduct.getImageMediumUrl());
+  }
+
+  @Test
+  void createProduct_whenSaveFails_shouldQueueUploadedImageForDeletion() throws IOException {
+    CreateProductRequest request = new CreateProductRequest();
+    request.setCategoryId(categoryId);
+    MultipartFile image = mock(MultipartFile.class);
+
+    when(productImageService.upload(image))
+        .thenReturn(new ImageVariants("http://image.url", "http://image.url/small", null, null));
+    when(categoryService.getCategoryById(categoryId))
+        .thenThrow(new AppException(ErrorCode.CATEGORY_NOT_FOUND, HttpStatus.NOT_FOUND));
+    runTransactionsInline();
+
+    assertThrows(AppException.class, () -> productService.createProduct(request, image));
+
+    verify(imageDeletionService).enqueue("http://image.url");
+    verify(imageDeletionService).enqueue("http://image.url/small");
+    verify(productRepository, never()).save(any());
+  }
+
+  @Test
+  void updateProduct_whenProductMissing_shouldQueueNewImageAndKeepOldOne() throws IOException {
+    UpdateProductRequest updateRequest = new UpdateProductRequest();
+    updateRequest.setCategoryId(categoryId);
+    MultipartFile image = mock(MultipartFile.class);
+
+    when(image.isEmpty()).thenReturn(false);
+    when(productImageService.upload(image))
+        .thenReturn(new ImageVariants("new-image-url", null, null, null));
+    when(productRepository.findByIdAndIsDeletedFalse(productId)).thenReturn(Optional.empty());
+    runTransactionsInline();
+
+    assertThrows(
+        AppException.class, () -> productService.updateProduct(productId, updateRequest, image));
+
+    verify(imageDeletionService).enqueue("new-image-url");
+    verify(imageDeletionService, times(1)).enqueue(any());
   }
 
   @Test
@@ -212,6 +409,10 @@ class ProductServiceTest {
 
     assertTrue(product.getIsDeleted());
     verify(productRepository).save(product);
+    verify(outboxService).publish(eq("Product"), eq(productId), eq("ProductDeleted"), any());
+    ArgumentCaptor<ProductChangedEvent> event = ArgumentCaptor.forClass(ProductChangedEvent.class);
+    verify(eventPublisher).publishEvent(event.capture());
+    assertEquals(productId, event.getValue().getProductId());
   }
 
   @Test
@@ -220,12 +421,12 @@ class ProductServiceTest {
     int size = 5;
     Pageable pageable = PageRequest.of(page, size);
 
-    Page<IProductWithCategoryNameProjection> mockPage = mock(Page.class);
+    Page<ProductListItem> mockPage = mock(Page.class);
 
     when(productRepository.findAllByIsDeletedFalseAndIsFeaturedTrue(pageable)).thenReturn(mockPage);
 
-    Page<IProductWithCategoryNameProjection> result =
-        productService.getFeaturedProducts(page, size);
+    Page<ProductListItem> result =
+        productService.getFeaturedProducts(page, size, ProductCountMode.EXACT, EVERY_FIELD);
 
     assertEquals(mockPage, result);
     verify(productRepository).findAllByIsDeletedFalseAndIsFeaturedTrue(pageable);
@@ -237,15 +438,50 @@ class ProductServiceTest {
     int size = 10;
     Pageable pageable = PageRequest.of(page, size);
 
-    Page<IProductWithCategoryNameProjection> mockPage = mock(Page.class);
+    Page<ProductListItem> mockPage = mock(Page.class);
 
     when(productRepository.findAllByIsDeletedFalseAndCategoryId(categoryId, pageable))
         .thenReturn(mockPage);
 
-    Page<IProductWithCategoryNameProjection> result =
-        productService.getProductsByCategory(page, size, categoryId);
+    Page<ProductListItem> result =
+        productService.getProductsByCategory(
+            page, size, categoryId, ProductCountMode.EXACT, EVERY_FIELD);
 
     assertEquals(mockPage, result);
     verify(productRepository).findAllByIsDeletedFalseAndCategoryId(categoryId, pageable);
   }
+
+  private static ProductListItem listItem(UUID id) {
+    return new ProductListItem(
+        id,
+        new ProductListItem.Category(UUID.randomUUID(), "Cakes"),
+        "Cake " + id,
+        null,
+        null,
+        null,
+        null,
+        null,
+        10.0,
+        5,
+        false,
+        null,
+        null,
+        0.0,
+        0L);
+  }
+
+  private void runTransactionsInline() {
+    lenient()
+        .when(transactionTemplate.execute(any()))
+        .thenAnswer(
+            invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    lenient()
+        .doAnswer(
+            invocation -> {
+              invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+              return null;
+            })
+        .when(transactionTemplate)
+        .executeWithoutResult(any());
+  }
 }
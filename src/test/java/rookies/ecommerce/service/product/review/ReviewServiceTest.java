@@ -12,7 +12,9 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
+import rookies.ecommerce.dto.event.ProductChangedEvent;
 import rookies.ecommerce.dto.projection.product.review.ReviewWithUserPreviewProjection;
 import rookies.ecommerce.dto.request.product.review.CreateReviewRequest;
 import rookies.ecommerce.entity.Product;
@@ -20,6 +22,7 @@ import rookies.ecommerce.entity.Review;
 import rookies.ecommerce.entity.user.Customer;
 import rookies.ecommerce.exception.AppException;
 import rookies.ecommerce.exception.ErrorCode;
+import rookies.ecommerce.repository.ProductRepository;
 import rookies.ecommerce.repository.ReviewRepository;
 import rookies.ecommerce.service.product.ProductService;
 import rookies.ecommerce.service.user.UserService;
@@ -28,8 +31,10 @@ import rookies.ecommerce.service.user.UserService;
 class ReviewServiceTest {
 
   @Mock private ReviewRepository reviewRepository;
+  @Mock private ProductRepository productRepository;
   @Mock private UserService userService;
   @Mock private ProductService productService;
+  @Mock private ApplicationEventPublisher eventPublisher;
 
   @InjectMocks private ReviewService reviewService;
 
@@ -58,6 +63,10 @@ class ReviewServiceTest {
     assertEquals(request.getRating(), savedReview.getRating());
     assertEquals(product, savedReview.getProduct());
     assertEquals(customer, savedReview.getCustomer());
+    verify(productRepository).addRating(productId, 5);
+    ArgumentCaptor<ProductChangedEvent> event = ArgumentCaptor.forClass(ProductChangedEvent.class);
+    verify(eventPublisher).publishEvent(event.capture());
+    assertEquals(productId, event.getValue().getProductId());
   }
 
   @Test
@@ -82,6 +91,7 @@ class ReviewServiceTest {
     assertEquals(ErrorCode.REVIEW_EXISTS, exception.getErrorCode());
     assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
     verify(reviewRepository, never()).save(any());
+    verify(productRepository, never()).addRating(any(), anyInt());
   }
 
   @Test
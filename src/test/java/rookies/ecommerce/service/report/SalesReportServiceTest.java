@@ -0,0 +1,159 @@
+package rookies.ecommerce.service.report;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import rookies.ecommerce.dto.event.ProductsSoldEvent;
+import rookies.ecommerce.dto.response.report.SalesPointResponse;
+import rookies.ecommerce.dto.response.report.SalesRollupRebuildResponse;
+import rookies.ecommerce.entity.Category;
+import rookies.ecommerce.entity.Order;
+import rookies.ecommerce.entity.OrderItem;
+import rookies.ecommerce.entity.Product;
+import rookies.ecommerce.exception.AppException;
+import rookies.ecommerce.exception.ErrorCode;
+import rookies.ecommerce.repository.DailyCategorySalesRepository;
+import rookies.ecommerce.repository.DailyProductSalesRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SalesReportServiceTest {
+
+  @Mock DailyProductSalesRepository dailyProductSalesRepository;
+
+  @Mock DailyCategorySalesRepository dailyCategorySalesRepository;
+
+  @Mock TransactionTemplate transactionTemplate;
+
+  @Mock ApplicationEventPublisher eventPublisher;
+
+  @InjectMocks SalesReportService salesReportService;
+
+  @Test
+  void recordOrder_mergesItemsPerProductAndCategory() {
+    Category cakes = new Category();
+    cakes.setId(UUID.randomUUID());
+    Product first = product(cakes);
+    Product second = product(cakes);
+    Order order = new Order();
+    order.setId(UUID.randomUUID());
+    order.setCreatedAt(LocalDateTime.of(2025, 4, 20, 10, 15));
+    order.getOrderItems().add(item(first, 2, 10.0));
+    order.getOrderItems().add(item(second, 1, 5.0));
+
+    salesReportService.recordOrder(order);
+
+    LocalDate day = LocalDate.of(2025, 4, 20);
+    verify(dailyProductSalesRepository).upsert(day, first.getId(), 2, 20.0);
+    verify(dailyProductSalesRepository).upsert(day, second.getId(), 1, 5.0);
+    verify(dailyCategorySalesRepository).upsert(day, cakes.getId(), 3, 25.0);
+    verifyNoMoreInteractions(dailyCategorySalesRepository);
+    ArgumentCaptor<ProductsSoldEvent> event = ArgumentCaptor.forClass(ProductsSoldEvent.class);
+    verify(eventPublisher).publishEvent(event.capture());
+    assertEquals(order.getId(), event.getValue().getOrderId());
+    assertEquals(day, event.getValue().getSalesDate());
+    assertEquals(
+        List.of(
+            new ProductsSoldEvent.Sale(first.getId(), cakes.getId(), 2),
+            new ProductsSoldEvent.Sale(second.getId(), cakes.getId(), 1)),
+        event.getValue().getSales());
+  }
+
+  @Test
+  void getSalesSeries_fillsDaysWithoutSales() {
+    LocalDate from = LocalDate.of(2025, 4, 20);
+    LocalDate to = LocalDate.of(2025, 4, 22);
+    when(dailyCategorySalesRepository.findTotalSeries(from, to))
+        .thenReturn(List.of(new SalesPointResponse(from.plusDays(1), 4, 40.0)));
+
+    List<SalesPointResponse> series = salesReportService.getSalesSeries(from, to, null, null);
+
+    assertEquals(3, series.size());
+    assertEquals(0, series.get(0).getUnitsSold());
+    assertEquals(4, series.get(1).getUnitsSold());
+    assertEquals(40.0, series.get(1).getRevenue());
+    assertEquals(to, series.get(2).getDate());
+  }
+
+  @Test
+  void getSalesSeries_rangeTooLong_throwsAppException() {
+    LocalDate from = LocalDate.of(2024, 1, 1);
+
+    AppException exception =
+        assertThrows(
+            AppException.class,
+            () -> salesReportService.getSalesSeries(from, from.plusDays(400), null, null));
+
+    assertEquals(ErrorCode.INVALID_DATE_RANGE, exception.getErrorCode());
+    assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+  }
+
+  @Test
+  void rebuild_recomputesEachDayInItsOwnTransaction() {
+    doAnswer(
+            invocation -> {
+              invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+              return null;
+            })
+        .when(transactionTemplate)
+        .executeWithoutResult(any());
+    when(dailyProductSalesRepository.rebuildDay(any(), any(), any())).thenReturn(3);
+    when(dailyCategorySalesRepository.rebuildDay(any())).thenReturn(1);
+    LocalDate from = LocalDate.of(2025, 4, 20);
+
+    SalesRollupRebuildResponse report = salesReportService.rebuild(from, from.plusDays(1));
+
+    assertEquals(6, report.getProductRows());
+    assertEquals(2, report.getCategoryRows());
+    verify(transactionTemplate, times(2)).executeWithoutResult(any());
+    var inOrder = inOrder(dailyProductSalesRepository, dailyCategorySalesRepository);
+    inOrder.verify(dailyProductSalesRepository).lockForRebuild();
+    inOrder.verify(dailyCategorySalesRepository).deleteBySalesDate(from);
+    inOrder.verify(dailyProductSalesRepository).deleteBySalesDate(from);
+    inOrder
+        .verify(dailyProductSalesRepository)
+        .rebuildDay(from, from.atStartOfDay(), from.plusDays(1).atStartOfDay());
+    inOrder.verify(dailyCategorySalesRepository).rebuildDay(from);
+  }
+
+  @Test
+  void rebuild_rangeTooLong_throwsWithoutTouchingRollups() {
+    LocalDate from = LocalDate.of(2025, 1, 1);
+
+    AppException exception =
+        assertThrows(
+            AppException.class,
+            () ->
+                salesReportService.rebuild(
+                    from, from.plusDays(SalesReportService.MAX_REBUILD_DAYS)));
+
+    assertEquals(ErrorCode.INVALID_DATE_RANGE, exception.getErrorCode());
+    assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+    verifyNoInteractions(transactionTemplate, dailyProductSalesRepository);
+  }
+
+  private Product product(Category category) {
+    Product product = Product.builder().category(category).name("Cake").price(10.0).build();
+    product.setId(UUID.randomUUID());
+    return product;
+  }
+
+  private OrderItem item(Product product, int quantity, double price) {
+    return OrderItem.builder().product(product).quantity(quantity).price(price).build();
+  }
+}
@@ -0,0 +1,138 @@
+package rookies.ecommerce.service.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ProductFacetIndexTest {
+
+  static final UUID CAKES = UUID.randomUUID();
+  static final UUID BREAD = UUID.randomUUID();
+  static final UUID CAKE = UUID.randomUUID();
+  static final UUID TART = UUID.randomUUID();
+  static final UUID BAGUETTE = UUID.randomUUID();
+  static final UUID SOURDOUGH = UUID.randomUUID();
+
+  ProductFacetIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index = new ProductFacetIndex(new double[] {10, 25, 50});
+    index.upsert(CAKE, CAKES, 29.99, 10, true, 4.5);
+    index.upsert(TART, CAKES, 12.5, 0, false, 3.0);
+    index.upsert(BAGUETTE, BREAD, 3.0, 40, false, 0);
+    index.upsert(SOURDOUGH, BREAD, 8.0, 5, true, 4.0);
+  }
+
+  @Test
+  void query_noFilter_listsNewestFirstWithAllCounts() {
+    ProductFacetIndex.Result result = index.query(filter(Set.of(), Set.of(), 0), 0, 10);
+
+    assertEquals(4, result.total());
+    assertEquals(List.of(SOURDOUGH, BAGUETTE, TART, CAKE), result.ids());
+    assertEquals(Map.of(CAKES, 2, BREAD, 2), result.categoryCounts());
+    assertArrayEquals(new int[] {2, 1, 1, 0}, result.priceBandCounts());
+    assertArrayEquals(new int[] {3, 3, 3, 2, 0}, result.minRatingCounts());
+    assertEquals(3, result.inStockCount());
+    assertEquals(2, result.featuredCount());
+  }
+
+  @Test
+  void query_valuesOfOneFacet_areOred() {
+    ProductFacetIndex.Result result = index.query(filter(Set.of(), Set.of(1, 2), 0), 0, 10);
+
+    assertEquals(List.of(TART, CAKE), result.ids());
+  }
+
+  @Test
+  void query_facets_areAndedAndCountedWithoutTheirOwnFilter() {
+    ProductFacetIndex.Result result = index.query(filter(Set.of(BREAD), Set.of(0), 4), 0, 10);
+
+    assertEquals(List.of(SOURDOUGH), result.ids());
+    // Categories ignore the category filter: only the sourdough is cheap and rated 4+.
+    assertEquals(Map.of(BREAD, 1), result.categoryCounts());
+    // Price bands ignore the price filter: only bread rated 4+ is counted.
+    assertArrayEquals(new int[] {1, 0, 0, 0}, result.priceBandCounts());
+    // Ratings ignore the rating filter: both cheap breads, one of them unrated.
+    assertArrayEquals(new int[] {1, 1, 1, 1, 0}, result.minRatingCounts());
+  }
+
+  @Test
+  void query_flags_filterAndCount() {
+    ProductFacetIndex.Result result =
+        index.query(new ProductFacetIndex.Filter(Set.of(), Set.of(), 0, true, true), 0, 10);
+
+    assertEquals(List.of(SOURDOUGH, CAKE), result.ids());
+    assertEquals(2, result.inStockCount());
+    assertEquals(2, result.featuredCount());
+  }
+
+  @Test
+  void query_unknownCategory_matchesNothing() {
+    ProductFacetIndex.Result result =
+        index.query(filter(Set.of(UUID.randomUUID()), Set.of(), 0), 0, 10);
+
+    assertEquals(0, result.total());
+    assertEquals(Map.of(CAKES, 2, BREAD, 2), result.categoryCounts());
+  }
+
+  @Test
+  void query_paging_skipsNewestMatches() {
+    ProductFacetIndex.Result result = index.query(filter(Set.of(), Set.of(), 0), 1, 2);
+
+    assertEquals(4, result.total());
+    assertEquals(List.of(BAGUETTE, TART), result.ids());
+  }
+
+  @Test
+  void upsert_changedValues_moveProductAndKeepItsPosition() {
+    index.upsert(CAKE, BREAD, 60, 0, false, 5.0);
+
+    ProductFacetIndex.Result result = index.query(filter(Set.of(BREAD), Set.of(), 0), 0, 10);
+
+    assertEquals(List.of(SOURDOUGH, BAGUETTE, CAKE), result.ids());
+    assertEquals(Map.of(CAKES, 1, BREAD, 3), result.categoryCounts());
+    assertArrayEquals(new int[] {2, 0, 0, 1}, result.priceBandCounts());
+    assertArrayEquals(new int[] {2, 2, 2, 2, 1}, result.minRatingCounts());
+    assertEquals(4, index.size());
+  }
+
+  @Test
+  void remove_dropsProductFromEveryFacet() {
+    index.remove(CAKE);
+    index.remove(UUID.randomUUID());
+
+    ProductFacetIndex.Result result = index.query(filter(Set.of(), Set.of(), 0), 0, 10);
+
+    assertEquals(List.of(SOURDOUGH, BAGUETTE, TART), result.ids());
+    assertEquals(Map.of(CAKES, 1, BREAD, 2), result.categoryCounts());
+    assertEquals(1, result.featuredCount());
+    assertEquals(3, index.size());
+  }
+
+  @Test
+  void query_manyProducts_countsAcrossWords() {
+    ProductFacetIndex large = new ProductFacetIndex(new double[] {10});
+    for (int i = 0; i < 1000; i++) {
+      large.upsert(UUID.randomUUID(), i % 2 == 0 ? CAKES : BREAD, i % 20, i % 3, false, 0);
+    }
+
+    ProductFacetIndex.Result result =
+        large.query(new ProductFacetIndex.Filter(Set.of(CAKES), Set.of(1), 0, true, false), 0, 5);
+
+    // Even i, i % 20 >= 10 and i % 3 != 0: 250 candidates, a third of them out of stock.
+    assertEquals(166, result.total());
+    assertEquals(5, result.ids().size());
+    assertEquals(Map.of(CAKES, 166, BREAD, 167), result.categoryCounts());
+  }
+
+  private static ProductFacetIndex.Filter filter(
+      Set<UUID> categoryIds, Set<Integer> priceBands, int minRating) {
+    return new ProductFacetIndex.Filter(categoryIds, priceBands, minRating, false, false);
+  }
+}
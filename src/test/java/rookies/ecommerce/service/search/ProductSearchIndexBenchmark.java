@@ -0,0 +1,119 @@
+package rookies.ecommerce.service.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+/**
+ * Measures index memory and query latency over a synthetic catalog of a million products. Run it
+ * with {@code RUN_BENCHMARKS=true mvn test -Dtest=ProductSearchIndexBenchmark}; results are printed
+ * rather than asserted, since they depend on the machine.
+ *
+ * <p>Words are drawn with a skewed distribution from a generated vocabulary, so a few terms match a
+ * large share of the catalog, as "cake" or "chocolate" would in a real one.
+ */
+@EnabledIfEnvironmentVariable(named = "RUN_BENCHMARKS", matches = "true")
+class ProductSearchIndexBenchmark {
+
+  static final int PRODUCTS = 1_000_000;
+  static final int VOCABULARY = 20_000;
+  static final int CATEGORIES = 50;
+  static final int WARMUP_QUERIES = 2_000;
+  static final int QUERIES = 5_000;
+
+  final Random random = new Random(42);
+  final String[] vocabulary = vocabulary();
+
+  @Test
+  void millionProducts_memoryAndLatency() {
+    MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    long heapBefore = usedHeap(memory);
+    long buildStart = System.nanoTime();
+
+    ProductSearchIndex index = new ProductSearchIndex();
+    for (int i = 0; i < PRODUCTS; i++) {
+      index.upsert(
+          UUID.randomUUID(),
+          words(3),
+          "Category " + vocabulary[i % CATEGORIES],
+          words(20 + random.nextInt(20)));
+    }
+    index.trimToSize();
+
+    long buildMs = (System.nanoTime() - buildStart) / 1_000_000;
+    long heapAfter = usedHeap(memory);
+    System.out.printf(
+        "Indexed %,d products (%,d terms) in %,d ms%n", index.size(), index.termCount(), buildMs);
+    System.out.printf(
+        "Heap: %,d MB measured, %,d MB estimated, %,d bytes per product%n",
+        (heapAfter - heapBefore) >> 20,
+        index.estimatedBytes() >> 20,
+        (heapAfter - heapBefore) / PRODUCTS);
+
+    for (int i = 0; i < WARMUP_QUERIES; i++) {
+      index.search(words(1 + random.nextInt(3)), 0, 20);
+    }
+    long[] latencies = new long[QUERIES];
+    long matched = 0;
+    for (int i = 0; i < QUERIES; i++) {
+      String query = words(1 + random.nextInt(3));
+      long start = System.nanoTime();
+      matched += index.search(query, 0, 20).total();
+      latencies[i] = System.nanoTime() - start;
+    }
+    Arrays.sort(latencies);
+    System.out.printf(
+        "Query latency (top 20 of %,d avg matches): p50 %.2f ms, p95 %.2f ms, p99 %.2f ms, "
+            + "max %.2f ms%n",
+        matched / QUERIES,
+        percentile(latencies, 0.50),
+        percentile(latencies, 0.95),
+        percentile(latencies, 0.99),
+        latencies[QUERIES - 1] / 1e6);
+
+    assertEquals(PRODUCTS, index.size());
+    assertTrue(matched > 0);
+  }
+
+  /** Pronounceable made-up words, so term lengths resemble real product text. */
+  private String[] vocabulary() {
+    String[] syllables = {"ba", "ke", "ri", "mo", "chu", "la", "te", "so", "pan", "do", "vi", "nu"};
+    String[] words = new String[VOCABULARY];
+    for (int i = 0; i < VOCABULARY; i++) {
+      StringBuilder word = new StringBuilder();
+      int n = i;
+      do {
+        word.append(syllables[n % syllables.length]);
+        n /= syllables.length;
+      } while (n > 0);
+      words[i] = word.append(i % 7).toString();
+    }
+    return words;
+  }
+
+  private String words(int count) {
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      double skewed = Math.pow(random.nextDouble(), 3);
+      text.append(vocabulary[(int) (skewed * VOCABULARY)]).append(' ');
+    }
+    return text.toString();
+  }
+
+  private static double percentile(long[] sorted, double p) {
+    return sorted[Math.min(sorted.length - 1, (int) (sorted.length * p))] / 1e6;
+  }
+
+  private static long usedHeap(MemoryMXBean memory) {
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return memory.getHeapMemoryUsage().getUsed();
+  }
+}
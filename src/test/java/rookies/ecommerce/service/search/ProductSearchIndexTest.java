@@ -0,0 +1,94 @@
+package rookies.ecommerce.service.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ProductSearchIndexTest {
+
+  static final UUID CAKE = UUID.randomUUID();
+  static final UUID TART = UUID.randomUUID();
+  static final UUID COOKIE = UUID.randomUUID();
+
+  ProductSearchIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index = new ProductSearchIndex();
+    index.upsert(CAKE, "Chocolate Cake", "Cakes", "Rich sponge with dark ganache");
+    index.upsert(TART, "Lemon Tart", "Pastries", "Buttery crust, goes well with chocolate cake");
+    index.upsert(COOKIE, "Oat Cookies", "Biscuits", "Crunchy and sweet");
+  }
+
+  @Test
+  void search_nameMatch_outranksDescriptionMatch() {
+    ProductSearchIndex.Hits hits = index.search("chocolate cake", 0, 10);
+
+    assertEquals(2, hits.total());
+    assertEquals(List.of(CAKE, TART), hits.ids());
+  }
+
+  @Test
+  void search_pluralsCaseAndAccents_areNormalized() {
+    UUID banhMi = UUID.randomUUID();
+    index.upsert(banhMi, "B\u00e1nh M\u00ec \u0111\u1eb7c bi\u1ec7t", "Bread", null);
+
+    assertEquals(List.of(COOKIE), index.search("COOKIE", 0, 10).ids());
+    assertEquals(List.of(banhMi), index.search("banh mi dac biet", 0, 10).ids());
+  }
+
+  @Test
+  void search_onlyStopWordsOrUnknownTerms_returnsNothing() {
+    assertEquals(ProductSearchIndex.Hits.NONE, index.search("the and of", 0, 10));
+    assertEquals(0, index.search("croissant", 0, 10).total());
+  }
+
+  @Test
+  void upsert_changedText_replacesPreviousVersion() {
+    assertTrue(index.upsert(TART, "Lemon Tart", "Pastries", "Buttery crust"));
+
+    assertEquals(List.of(CAKE), index.search("chocolate", 0, 10).ids());
+    assertEquals(3, index.size());
+    assertEquals(1, index.deletedDocs());
+  }
+
+  @Test
+  void upsert_identicalText_isSkipped() {
+    assertFalse(index.upsert(CAKE, "Chocolate Cake", "Cakes", "Rich sponge with dark ganache"));
+
+    assertEquals(0, index.deletedDocs());
+  }
+
+  @Test
+  void remove_dropsProductFromResults() {
+    assertTrue(index.remove(CAKE));
+    assertFalse(index.remove(CAKE));
+
+    assertEquals(List.of(TART), index.search("chocolate", 0, 10).ids());
+    assertEquals(2, index.size());
+  }
+
+  @Test
+  void search_pagesThroughRankedResults() {
+    List<UUID> ids = new ArrayList<>();
+    for (int i = 0; i < 5_000; i++) {
+      UUID id = UUID.randomUUID();
+      ids.add(id);
+      index.upsert(id, "Cupcake " + i, "Cakes", "Vanilla frosting");
+    }
+
+    ProductSearchIndex.Hits first = index.search("cupcake", 0, 20);
+    ProductSearchIndex.Hits second = index.search("cupcake", 20, 20);
+
+    assertEquals(5_000, first.total());
+    // Equal scores rank the most recently indexed product first.
+    assertEquals(ids.get(4_999), first.ids().get(0));
+    assertEquals(ids.get(4_979), second.ids().get(0));
+    assertEquals(List.of(ids.get(1_234)), index.search("1234", 0, 10).ids());
+    assertTrue(index.search("cupcake", 5_000, 20).ids().isEmpty());
+  }
+}
@@ -0,0 +1,123 @@
+package rookies.ecommerce.service.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import rookies.ecommerce.dto.response.search.SuggestionResponse.Type;
+
+class SuggestionTrieTest {
+
+  static final UUID CAKE = UUID.randomUUID();
+  static final UUID CHEESECAKE = UUID.randomUUID();
+  static final UUID LEMONADE = UUID.randomUUID();
+  static final UUID LEMON_TART = UUID.randomUUID();
+  static final UUID CAKES = UUID.randomUUID();
+
+  final SuggestionTrie trie =
+      SuggestionTrie.builder(10)
+          .add(Type.PRODUCT, CAKE, "Chocolate Cake", 50)
+          .add(Type.PRODUCT, CHEESECAKE, "Cheesecake", 80)
+          .add(Type.PRODUCT, LEMONADE, "Lemonade", 5)
+          .add(Type.PRODUCT, LEMON_TART, "Lemon  Tart!", 7)
+          .add(Type.CATEGORY, CAKES, "Cakes", 130)
+          .build();
+
+  @Test
+  void suggest_ranksByPopularity() {
+    assertEquals(List.of(CAKES, CHEESECAKE, CAKE), ids(trie.suggest("c", 10)));
+    assertEquals(List.of(CHEESECAKE, CAKE), ids(trie.suggest("Ch", 10)));
+    assertEquals(List.of(CAKES), ids(trie.suggest("c", 1)));
+  }
+
+  @Test
+  void suggest_matchesLaterWordsAndNormalizesInput() {
+    assertEquals(List.of(CAKES, CAKE), ids(trie.suggest("CAKE", 10)));
+    assertEquals(List.of(LEMON_TART), ids(trie.suggest("tart", 10)));
+    assertEquals(List.of(LEMON_TART), ids(trie.suggest("lemon-t", 10)));
+    assertEquals("Lemon  Tart!", trie.suggest("tart", 10).get(0).text());
+  }
+
+  @Test
+  void suggest_trailingSeparator_requiresWordBoundary() {
+    assertEquals(List.of(LEMON_TART, LEMONADE), ids(trie.suggest("lemon", 10)));
+    assertEquals(List.of(LEMON_TART), ids(trie.suggest("lemon ", 10)));
+  }
+
+  @Test
+  void suggest_accentsAreFolded() {
+    UUID banhMi = UUID.randomUUID();
+    SuggestionTrie vietnamese =
+        SuggestionTrie.builder(10).add(Type.PRODUCT, banhMi, "B\u00e1nh m\u00ec", 1).build();
+
+    assertEquals(List.of(banhMi), ids(vietnamese.suggest("banh", 10)));
+    assertEquals(List.of(banhMi), ids(vietnamese.suggest("b\u00e1nh m", 10)));
+  }
+
+  @Test
+  void suggest_unknownOrBlankPrefix_returnsNothing() {
+    assertTrue(trie.suggest("croissant", 10).isEmpty());
+    assertTrue(trie.suggest("  ", 10).isEmpty());
+    assertTrue(SuggestionTrie.EMPTY.suggest("c", 10).isEmpty());
+  }
+
+  @Test
+  void builder_mergesSameNameKeepingMostPopular() {
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    UUID other = UUID.randomUUID();
+    SuggestionTrie merged =
+        SuggestionTrie.builder(10)
+            .add(Type.PRODUCT, first, "Cupcake", 3)
+            .add(Type.PRODUCT, second, "cupcake ", 4)
+            .add(Type.PRODUCT, other, "Cupcake Box", 6)
+            .build();
+
+    assertEquals(List.of(second, other), ids(merged.suggest("cup", 10)));
+  }
+
+  @Test
+  void suggest_largeCatalog_matchesBruteForce() {
+    Random random = new Random(7);
+    String[] words = {"choco", "chocolate", "cake", "cheese", "lemon", "tart", "tea", "te"};
+    SuggestionTrie.Builder builder = SuggestionTrie.builder(10);
+    List<String> names = new ArrayList<>();
+    List<Long> weights = new ArrayList<>();
+    for (int i = 0; i < 3_000; i++) {
+      String name =
+          words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)] + " " + i;
+      long weight = random.nextInt(1_000);
+      names.add(name);
+      weights.add(weight);
+      builder.add(Type.PRODUCT, new UUID(0, i), name, weight);
+    }
+    SuggestionTrie large = builder.build();
+
+    List<String> prefixes =
+        List.of("c", "ch", "choco", "chocolate ", "te", "tea", "cake 1", "lemon");
+    for (String prefix : prefixes) {
+      List<Integer> expected = new ArrayList<>();
+      for (int i = 0; i < names.size(); i++) {
+        String name = names.get(i);
+        if (name.startsWith(prefix) || name.contains(" " + prefix)) {
+          expected.add(i);
+        }
+      }
+      expected.sort(
+          Comparator.comparing((Integer i) -> -weights.get(i))
+              .thenComparing(i -> names.get(i).length())
+              .thenComparing(names::get));
+      List<UUID> top = expected.stream().limit(10).map(i -> new UUID(0, i)).toList();
+
+      assertEquals(top, ids(large.suggest(prefix, 10)), prefix);
+    }
+  }
+
+  private static List<UUID> ids(List<SuggestionTrie.Suggestion> suggestions) {
+    return suggestions.stream().map(SuggestionTrie.Suggestion::id).toList();
+  }
+}
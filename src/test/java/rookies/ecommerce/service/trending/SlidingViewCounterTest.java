@@ -0,0 +1,90 @@
+package rookies.ecommerce.service.trending;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import rookies.ecommerce.service.trending.SlidingViewCounter.Ranked;
+
+class SlidingViewCounterTest {
+
+  static final long BUCKET = 1_000;
+  static final UUID CAKE = new UUID(0, 1);
+  static final UUID TART = new UUID(0, 2);
+  static final UUID PIE = new UUID(0, 3);
+
+  SlidingViewCounter counter = new SlidingViewCounter(BUCKET, 3);
+
+  @Test
+  void drain_returnsViewsSinceLastDrain() {
+    record(CAKE, 3);
+    record(TART, 1);
+
+    assertEquals(Map.of(CAKE, 3L, TART, 1L), counter.drain(0));
+    record(CAKE, 1);
+    assertEquals(Map.of(CAKE, 1L), counter.drain(10));
+    assertEquals(List.of(new Ranked(CAKE, 4), new Ranked(TART, 1)), counter.top(10));
+  }
+
+  @Test
+  void top_keepsMostViewedFirst() {
+    record(CAKE, 2);
+    record(TART, 5);
+    record(PIE, 3);
+    counter.drain(0);
+
+    assertEquals(List.of(new Ranked(TART, 5), new Ranked(PIE, 3)), counter.top(2));
+    assertEquals(List.of(), counter.top(0));
+  }
+
+  @Test
+  void drain_expiresBucketsThatSlideOutOfTheWindow() {
+    record(CAKE, 4);
+    counter.drain(0);
+    record(TART, 2);
+    counter.drain(BUCKET);
+    record(CAKE, 1);
+    counter.drain(2 * BUCKET);
+
+    assertEquals(List.of(new Ranked(CAKE, 5), new Ranked(TART, 2)), counter.top(10));
+
+    counter.drain(3 * BUCKET);
+    assertEquals(List.of(new Ranked(TART, 2), new Ranked(CAKE, 1)), counter.top(10));
+
+    counter.drain(5 * BUCKET);
+    assertEquals(List.of(), counter.top(10));
+    assertEquals(0, counter.size());
+  }
+
+  @Test
+  void restore_ignoresBucketsOutsideTheWindow() {
+    counter.restore(10 * BUCKET, 10 * BUCKET, CAKE, 3);
+    counter.restore(10 * BUCKET, 8 * BUCKET, TART, 2);
+    counter.restore(10 * BUCKET, 7 * BUCKET, PIE, 9);
+
+    assertEquals(List.of(new Ranked(CAKE, 3), new Ranked(TART, 2)), counter.top(10));
+  }
+
+  @Test
+  void record_fromManyThreads_countsEveryView() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    for (int thread = 0; thread < 8; thread++) {
+      executor.submit(() -> record(CAKE, 10_000));
+    }
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+    assertEquals(Map.of(CAKE, 80_000L), counter.drain(0));
+  }
+
+  private void record(UUID productId, int views) {
+    for (int i = 0; i < views; i++) {
+      counter.record(productId);
+    }
+  }
+}
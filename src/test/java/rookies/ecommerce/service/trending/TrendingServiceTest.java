@@ -0,0 +1,145 @@
+package rookies.ecommerce.service.trending;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import rookies.ecommerce.dto.response.product.ProductListItem;
+import rookies.ecommerce.dto.response.product.TrendingProductResponse;
+import rookies.ecommerce.repository.ProductRepository;
+import rookies.ecommerce.repository.ProductViewBucketRepository;
+
+@ExtendWith(MockitoExtension.class)
+class TrendingServiceTest {
+
+  static final UUID CAKE = UUID.randomUUID();
+  static final UUID TART = UUID.randomUUID();
+
+  @Mock ProductRepository productRepository;
+
+  @Mock ProductViewBucketRepository productViewBucketRepository;
+
+  @Mock PlatformTransactionManager transactionManager;
+
+  TrendingService trendingService;
+
+  @BeforeEach
+  void setUp() {
+    trendingService =
+        new TrendingService(
+            productRepository, productViewBucketRepository, transactionManager, 60_000, 60, 20);
+    when(productViewBucketRepository.findByBucketStartFrom(any())).thenReturn(List.of());
+  }
+
+  @Test
+  void refresh_publishesMostViewedProducts() {
+    ProductListItem cake = item(CAKE);
+    ProductListItem tart = item(TART);
+    when(productRepository.findAllActiveByIdIn(List.of(CAKE, TART)))
+        .thenReturn(List.of(tart, cake));
+    view(CAKE, 3);
+    view(TART, 1);
+
+    trendingService.refresh();
+
+    assertEquals(
+        List.of(new TrendingProductResponse(cake, 3), new TrendingProductResponse(tart, 1)),
+        trendingService.getTrending(10));
+    assertEquals(List.of(new TrendingProductResponse(cake, 3)), trendingService.getTrending(1));
+  }
+
+  @Test
+  void refresh_loadsProductRowsOnlyForNewlyRankedProducts() {
+    ProductListItem cake = item(CAKE);
+    when(productRepository.findAllActiveByIdIn(List.of(CAKE))).thenReturn(List.of(cake));
+    view(CAKE, 2);
+    trendingService.refresh();
+
+    view(CAKE, 1);
+    trendingService.refresh();
+
+    assertEquals(List.of(new TrendingProductResponse(cake, 3)), trendingService.getTrending(10));
+    verify(productRepository, times(1)).findAllActiveByIdIn(any());
+  }
+
+  @Test
+  void flush_upsertsDrainedViewsOnce() {
+    when(productRepository.findAllActiveByIdIn(any())).thenReturn(List.of());
+    view(CAKE, 2);
+    trendingService.refresh();
+
+    trendingService.flush();
+    trendingService.flush();
+
+    verify(productViewBucketRepository).upsert(any(), eq(CAKE), eq(2L));
+    verify(productViewBucketRepository).deleteOlderThan(any());
+  }
+
+  @Test
+  void flush_whenUpsertFails_keepsViewsForNextFlush() {
+    when(productRepository.findAllActiveByIdIn(any())).thenReturn(List.of());
+    doThrow(new IllegalStateException("database unavailable"))
+        .doNothing()
+        .when(productViewBucketRepository)
+        .upsert(any(), any(), anyLong());
+    view(CAKE, 2);
+    trendingService.refresh();
+
+    trendingService.flush();
+    trendingService.flush();
+
+    verify(productViewBucketRepository, times(2)).upsert(any(), eq(CAKE), eq(2L));
+  }
+
+  @Test
+  void flush_beforeRestoreSucceeds_keepsViewsUnflushed() {
+    when(productRepository.findAllActiveByIdIn(any())).thenReturn(List.of());
+    when(productViewBucketRepository.findByBucketStartFrom(any()))
+        .thenThrow(new IllegalStateException("database unavailable"))
+        .thenReturn(List.of());
+    view(CAKE, 2);
+    trendingService.refresh();
+
+    trendingService.flush();
+    verify(productViewBucketRepository, never()).upsert(any(), any(), anyLong());
+
+    trendingService.refresh();
+    trendingService.flush();
+    verify(productViewBucketRepository).upsert(any(), eq(CAKE), eq(2L));
+  }
+
+  private void view(UUID productId, int views) {
+    for (int i = 0; i < views; i++) {
+      trendingService.recordView(productId);
+    }
+  }
+
+  private static ProductListItem item(UUID id) {
+    return new ProductListItem(
+        id,
+        new ProductListItem.Category(UUID.randomUUID(), "Cakes"),
+        "Cake " + id,
+        null,
+        null,
+        null,
+        null,
+        null,
+        10.0,
+        5,
+        false,
+        null,
+        null,
+        0.0,
+        0L);
+  }
+}
@@ -1,16 +1,30 @@
 package rookies.ecommerce.service.upload;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import com.cloudinary.Cloudinary;
 import com.cloudinary.Uploader;
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -18,6 +32,11 @@ import org.springframework.web.multipart.MultipartFile;
 
 class CloudinaryServiceTest {
 
+  static final int LARGE_FILE_SIZE = 8 * 1024 * 1024;
+  static final int CONCURRENT_UPLOADS = 12;
+  static final int UPLOAD_THREADS = 4;
+  static final long MAX_ALLOCATION_PER_UPLOAD = LARGE_FILE_SIZE / 4;
+
   @Mock private Cloudinary cloudinary;
   @Mock private Uploader uploader;
   @Mock private MultipartFile file;
@@ -31,18 +50,69 @@ class CloudinaryServiceTest {
   }
 
   @Test
-  void uploadImage_validFile_shouldReturnImageUrl() throws IOException {
-    byte[] fileBytes = new byte[] {1, 2, 3};
+  void uploadImage_validFile_shouldStreamStagedFileAndReturnImageUrl() throws IOException {
     String expectedUrl = "https://res.cloudinary.com/demo/image/upload/sample.jpg";
+    ArgumentCaptor<Path> staged = ArgumentCaptor.forClass(Path.class);
 
-    when(file.getBytes()).thenReturn(fileBytes);
-    when(uploader.upload(eq(fileBytes), anyMap())).thenReturn(Map.of("url", expectedUrl));
+    when(uploader.upload(any(File.class), anyMap())).thenReturn(Map.of("url", expectedUrl));
 
     String result = cloudinaryService.uploadImage(file);
 
     assertEquals(expectedUrl, result);
-    verify(file, times(1)).getBytes();
-    verify(uploader, times(1)).upload(any(), anyMap());
+    verify(file).transferTo(staged.capture());
+    verify(file, never()).getBytes();
+    verify(uploader, times(1)).upload(eq(staged.getValue().toFile()), anyMap());
+    assertFalse(Files.exists(staged.getValue()));
+  }
+
+  @Test
+  void uploadImage_uploadFails_shouldRemoveStagedFile() throws IOException {
+    ArgumentCaptor<Path> staged = ArgumentCaptor.forClass(Path.class);
+
+    when(uploader.upload(any(File.class), anyMap())).thenThrow(new IOException("Upload failed"));
+
+    assertThrows(IOException.class, () -> cloudinaryService.uploadImage(file));
+
+    verify(file).transferTo(staged.capture());
+    assertFalse(Files.exists(staged.getValue()));
+  }
+
+  @Test
+  void uploadImage_concurrentLargeUploads_shouldNotBufferWholeFiles() throws Exception {
+    assumeTrue(
+        ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+            && bean.isThreadAllocatedMemorySupported());
+    com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    threads.setThreadAllocatedMemoryEnabled(true);
+    when(uploader.upload(any(File.class), anyMap()))
+        .thenAnswer(
+            invocation -> Map.of("url", "size/" + invocation.<File>getArgument(0).length()));
+
+    ExecutorService pool = Executors.newFixedThreadPool(UPLOAD_THREADS);
+    try {
+      List<Future<Long>> allocations = new ArrayList<>();
+      for (int i = 0; i < CONCURRENT_UPLOADS; i++) {
+        allocations.add(
+            pool.submit(
+                () -> {
+                  MultipartFile large = new GeneratedMultipartFile(LARGE_FILE_SIZE);
+                  long before = threads.getCurrentThreadAllocatedBytes();
+                  String url = cloudinaryService.uploadImage(large);
+                  long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+                  assertEquals("size/" + LARGE_FILE_SIZE, url);
+                  return allocated;
+                }));
+      }
+      for (Future<Long> allocation : allocations) {
+        long allocated = allocation.get(60, TimeUnit.SECONDS);
+        assertTrue(
+            allocated < MAX_ALLOCATION_PER_UPLOAD,
+            "upload allocated " + allocated + " bytes for a " + LARGE_FILE_SIZE + " byte file");
+      }
+    } finally {
+      pool.shutdownNow();
+    }
   }
 
   @Test
@@ -67,4 +137,75 @@ class CloudinaryServiceTest {
     assertEquals("Failed to delete image from Cloudinary", exception.getMessage());
     assertInstanceOf(IOException.class, exception.getCause());
   }
+
+  /** A large multipart file whose content is generated on read, so the test holds no copy. */
+  static class GeneratedMultipartFile implements MultipartFile {
+    final long size;
+
+    GeneratedMultipartFile(long size) {
+      this.size = size;
+    }
+
+    @Override
+    public String getName() {
+      return "image";
+    }
+
+    @Override
+    public String getOriginalFilename() {
+      return "large.jpg";
+    }
+
+    @Override
+    public String getContentType() {
+      return "image/jpeg";
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return size == 0;
+    }
+
+    @Override
+    public long getSize() {
+      return size;
+    }
+
+    @Override
+    public byte[] getBytes() {
+      throw new UnsupportedOperationException("the upload must be streamed");
+    }
+
+    @Override
+    public InputStream getInputStream() {
+      return new InputStream() {
+        long remaining = size;
+
+        @Override
+        public int read() {
+          if (remaining == 0) {
+            return -1;
+          }
+          remaining--;
+          return 0x5A;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+          if (remaining == 0) {
+            return -1;
+          }
+          int count = (int) Math.min(length, remaining);
+          Arrays.fill(buffer, offset, offset + count, (byte) 0x5A);
+          remaining -= count;
+          return count;
+        }
+      };
+    }
+
+    @Override
+    public void transferTo(File dest) throws IOException {
+      transferTo(dest.toPath());
+    }
+  }
 }
@@ -0,0 +1,152 @@
+package rookies.ecommerce.service.upload;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import rookies.ecommerce.entity.StoredImage;
+import rookies.ecommerce.repository.StoredImageRepository;
+
+@ExtendWith(MockitoExtension.class)
+class DeduplicatingUploadServiceTest {
+
+  static final String URL = "https://res.cloudinary.com/demo/image/upload/cake.jpg";
+  static final String OTHER_URL = "https://res.cloudinary.com/demo/image/upload/cake-2.jpg";
+
+  @Mock IUploadService delegate;
+
+  @Mock StoredImageRepository storedImageRepository;
+
+  @Mock PlatformTransactionManager transactionManager;
+
+  @TempDir Path tempDir;
+
+  DeduplicatingUploadService uploadService;
+
+  Path file;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    uploadService =
+        new DeduplicatingUploadService(delegate, storedImageRepository, transactionManager);
+    file = Files.write(tempDir.resolve("cake.jpg"), new byte[] {1, 2, 3});
+  }
+
+  @Test
+  void uploadImage_knownContent_reusesUrlWithoutUploading() throws IOException {
+    StoredImage image = StoredImage.builder().contentHash("h").url(URL).refCount(1).build();
+    when(storedImageRepository.findByContentHashForUpdate(anyString()))
+        .thenReturn(Optional.of(image));
+
+    String url = uploadService.uploadImage(file);
+
+    assertEquals(URL, url);
+    assertEquals(2, image.getRefCount());
+    verifyNoInteractions(delegate);
+  }
+
+  @Test
+  void uploadImage_newContent_uploadsAndIndexes() throws IOException {
+    when(storedImageRepository.findByContentHashForUpdate(anyString()))
+        .thenReturn(Optional.empty());
+    when(delegate.uploadImage(file)).thenReturn(URL);
+    when(storedImageRepository.insertIfAbsent(anyString(), eq(URL))).thenReturn(1);
+
+    String url = uploadService.uploadImage(file);
+
+    assertEquals(URL, url);
+    verify(delegate, never()).deleteImage(any());
+  }
+
+  @Test
+  void uploadImage_concurrentUploadIndexedFirst_discardsOwnCopy() throws IOException {
+    StoredImage winner = StoredImage.builder().contentHash("h").url(OTHER_URL).refCount(1).build();
+    when(storedImageRepository.findByContentHashForUpdate(anyString()))
+        .thenReturn(Optional.empty())
+        .thenReturn(Optional.of(winner));
+    when(delegate.uploadImage(file)).thenReturn(URL);
+    when(storedImageRepository.insertIfAbsent(anyString(), eq(URL))).thenReturn(0);
+
+    String url = uploadService.uploadImage(file);
+
+    assertEquals(OTHER_URL, url);
+    assertEquals(2, winner.getRefCount());
+    verify(delegate).deleteImage(URL);
+  }
+
+  @Test
+  void uploadImage_contentBeingDeleted_takesOverIndexRow() throws IOException {
+    StoredImage dying = StoredImage.builder().contentHash("h").url(OTHER_URL).refCount(0).build();
+    when(storedImageRepository.findByContentHashForUpdate(anyString()))
+        .thenReturn(Optional.of(dying));
+    when(delegate.uploadImage(file)).thenReturn(URL);
+    when(storedImageRepository.insertIfAbsent(anyString(), eq(URL))).thenReturn(0);
+
+    String url = uploadService.uploadImage(file);
+
+    assertEquals(URL, url);
+    assertEquals(URL, dying.getUrl());
+    assertEquals(1, dying.getRefCount());
+    verify(delegate, never()).deleteImage(any());
+  }
+
+  @Test
+  void deleteImage_sharedAsset_onlyDropsReference() {
+    StoredImage image = StoredImage.builder().contentHash("h").url(URL).refCount(2).build();
+    when(storedImageRepository.findByUrlForUpdate(URL)).thenReturn(Optional.of(image));
+
+    uploadService.deleteImage(URL);
+
+    assertEquals(1, image.getRefCount());
+    verifyNoInteractions(delegate);
+  }
+
+  @Test
+  void deleteImage_lastReference_removesAssetAndIndexRow() {
+    StoredImage image = StoredImage.builder().contentHash("h").url(URL).refCount(1).build();
+    when(storedImageRepository.findByUrlForUpdate(URL)).thenReturn(Optional.of(image));
+
+    uploadService.deleteImage(URL);
+
+    verify(delegate).deleteImage(URL);
+    verify(storedImageRepository).delete(image);
+  }
+
+  @Test
+  void deleteImage_storageFails_retryDoesNotReleaseTwice() {
+    StoredImage image = StoredImage.builder().contentHash("h").url(URL).refCount(1).build();
+    when(storedImageRepository.findByUrlForUpdate(URL)).thenReturn(Optional.of(image));
+    doThrow(new RuntimeException("timeout")).doNothing().when(delegate).deleteImage(URL);
+
+    assertThrows(RuntimeException.class, () -> uploadService.deleteImage(URL));
+    assertEquals(0, image.getRefCount());
+    uploadService.deleteImage(URL);
+
+    assertEquals(0, image.getRefCount());
+    verify(delegate, times(2)).deleteImage(URL);
+    verify(storedImageRepository).delete(image);
+  }
+
+  @Test
+  void deleteImage_unindexedUrl_removesAssetDirectly() {
+    when(storedImageRepository.findByUrlForUpdate(URL)).thenReturn(Optional.empty());
+
+    uploadService.deleteImage(URL);
+
+    verify(delegate).deleteImage(URL);
+    verify(storedImageRepository, never()).delete(any());
+  }
+}
@@ -0,0 +1,126 @@
+package rookies.ecommerce.service.upload;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import rookies.ecommerce.entity.ImageDeletionTask;
+import rookies.ecommerce.repository.ImageDeletionTaskRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ImageDeletionServiceTest {
+
+  @Mock ImageDeletionTaskRepository imageDeletionTaskRepository;
+
+  @Mock IUploadService cloudinaryService;
+
+  @Mock TransactionTemplate transactionTemplate;
+
+  @InjectMocks ImageDeletionService imageDeletionService;
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(imageDeletionService, "batchSize", 2);
+    ReflectionTestUtils.setField(imageDeletionService, "maxBatchesPerPoll", 5);
+    ReflectionTestUtils.setField(imageDeletionService, "maxAttempts", 3);
+    ReflectionTestUtils.setField(imageDeletionService, "baseBackoffMs", 1000L);
+    ReflectionTestUtils.setField(imageDeletionService, "maxBackoffMs", 60000L);
+    ReflectionTestUtils.setField(imageDeletionService, "leaseMs", 300000L);
+
+    lenient()
+        .when(transactionTemplate.execute(any()))
+        .thenAnswer(
+            invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    lenient()
+        .doAnswer(
+            invocation -> {
+              invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+              return null;
+            })
+        .when(transactionTemplate)
+        .executeWithoutResult(any());
+  }
+
+  @Test
+  void processDueTasks_deletesImagesAndRemovesTheirTasks() {
+    ImageDeletionTask first = task("https://img/a.jpg", 0);
+    ImageDeletionTask second = task("https://img/b.jpg", 0);
+    ImageDeletionTask third = task("https://img/c.jpg", 0);
+    when(imageDeletionTaskRepository.claimDueBatch(any(), anyInt()))
+        .thenReturn(List.of(first, second))
+        .thenReturn(List.of(third));
+
+    imageDeletionService.processDueTasks();
+
+    verify(cloudinaryService).deleteImage("https://img/a.jpg");
+    verify(cloudinaryService).deleteImage("https://img/b.jpg");
+    verify(cloudinaryService).deleteImage("https://img/c.jpg");
+    verify(imageDeletionTaskRepository)
+        .deleteAllByIdInBatch(List.of(first.getId(), second.getId()));
+    verify(imageDeletionTaskRepository).deleteAllByIdInBatch(List.of(third.getId()));
+    verify(imageDeletionTaskRepository, never()).saveAll(any());
+  }
+
+  @Test
+  void processBatch_failedDeleteIsRetriedWithExponentialBackoff() {
+    ImageDeletionTask task = task("https://img/a.jpg", 1);
+    when(imageDeletionTaskRepository.claimDueBatch(any(), anyInt())).thenReturn(List.of(task));
+    doThrow(new RuntimeException("timeout")).when(cloudinaryService).deleteImage(any());
+    LocalDateTime before = LocalDateTime.now();
+
+    imageDeletionService.processBatch();
+
+    assertEquals(2, task.getAttempts());
+    assertEquals(ImageDeletionTask.Status.PENDING, task.getStatus());
+    assertEquals("timeout", task.getLastError());
+    // Second attempt failed: base backoff doubled once.
+    assertFalse(task.getNextAttemptAt().isBefore(before.plusSeconds(2)));
+    assertTrue(task.getNextAttemptAt().isBefore(before.plusSeconds(60)));
+    verify(imageDeletionTaskRepository).saveAll(List.of(task));
+  }
+
+  @Test
+  void processBatch_lastAttemptFailure_deadLettersTask() {
+    ImageDeletionTask task = task("https://img/a.jpg", 2);
+    when(imageDeletionTaskRepository.claimDueBatch(any(), anyInt())).thenReturn(List.of(task));
+    doThrow(new RuntimeException("gone")).when(cloudinaryService).deleteImage(any());
+
+    imageDeletionService.processBatch();
+
+    assertEquals(ImageDeletionTask.Status.DEAD, task.getStatus());
+    assertEquals(3, task.getAttempts());
+  }
+
+  @Test
+  void enqueue_blankUrl_isIgnored() {
+    imageDeletionService.enqueue(" ");
+
+    verifyNoInteractions(imageDeletionTaskRepository);
+  }
+
+  private ImageDeletionTask task(String imageUrl, int attempts) {
+    ImageDeletionTask task =
+        ImageDeletionTask.builder()
+            .imageUrl(imageUrl)
+            .attempts(attempts)
+            .nextAttemptAt(LocalDateTime.now())
+            .build();
+    task.setId(UUID.randomUUID());
+    return task;
+  }
+}
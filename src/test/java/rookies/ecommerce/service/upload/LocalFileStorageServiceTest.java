@@ -0,0 +1,114 @@
+package rookies.ecommerce.service.upload;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import rookies.ecommerce.exception.AppException;
+import rookies.ecommerce.exception.ErrorCode;
+
+class LocalFileStorageServiceTest {
+
+  static final String PUBLIC_URL = "http://localhost:8080/api/images";
+  static final byte[] PNG =
+      new byte[] {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0, 0, 0x0D, 'I', 'H'};
+
+  @TempDir Path rootDir;
+
+  @TempDir Path sourceDir;
+
+  LocalFileStorageService storageService;
+
+  @BeforeEach
+  void setUp() {
+    storageService = new LocalFileStorageService();
+    ReflectionTestUtils.setField(storageService, "rootDir", rootDir.toString());
+    ReflectionTestUtils.setField(storageService, "publicUrl", PUBLIC_URL);
+  }
+
+  @Test
+  void uploadImage_storesFileUnderContentHashShards() throws Exception {
+    String url = storageService.uploadImage(write(PNG));
+
+    String hash = sha256(PNG);
+    String shards = hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/";
+    assertTrue(url.startsWith(PUBLIC_URL + "/" + shards + hash + "_"));
+    String relativePath = url.substring(PUBLIC_URL.length() + 1);
+    Optional<Path> stored = storageService.resolve(relativePath);
+    assertTrue(stored.isPresent());
+    assertArrayEquals(PNG, Files.readAllBytes(stored.get()));
+    assertEquals(hash, storageService.contentHash(relativePath));
+    assertEquals(MediaType.IMAGE_PNG, storageService.mediaType(relativePath));
+    try (var staged = Files.list(rootDir.resolve("incoming"))) {
+      assertEquals(0, staged.count());
+    }
+  }
+
+  @Test
+  void uploadImage_multipartFile_isStagedAndStored() throws IOException {
+    var file = new MockMultipartFile("image", "cake.png", "image/png", PNG);
+
+    String url = storageService.uploadImage(file);
+
+    assertTrue(storageService.resolve(url.substring(PUBLIC_URL.length() + 1)).isPresent());
+  }
+
+  @Test
+  void uploadImage_sameContentTwice_keepsSeparateFiles() throws IOException {
+    String first = storageService.uploadImage(write(PNG));
+    String second = storageService.uploadImage(write(PNG));
+
+    assertNotEquals(first, second);
+    storageService.deleteImage(first);
+
+    assertTrue(storageService.resolve(first.substring(PUBLIC_URL.length() + 1)).isEmpty());
+    assertTrue(storageService.resolve(second.substring(PUBLIC_URL.length() + 1)).isPresent());
+  }
+
+  @Test
+  void uploadImage_notAnImage_throwsAppException() throws IOException {
+    Path html = write("<html><script>alert(1)</script></html>".getBytes());
+
+    AppException exception =
+        assertThrows(AppException.class, () -> storageService.uploadImage(html));
+
+    assertEquals(ErrorCode.UNSUPPORTED_IMAGE_FORMAT, exception.getErrorCode());
+  }
+
+  @Test
+  void resolve_rejectsPathsOutsideTheStore() throws IOException {
+    Files.writeString(rootDir.resolve("secret.txt"), "secret");
+
+    assertTrue(storageService.resolve("../secret.txt").isEmpty());
+    assertTrue(storageService.resolve("ab/cd/../../secret.txt").isEmpty());
+    assertTrue(storageService.resolve("ab/cd/" + "a".repeat(64) + "_000000000000.png").isEmpty());
+  }
+
+  @Test
+  void deleteImage_foreignUrl_isIgnored() throws IOException {
+    String url = storageService.uploadImage(write(PNG));
+
+    storageService.deleteImage("https://res.cloudinary.com/demo/image/upload/sample.jpg");
+
+    assertTrue(storageService.resolve(url.substring(PUBLIC_URL.length() + 1)).isPresent());
+  }
+
+  private Path write(byte[] content) throws IOException {
+    return Files.write(Files.createTempFile(sourceDir, "source-", ".bin"), content);
+  }
+
+  private static String sha256(byte[] content) throws NoSuchAlgorithmException {
+    return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+  }
+}
@@ -0,0 +1,171 @@
+package rookies.ecommerce.service.upload;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+@ExtendWith(MockitoExtension.class)
+class ProductImageServiceTest {
+
+  static final String CDN = "https://cdn.example.com/";
+
+  @Mock IUploadService uploadService;
+
+  @Mock IImageDeletionService imageDeletionService;
+
+  ProductImageService productImageService;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    productImageService =
+        new ProductImageService(uploadService, imageDeletionService, 2, 4, 0.8f, 10_000);
+    lenient()
+        .when(uploadService.uploadImage(any(Path.class)))
+        .thenAnswer(i -> urlFor(i.getArgument(0)));
+  }
+
+  @AfterEach
+  void tearDown() {
+    productImageService.shutdown();
+  }
+
+  @Test
+  void upload_producesFixedWidthVariants() throws IOException {
+    ImageVariants images = productImageService.upload(png(1600, 800));
+
+    assertEquals(CDN + "1600x800", images.originalUrl());
+    assertEquals(CDN + "200x100", images.smallUrl());
+    assertEquals(CDN + "400x200", images.mediumUrl());
+    assertEquals(CDN + "800x400", images.largeUrl());
+    verify(uploadService, times(4)).uploadImage(any(Path.class));
+  }
+
+  @Test
+  void upload_smallSource_neverUpscales() throws IOException {
+    ImageVariants images = productImageService.upload(png(300, 150));
+
+    assertEquals(CDN + "200x100", images.smallUrl());
+    assertEquals(CDN + "300x150", images.mediumUrl());
+    assertEquals(CDN + "300x150", images.largeUrl());
+  }
+
+  @Test
+  void upload_formatImageIoCannotRead_uploadsOriginalOnly() throws IOException {
+    var file = new MockMultipartFile("image", "cake.webp", "image/webp", "RIFF....WEBP".getBytes());
+    doReturn(CDN + "original").when(uploadService).uploadImage(any(Path.class));
+
+    ImageVariants images = productImageService.upload(file);
+
+    assertEquals(new ImageVariants(CDN + "original", null, null, null), images);
+    verify(uploadService, times(1)).uploadImage(any(Path.class));
+  }
+
+  @Test
+  void upload_variantFails_leavesItOut() throws IOException {
+    doAnswer(
+            i -> {
+              String url = urlFor(i.getArgument(0));
+              if (url.endsWith("400x200")) {
+                throw new IOException("storage unavailable");
+              }
+              return url;
+            })
+        .when(uploadService)
+        .uploadImage(any(Path.class));
+
+    ImageVariants images = productImageService.upload(png(1600, 800));
+
+    assertEquals(CDN + "1600x800", images.originalUrl());
+    assertNull(images.mediumUrl());
+    assertEquals(CDN + "200x100", images.smallUrl());
+    assertEquals(CDN + "800x400", images.largeUrl());
+  }
+
+  @Test
+  void upload_originalFails_queuesVariantsForDeletion() throws IOException {
+    doAnswer(
+            i -> {
+              String url = urlFor(i.getArgument(0));
+              if (url.endsWith("1600x800")) {
+                throw new IOException("storage unavailable");
+              }
+              return url;
+            })
+        .when(uploadService)
+        .uploadImage(any(Path.class));
+
+    assertThrows(IOException.class, () -> productImageService.upload(png(1600, 800)));
+
+    verify(imageDeletionService).enqueue(CDN + "200x100");
+    verify(imageDeletionService).enqueue(CDN + "400x200");
+    verify(imageDeletionService).enqueue(CDN + "800x400");
+  }
+
+  @Test
+  void upload_lateVariants_areQueuedForDeletionAndStagedFileOutlivesThem() throws Exception {
+    productImageService.shutdown();
+    productImageService =
+        new ProductImageService(uploadService, imageDeletionService, 3, 4, 0.8f, 200);
+    CountDownLatch variantsUploading = new CountDownLatch(3);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicReference<Path> staged = new AtomicReference<>();
+    doAnswer(
+            i -> {
+              Path file = i.getArgument(0);
+              if (file.getFileName().toString().startsWith("upload-")) {
+                staged.set(file);
+                // Keep the original back until every variant is stuck in its upload.
+                variantsUploading.await();
+              } else {
+                variantsUploading.countDown();
+                release.await();
+              }
+              return urlFor(file);
+            })
+        .when(uploadService)
+        .uploadImage(any(Path.class));
+
+    ImageVariants images = productImageService.upload(png(1600, 800));
+
+    assertEquals(new ImageVariants(CDN + "1600x800", null, null, null), images);
+    assertTrue(Files.exists(staged.get()));
+    release.countDown();
+    verify(imageDeletionService, timeout(5_000)).enqueue(CDN + "200x100");
+    verify(imageDeletionService, timeout(5_000)).enqueue(CDN + "400x200");
+    verify(imageDeletionService, timeout(5_000)).enqueue(CDN + "800x400");
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (Files.exists(staged.get())) {
+      assertTrue(System.nanoTime() < deadline, "staged upload was not deleted");
+      Thread.sleep(10);
+    }
+  }
+
+  private static String urlFor(Path file) throws IOException {
+    BufferedImage image = ImageIO.read(file.toFile());
+    return CDN + image.getWidth() + "x" + image.getHeight();
+  }
+
+  private static MockMultipartFile png(int width, int height) throws IOException {
+    BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ImageIO.write(image, "png", out);
+    return new MockMultipartFile("image", "cake.png", "image/png", out.toByteArray());
+  }
+}
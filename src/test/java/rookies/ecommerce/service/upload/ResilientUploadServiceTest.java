@@ -0,0 +1,217 @@
+package rookies.ecommerce.service.upload;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import rookies.ecommerce.exception.AppException;
+import rookies.ecommerce.exception.ErrorCode;
+
+@ExtendWith(MockitoExtension.class)
+class ResilientUploadServiceTest {
+
+  static final Path FILE = Path.of("cake.jpg");
+  static final String URL = "https://res.cloudinary.com/demo/image/upload/cake.jpg";
+  static final int FAILURE_THRESHOLD = 3;
+
+  @Mock IUploadService delegate;
+
+  @Mock IImageDeletionService imageDeletionService;
+
+  @Mock ObjectProvider<IImageDeletionService> imageDeletionProvider;
+
+  MeterRegistry meterRegistry;
+
+  ResilientUploadService uploadService;
+
+  final CountDownLatch release = new CountDownLatch(1);
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    uploadService = newService(1, 1, 200);
+    lenient().when(imageDeletionProvider.getObject()).thenReturn(imageDeletionService);
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    uploadService.shutdown();
+  }
+
+  @Test
+  void uploadImage_healthyProvider_returnsUrlAndRecordsLatency() throws IOException {
+    when(delegate.uploadImage(FILE)).thenReturn(URL);
+
+    assertEquals(URL, uploadService.uploadImage(FILE));
+
+    assertEquals(1, meterRegistry.get("upload.calls").tag("outcome", "success").timer().count());
+  }
+
+  @Test
+  void uploadImage_slowProvider_timesOut() throws IOException {
+    when(delegate.uploadImage(FILE)).thenAnswer(invocation -> awaitRelease());
+
+    AppException exception =
+        assertThrows(AppException.class, () -> uploadService.uploadImage(FILE));
+
+    assertEquals(ErrorCode.IMAGE_STORAGE_TIMEOUT, exception.getErrorCode());
+    assertEquals(HttpStatus.GATEWAY_TIMEOUT, exception.getHttpStatus());
+  }
+
+  @Test
+  void uploadImage_completingAfterTimeout_queuesUploadForDeletion() throws IOException {
+    when(delegate.uploadImage(FILE))
+        .thenAnswer(
+            invocation -> {
+              // Providers that already accepted the upload finish it despite the interrupt.
+              while (true) {
+                try {
+                  return awaitRelease();
+                } catch (InterruptedException e) {
+                  // keep uploading
+                }
+              }
+            });
+
+    assertThrows(AppException.class, () -> uploadService.uploadImage(FILE));
+    verifyNoInteractions(imageDeletionService);
+    release.countDown();
+
+    verify(imageDeletionService, timeout(5_000)).enqueue(URL);
+  }
+
+  @Test
+  void uploadImage_poolAndQueueFull_rejectsImmediately() throws Exception {
+    uploadService.shutdown();
+    meterRegistry = new SimpleMeterRegistry();
+    uploadService = newService(1, 1, 5_000);
+    when(delegate.uploadImage(FILE)).thenAnswer(invocation -> awaitRelease());
+    ExecutorService callers = Executors.newFixedThreadPool(2);
+    try {
+      callers.submit(() -> uploadService.uploadImage(FILE));
+      callers.submit(() -> uploadService.uploadImage(FILE));
+      awaitGauge("upload.executor.queue.size", 1);
+
+      AppException exception =
+          assertThrows(AppException.class, () -> uploadService.uploadImage(FILE));
+
+      assertEquals(ErrorCode.IMAGE_STORAGE_BUSY, exception.getErrorCode());
+      assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getHttpStatus());
+    } finally {
+      release.countDown();
+      callers.shutdown();
+      assertTrue(callers.awaitTermination(5, TimeUnit.SECONDS));
+    }
+  }
+
+  @Test
+  void uploadImage_repeatedFailures_openCircuitAndFailFast() throws IOException {
+    when(delegate.uploadImage(FILE)).thenThrow(new IOException("connection reset"));
+    for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+      assertThrows(IOException.class, () -> uploadService.uploadImage(FILE));
+    }
+
+    AppException exception =
+        assertThrows(AppException.class, () -> uploadService.uploadImage(FILE));
+
+    assertEquals(ErrorCode.IMAGE_STORAGE_UNAVAILABLE, exception.getErrorCode());
+    verify(delegate, times(FAILURE_THRESHOLD)).uploadImage(FILE);
+    assertEquals(1.0, meterRegistry.get("upload.circuit.state").gauge().value());
+  }
+
+  @Test
+  void uploadImage_clientErrors_doNotOpenCircuit() throws IOException {
+    when(delegate.uploadImage(FILE))
+        .thenThrow(new AppException(ErrorCode.UNSUPPORTED_IMAGE_FORMAT, HttpStatus.BAD_REQUEST));
+    for (int i = 0; i <= FAILURE_THRESHOLD; i++) {
+      AppException exception =
+          assertThrows(AppException.class, () -> uploadService.uploadImage(FILE));
+      assertEquals(ErrorCode.UNSUPPORTED_IMAGE_FORMAT, exception.getErrorCode());
+    }
+
+    verify(delegate, times(FAILURE_THRESHOLD + 1)).uploadImage(FILE);
+  }
+
+  @Test
+  void deleteImage_providerFails_throwsForRetry() {
+    doThrow(new RuntimeException("Error deleting image: 500")).when(delegate).deleteImage(URL);
+
+    assertThrows(RuntimeException.class, () -> uploadService.deleteImage(URL));
+  }
+
+  @Test
+  void circuitBreaker_halfOpen_allowsSingleTrialThenCloses() {
+    AtomicLong now = new AtomicLong();
+    CircuitBreaker breaker = new CircuitBreaker(1, 100, now::get);
+
+    assertTrue(breaker.tryAcquire());
+    breaker.onFailure();
+    assertFalse(breaker.tryAcquire());
+
+    now.addAndGet(100);
+    assertTrue(breaker.tryAcquire());
+    assertFalse(breaker.tryAcquire());
+    breaker.onSuccess();
+
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    assertTrue(breaker.tryAcquire());
+  }
+
+  @Test
+  void circuitBreaker_failedTrial_reopens() {
+    AtomicLong now = new AtomicLong();
+    CircuitBreaker breaker = new CircuitBreaker(2, 100, now::get);
+    breaker.onFailure();
+    breaker.onFailure();
+
+    now.addAndGet(100);
+    assertTrue(breaker.tryAcquire());
+    breaker.onFailure();
+
+    assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    assertFalse(breaker.tryAcquire());
+  }
+
+  private ResilientUploadService newService(int poolSize, int queueCapacity, long timeoutMs) {
+    return new ResilientUploadService(
+        delegate,
+        imageDeletionProvider,
+        meterRegistry,
+        poolSize,
+        queueCapacity,
+        timeoutMs,
+        timeoutMs,
+        FAILURE_THRESHOLD,
+        60_000);
+  }
+
+  private String awaitRelease() throws InterruptedException {
+    release.await(10, TimeUnit.SECONDS);
+    return URL;
+  }
+
+  private void awaitGauge(String name, double expected) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (meterRegistry.get(name).gauge().value() != expected) {
+      assertTrue(System.nanoTime() < deadline, "timed out waiting for " + name);
+      Thread.sleep(10);
+    }
+  }
+}